@@ -9,17 +9,44 @@ repositories {
     mavenCentral()
 }
 
+// JMH benchmarks run against the fixture pages in src/test/resources/fixtures: ./gradlew jmh
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+    resources.srcDir("src/test/resources")
+}
+
+val jmhImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+
 dependencies {
     implementation("org.jsoup:jsoup:1.15.2")
 
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.8.1")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.8.1")
+
+    jmhImplementation("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.getByName<Test>("test") {
     useJUnitPlatform()
 }
 
+// e.g. ./gradlew jmh -Pjmh.includes=ParserBenchmark
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks with the GC profiler."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.upToDateWhen { false }
+    doFirst { resultFile.get().asFile.parentFile.mkdirs() }
+    args("-prof", "gc", "-rf", "json", "-rff", resultFile.get().asFile.path)
+    (project.findProperty("jmh.includes") as String?)?.let { args(it) }
+}
+
 tasks.withType<Jar>() {
     configurations["compileClasspath"].forEach { file: File ->
         from(zipTree(file.absoluteFile))
@@ -0,0 +1,80 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the page and CSV parsers against the fixture pages
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+    String summaryQuotePage;
+    String keyStatisticsPage;
+    String indexComponentPage;
+    String historicalQuoteCsv;
+
+    @Setup
+    public void loadFixtures() {
+        this.summaryQuotePage = fixture("summary-quote.html");
+        this.keyStatisticsPage = fixture("key-statistics.html");
+        this.indexComponentPage = fixture("index-components.html");
+        this.historicalQuoteCsv = fixture("historical-quote.csv");
+    }
+
+    @Benchmark
+    public SummaryQuote summaryQuote() {
+        return SummaryQuoteCtrl.getSummaryQuoteFromBody("TSCO.L", this.summaryQuotePage);
+    }
+
+    @Benchmark
+    public KeyStatistics keyStatistics() {
+        return KeyStatisticsCtrl.getKeyStatisticsFromBody("TSCO.L", this.keyStatisticsPage);
+    }
+
+    @Benchmark
+    public IndexComponentInfo indexComponents() {
+        return IndexComponentCtrl.getComponentInfoFromBody("^FTSE", this.indexComponentPage);
+    }
+
+    @Benchmark
+    public List<HistoricalQuote> historicalQuotes() {
+        return HistoricalQuoteCtrl.fromStreamToList("TSCO.L", this.historicalQuoteCsv.lines());
+    }
+
+    static String fixture(String name) {
+        try (InputStream in = ParserBenchmark.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
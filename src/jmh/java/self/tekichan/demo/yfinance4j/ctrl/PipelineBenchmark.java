@@ -0,0 +1,107 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import self.tekichan.demo.yfinance4j.http.Recording;
+import self.tekichan.demo.yfinance4j.http.ReplayTransport;
+import self.tekichan.demo.yfinance4j.http.RequestKeys;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmark of a whole request replayed from the fixture pages
+ * <p>
+ *     Each request passes the circuit breaker and the endpoint metrics, has its body decoded and is parsed,
+ *     so the difference from {@link ParserBenchmark} is the cost of the HTTP pipeline without the network.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+    @Param({"identity", "gzip"})
+    String contentEncoding;
+
+    Path recordingDir;
+    SummaryQuoteRequest summaryQuoteRequest;
+    KeyStatisticsRequest keyStatisticsRequest;
+
+    @Setup(Level.Trial)
+    public void replayFixtures() throws IOException {
+        this.recordingDir = Files.createTempDirectory("yf4j-jmh");
+        this.summaryQuoteRequest = SummaryQuoteRequest.of("TSCO.L");
+        this.keyStatisticsRequest = KeyStatisticsRequest.of("TSCO.L");
+        save(this.summaryQuoteRequest.targetUrl(), ParserBenchmark.fixture("summary-quote.html"));
+        save(this.keyStatisticsRequest.targetUrl(), ParserBenchmark.fixture("key-statistics.html"));
+        WebClientHelper.setTransport(new ReplayTransport(this.recordingDir));
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreTransport() throws IOException {
+        WebClientHelper.setTransport(null);
+        try (Stream<Path> pathStream = Files.walk(this.recordingDir)) {
+            for (Path path : pathStream.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public SummaryQuote summaryQuote() throws Exception {
+        return this.summaryQuoteRequest.execute().orElseThrow();
+    }
+
+    @Benchmark
+    public KeyStatistics keyStatistics() throws Exception {
+        return this.keyStatisticsRequest.execute().orElseThrow();
+    }
+
+    private void save(String url, String page) throws IOException {
+        byte[] body = page.getBytes(StandardCharsets.UTF_8);
+        Map<String, List<String>> headerMap = new HashMap<>();
+        headerMap.put("content-type", List.of("text/html; charset=utf-8"));
+        if (this.contentEncoding.equals("gzip")) {
+            var out = new ByteArrayOutputStream();
+            try (var gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            }
+            body = out.toByteArray();
+            headerMap.put("content-encoding", List.of("gzip"));
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        new Recording(RequestKeys.methodAndUri().apply(request), request.uri(), 200, headerMap, body)
+                .save(this.recordingDir);
+    }
+}
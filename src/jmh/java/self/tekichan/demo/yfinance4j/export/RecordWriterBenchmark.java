@@ -0,0 +1,125 @@
+package self.tekichan.demo.yfinance4j.export;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the record writers against formatting each quote to a String, writing to a null stream
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordWriterBenchmark {
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    @Param({"100000"})
+    int rows;
+
+    List<HistoricalQuote> quoteList;
+
+    @Setup
+    public void createQuotes() {
+        this.quoteList = syntheticQuotes(this.rows, new Random(7));
+    }
+
+    @Benchmark
+    public void formattedJson() {
+        var printStream = new PrintStream(OutputStream.nullOutputStream());
+        for (HistoricalQuote quote : this.quoteList) {
+            printStream.print(toJson(quote));
+        }
+        printStream.flush();
+    }
+
+    @Benchmark
+    public void csv() throws IOException {
+        try (var writer = RecordWriter.csv(Schemas.HISTORICAL_QUOTE, OutputStream.nullOutputStream())) {
+            writer.writeAll(this.quoteList);
+        }
+    }
+
+    @Benchmark
+    public void json() throws IOException {
+        try (var writer = RecordWriter.json(Schemas.HISTORICAL_QUOTE, OutputStream.nullOutputStream())) {
+            writer.writeAll(this.quoteList);
+        }
+    }
+
+    @Benchmark
+    public void csvGzip() throws IOException {
+        try (var writer = RecordWriter.csv(Schemas.HISTORICAL_QUOTE, OutputStream.nullOutputStream(), true)) {
+            writer.writeAll(this.quoteList);
+        }
+    }
+
+    // the historical quote example before RecordWriter
+    static String toJson(HistoricalQuote quote) {
+        return """
+{
+  "trade_date": "%1$s"
+  , "open": %2$s
+  , "high": %3$s
+  , "low": %4$s
+  , "close": %5$s
+  , "adj_close": %6$s
+  , "volume": %7$s
+}
+""".formatted(
+            DATE_FORMATTER.format(quote.tradeDate()),
+            quote.openPrice().toString()
+            , quote.highPrice().toString()
+            , quote.lowPrice().toString()
+            , quote.closePrice().toString()
+            , quote.adjustPrice().toString()
+            , quote.volume().toString()
+        );
+    }
+
+    static List<HistoricalQuote> syntheticQuotes(int rows, Random random) {
+        var quoteList = new ArrayList<HistoricalQuote>(rows);
+        LocalDate date = LocalDate.of(1985, 1, 2);
+        long priceCents = 5_000;
+        for (int i = 0; i < rows; i++) {
+            long openCents = priceCents;
+            priceCents = Math.max(1, priceCents + (long) (random.nextGaussian() * 75));
+            quoteList.add(new HistoricalQuote(
+                    "TSCO.L"
+                    , date
+                    , BigDecimal.valueOf(openCents, 2)
+                    , BigDecimal.valueOf(Math.max(openCents, priceCents) + 20, 2)
+                    , BigDecimal.valueOf(Math.max(1, Math.min(openCents, priceCents) - 20), 2)
+                    , BigDecimal.valueOf(priceCents, 2)
+                    , BigDecimal.valueOf(priceCents * 9 / 10, 2)
+                    , 1_000_000L + random.nextInt(5_000_000)
+            ));
+            date = date.plusDays(1);
+        }
+        return quoteList;
+    }
+}
@@ -0,0 +1,96 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the compressed series codec, decoding row by row with the cursor or into columns
+ * <p>
+ *     The series is the fixture CSV of 20 years of daily bars. The fixture is synthetic, a random walk printed
+ *     with six decimals like the Yahoo! Finance downloads, so it only approximates how real prices compress.
+ *     The setup reports the encoded size against the raw columns, as the ratio depends on the data.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeriesCodecBenchmark {
+    /**
+     * Bytes of a row in raw columns: epoch day, five prices and volume
+     */
+    static final int RAW_ROW_BYTES = Integer.BYTES + 5 * Double.BYTES + Long.BYTES;
+
+    HistoricalSeries series;
+    byte[] encoded;
+
+    @Setup
+    public void encodeSeries() throws IOException {
+        this.series = fixtureSeries("TSCO.L", "historical-quote.csv");
+        var out = new ByteArrayOutputStream();
+        SeriesEncoder.encode(this.series, out);
+        this.encoded = out.toByteArray();
+        long rawBytes = (long) this.series.size() * RAW_ROW_BYTES;
+        System.out.printf("%n%s: %d rows, %d bytes encoded of %d bytes raw, ratio %.2fx%n"
+                , this.series.symbol(), this.series.size(), this.encoded.length, rawBytes
+                , (double) rawBytes / this.encoded.length);
+    }
+
+    @Benchmark
+    public double cursorDecode() throws IOException {
+        double checksum = 0;
+        var decoder = new SeriesDecoder(new ByteArrayInputStream(this.encoded));
+        while (decoder.next()) {
+            checksum += decoder.price(PriceField.CLOSE);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public HistoricalSeries arrayDecode() throws IOException {
+        return SeriesDecoder.decode(new ByteArrayInputStream(this.encoded));
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        var out = new ByteArrayOutputStream(this.encoded.length);
+        SeriesEncoder.encode(this.series, out);
+        return out.size();
+    }
+
+    static HistoricalSeries fixtureSeries(String symbol, String name) throws IOException {
+        try (InputStream in = SeriesCodecBenchmark.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture: " + name);
+            }
+            // same parsing as HistoricalQuoteCtrl
+            List<HistoricalQuote> quoteList = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .skip(1)
+                    .map(line -> line.split(","))
+                    .map(items -> new HistoricalQuote(symbol, items[0], items[1], items[2], items[3], items[4], items[5], items[6]))
+                    .toList();
+            return HistoricalSeries.fromQuotes(symbol, quoteList);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark of a universe of series stored as CSV files against the memory-mapped binary series files
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeriesFileBenchmark {
+    static final String CSV_HEADER = "Date,Open,High,Low,Close,Adj Close,Volume";
+
+    @Param({"50"})
+    int symbols;
+
+    @Param({"5000"})
+    int rows;
+
+    Path dir;
+    List<HistoricalSeries> seriesList;
+
+    @Setup(Level.Trial)
+    public void writeFiles() throws IOException {
+        this.dir = Files.createTempDirectory("yf4j-jmh-series");
+        this.seriesList = new ArrayList<>(this.symbols);
+        for (int i = 0; i < this.symbols; i++) {
+            this.seriesList.add(randomSeries("SYM" + i, this.rows, new Random(i)));
+        }
+        writeCsv();
+        writeBinary();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> pathStream = Files.walk(this.dir)) {
+            for (Path path : pathStream.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void writeCsv() throws IOException {
+        for (HistoricalSeries series : this.seriesList) {
+            writeCsv(series, this.dir.resolve(series.symbol() + ".csv"));
+        }
+    }
+
+    @Benchmark
+    public void writeBinary() throws IOException {
+        for (HistoricalSeries series : this.seriesList) {
+            SeriesFile.write(series, this.dir.resolve(series.symbol() + ".yfc"));
+        }
+    }
+
+    @Benchmark
+    public double readCsv() throws IOException {
+        double checksum = 0;
+        for (HistoricalSeries series : this.seriesList) {
+            HistoricalSeries loaded = readCsv(series.symbol(), this.dir.resolve(series.symbol() + ".csv"));
+            for (double close : loaded.priceColumn(PriceField.CLOSE)) {
+                checksum += close;
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public double readMapped() throws IOException {
+        double checksum = 0;
+        for (HistoricalSeries series : this.seriesList) {
+            DoubleBuffer closeBuffer = SeriesFile.open(this.dir.resolve(series.symbol() + ".yfc"))
+                    .priceBuffer(PriceField.CLOSE);
+            while (closeBuffer.hasRemaining()) {
+                checksum += closeBuffer.get();
+            }
+        }
+        return checksum;
+    }
+
+    static HistoricalSeries randomSeries(String symbol, int rows, Random random) {
+        int[] epochDays = new int[rows];
+        double[] open = new double[rows];
+        double[] high = new double[rows];
+        double[] low = new double[rows];
+        double[] close = new double[rows];
+        double[] adjClose = new double[rows];
+        long[] volumes = new long[rows];
+        int day = (int) LocalDate.of(2000, 1, 3).toEpochDay();
+        double price = 100.0;
+        for (int i = 0; i < rows; i++) {
+            epochDays[i] = day++;
+            open[i] = round(price);
+            price *= 1.0 + random.nextGaussian() * 0.01;
+            close[i] = round(price);
+            high[i] = round(Math.max(open[i], close[i]) * 1.005);
+            low[i] = round(Math.min(open[i], close[i]) * 0.995);
+            adjClose[i] = close[i];
+            volumes[i] = 100_000L + random.nextInt(1_000_000);
+        }
+        return new HistoricalSeries(symbol, epochDays, open, high, low, close, adjClose, volumes);
+    }
+
+    static double round(double value) {
+        return Math.round(value * 1e6) / 1e6;
+    }
+
+    static void writeCsv(HistoricalSeries series, Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (int row = 0; row < series.size(); row++) {
+                writer.write(series.tradeDate(row)
+                        + "," + series.price(PriceField.OPEN, row)
+                        + "," + series.price(PriceField.HIGH, row)
+                        + "," + series.price(PriceField.LOW, row)
+                        + "," + series.price(PriceField.CLOSE, row)
+                        + "," + series.price(PriceField.ADJ_CLOSE, row)
+                        + "," + series.volume(row)
+                );
+                writer.newLine();
+            }
+        }
+    }
+
+    // same parsing as HistoricalQuoteCtrl
+    static HistoricalSeries readCsv(String symbol, Path path) throws IOException {
+        try (Stream<String> lines = Files.lines(path)) {
+            List<HistoricalQuote> quoteList = lines.skip(1)
+                    .map(line -> line.split(","))
+                    .map(items -> new HistoricalQuote(symbol, items[0], items[1], items[2], items[3], items[4], items[5], items[6]))
+                    .toList();
+            return HistoricalSeries.fromQuotes(symbol, quoteList);
+        }
+    }
+}
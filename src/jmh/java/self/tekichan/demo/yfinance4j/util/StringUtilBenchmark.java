@@ -0,0 +1,85 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import self.tekichan.demo.yfinance4j.model.ScaleUnit;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the text converters applied to every cell of a page
+ * <p>
+ *     Each benchmark converts a batch of cell texts as found on the fixture pages, including texts that do not
+ *     parse, e.g. "N/A", since they take the exception path of the converters.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StringUtilBenchmark {
+    String[] decimals = {"246.10", "11,375,840", "0.57", "130.29", "-0.61", "N/A"};
+    String[] percents = {"2.34%", "-8.52%", "68.89%", "0.19", "N/A"};
+    String[] valuesWithUnit = {"18.042B", "30.57B", "23.08M", "1.44B", "2.3T", "68.02", "N/A"};
+    String[] dates = {"Feb 25, 2022", "Aug 27, 2022", "May 12, 2022", "N/A"};
+    String[] factors = {"19:20", "2:1", "N/A"};
+    String[] unitTexts = {"K", "M", "B", "T", "Q", "", null};
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        for (String text : this.decimals) {
+            blackhole.consume(StringUtil.getBigDecimal(text));
+        }
+    }
+
+    @Benchmark
+    public void bigDecimalPercent(Blackhole blackhole) {
+        for (String text : this.percents) {
+            blackhole.consume(StringUtil.getBigDecimalPercent(text));
+        }
+    }
+
+    @Benchmark
+    public void bigDecimalAndUnit(Blackhole blackhole) {
+        for (String text : this.valuesWithUnit) {
+            blackhole.consume(StringUtil.getBigDecimalAndUnit(text));
+        }
+    }
+
+    @Benchmark
+    public void localDate(Blackhole blackhole) {
+        for (String text : this.dates) {
+            blackhole.consume(StringUtil.getLocalDate(text));
+        }
+    }
+
+    @Benchmark
+    public void factorRatio(Blackhole blackhole) {
+        for (String text : this.factors) {
+            blackhole.consume(StringUtil.getFactorRatio(text));
+        }
+    }
+
+    @Benchmark
+    public void scaleUnit(Blackhole blackhole) {
+        for (String text : this.unitTexts) {
+            ScaleUnit unit = ScaleUnit.fromString(text);
+            BigDecimal scale = unit.toBigDecimal();
+            blackhole.consume(scale);
+            blackhole.consume(unit.toString());
+        }
+    }
+}
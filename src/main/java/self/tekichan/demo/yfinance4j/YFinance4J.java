@@ -1,8 +1,12 @@
 package self.tekichan.demo.yfinance4j;
 
 import self.tekichan.demo.yfinance4j.ctrl.HistoricalQuoteCtrl;
+import self.tekichan.demo.yfinance4j.ctrl.IndexAnalyticsCtrl;
 import self.tekichan.demo.yfinance4j.ctrl.IndexComponentCtrl;
+import self.tekichan.demo.yfinance4j.ctrl.IndexSnapshotCtrl;
 import self.tekichan.demo.yfinance4j.ctrl.KeyStatisticsCtrl;
+import self.tekichan.demo.yfinance4j.ctrl.PortfolioRiskCtrl;
+import self.tekichan.demo.yfinance4j.ctrl.ScreenerCtrl;
 import self.tekichan.demo.yfinance4j.ctrl.SummaryQuoteCtrl;
 
 /**
@@ -68,4 +72,28 @@ public final class YFinance4J {
      * @return  Key Statistics Controller
      */
     public static KeyStatisticsCtrl keyStatisticsCtrl() { return new KeyStatisticsCtrl(); }
+
+    /**
+     * Get Portfolio Risk Controller for building risk requester
+     * @return  Portfolio Risk Controller
+     */
+    public static PortfolioRiskCtrl portfolioRiskCtrl() { return new PortfolioRiskCtrl(); }
+
+    /**
+     * Get Index Analytics Controller for building analytics requester
+     * @return  Index Analytics Controller
+     */
+    public static IndexAnalyticsCtrl indexAnalyticsCtrl() { return new IndexAnalyticsCtrl(); }
+
+    /**
+     * Get Screener Controller for building key statistics screener
+     * @return  Screener Controller
+     */
+    public static ScreenerCtrl screenerCtrl() { return new ScreenerCtrl(); }
+
+    /**
+     * Get Index Snapshot Controller for building index snapshot requester
+     * @return  Index Snapshot Controller
+     */
+    public static IndexSnapshotCtrl indexSnapshotCtrl() { return new IndexSnapshotCtrl(); }
 }
@@ -0,0 +1,22 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+/**
+ * Contribution of a component stock to the move of its index
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param symbol    Stock symbol
+ * @param companyName   Company name
+ * @param marketCap Market cap at the last price, or NaN if unknown
+ * @param weightPercent Cap weight in the index before the move, in percent; 0 if market cap is unknown
+ * @param percentChange Price change percentage
+ * @param contributionPercent   Contribution to the cap-weighted index return, in percentage points
+ */
+public record ComponentContribution(
+        String symbol
+        , String companyName
+        , double marketCap
+        , double weightPercent
+        , double percentChange
+        , double contributionPercent
+) {
+}
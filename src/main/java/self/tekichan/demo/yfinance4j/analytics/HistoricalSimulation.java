@@ -0,0 +1,239 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+import self.tekichan.demo.yfinance4j.series.PriceField;
+import self.tekichan.demo.yfinance4j.series.SeriesPanel;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Historical-simulation value-at-risk over aligned return series
+ * <p>
+ *     Every historical daily return vector of the lookback window is a scenario. The profit or loss of a scenario
+ *     is the sum of exposure times return over all positions, and the scenarios are evaluated in parallel.
+ * </p>
+ * <p>
+ *     The returns are kept in a ring buffer of scenarios, so a re-run after a new bar only replaces one scenario
+ *     with {@link #rollBar(LocalDate, double[])}, and an intraday update of today's bar only rewrites the latest one
+ *     with {@link #updateLatestBar(double[])}. Nothing is downloaded or aligned again.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class HistoricalSimulation {
+    private final List<Position> positionList;
+    private final double[][] returns;   // [scenario slot][position]
+    private final double[] previousPrices;
+    private final double[] latestPrices;
+    private int oldestSlot;
+    private int scenarioCount;
+    private LocalDate asOfDate;
+
+    /**
+     * Construct HistoricalSimulation from an aligned panel
+     * <p>
+     *     Returns, exposures and the prices later bars are compared with are all taken from adjusted close prices.
+     *     Adjustments apply backwards from the last row, whose adjusted close is its close, so returns stay on one
+     *     basis across dividends and splits, and the close prices of new bars continue them.
+     *     A position whose symbol is missing from the panel has no exposure. The panel should be
+     *     forward-filled, otherwise a missing price gives a zero return on that date.
+     * </p>
+     * @param positionList  List of positions
+     * @param panel Panel of aligned series covering the symbols of the positions
+     * @param lookback  Number of scenarios, i.e. daily returns, to keep
+     */
+    public HistoricalSimulation(List<Position> positionList, SeriesPanel panel, int lookback) {
+        Objects.requireNonNull(positionList, "List of positions must exist.");
+        Objects.requireNonNull(panel, "Panel of series must exist.");
+        if (lookback <= 0) {
+            throw new IllegalArgumentException("Lookback must be positive: " + lookback);
+        }
+        this.positionList = List.copyOf(positionList);
+        int width = this.positionList.size();
+        this.returns = new double[lookback][width];
+        this.previousPrices = new double[width];
+        this.latestPrices = new double[width];
+        this.oldestSlot = 0;
+
+        int lastRow = panel.size() - 1;
+        int firstRow = Math.max(1, panel.size() - lookback);
+        this.scenarioCount = Math.max(0, lastRow - firstRow + 1);
+        this.asOfDate = lastRow >= 0 ? panel.tradeDate(lastRow) : null;
+        for (int p = 0; p < width; p++) {
+            int column = panel.symbolIndex(this.positionList.get(p).symbol());
+            if (column < 0 || lastRow < 0) {
+                continue;
+            }
+            double[] adjClose = panel.priceColumn(PriceField.ADJ_CLOSE, column);
+            for (int row = firstRow; row <= lastRow; row++) {
+                this.returns[row - firstRow][p] = simpleReturn(adjClose[row - 1], adjClose[row]);
+            }
+            this.latestPrices[p] = adjClose[lastRow];
+            this.previousPrices[p] = lastRow >= 1 ? adjClose[lastRow - 1] : Double.NaN;
+        }
+    }
+
+    private static double simpleReturn(double fromPrice, double toPrice) {
+        if (Double.isNaN(fromPrice) || Double.isNaN(toPrice) || fromPrice <= 0.0) {
+            return 0.0;
+        }
+        return toPrice / fromPrice - 1.0;
+    }
+
+    /**
+     * Get positions in the order used by price arrays
+     * @return  List of positions
+     */
+    public List<Position> positionList() {
+        return this.positionList;
+    }
+
+    /**
+     * Get number of scenarios currently held
+     * @return  number of scenarios
+     */
+    public synchronized int scenarioCount() {
+        return this.scenarioCount;
+    }
+
+    /**
+     * Get date of the latest bar
+     * @return  date of the latest bar
+     */
+    public synchronized LocalDate asOfDate() {
+        return this.asOfDate;
+    }
+
+    /**
+     * Replace the latest bar, e.g. when today's bar changes during the trading day
+     * @param prices    latest prices in the order of positions; NaN keeps the current price
+     */
+    public synchronized void updateLatestBar(double[] prices) {
+        checkPrices(prices);
+        if (this.scenarioCount == 0) {
+            return;
+        }
+        double[] latestReturns = this.returns[slotOf(this.scenarioCount - 1)];
+        for (int p = 0; p < prices.length; p++) {
+            if (!Double.isNaN(prices[p])) {
+                this.latestPrices[p] = prices[p];
+                latestReturns[p] = simpleReturn(this.previousPrices[p], prices[p]);
+            }
+        }
+    }
+
+    /**
+     * Roll the window forward by one bar, dropping the oldest scenario when the window is full
+     * @param tradeDate Date of the new bar
+     * @param prices    close prices of the new bar in the order of positions; NaN carries the last price forward
+     */
+    public synchronized void rollBar(LocalDate tradeDate, double[] prices) {
+        checkPrices(prices);
+        int slot;
+        if (this.scenarioCount < this.returns.length) {
+            slot = slotOf(this.scenarioCount++);
+        } else {
+            slot = this.oldestSlot;
+            this.oldestSlot = (this.oldestSlot + 1) % this.returns.length;
+        }
+        for (int p = 0; p < prices.length; p++) {
+            this.previousPrices[p] = this.latestPrices[p];
+            if (!Double.isNaN(prices[p])) {
+                this.latestPrices[p] = prices[p];
+            }
+            this.returns[slot][p] = simpleReturn(this.previousPrices[p], this.latestPrices[p]);
+        }
+        this.asOfDate = tradeDate;
+    }
+
+    private void checkPrices(double[] prices) {
+        if (prices.length != this.positionList.size()) {
+            throw new IllegalArgumentException("Prices must be given for each of %1$d positions".formatted(this.positionList.size()));
+        }
+    }
+
+    private int slotOf(int scenarioIdx) {
+        return (this.oldestSlot + scenarioIdx) % this.returns.length;
+    }
+
+    /**
+     * Evaluate value-at-risk and expected shortfall
+     * <p>
+     *     With n scenarios, the tail is the worst ceil(n * (1 - confidence)) scenarios.
+     *     Value-at-risk is the loss of the best scenario in the tail, and expected shortfall is the average loss of the tail.
+     * </p>
+     * @param confidence    Confidence level between 0 and 1, e.g. 0.99
+     * @return  Risk result
+     */
+    public synchronized RiskResult evaluate(double confidence) {
+        if (!(confidence > 0.0 && confidence < 1.0)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1: " + confidence);
+        }
+        int width = this.positionList.size();
+        double[] exposures = new double[width];
+        double portfolioValue = 0.0;
+        for (int p = 0; p < width; p++) {
+            double price = this.latestPrices[p];
+            exposures[p] = Double.isNaN(price) ? 0.0 : this.positionList.get(p).quantity() * price;
+            portfolioValue += exposures[p];
+        }
+        int count = this.scenarioCount;
+        if (count == 0) {
+            List<PositionRisk> emptyRiskList = new ArrayList<>(width);
+            for (int p = 0; p < width; p++) {
+                emptyRiskList.add(new PositionRisk(this.positionList.get(p), exposures[p], 0.0, 0.0));
+            }
+            return new RiskResult(this.asOfDate, confidence, 0, 0, portfolioValue, 0.0, 0.0, emptyRiskList);
+        }
+
+        double[] pnl = new double[count];
+        IntStream.range(0, count).parallel().forEach(t -> {
+            double[] scenario = this.returns[slotOf(t)];
+            double sum = 0.0;
+            for (int p = 0; p < width; p++) {
+                sum += exposures[p] * scenario[p];
+            }
+            pnl[t] = sum;
+        });
+        int[] worstFirst = IntStream.range(0, count)
+                .boxed()
+                .sorted(Comparator.comparingDouble(t -> pnl[t]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int tailCount = Math.max(1, (int) Math.ceil(count * (1.0 - confidence) - 1e-9));
+        int varScenario = worstFirst[tailCount - 1];
+        double tailSum = 0.0;
+        for (int k = 0; k < tailCount; k++) {
+            tailSum += pnl[worstFirst[k]];
+        }
+
+        List<PositionRisk> positionRiskList = new ArrayList<>(width);
+        double[] varReturns = this.returns[slotOf(varScenario)];
+        for (int p = 0; p < width; p++) {
+            double tailPnl = 0.0;
+            for (int k = 0; k < tailCount; k++) {
+                tailPnl += exposures[p] * this.returns[slotOf(worstFirst[k])][p];
+            }
+            positionRiskList.add(new PositionRisk(
+                    this.positionList.get(p)
+                    , exposures[p]
+                    , -exposures[p] * varReturns[p]
+                    , -tailPnl / tailCount
+            ));
+        }
+        return new RiskResult(
+                this.asOfDate
+                , confidence
+                , count
+                , tailCount
+                , portfolioValue
+                , -pnl[varScenario]
+                , -tailSum / tailCount
+                , positionRiskList
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+import self.tekichan.demo.yfinance4j.model.IndexComponent;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index-level analytics computed from index components
+ * <p>
+ *     Cap weights are taken before the move, i.e. the market cap at the last price divided by (1 + change),
+ *     so the contributions of all components add up to the cap-weighted return.
+ *     Components without a known market cap are left out of the cap-weighted figures only.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param symbol    Index symbol
+ * @param downloadDateTime  Date/time of downloading the component information
+ * @param currencyCode  Currency code
+ * @param componentCount    Number of components
+ * @param cappedCount   Number of components with a known market cap
+ * @param capWeightedReturnPercent  Cap-weighted return in percent
+ * @param equalWeightedReturnPercent    Equal-weighted return in percent
+ * @param advancers Number of components with a positive change
+ * @param decliners Number of components with a negative change
+ * @param unchanged Number of components without change
+ * @param totalVolume   Total volume of all components
+ * @param contributionList  Contributions per component, in the order of the component list
+ */
+public record IndexAnalytics(
+        String symbol
+        , LocalDateTime downloadDateTime
+        , String currencyCode
+        , int componentCount
+        , int cappedCount
+        , double capWeightedReturnPercent
+        , double equalWeightedReturnPercent
+        , int advancers
+        , int decliners
+        , int unchanged
+        , long totalVolume
+        , List<ComponentContribution> contributionList
+) {
+    /**
+     * Compute IndexAnalytics from component information and market caps
+     * @param info  Information of index components
+     * @param marketCapMap  Map of component symbol to market cap; missing or null for unknown
+     * @return  Index analytics
+     */
+    public static IndexAnalytics of(IndexComponentInfo info, Map<String, BigDecimal> marketCapMap) {
+        Objects.requireNonNull(info, "Index component information must exist.");
+        Objects.requireNonNull(marketCapMap, "Map of market caps must exist.");
+        List<IndexComponent> componentList = info.componentList();
+        int size = componentList.size();
+        double[] priorCaps = new double[size];
+        double[] caps = new double[size];
+        double totalPriorCap = 0.0;
+        double sumPercent = 0.0;
+        int advancers = 0;
+        int decliners = 0;
+        int cappedCount = 0;
+        long totalVolume = 0L;
+        for (int i = 0; i < size; i++) {
+            IndexComponent comp = componentList.get(i);
+            double percentChange = comp.percentChange().doubleValue();
+            sumPercent += percentChange;
+            int sign = comp.percentChange().signum();
+            if (sign > 0) {
+                advancers++;
+            } else if (sign < 0) {
+                decliners++;
+            }
+            totalVolume += comp.volume();
+            BigDecimal marketCap = marketCapMap.get(comp.symbol());
+            caps[i] = marketCap != null && marketCap.signum() > 0 ? marketCap.doubleValue() : Double.NaN;
+            if (!Double.isNaN(caps[i])) {
+                priorCaps[i] = caps[i] / (1.0 + percentChange / 100.0);
+                totalPriorCap += priorCaps[i];
+                cappedCount++;
+            }
+        }
+
+        List<ComponentContribution> contributionList = new ArrayList<>(size);
+        double capWeightedReturn = 0.0;
+        for (int i = 0; i < size; i++) {
+            IndexComponent comp = componentList.get(i);
+            double percentChange = comp.percentChange().doubleValue();
+            double weight = totalPriorCap > 0.0 ? priorCaps[i] / totalPriorCap : 0.0;
+            double contribution = weight * percentChange;
+            capWeightedReturn += contribution;
+            contributionList.add(new ComponentContribution(
+                    comp.symbol()
+                    , comp.companyName()
+                    , caps[i]
+                    , weight * 100.0
+                    , percentChange
+                    , contribution
+            ));
+        }
+        return new IndexAnalytics(
+                info.symbol()
+                , info.downloadDateTime()
+                , info.currencyCode()
+                , size
+                , cappedCount
+                , capWeightedReturn
+                , size > 0 ? sumPercent / size : 0.0
+                , advancers
+                , decliners
+                , size - advancers - decliners
+                , totalVolume
+                , List.copyOf(contributionList)
+        );
+    }
+}
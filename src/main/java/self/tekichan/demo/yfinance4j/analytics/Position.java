@@ -0,0 +1,25 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+import java.util.Objects;
+
+/**
+ * Position of a portfolio
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param symbol    Stock symbol
+ * @param quantity  Quantity held; negative for a short position
+ */
+public record Position(
+        String symbol
+        , double quantity
+) {
+    /**
+     * Construct Position with a normalized symbol
+     * @param symbol    Stock symbol
+     * @param quantity  Quantity held; negative for a short position
+     */
+    public Position {
+        Objects.requireNonNull(symbol, "Position symbol must exist.");
+        symbol = symbol.toUpperCase();
+    }
+}
@@ -0,0 +1,21 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+/**
+ * Risk contribution of one position
+ * <p>
+ *     Contributions of all positions add up to the portfolio figures.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param position  Position
+ * @param exposure  Market value of the position at the latest price
+ * @param varContribution   Loss of the position in the scenario defining value-at-risk
+ * @param esContribution    Average loss of the position over the tail scenarios
+ */
+public record PositionRisk(
+        Position position
+        , double exposure
+        , double varContribution
+        , double esContribution
+) {
+}
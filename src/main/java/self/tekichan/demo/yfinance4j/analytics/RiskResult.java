@@ -0,0 +1,32 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Result of historical-simulation value-at-risk
+ * <p>
+ *     Losses are positive numbers in the currency of the prices.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param asOfDate  Date of the latest bar
+ * @param confidence    Confidence level, e.g. 0.99
+ * @param scenarioCount Number of historical scenarios
+ * @param tailCount Number of scenarios in the tail
+ * @param portfolioValue    Market value of the portfolio
+ * @param valueAtRisk   Value-at-risk
+ * @param expectedShortfall Expected shortfall, i.e. average loss in the tail
+ * @param positionRiskList  Contributions per position in the order of positions
+ */
+public record RiskResult(
+        LocalDate asOfDate
+        , double confidence
+        , int scenarioCount
+        , int tailCount
+        , double portfolioValue
+        , double valueAtRisk
+        , double expectedShortfall
+        , List<PositionRisk> positionRiskList
+) {
+}
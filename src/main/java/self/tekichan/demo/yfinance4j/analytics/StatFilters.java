@@ -0,0 +1,73 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Factory of predicates over numeric fields of KeyStatistics
+ * <p>
+ *     Yahoo! Finance shows N/A for unavailable figures, which are parsed as 0. The predicates here
+ *     treat 0 as unavailable and never match it, so e.g. a P/E below 15 does not match a stock without earnings.
+ * </p>
+ * <p>
+ *     e.g. {@code StatFilters.between(KeyStatistics::trailingPe, 5, 15).and(StatFilters.atLeast(KeyStatistics::returnOnEquityPercent, 10))}
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class StatFilters {
+    private StatFilters() {
+        // restrict instantiation
+    }
+
+    /**
+     * Predicate of a field being available, i.e. not null and not 0
+     * @param field Accessor of the field, e.g. KeyStatistics::trailingPe
+     * @return  Predicate over KeyStatistics
+     */
+    public static Predicate<KeyStatistics> available(Function<KeyStatistics, BigDecimal> field) {
+        Objects.requireNonNull(field, "Field accessor must exist.");
+        return stat -> {
+            BigDecimal value = field.apply(stat);
+            return value != null && value.signum() != 0;
+        };
+    }
+
+    /**
+     * Predicate of a field being at least a minimum
+     * @param field Accessor of the field
+     * @param min   Minimum value, inclusive
+     * @return  Predicate over KeyStatistics
+     */
+    public static Predicate<KeyStatistics> atLeast(Function<KeyStatistics, BigDecimal> field, double min) {
+        return between(field, min, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Predicate of a field being at most a maximum
+     * @param field Accessor of the field
+     * @param max   Maximum value, inclusive
+     * @return  Predicate over KeyStatistics
+     */
+    public static Predicate<KeyStatistics> atMost(Function<KeyStatistics, BigDecimal> field, double max) {
+        return between(field, Double.NEGATIVE_INFINITY, max);
+    }
+
+    /**
+     * Predicate of a field being within a range
+     * @param field Accessor of the field
+     * @param min   Minimum value, inclusive
+     * @param max   Maximum value, inclusive
+     * @return  Predicate over KeyStatistics
+     */
+    public static Predicate<KeyStatistics> between(Function<KeyStatistics, BigDecimal> field, double min, double max) {
+        return available(field).and(stat -> {
+            double value = field.apply(stat).doubleValue();
+            return value >= min && value <= max;
+        });
+    }
+}
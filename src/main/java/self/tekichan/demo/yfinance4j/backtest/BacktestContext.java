@@ -0,0 +1,211 @@
+package self.tekichan.demo.yfinance4j.backtest;
+
+import self.tekichan.demo.yfinance4j.series.PriceField;
+import self.tekichan.demo.yfinance4j.series.SeriesPanel;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Context of a backtest run given to a strategy on each bar
+ * <p>
+ *     The context holds cash and positions of the run. Orders are filled at the close price of the current bar,
+ *     and a symbol without a price on the current date cannot be traded.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class BacktestContext {
+    private final SeriesPanel panel;
+    private final double commissionRate;
+    private final BarView[] views;
+    private final double[] positions;
+    private final double[] lastPrices;
+    private double cash;
+    private double commissionPaid;
+    private int tradeCount;
+    private int row;
+
+    BacktestContext(SeriesPanel panel, double initialCash, double commissionRate) {
+        this.panel = panel;
+        this.commissionRate = commissionRate;
+        this.views = new BarView[panel.width()];
+        for (int s = 0; s < this.views.length; s++) {
+            this.views[s] = new BarView(panel, s);
+        }
+        this.positions = new double[panel.width()];
+        this.lastPrices = new double[panel.width()];
+        Arrays.fill(this.lastPrices, Double.NaN);
+        this.cash = initialCash;
+        this.row = -1;
+    }
+
+    void advance(int row) {
+        this.row = row;
+        for (int s = 0; s < this.lastPrices.length; s++) {
+            double close = this.panel.price(PriceField.CLOSE, s, row);
+            if (!Double.isNaN(close)) {
+                this.lastPrices[s] = close;
+            }
+        }
+    }
+
+    /**
+     * Get row index of the current date
+     * @return  row index
+     */
+    public int row() {
+        return this.row;
+    }
+
+    /**
+     * Get current date
+     * @return  current date
+     */
+    public LocalDate tradeDate() {
+        return this.panel.tradeDate(this.row);
+    }
+
+    /**
+     * Get number of symbols
+     * @return  number of symbols
+     */
+    public int symbolCount() {
+        return this.views.length;
+    }
+
+    /**
+     * Get column index of a symbol
+     * @param symbol    Stock symbol
+     * @return  column index or -1 if not found
+     */
+    public int symbolIndex(String symbol) {
+        return this.panel.symbolIndex(symbol);
+    }
+
+    /**
+     * Get the bar of a symbol on the current date
+     * <p>
+     *     The same view instance is returned on every call for the symbol.
+     * </p>
+     * @param symbolIdx column index of symbol
+     * @return  reusable view of the bar
+     */
+    public BarView bar(int symbolIdx) {
+        BarView view = this.views[symbolIdx];
+        view.moveTo(this.row);
+        return view;
+    }
+
+    /**
+     * Get close price of an earlier bar
+     * @param symbolIdx column index of symbol
+     * @param barsAgo   0 for the current bar, 1 for the previous one, etc.
+     * @return  close price or NaN if missing or before the first bar
+     */
+    public double close(int symbolIdx, int barsAgo) {
+        int target = this.row - barsAgo;
+        if (barsAgo < 0 || target < 0) {
+            return Double.NaN;
+        }
+        return this.panel.price(PriceField.CLOSE, symbolIdx, target);
+    }
+
+    /**
+     * Get the backing price column of a symbol for indicator computation
+     * <p>
+     *     Only rows up to {@link #row()} may be read, otherwise the strategy looks into the future.
+     *     The array is shared and must not be modified.
+     * </p>
+     * @param field Price field
+     * @param symbolIdx column index of symbol
+     * @return  column of prices
+     */
+    public double[] priceColumn(PriceField field, int symbolIdx) {
+        return this.panel.priceColumn(field, symbolIdx);
+    }
+
+    /**
+     * Get quantity held of a symbol
+     * @param symbolIdx column index of symbol
+     * @return  quantity; negative for a short position
+     */
+    public double position(int symbolIdx) {
+        return this.positions[symbolIdx];
+    }
+
+    /**
+     * Get cash
+     * @return  cash
+     */
+    public double cash() {
+        return this.cash;
+    }
+
+    /**
+     * Get equity, i.e. cash plus market value of positions at the last known prices
+     * @return  equity
+     */
+    public double equity() {
+        double equity = this.cash;
+        for (int s = 0; s < this.positions.length; s++) {
+            if (this.positions[s] != 0.0) {
+                equity += this.positions[s] * this.lastPrices[s];
+            }
+        }
+        return equity;
+    }
+
+    /**
+     * Buy or sell a quantity at the close price of the current bar
+     * @param symbolIdx column index of symbol
+     * @param quantity  positive to buy and negative to sell
+     * @return  true if filled; false if the symbol has no price on the current date
+     */
+    public boolean order(int symbolIdx, double quantity) {
+        double price = this.panel.price(PriceField.CLOSE, symbolIdx, this.row);
+        if (quantity == 0.0 || Double.isNaN(price)) {
+            return false;
+        }
+        double notional = quantity * price;
+        double commission = Math.abs(notional) * this.commissionRate;
+        this.positions[symbolIdx] += quantity;
+        this.cash -= notional + commission;
+        this.commissionPaid += commission;
+        this.tradeCount++;
+        return true;
+    }
+
+    /**
+     * Trade to reach a target quantity at the close price of the current bar
+     * @param symbolIdx column index of symbol
+     * @param targetQuantity    target quantity
+     * @return  true if filled or already at target
+     */
+    public boolean orderTarget(int symbolIdx, double targetQuantity) {
+        double delta = targetQuantity - this.positions[symbolIdx];
+        return delta == 0.0 || order(symbolIdx, delta);
+    }
+
+    /**
+     * Trade to hold a target percentage of equity at the close price of the current bar
+     * @param symbolIdx column index of symbol
+     * @param percent   target percentage of equity, e.g. 50 for half
+     * @return  true if filled or already at target
+     */
+    public boolean orderTargetPercent(int symbolIdx, double percent) {
+        double price = this.panel.price(PriceField.CLOSE, symbolIdx, this.row);
+        if (Double.isNaN(price) || price <= 0.0) {
+            return false;
+        }
+        return orderTarget(symbolIdx, equity() * percent / 100.0 / price);
+    }
+
+    int tradeCount() {
+        return this.tradeCount;
+    }
+
+    double commissionPaid() {
+        return this.commissionPaid;
+    }
+}
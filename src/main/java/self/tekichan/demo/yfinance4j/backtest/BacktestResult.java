@@ -0,0 +1,24 @@
+package self.tekichan.demo.yfinance4j.backtest;
+
+/**
+ * Result of a backtest run
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param initialCash   Cash at start
+ * @param finalEquity   Equity, i.e. cash plus market value of positions, after the last bar
+ * @param totalReturnPercent    Total return in percent
+ * @param maxDrawdownPercent    Maximum peak-to-trough decline of equity in percent
+ * @param tradeCount    Number of filled orders
+ * @param commissionPaid    Total commission paid
+ * @param equityCurve   Equity after each bar of the shared axis
+ */
+public record BacktestResult(
+        double initialCash
+        , double finalEquity
+        , double totalReturnPercent
+        , double maxDrawdownPercent
+        , int tradeCount
+        , double commissionPaid
+        , double[] equityCurve
+) {
+}
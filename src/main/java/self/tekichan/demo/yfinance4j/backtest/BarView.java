@@ -0,0 +1,127 @@
+package self.tekichan.demo.yfinance4j.backtest;
+
+import self.tekichan.demo.yfinance4j.series.PriceField;
+import self.tekichan.demo.yfinance4j.series.SeriesPanel;
+
+import java.time.LocalDate;
+
+/**
+ * Reusable mutable view of one bar of a panel
+ * <p>
+ *     The engine moves the same view from bar to bar instead of allocating a record per bar, so a view
+ *     must not be kept by a strategy beyond the call it is given in.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class BarView {
+    private final SeriesPanel panel;
+    private final int symbolIdx;
+    private int row;
+
+    BarView(SeriesPanel panel, int symbolIdx) {
+        this.panel = panel;
+        this.symbolIdx = symbolIdx;
+        this.row = -1;
+    }
+
+    void moveTo(int row) {
+        this.row = row;
+    }
+
+    /**
+     * Get stock symbol
+     * @return  stock symbol
+     */
+    public String symbol() {
+        return this.panel.symbols().get(this.symbolIdx);
+    }
+
+    /**
+     * Get column index of the symbol in the panel
+     * @return  column index
+     */
+    public int symbolIndex() {
+        return this.symbolIdx;
+    }
+
+    /**
+     * Get row index in the panel
+     * @return  row index
+     */
+    public int row() {
+        return this.row;
+    }
+
+    /**
+     * Get trading date in epoch days
+     * @return  trading date in epoch days
+     */
+    public int epochDay() {
+        return this.panel.epochDay(this.row);
+    }
+
+    /**
+     * Get trading date
+     * @return  trading date
+     */
+    public LocalDate tradeDate() {
+        return this.panel.tradeDate(this.row);
+    }
+
+    /**
+     * Check whether the bar holds prices
+     * @return  true if the close price is not NaN
+     */
+    public boolean isPresent() {
+        return this.panel.isPresent(this.symbolIdx, this.row);
+    }
+
+    /**
+     * Get open price
+     * @return  open price or NaN if missing
+     */
+    public double open() {
+        return this.panel.price(PriceField.OPEN, this.symbolIdx, this.row);
+    }
+
+    /**
+     * Get highest price
+     * @return  highest price or NaN if missing
+     */
+    public double high() {
+        return this.panel.price(PriceField.HIGH, this.symbolIdx, this.row);
+    }
+
+    /**
+     * Get lowest price
+     * @return  lowest price or NaN if missing
+     */
+    public double low() {
+        return this.panel.price(PriceField.LOW, this.symbolIdx, this.row);
+    }
+
+    /**
+     * Get close price
+     * @return  close price or NaN if missing
+     */
+    public double close() {
+        return this.panel.price(PriceField.CLOSE, this.symbolIdx, this.row);
+    }
+
+    /**
+     * Get adjusted close price
+     * @return  adjusted close price or NaN if missing
+     */
+    public double adjClose() {
+        return this.panel.price(PriceField.ADJ_CLOSE, this.symbolIdx, this.row);
+    }
+
+    /**
+     * Get volume
+     * @return  volume or 0 if missing
+     */
+    public long volume() {
+        return this.panel.volume(this.symbolIdx, this.row);
+    }
+}
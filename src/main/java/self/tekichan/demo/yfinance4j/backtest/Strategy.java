@@ -0,0 +1,27 @@
+package self.tekichan.demo.yfinance4j.backtest;
+
+/**
+ * Strategy driven bar by bar by the backtesting engine
+ * <p>
+ *     A strategy instance is used by one run only, so it may keep its own state without synchronization.
+ *     Independent runs of a parameter sweep get their own instances.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@FunctionalInterface
+public interface Strategy {
+    /**
+     * Called before the first bar
+     * @param context   Context of the run
+     */
+    default void onStart(BacktestContext context) {
+        // nothing by default
+    }
+
+    /**
+     * Called once per date of the shared axis, after the bars of the date are available
+     * @param context   Context of the run, positioned at the current date
+     */
+    void onBar(BacktestContext context);
+}
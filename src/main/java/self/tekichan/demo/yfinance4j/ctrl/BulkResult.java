@@ -0,0 +1,53 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Outcome of one run of a controller fanning out over many symbols
+ * <p>
+ *     Everything a run observes is returned in its own result, so runs of one controller may overlap
+ *     without touching each other's counts or failures.
+ * </p>
+ * @param <T>   the value type
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param value Value computed from the downloads that succeeded
+ * @param requestCount  Number of downloads started
+ * @param failureMap    Map of symbol to the exception of its download, in the order of the symbols
+ */
+public record BulkResult<T>(
+        T value
+        , int requestCount
+        , Map<String, Exception> failureMap
+) {
+    /**
+     * Constructor of BulkResult
+     * @param value Value computed from the downloads that succeeded
+     * @param requestCount  Number of downloads started
+     * @param failureMap    Map of symbol to the exception of its download, in the order of the symbols
+     */
+    public BulkResult {
+        Objects.requireNonNull(failureMap, "Map of failures must exist.");
+        failureMap = Collections.unmodifiableMap(new LinkedHashMap<>(failureMap));
+    }
+
+    /**
+     * Get symbols whose download did not succeed
+     * @return  Set of symbols in the order of the symbols
+     */
+    public Set<String> failedSymbols() {
+        return this.failureMap.keySet();
+    }
+
+    /**
+     * Whether every download succeeded
+     * @return  true if no download failed
+     */
+    public boolean isComplete() {
+        return this.failureMap.isEmpty();
+    }
+}
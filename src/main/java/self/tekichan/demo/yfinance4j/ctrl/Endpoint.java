@@ -0,0 +1,41 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.metrics.EndpointMetrics;
+import self.tekichan.demo.yfinance4j.metrics.Metrics;
+
+/**
+ * Enum for Yahoo! Finance endpoint types
+ * <p>
+ *     Requests of the same type share the same page layout and host, so they succeed or break together.
+ * </p>
+ * @see EndpointBreakers
+ * @see Metrics
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public enum Endpoint {
+    /**
+     * CSV download of historical quotes
+     */
+    HISTORICAL_QUOTE,
+    /**
+     * HTML page of index components
+     */
+    INDEX_COMPONENT,
+    /**
+     * HTML page of key statistics
+     */
+    KEY_STATISTICS,
+    /**
+     * HTML page of summary quote
+     */
+    SUMMARY_QUOTE;
+
+    /**
+     * Get the metrics of the exchanges of this endpoint
+     * @return  EndpointMetrics
+     */
+    public EndpointMetrics metrics() {
+        return Metrics.endpoint(name());
+    }
+}
@@ -0,0 +1,154 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.jfr.QuoteRequestEvent;
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+import self.tekichan.demo.yfinance4j.util.CircuitBreaker;
+import self.tekichan.demo.yfinance4j.util.CircuitOpenException;
+
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breakers of Yahoo! Finance endpoints
+ * <p>
+ *     Every execution of a {@link QuoteRequest} passes the circuit breaker of its endpoint. While a circuit is open,
+ *     executions fail fast with {@link CircuitOpenException} instead of waiting out their timeouts.
+ *     I/O errors, including timeouts and unsuccessful status codes, count as failures; runtime exceptions
+ *     thrown by a parser, e.g. an element missing from a changed page, count as parse failures.
+ * </p>
+ * <pre>{@code
+ * EndpointBreakers.set(Endpoint.SUMMARY_QUOTE, new CircuitBreaker("summary"
+ *         , CircuitBreaker.Settings.defaults().withRecovery(Duration.ofMinutes(1), 2)));
+ * }</pre>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class EndpointBreakers {
+    private static final String REJECTED = "REJECTED";
+    private static final String RELEASED = "RELEASED";
+    private static final Map<Endpoint, CircuitBreaker> BREAKER_MAP = new EnumMap<>(Endpoint.class);
+
+    static {
+        for (Endpoint endpoint : Endpoint.values()) {
+            BREAKER_MAP.put(endpoint, new CircuitBreaker(endpoint.name()));
+        }
+    }
+
+    private EndpointBreakers() {
+        // restrict instantiation
+    }
+
+    /**
+     * Get the circuit breaker of an endpoint
+     * @param endpoint  Endpoint type
+     * @return  CircuitBreaker
+     */
+    public static synchronized CircuitBreaker get(Endpoint endpoint) {
+        return BREAKER_MAP.get(Objects.requireNonNull(endpoint, "Endpoint must exist."));
+    }
+
+    /**
+     * Set the circuit breaker of an endpoint, e.g. with other thresholds
+     * @param endpoint  Endpoint type
+     * @param breaker   CircuitBreaker, or null to restore a closed breaker with default settings
+     */
+    public static synchronized void set(Endpoint endpoint, CircuitBreaker breaker) {
+        Objects.requireNonNull(endpoint, "Endpoint must exist.");
+        BREAKER_MAP.put(endpoint, breaker != null ? breaker : new CircuitBreaker(endpoint.name()));
+    }
+
+    /**
+     * Execute a request through the circuit breaker of its endpoint
+     * <p>
+     *     The execution is reported to Flight Recorder as {@link QuoteRequestEvent} while a recording enables it.
+     * </p>
+     * @param request   Quote request
+     * @param execution Supplier executing the request
+     * @return  Result of the execution, or a failure of CircuitOpenException if the circuit is open
+     * @param <T>   the type of data
+     */
+    static <T> Result<T> execute(QuoteRequest<T> request, Supplier<Result<T>> execution) {
+        QuoteRequestEvent event = begin();
+        CircuitBreaker breaker = get(request.endpoint());
+        if (!breaker.tryAcquire()) {
+            commit(event, request, REJECTED);
+            return Result.failure(new CircuitOpenException(breaker.getName(), breaker.getRetryAfter()));
+        }
+        Result<T> result = execution.get();
+        commit(event, request, record(breaker, result));
+        return result;
+    }
+
+    /**
+     * Asynchronously execute a request through the circuit breaker of its endpoint
+     * @see #execute(QuoteRequest, Supplier)
+     * @param request   Quote request
+     * @param execution Supplier starting the execution
+     * @return  CompletableFuture of Result, completed at once with a failure of CircuitOpenException
+     *          if the circuit is open
+     * @param <T>   the type of data
+     */
+    static <T> CompletableFuture<Result<T>> executeAsync(QuoteRequest<T> request
+            , Supplier<CompletableFuture<Result<T>>> execution) {
+        QuoteRequestEvent event = begin();
+        CircuitBreaker breaker = get(request.endpoint());
+        if (!breaker.tryAcquire()) {
+            commit(event, request, REJECTED);
+            return CompletableFuture.completedFuture(
+                    Result.failure(new CircuitOpenException(breaker.getName(), breaker.getRetryAfter()))
+            );
+        }
+        CompletableFuture<Result<T>> future = execution.get();
+        return AsyncBatch.propagateCancel(future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                breaker.release();
+                commit(event, request, RELEASED);
+            } else {
+                commit(event, request, record(breaker, result));
+            }
+        }), future);
+    }
+
+    private static String record(CircuitBreaker breaker, Result<?> result) {
+        if (result.exception().isEmpty()) {
+            breaker.onResult(CircuitBreaker.Outcome.SUCCESS);
+            return CircuitBreaker.Outcome.SUCCESS.name();
+        }
+        Exception ex = result.exception().get();
+        if (ex instanceof UncheckedIOException unchecked) {
+            // an I/O failure of a body streamed into the parser, so of the transport rather than the page
+            ex = unchecked.getCause();
+        }
+        if (ex instanceof InterruptedException || ex instanceof CancellationException || ex instanceof URISyntaxException) {
+            // says nothing about the endpoint
+            breaker.release();
+            return RELEASED;
+        }
+        CircuitBreaker.Outcome outcome = ex instanceof RuntimeException
+                ? CircuitBreaker.Outcome.PARSE_FAILURE
+                : CircuitBreaker.Outcome.FAILURE;
+        breaker.onResult(outcome);
+        return outcome.name();
+    }
+
+    private static QuoteRequestEvent begin() {
+        var event = new QuoteRequestEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void commit(QuoteRequestEvent event, QuoteRequest<?> request, String outcome) {
+        if (event.shouldCommit()) {
+            event.symbol = request.symbol();
+            event.endpoint = request.endpoint().name();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
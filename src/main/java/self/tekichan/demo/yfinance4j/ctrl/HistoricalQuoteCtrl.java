@@ -1,8 +1,9 @@
 package self.tekichan.demo.yfinance4j.ctrl;
 
+import self.tekichan.demo.yfinance4j.http.Priority;
 import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
 import self.tekichan.demo.yfinance4j.model.Interval;
-import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+import self.tekichan.demo.yfinance4j.util.DateTimeUtil;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -13,7 +14,6 @@ import java.util.stream.Stream;
 
 import static self.tekichan.demo.yfinance4j.YFinanceConfig.START_EPOCH;
 import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
-import static self.tekichan.demo.yfinance4j.util.DateTimeUtil.getEndOfTodayEpoch;
 import static self.tekichan.demo.yfinance4j.util.StringUtil.urlEncode;
 
 /**
@@ -25,10 +25,11 @@ public class HistoricalQuoteCtrl {
     static final String HISTORICAL_QUOTE_URL_PATTERN = "https://query1.finance.yahoo.com/v7/finance/download/%1$s?period1=%2$d&period2=%3$d&interval=%4$s&events=history&includeAdjustedClose=true";
 
     Optional<String> symbol;
-    Optional<Long> startDateEpoch;
-    Optional<Long> endDateEpoch;
-    Optional<String> recordInterval;
+    Optional<LocalDate> startDate;
+    Optional<LocalDate> endDate;
+    Optional<Interval> recordInterval;
     Optional<Integer> timeoutMillis;
+    Optional<Priority> priority;
     Optional<Exception> lastException;
 
     /**
@@ -36,10 +37,11 @@ public class HistoricalQuoteCtrl {
      */
     public HistoricalQuoteCtrl() {
         this.symbol = Optional.empty();
-        this.startDateEpoch = Optional.of(START_EPOCH);
-        this.endDateEpoch = Optional.of(getEndOfTodayEpoch());
-        this.recordInterval = Optional.of(toIntervalCode(Interval.DAILY));
+        this.startDate = Optional.empty();
+        this.endDate = Optional.empty();
+        this.recordInterval = Optional.of(Interval.DAILY);
         this.timeoutMillis = Optional.of(TIMEOUT_MILLIS);
+        this.priority = Optional.of(Priority.INTERACTIVE);
         this.lastException = Optional.empty();
     }
 
@@ -60,9 +62,7 @@ public class HistoricalQuoteCtrl {
      * @return  the configured HistoricalQuoteCtrl
      */
     public HistoricalQuoteCtrl startDate(LocalDate startDate) {
-        this.startDateEpoch = Optional.ofNullable(startDate)
-                .map(d -> d.toEpochSecond(LocalTime.of(0, 0, 0), ZoneOffset.UTC))
-                .or(() -> Optional.of(START_EPOCH));
+        this.startDate = Optional.ofNullable(startDate);
         return this;
     }
 
@@ -72,9 +72,7 @@ public class HistoricalQuoteCtrl {
      * @return  the configured HistoricalQuoteCtrl
      */
     public HistoricalQuoteCtrl endDate(LocalDate endDate) {
-        this.endDateEpoch = Optional.ofNullable(endDate)
-                .map(d -> d.toEpochSecond(LocalTime.of(23, 59, 59), ZoneOffset.UTC))
-                .or(() -> Optional.of(getEndOfTodayEpoch()));
+        this.endDate = Optional.ofNullable(endDate);
         return this;
     }
 
@@ -84,7 +82,7 @@ public class HistoricalQuoteCtrl {
      * @return  the configured HistoricalQuoteCtrl
      */
     public HistoricalQuoteCtrl interval(Interval interval) {
-        this.recordInterval = Optional.of(toIntervalCode(Interval.DAILY));
+        this.recordInterval = Optional.of(Interval.DAILY);
         return this;
     }
 
@@ -99,13 +97,24 @@ public class HistoricalQuoteCtrl {
         return this;
     }
 
+    /**
+     * Set priority class of the requests sent, {@link Priority#INTERACTIVE} by default
+     * @see self.tekichan.demo.yfinance4j.http.PrioritizedTransport
+     * @param priority  Priority class, or null for the default
+     * @return  the configured controller
+     */
+    public HistoricalQuoteCtrl priority(Priority priority) {
+        this.priority = Optional.ofNullable(priority).or(() -> Optional.of(Priority.INTERACTIVE));
+        return this;
+    }
+
     /**
      * Get a list of historical data
      * @return  List of historical quote data
      */
     public List<HistoricalQuote> getHistoricalData() {
         try {
-            return WebClientHelper.downloadCsvToList(getTargetUrl(), this.timeoutMillis.orElse(TIMEOUT_MILLIS), this::fromStreamToList);
+            return toRequest().execute().orElseThrow();
         } catch (Exception ex) {
             this.lastException = Optional.of(ex);
             return Collections.emptyList();
@@ -114,17 +123,32 @@ public class HistoricalQuoteCtrl {
 
     /**
      * Asynchronously get a list of historical data
-     * @return  CompletableFuture of List of historical data
+     * @return  CompletableFuture of List of historical data; cancelling it aborts the download once no other caller shares it
      */
     public CompletableFuture<List<HistoricalQuote>> getHistoricalDataAsync() {
         try {
-            return WebClientHelper.downloadCsvToListAsync(getTargetUrl(), this.timeoutMillis.orElse(TIMEOUT_MILLIS), this::fromStreamToList);
+            return Result.valueAsync(toRequest().executeAsync());
         } catch (Exception ex) {
             this.lastException = Optional.of(ex);
             return CompletableFuture.failedFuture(ex);
         }
     }
 
+    /**
+     * Get an immutable request of the current settings, which can be shared across threads
+     * @return  HistoricalQuoteRequest
+     */
+    public HistoricalQuoteRequest toRequest() {
+        return new HistoricalQuoteRequest(
+                this.symbol.orElseThrow()
+                , this.startDate
+                , this.endDate
+                , this.recordInterval.orElse(Interval.DAILY)
+                , this.timeoutMillis.orElse(TIMEOUT_MILLIS)
+                , this.priority.orElse(Priority.INTERACTIVE)
+        );
+    }
+
     /**
      * Get Optional of Exception
      * @return  Optional of Exception when exception happens when getting the data or Optional.empty() if normal
@@ -133,24 +157,24 @@ public class HistoricalQuoteCtrl {
         return this.lastException;
     }
 
-    private String getTargetUrl() {
+    static String getTargetUrl(String symbol, Optional<LocalDate> startDate, Optional<LocalDate> endDate, Interval interval) {
         return String.format(
                 HISTORICAL_QUOTE_URL_PATTERN
-                , urlEncode(this.symbol)
-                , this.startDateEpoch.orElse(START_EPOCH)
-                , this.endDateEpoch.orElse(getEndOfTodayEpoch())
-                , this.recordInterval.orElse(toIntervalCode(Interval.DAILY))
+                , urlEncode(Optional.of(symbol))
+                , startDate.map(d -> d.toEpochSecond(LocalTime.of(0, 0, 0), ZoneOffset.UTC)).orElse(START_EPOCH)
+                , endDate.map(d -> d.toEpochSecond(LocalTime.of(23, 59, 59), ZoneOffset.UTC)).orElseGet(DateTimeUtil::getEndOfTodayEpoch)
+                , toIntervalCode(interval)
         );
     }
 
-    private List<HistoricalQuote> fromStreamToList(Stream<String> lines) {
+    static List<HistoricalQuote> fromStreamToList(String symbol, Stream<String> lines) {
         return lines.skip(1)
                 .map(line -> {
                     try {
                         String[] lineItems = line.split(",");
-                        if (this.symbol.isPresent() && lineItems.length >= 7) {
+                        if (lineItems.length >= 7) {
                             return new HistoricalQuote(
-                                    this.symbol.get()
+                                    symbol
                                     , lineItems[0]
                                     , lineItems[1]
                                     , lineItems[2]
@@ -171,7 +195,7 @@ public class HistoricalQuoteCtrl {
                 .toList();
     }
 
-    private String toIntervalCode(Interval interval) {
+    private static String toIntervalCode(Interval interval) {
         return switch(interval) {
             case WEEKLY -> "1wk";
             case MONTHLY -> "1mo";
@@ -0,0 +1,155 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.model.Interval;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
+
+/**
+ * Immutable request of historical quotes of a stock
+ * <p>
+ *     Without an ending date, each execution downloads up to the end of the day it runs,
+ *     so a cached request keeps following the latest data.
+ * </p>
+ * @see HistoricalQuoteCtrl
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param symbol    quote code symbol
+ * @param startDate Starting date, or empty from the earliest date available
+ * @param endDate   Ending date, or empty until today
+ * @param interval  Interval of reporting
+ * @param timeoutMillis read and connection timeout in milliseconds
+ * @param priority  Priority class of the request
+ */
+public record HistoricalQuoteRequest(
+        String symbol
+        , Optional<LocalDate> startDate
+        , Optional<LocalDate> endDate
+        , Interval interval
+        , int timeoutMillis
+        , Priority priority
+) implements QuoteRequest<List<HistoricalQuote>> {
+    /**
+     * Constructor of HistoricalQuoteRequest
+     * @param symbol    quote code symbol
+     * @param startDate Starting date, or empty from the earliest date available
+     * @param endDate   Ending date, or empty until today
+     * @param interval  Interval of reporting
+     * @param timeoutMillis read and connection timeout in milliseconds
+     * @param priority  Priority class of the request
+     */
+    public HistoricalQuoteRequest {
+        Objects.requireNonNull(symbol, "Quote symbol must exist for lookup.");
+        Objects.requireNonNull(startDate, "Optional of starting date must exist.");
+        Objects.requireNonNull(endDate, "Optional of ending date must exist.");
+        Objects.requireNonNull(interval, "Interval must exist.");
+        Objects.requireNonNull(priority, "Priority must exist.");
+        symbol = symbol.toUpperCase();
+        if (startDate.isPresent() && endDate.isPresent() && startDate.get().isAfter(endDate.get())) {
+            throw new IllegalArgumentException("Starting date %1$s is after ending date %2$s".formatted(startDate.get(), endDate.get()));
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeoutMillis);
+        }
+    }
+
+    /**
+     * Get request of all daily quotes with the default timeout, as an interactive lookup
+     * @param quoteCode quote code symbol
+     * @return  HistoricalQuoteRequest
+     */
+    public static HistoricalQuoteRequest of(String quoteCode) {
+        return new HistoricalQuoteRequest(quoteCode, Optional.empty(), Optional.empty(), Interval.DAILY, TIMEOUT_MILLIS, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Get a copy of this request with another starting date
+     * @param startDate Starting date, or null from the earliest date available
+     * @return  HistoricalQuoteRequest
+     */
+    public HistoricalQuoteRequest withStartDate(LocalDate startDate) {
+        return new HistoricalQuoteRequest(this.symbol, Optional.ofNullable(startDate), this.endDate, this.interval, this.timeoutMillis, this.priority);
+    }
+
+    /**
+     * Get a copy of this request with another ending date
+     * @param endDate   Ending date, or null until today
+     * @return  HistoricalQuoteRequest
+     */
+    public HistoricalQuoteRequest withEndDate(LocalDate endDate) {
+        return new HistoricalQuoteRequest(this.symbol, this.startDate, Optional.ofNullable(endDate), this.interval, this.timeoutMillis, this.priority);
+    }
+
+    /**
+     * Get a copy of this request with another interval of reporting
+     * @param interval  Interval of reporting
+     * @return  HistoricalQuoteRequest
+     */
+    public HistoricalQuoteRequest withInterval(Interval interval) {
+        return new HistoricalQuoteRequest(this.symbol, this.startDate, this.endDate, interval, this.timeoutMillis, this.priority);
+    }
+
+    /**
+     * Get a copy of this request with another timeout
+     * @param timeoutMillis timeout in milliseconds
+     * @return  HistoricalQuoteRequest
+     */
+    public HistoricalQuoteRequest withTimeout(int timeoutMillis) {
+        return new HistoricalQuoteRequest(this.symbol, this.startDate, this.endDate, this.interval, timeoutMillis, this.priority);
+    }
+
+    /**
+     * Get a copy of this request with another priority class
+     * @param priority  Priority class
+     * @return  HistoricalQuoteRequest
+     */
+    public HistoricalQuoteRequest withPriority(Priority priority) {
+        return new HistoricalQuoteRequest(this.symbol, this.startDate, this.endDate, this.interval, this.timeoutMillis, priority);
+    }
+
+    @Override
+    public Endpoint endpoint() {
+        return Endpoint.HISTORICAL_QUOTE;
+    }
+
+    @Override
+    public String targetUrl() {
+        return HistoricalQuoteCtrl.getTargetUrl(this.symbol, this.startDate, this.endDate, this.interval);
+    }
+
+    @Override
+    public Result<List<HistoricalQuote>> execute() {
+        return EndpointBreakers.execute(this, () -> Result.of(() -> this.priority.call(() -> WebClientHelper.downloadCsvToList(
+                targetUrl()
+                , this.timeoutMillis
+                , lines -> HistoricalQuoteCtrl.fromStreamToList(this.symbol, lines)
+                , endpoint().metrics()
+        ))));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Concurrent executions of identical requests share one download and parse.
+     * </p>
+     */
+    @Override
+    public CompletableFuture<Result<List<HistoricalQuote>>> executeAsync() {
+        return InFlightRequests.execute(this, () -> EndpointBreakers.executeAsync(this
+                , () -> Result.ofAsync(() -> this.priority.call(() -> WebClientHelper.downloadCsvToListAsync(
+                        targetUrl()
+                        , this.timeoutMillis
+                        , lines -> HistoricalQuoteCtrl.fromStreamToList(this.symbol, lines)
+                        , endpoint().metrics()
+                )))
+        ));
+    }
+}
@@ -0,0 +1,54 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+import self.tekichan.demo.yfinance4j.util.SingleFlight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Single flight of asynchronous executions of QuoteRequest
+ * <p>
+ *     Executions are keyed by the target URL, which holds the endpoint and the normalized parameters,
+ *     e.g. the symbol in upper case, together with the priority and the timeout. An execution waits in the queue
+ *     of its priority and gives up after its timeout, so only callers asking for both the same attach to it,
+ *     e.g. an interactive lookup never waits behind a bulk download of the same URL.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class InFlightRequests {
+    static final SingleFlight<Key, Result<?>> SINGLE_FLIGHT = new SingleFlight<>();
+
+    /**
+     * Key of identical executions
+     * @param targetUrl Target URL
+     * @param priority  Priority class
+     * @param timeoutMillis Timeout in milliseconds
+     */
+    record Key(String targetUrl, Priority priority, int timeoutMillis) {
+    }
+
+    private InFlightRequests() {
+        // restrict instantiation
+    }
+
+    /**
+     * Execute a request, or attach to the identical execution in flight
+     * @param request   QuoteRequest
+     * @param execution Supplier starting the execution
+     * @return  CompletableFuture of Result shared with identical executions in flight; cancelling it detaches
+     *          this caller, and the execution is cancelled once every caller has detached
+     * @param <T>   the type of data
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CompletableFuture<Result<T>> execute(QuoteRequest<T> request, Supplier<CompletableFuture<Result<T>>> execution) {
+        var key = new Key(request.targetUrl(), request.priority(), request.timeoutMillis());
+        CompletableFuture<Result<?>> shared = SINGLE_FLIGHT.execute(key, () -> {
+            CompletableFuture<Result<T>> future = execution.get();
+            return AsyncBatch.propagateCancel(future.thenApply(result -> (Result<?>) result), future);
+        });
+        return AsyncBatch.propagateCancel(shared.thenApply(result -> (Result<T>) result), shared);
+    }
+}
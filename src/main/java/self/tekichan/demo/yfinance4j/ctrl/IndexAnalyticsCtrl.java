@@ -0,0 +1,213 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.analytics.IndexAnalytics;
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.model.IndexComponent;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+import self.tekichan.demo.yfinance4j.util.Deadline;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
+
+/**
+ * Controller class for IndexAnalytics
+ * <p>
+ *     The component list of the index is downloaded first, and then the market caps of all components
+ *     are downloaded from their summary quotes with bounded concurrency.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class IndexAnalyticsCtrl {
+    static final int DEFAULT_CONCURRENCY = 8;
+
+    Optional<String> symbol;
+    Optional<Integer> concurrency;
+    Optional<Integer> timeoutMillis;
+    Optional<Priority> priority;
+    Optional<Duration> budget;
+    Optional<Exception> lastException;
+
+    /**
+     * Constructor of Index Analytics Controller
+     */
+    public IndexAnalyticsCtrl() {
+        this.symbol = Optional.empty();
+        this.concurrency = Optional.of(DEFAULT_CONCURRENCY);
+        this.timeoutMillis = Optional.of(TIMEOUT_MILLIS);
+        this.priority = Optional.of(Priority.BULK);
+        this.budget = Optional.empty();
+        this.lastException = Optional.empty();
+    }
+
+    /**
+     * Set quote code symbol of stock index
+     * @param quoteCode quote code symbol
+     * @return  the configured controller
+     */
+    public IndexAnalyticsCtrl symbol(String quoteCode) {
+        Objects.requireNonNull(quoteCode, "Quote symbol must exist for lookup.");
+        this.symbol = Optional.of(quoteCode).filter(q -> q.startsWith("^")).map(String::toUpperCase);
+        return this;
+    }
+
+    /**
+     * Set maximum number of concurrent downloads of component market caps
+     * @param concurrency   maximum number of downloads in flight
+     * @return  the configured controller
+     */
+    public IndexAnalyticsCtrl concurrency(Integer concurrency) {
+        this.concurrency = Optional.ofNullable(concurrency)
+                .filter(c -> c > 0)
+                .or(() -> Optional.of(DEFAULT_CONCURRENCY));
+        return this;
+    }
+
+    /**
+     * Set read and connection timeout for HTTP connection
+     * @param timeoutMillis timeout in milliseconds
+     * @return  the configured controller
+     */
+    public IndexAnalyticsCtrl timeout(Integer timeoutMillis) {
+        this.timeoutMillis = Optional.ofNullable(timeoutMillis)
+                .filter(t -> t > 0);
+        return this;
+    }
+
+    /**
+     * Set priority class of the requests sent, {@link Priority#BULK} by default
+     * @see self.tekichan.demo.yfinance4j.http.PrioritizedTransport
+     * @param priority  Priority class, or null for the default
+     * @return  the configured controller
+     */
+    public IndexAnalyticsCtrl priority(Priority priority) {
+        this.priority = Optional.ofNullable(priority).or(() -> Optional.of(Priority.BULK));
+        return this;
+    }
+
+    /**
+     * Set time allowed for the whole download
+     * <p>
+     *     The timeout of each request shrinks to the time left. Once the time is up, no further request is started
+     *     and requests in flight are cancelled, leaving their market caps unknown.
+     * </p>
+     * @param budget    time allowed, or null for no deadline
+     * @return  the configured controller
+     */
+    public IndexAnalyticsCtrl deadline(Duration budget) {
+        this.budget = Optional.ofNullable(budget).filter(b -> !b.isNegative() && !b.isZero());
+        return this;
+    }
+
+    /**
+     * Get Optional of Exception
+     * @return  Optional of Exception when exception happens when getting the data or Optional.empty() if normal
+     */
+    public Optional<Exception> getLastException() {
+        return this.lastException;
+    }
+
+    /**
+     * Get analytics of given stock index
+     * @return  the index analytics or null if error
+     */
+    public IndexAnalytics getIndexAnalytics() {
+        this.lastException = Optional.empty();
+        try {
+            BulkResult<IndexAnalytics> result = getIndexAnalyticsAsync().get();
+            this.lastException = result.failureMap().values().stream().reduce((first, second) -> second);
+            return result.value();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.lastException = Optional.of(ex);
+            return null;
+        } catch (ExecutionException ex) {
+            this.lastException = Optional.of(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Asynchronously get analytics of given stock index
+     * <p>
+     *     A component whose summary quote fails to download is kept with an unknown market cap, and reported in
+     *     the result, so runs may overlap.
+     *     Cancelling the returned CompletableFuture cancels the downloads in flight.
+     * </p>
+     * @return  CompletableFuture of the index analytics
+     */
+    public CompletableFuture<BulkResult<IndexAnalytics>> getIndexAnalyticsAsync() {
+        if (this.symbol.isEmpty()) {
+            var ex = new IllegalStateException("Index symbol starting with ^ must exist for lookup.");
+            this.lastException = Optional.of(ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+        Optional<Deadline> deadline = this.budget.map(Deadline::after);
+        Priority priority = this.priority.orElse(Priority.BULK);
+        IntSupplier timeout = () -> deadline.map(d -> d.timeoutMillis(this.timeoutMillis.orElse(TIMEOUT_MILLIS)))
+                .orElse(this.timeoutMillis.orElse(TIMEOUT_MILLIS));
+        var analyticsFuture = new CompletableFuture<BulkResult<IndexAnalytics>>();
+        CompletableFuture<Result<IndexComponentInfo>> infoFuture =
+                new IndexComponentRequest(this.symbol.get(), timeout.getAsInt(), priority).executeAsync();
+        deadline.ifPresent(d -> d.cancelOnExpiry(List.of(infoFuture)));
+        AsyncBatch.propagateCancel(analyticsFuture, infoFuture);
+        infoFuture.thenCompose(Result::toFuture)
+                .thenCompose(info -> {
+                    List<String> symbolList = info.componentList().stream().map(IndexComponent::symbol).toList();
+                    var startedCount = new AtomicInteger();
+                    List<CompletableFuture<SummaryQuote>> futureList = AsyncBatch.mapBounded(
+                            symbolList
+                            , this.concurrency.orElse(DEFAULT_CONCURRENCY)
+                            , compSymbol -> {
+                                startedCount.incrementAndGet();
+                                return Result.valueAsync(
+                                        new SummaryQuoteRequest(compSymbol, timeout.getAsInt(), priority).executeAsync()
+                                );
+                            }
+                            , () -> deadline.map(Deadline::isExpired).orElse(false)
+                    );
+                    deadline.ifPresent(d -> d.cancelOnExpiry(futureList));
+                    AsyncBatch.propagateCancel(analyticsFuture, futureList.toArray(Future[]::new));
+                    return AsyncBatch.allSettled(futureList)
+                            .thenApply(v -> {
+                                var marketCapMap = new HashMap<String, BigDecimal>();
+                                var failureMap = new LinkedHashMap<String, Exception>();
+                                for (int i = 0; i < symbolList.size(); i++) {
+                                    try {
+                                        SummaryQuote quote = futureList.get(i).join();
+                                        if (quote != null && quote.marketCap() != null) {
+                                            marketCapMap.put(symbolList.get(i), quote.marketCap().toBigDecimal());
+                                        }
+                                    } catch (CompletionException | CancellationException ex) {
+                                        failureMap.put(symbolList.get(i), ex);
+                                    }
+                                }
+                                return new BulkResult<>(IndexAnalytics.of(info, marketCapMap), startedCount.get(), failureMap);
+                            });
+                })
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        analyticsFuture.completeExceptionally(ex);
+                    } else {
+                        analyticsFuture.complete(result);
+                    }
+                });
+        return analyticsFuture;
+    }
+}
@@ -2,13 +2,12 @@ package self.tekichan.demo.yfinance4j.ctrl;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import self.tekichan.demo.yfinance4j.http.Priority;
 import self.tekichan.demo.yfinance4j.model.IndexComponent;
 import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
-import self.tekichan.demo.yfinance4j.util.WebClientHelper;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,7 +18,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static java.net.HttpURLConnection.HTTP_OK;
 import static self.tekichan.demo.yfinance4j.YFinanceConfig.*;
 
 /**
@@ -69,6 +67,14 @@ public class IndexComponentCtrl {
         return this;
     }
 
+    /**
+     * Get an immutable request of the current settings, which can be shared across threads
+     * @return  IndexComponentRequest
+     */
+    public IndexComponentRequest toRequest() {
+        return new IndexComponentRequest(this.symbol.orElseThrow(), this.timeoutMillis.orElse(TIMEOUT_MILLIS), Priority.INTERACTIVE);
+    }
+
     /**
      * Get Optional of Exception
      * @return  Optional of Exception when exception happens when getting the data or Optional.empty() if normal
@@ -83,13 +89,7 @@ public class IndexComponentCtrl {
      */
     public IndexComponentInfo getIndexComponentInfo() {
         try {
-            HttpResponse<String> response = WebClientHelper.getHttpResponse(getTargetUrl(), this.timeoutMillis.orElse(TIMEOUT_MILLIS));
-            if (response.statusCode() == HTTP_OK) {
-                return getComponentInfoFromBody(response.body());
-            } else {
-                this.lastException = Optional.of(new Exception("Unsuccessful Status Code: " + response.statusCode()));
-                return null;
-            }
+            return toRequest().execute().orElseThrow();
         } catch (Exception ex) {
             this.lastException = Optional.of(ex);
             return null;
@@ -98,20 +98,18 @@ public class IndexComponentCtrl {
 
     /**
      * Asynchronously get the information of components of given stock index
-     * @return  CompletableFuture of the information of index components
+     * @return  CompletableFuture of the information of index components; cancelling it aborts the download once no other caller shares it
      */
     public CompletableFuture<IndexComponentInfo> getIndexComponentInfoAsync() {
         try {
-            return WebClientHelper.getHttpResponseAsync(getTargetUrl(), this.timeoutMillis.orElse(TIMEOUT_MILLIS))
-                    .thenApply(HttpResponse::body)
-                    .thenApply(this::getComponentInfoFromBody);
+            return Result.valueAsync(toRequest().executeAsync());
         } catch (Exception ex) {
             this.lastException = Optional.of(ex);
             return CompletableFuture.failedFuture(ex);
         }
     }
 
-    private IndexComponentInfo getComponentInfoFromBody(String body) {
+    static IndexComponentInfo getComponentInfoFromBody(String symbol, String body) {
         Document htmlDoc = Jsoup.parse(body);
         String htmlCurrency = htmlDoc.select(CSS_SELECT_CURRENCY).first().text();
         Matcher matcherCurrency = COMP_CURRENCY_PATTERN.matcher(htmlCurrency);
@@ -140,14 +138,14 @@ public class IndexComponentCtrl {
             }
         }
         return new IndexComponentInfo(
-                this.symbol.get()
+                symbol
                 , LocalDateTime.now()
                 , currencyCode
                 , componentList
         );
     }
 
-    private List<String> getColumnSelector(Document htmlDoc, int columnIdx) {
+    private static List<String> getColumnSelector(Document htmlDoc, int columnIdx) {
         return htmlDoc
                 .select(CSS_SELECT_IDX_COMP_PATTERN.formatted(columnIdx))
                 .stream()
@@ -155,18 +153,18 @@ public class IndexComponentCtrl {
                 .toList();
     }
 
-    private String getQuoteCode() {
+    private static String getQuoteCode(String symbol) {
         try {
-            return URLEncoder.encode(this.symbol.get(), StandardCharsets.UTF_8.toString());
+            return URLEncoder.encode(symbol, StandardCharsets.UTF_8.toString());
         } catch (UnsupportedEncodingException e) {
-            return this.symbol.get();
+            return symbol;
         }
     }
 
-    private String getTargetUrl() {
+    static String getTargetUrl(String symbol) {
         return String.format(
                 INDEX_COMPONENT_URL_PATTERN
-                , getQuoteCode()
+                , getQuoteCode(symbol)
         );
     }
 }
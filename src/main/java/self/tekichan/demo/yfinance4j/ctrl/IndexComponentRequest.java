@@ -0,0 +1,108 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
+
+/**
+ * Immutable request of components of a stock index
+ * @see IndexComponentCtrl
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param symbol    quote code symbol of stock index, e.g. ^FTSE
+ * @param timeoutMillis read and connection timeout in milliseconds
+ * @param priority  Priority class of the request
+ */
+public record IndexComponentRequest(
+        String symbol
+        , int timeoutMillis
+        , Priority priority
+) implements QuoteRequest<IndexComponentInfo> {
+    /**
+     * Constructor of IndexComponentRequest
+     * @param symbol    quote code symbol of stock index, e.g. ^FTSE
+     * @param timeoutMillis read and connection timeout in milliseconds
+     * @param priority  Priority class of the request
+     */
+    public IndexComponentRequest {
+        Objects.requireNonNull(symbol, "Quote symbol must exist for lookup.");
+        Objects.requireNonNull(priority, "Priority must exist.");
+        symbol = symbol.toUpperCase();
+        if (!symbol.startsWith("^")) {
+            throw new IllegalArgumentException("Quote symbol of stock index must start with ^: " + symbol);
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeoutMillis);
+        }
+    }
+
+    /**
+     * Get request with the default timeout, as an interactive lookup
+     * @param quoteCode quote code symbol of stock index, e.g. ^FTSE
+     * @return  IndexComponentRequest
+     */
+    public static IndexComponentRequest of(String quoteCode) {
+        return new IndexComponentRequest(quoteCode, TIMEOUT_MILLIS, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Get a copy of this request with another timeout
+     * @param timeoutMillis timeout in milliseconds
+     * @return  IndexComponentRequest
+     */
+    public IndexComponentRequest withTimeout(int timeoutMillis) {
+        return new IndexComponentRequest(this.symbol, timeoutMillis, this.priority);
+    }
+
+    /**
+     * Get a copy of this request with another priority class
+     * @param priority  Priority class
+     * @return  IndexComponentRequest
+     */
+    public IndexComponentRequest withPriority(Priority priority) {
+        return new IndexComponentRequest(this.symbol, this.timeoutMillis, priority);
+    }
+
+    @Override
+    public Endpoint endpoint() {
+        return Endpoint.INDEX_COMPONENT;
+    }
+
+    @Override
+    public String targetUrl() {
+        return IndexComponentCtrl.getTargetUrl(this.symbol);
+    }
+
+    @Override
+    public Result<IndexComponentInfo> execute() {
+        return EndpointBreakers.execute(this, () -> Result.of(() -> this.priority.call(() -> WebClientHelper.getParsed(
+                targetUrl()
+                , this.timeoutMillis
+                , body -> IndexComponentCtrl.getComponentInfoFromBody(this.symbol, body)
+                , endpoint().metrics()
+        ))));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Concurrent executions of identical requests share one download and parse.
+     * </p>
+     */
+    @Override
+    public CompletableFuture<Result<IndexComponentInfo>> executeAsync() {
+        return InFlightRequests.execute(this, () -> EndpointBreakers.executeAsync(this
+                , () -> Result.ofAsync(() -> this.priority.call(() -> WebClientHelper.getParsedAsync(
+                        targetUrl()
+                        , this.timeoutMillis
+                        , body -> IndexComponentCtrl.getComponentInfoFromBody(this.symbol, body)
+                        , endpoint().metrics()
+                )))
+        ));
+    }
+}
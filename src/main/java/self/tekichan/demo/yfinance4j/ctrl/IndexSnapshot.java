@@ -0,0 +1,114 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.model.IndexComponent;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Consolidated snapshot of a stock index with the summary quote and key statistics of every component
+ * <p>
+ *     A component whose summary quote or key statistics failed to download keeps the failure in its
+ *     {@link Result}, so the snapshot is partial rather than lost.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param componentInfo Information of index components
+ * @param componentList Snapshots per component, in the order of the component list
+ * @param timing    Elapsed time per stage
+ */
+public record IndexSnapshot(
+        IndexComponentInfo componentInfo
+        , List<Component> componentList
+        , Timing timing
+) {
+    /**
+     * Constructor of IndexSnapshot
+     * @param componentInfo Information of index components
+     * @param componentList Snapshots per component, in the order of the component list
+     * @param timing    Elapsed time per stage
+     */
+    public IndexSnapshot {
+        Objects.requireNonNull(componentInfo, "Index component information must exist.");
+        Objects.requireNonNull(timing, "Timing must exist.");
+        componentList = List.copyOf(componentList);
+    }
+
+    /**
+     * Get index symbol
+     * @return  index symbol
+     */
+    public String symbol() {
+        return this.componentInfo.symbol();
+    }
+
+    /**
+     * Whether every component has both its summary quote and key statistics downloaded
+     * @return  true if no download failed
+     */
+    public boolean isComplete() {
+        return this.componentList.stream().allMatch(Component::isComplete);
+    }
+
+    /**
+     * Get symbols of components with any failed download
+     * @return  List of symbols in the order of the component list
+     */
+    public List<String> failedSymbols() {
+        return this.componentList.stream()
+                .filter(comp -> !comp.isComplete())
+                .map(Component::symbol)
+                .toList();
+    }
+
+    /**
+     * Snapshot of one index component
+     * @param component Index component
+     * @param summaryQuote  Result of downloading the summary quote
+     * @param keyStatistics Result of downloading the key statistics
+     */
+    public record Component(
+            IndexComponent component
+            , Result<SummaryQuote> summaryQuote
+            , Result<KeyStatistics> keyStatistics
+    ) {
+        /**
+         * Get stock symbol
+         * @return  stock symbol
+         */
+        public String symbol() {
+            return this.component.symbol();
+        }
+
+        /**
+         * Whether both downloads succeeded
+         * @return  true if no download failed
+         */
+        public boolean isComplete() {
+            return this.summaryQuote.isSuccess() && this.keyStatistics.isSuccess();
+        }
+    }
+
+    /**
+     * Elapsed time per stage of the pipeline
+     * <p>
+     *     Summary quotes and key statistics are downloaded in the same fan-out, so each of those two stages
+     *     runs from the start of the fan-out until its last download completes.
+     * </p>
+     * @param components    Downloading the component list
+     * @param summaryQuotes Downloading the summary quotes of all components
+     * @param keyStatistics Downloading the key statistics of all components
+     * @param total Whole pipeline
+     */
+    public record Timing(
+            Duration components
+            , Duration summaryQuotes
+            , Duration keyStatistics
+            , Duration total
+    ) {
+    }
+}
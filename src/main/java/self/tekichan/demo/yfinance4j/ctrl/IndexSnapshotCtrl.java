@@ -0,0 +1,262 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.model.IndexComponent;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+import self.tekichan.demo.yfinance4j.util.Deadline;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
+
+/**
+ * Controller class for IndexSnapshot
+ * <p>
+ *     The component list of the index is downloaded first. Then the summary quote and key statistics of
+ *     every component are downloaded in one fan-out with bounded concurrency, both pages of a component
+ *     at the same time. A failed component download is kept in the snapshot instead of failing the whole.
+ * </p>
+ * <p>
+ *     e.g.
+ * </p>
+ * <pre>{@code
+ * IndexSnapshot snapshot = YFinance4J.indexSnapshotCtrl()
+ *         .symbol("^FTSE")
+ *         .concurrency(16)
+ *         .getIndexSnapshot();
+ * }</pre>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class IndexSnapshotCtrl {
+    static final int DEFAULT_CONCURRENCY = 8;
+
+    Optional<String> symbol;
+    Optional<Integer> concurrency;
+    Optional<Integer> timeoutMillis;
+    Optional<Priority> priority;
+    Optional<Duration> budget;
+    Optional<Exception> lastException;
+
+    /**
+     * Constructor of Index Snapshot Controller
+     */
+    public IndexSnapshotCtrl() {
+        this.symbol = Optional.empty();
+        this.concurrency = Optional.of(DEFAULT_CONCURRENCY);
+        this.timeoutMillis = Optional.of(TIMEOUT_MILLIS);
+        this.priority = Optional.of(Priority.BULK);
+        this.budget = Optional.empty();
+        this.lastException = Optional.empty();
+    }
+
+    /**
+     * Set quote code symbol of stock index
+     * @param quoteCode quote code symbol
+     * @return  the configured controller
+     */
+    public IndexSnapshotCtrl symbol(String quoteCode) {
+        Objects.requireNonNull(quoteCode, "Quote symbol must exist for lookup.");
+        this.symbol = Optional.of(quoteCode).filter(q -> q.startsWith("^")).map(String::toUpperCase);
+        return this;
+    }
+
+    /**
+     * Set maximum number of components downloading at the same time
+     * <p>
+     *     Each component downloads two pages, so up to twice this number of requests are in flight.
+     * </p>
+     * @param concurrency   maximum number of components in flight
+     * @return  the configured controller
+     */
+    public IndexSnapshotCtrl concurrency(Integer concurrency) {
+        this.concurrency = Optional.ofNullable(concurrency)
+                .filter(c -> c > 0)
+                .or(() -> Optional.of(DEFAULT_CONCURRENCY));
+        return this;
+    }
+
+    /**
+     * Set read and connection timeout for HTTP connection
+     * @param timeoutMillis timeout in milliseconds
+     * @return  the configured controller
+     */
+    public IndexSnapshotCtrl timeout(Integer timeoutMillis) {
+        this.timeoutMillis = Optional.ofNullable(timeoutMillis)
+                .filter(t -> t > 0);
+        return this;
+    }
+
+    /**
+     * Set priority class of the requests sent, {@link Priority#BULK} by default
+     * @see self.tekichan.demo.yfinance4j.http.PrioritizedTransport
+     * @param priority  Priority class, or null for the default
+     * @return  the configured controller
+     */
+    public IndexSnapshotCtrl priority(Priority priority) {
+        this.priority = Optional.ofNullable(priority).or(() -> Optional.of(Priority.BULK));
+        return this;
+    }
+
+    /**
+     * Set time allowed for the whole snapshot
+     * <p>
+     *     The timeout of each request shrinks to the time left. Once the time is up, no further request is started
+     *     and requests in flight are cancelled, leaving their components failed in the snapshot.
+     * </p>
+     * @param budget    time allowed, or null for no deadline
+     * @return  the configured controller
+     */
+    public IndexSnapshotCtrl deadline(Duration budget) {
+        this.budget = Optional.ofNullable(budget).filter(b -> !b.isNegative() && !b.isZero());
+        return this;
+    }
+
+    /**
+     * Get Optional of Exception
+     * <p>
+     *     Only the calling thread sets it. Failures of components are in their results within the snapshot,
+     *     and an asynchronous snapshot reports its own failure through its future.
+     * </p>
+     * @return  Optional of Exception when exception happens when getting the data or Optional.empty() if normal
+     */
+    public Optional<Exception> getLastException() {
+        return this.lastException;
+    }
+
+    /**
+     * Get snapshot of given stock index
+     * @return  the index snapshot or null if the component list cannot be downloaded
+     */
+    public IndexSnapshot getIndexSnapshot() {
+        this.lastException = Optional.empty();
+        try {
+            return getIndexSnapshotAsync().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.lastException = Optional.of(ex);
+            return null;
+        } catch (ExecutionException ex) {
+            this.lastException = Optional.of(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Asynchronously get snapshot of given stock index
+     * <p>
+     *     Cancelling the returned CompletableFuture cancels the downloads in flight.
+     * </p>
+     * @return  CompletableFuture of the index snapshot, completed exceptionally only if the component list fails
+     */
+    public CompletableFuture<IndexSnapshot> getIndexSnapshotAsync() {
+        Priority priority = this.priority.orElse(Priority.BULK);
+        return getIndexSnapshotAsync(
+                (indexSymbol, timeout) -> new IndexComponentRequest(indexSymbol, timeout, priority).executeAsync()
+                , (compSymbol, timeout) -> new SummaryQuoteRequest(compSymbol, timeout, priority).executeAsync()
+                , (compSymbol, timeout) -> new KeyStatisticsRequest(compSymbol, timeout, priority).executeAsync()
+        );
+    }
+
+    CompletableFuture<IndexSnapshot> getIndexSnapshotAsync(
+            BiFunction<String, Integer, CompletableFuture<Result<IndexComponentInfo>>> infoFetcher
+            , BiFunction<String, Integer, CompletableFuture<Result<SummaryQuote>>> quoteFetcher
+            , BiFunction<String, Integer, CompletableFuture<Result<KeyStatistics>>> statFetcher
+    ) {
+        if (this.symbol.isEmpty()) {
+            var ex = new IllegalStateException("Index symbol starting with ^ must exist for lookup.");
+            this.lastException = Optional.of(ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+        long startNanos = System.nanoTime();
+        Optional<Deadline> deadline = this.budget.map(Deadline::after);
+        IntSupplier timeout = () -> deadline.map(d -> d.timeoutMillis(this.timeoutMillis.orElse(TIMEOUT_MILLIS)))
+                .orElse(this.timeoutMillis.orElse(TIMEOUT_MILLIS));
+        var snapshotFuture = new CompletableFuture<IndexSnapshot>();
+        CompletableFuture<Result<IndexComponentInfo>> infoFuture = infoFetcher.apply(this.symbol.get(), timeout.getAsInt());
+        deadline.ifPresent(d -> d.cancelOnExpiry(List.of(infoFuture)));
+        AsyncBatch.propagateCancel(snapshotFuture, infoFuture);
+        infoFuture.thenCompose(Result::toFuture)
+                .thenCompose(info -> {
+                    if (info == null) {
+                        return CompletableFuture.failedFuture(
+                                new IllegalStateException("No component found for index " + this.symbol.get())
+                        );
+                    }
+                    long fanOutNanos = System.nanoTime();
+                    var quoteEndNanos = new AtomicLong(fanOutNanos);
+                    var statEndNanos = new AtomicLong(fanOutNanos);
+                    List<IndexComponent> componentList = info.componentList();
+                    List<CompletableFuture<IndexSnapshot.Component>> futureList = AsyncBatch.mapBounded(
+                            componentList
+                            , this.concurrency.orElse(DEFAULT_CONCURRENCY)
+                            , comp -> {
+                                int compTimeout = timeout.getAsInt();
+                                CompletableFuture<Result<SummaryQuote>> quoteFuture =
+                                        settled(quoteFetcher, comp.symbol(), compTimeout, quoteEndNanos);
+                                CompletableFuture<Result<KeyStatistics>> statFuture =
+                                        settled(statFetcher, comp.symbol(), compTimeout, statEndNanos);
+                                return AsyncBatch.propagateCancel(quoteFuture.thenCombine(statFuture
+                                        , (quote, stat) -> new IndexSnapshot.Component(comp, quote, stat))
+                                        , quoteFuture, statFuture);
+                            }
+                            , () -> deadline.map(Deadline::isExpired).orElse(false)
+                    );
+                    deadline.ifPresent(d -> d.cancelOnExpiry(futureList));
+                    AsyncBatch.propagateCancel(snapshotFuture, futureList.toArray(Future[]::new));
+                    return AsyncBatch.allSettled(futureList)
+                            .thenApply(v -> {
+                                long endNanos = System.nanoTime();
+                                List<IndexSnapshot.Component> snapshotList = IntStream.range(0, componentList.size())
+                                        .mapToObj(i -> settledComponent(componentList.get(i), futureList.get(i)))
+                                        .toList();
+                                return new IndexSnapshot(info, snapshotList, new IndexSnapshot.Timing(
+                                        Duration.ofNanos(fanOutNanos - startNanos)
+                                        , Duration.ofNanos(quoteEndNanos.get() - fanOutNanos)
+                                        , Duration.ofNanos(statEndNanos.get() - fanOutNanos)
+                                        , Duration.ofNanos(endNanos - startNanos)
+                                ));
+                            });
+                })
+                .whenComplete((snapshot, ex) -> {
+                    if (ex != null) {
+                        snapshotFuture.completeExceptionally(ex);
+                    } else {
+                        snapshotFuture.complete(snapshot);
+                    }
+                });
+        return snapshotFuture;
+    }
+
+    private static IndexSnapshot.Component settledComponent(IndexComponent comp, CompletableFuture<IndexSnapshot.Component> future) {
+        if (future.isCancelled()) {
+            // skipped or cancelled by the deadline
+            var ex = new CancellationException("Download of %1$s cancelled".formatted(comp.symbol()));
+            return new IndexSnapshot.Component(comp, Result.failure(ex), Result.failure(ex));
+        }
+        return future.join();
+    }
+
+    private static <T> CompletableFuture<Result<T>> settled(BiFunction<String, Integer, CompletableFuture<Result<T>>> fetcher
+            , String symbol, int timeoutMillis, AtomicLong endNanos) {
+        CompletableFuture<Result<T>> future = fetcher.apply(symbol, timeoutMillis);
+        return AsyncBatch.propagateCancel(future.handle((result, ex) -> {
+            endNanos.accumulateAndGet(System.nanoTime(), Math::max);
+            return ex != null ? Result.<T>failure(ex instanceof Exception e ? e : new ExecutionException(ex)) : result;
+        }), future);
+    }
+}
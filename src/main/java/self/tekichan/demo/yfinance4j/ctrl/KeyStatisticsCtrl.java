@@ -2,13 +2,12 @@ package self.tekichan.demo.yfinance4j.ctrl;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import self.tekichan.demo.yfinance4j.http.Priority;
 import self.tekichan.demo.yfinance4j.model.KeyStatistics;
 import self.tekichan.demo.yfinance4j.util.StringUtil;
-import self.tekichan.demo.yfinance4j.util.WebClientHelper;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -16,7 +15,6 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
-import static java.net.HttpURLConnection.HTTP_OK;
 import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
 
 /**
@@ -74,6 +72,14 @@ public class KeyStatisticsCtrl {
         return this;
     }
 
+    /**
+     * Get an immutable request of the current settings, which can be shared across threads
+     * @return  KeyStatisticsRequest
+     */
+    public KeyStatisticsRequest toRequest() {
+        return new KeyStatisticsRequest(this.symbol.orElseThrow(), this.timeoutMillis.orElse(TIMEOUT_MILLIS), Priority.INTERACTIVE);
+    }
+
     /**
      * Get Optional of Exception
      * @return  Optional of Exception when exception happens when getting the data or Optional.empty() if normal
@@ -88,13 +94,7 @@ public class KeyStatisticsCtrl {
      */
     public KeyStatistics getKeyStatistics() {
         try {
-            HttpResponse<String> response = WebClientHelper.getHttpResponse(getTargetUrl(), this.timeoutMillis.orElse(TIMEOUT_MILLIS));
-            if (response.statusCode() == HTTP_OK) {
-                return getKeyStatisticsFromBody(response.body());
-            } else {
-                this.lastException = Optional.of(new Exception("Unsuccessful Status Code: " + response.statusCode()));
-                return null;
-            }
+            return toRequest().execute().orElseThrow();
         } catch (Exception ex) {
             this.lastException = Optional.of(ex);
             return null;
@@ -103,25 +103,23 @@ public class KeyStatisticsCtrl {
 
     /**
      * Asynchrously get Key Statistics of given stock
-     * @return  CompletableFuture of Key Statistics
+     * @return  CompletableFuture of Key Statistics; cancelling it aborts the download once no other caller shares it
      */
     public CompletableFuture<KeyStatistics> getKeyStatisticsAsync() {
         try {
-            return WebClientHelper.getHttpResponseAsync(getTargetUrl(), this.timeoutMillis.orElse(TIMEOUT_MILLIS))
-                    .thenApply(HttpResponse::body)
-                    .thenApply(this::getKeyStatisticsFromBody);
+            return Result.valueAsync(toRequest().executeAsync());
         } catch (Exception ex) {
             this.lastException = Optional.of(ex);
             return CompletableFuture.failedFuture(ex);
         }
     }
 
-    private KeyStatistics getKeyStatisticsFromBody(String body) {
+    static KeyStatistics getKeyStatisticsFromBody(String symbol, String body) {
         Document htmlDoc = Jsoup.parse(body);
 
         var companyString = htmlDoc.select(CSS_SELECT_COMP_NAME_PATTERN).first().text();
         var matcherCompany = COMP_NAME_PATTERN.matcher(companyString);
-        var companyName = this.symbol.get();
+        var companyName = symbol;
         if (matcherCompany.find()) {
             companyName = matcherCompany.group(1);
         } else {
@@ -218,7 +216,7 @@ public class KeyStatisticsCtrl {
         var lastSplitDate = StringUtil.getLocalDate(tradInfoElements.get(28).text());
 
         return new KeyStatistics(
-                this.symbol.get()
+                symbol
                 , LocalDateTime.now()
                 , companyName
                 , stockExchange
@@ -286,18 +284,18 @@ public class KeyStatisticsCtrl {
         );
     }
 
-    private String getQuoteCode() {
+    private static String getQuoteCode(String symbol) {
         try {
-            return URLEncoder.encode(this.symbol.get(), StandardCharsets.UTF_8.toString());
+            return URLEncoder.encode(symbol, StandardCharsets.UTF_8.toString());
         } catch (UnsupportedEncodingException e) {
-            return this.symbol.get();
+            return symbol;
         }
     }
 
-    private String getTargetUrl() {
+    static String getTargetUrl(String symbol) {
         return String.format(
                 KEY_STAT_URL_PATTERN
-                , getQuoteCode()
+                , getQuoteCode(symbol)
         );
     }    
 }
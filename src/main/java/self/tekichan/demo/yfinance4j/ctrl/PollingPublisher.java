@@ -0,0 +1,246 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.market.RefreshScheduler;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+import self.tekichan.demo.yfinance4j.util.Deadline;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Publisher polling summary quotes of a watchlist
+ * <p>
+ *     Each subscriber gets its own polling loop. A round downloads the symbols due by a {@link RefreshScheduler}
+ *     with bounded concurrency, and a new round is not started before the previous one completes.
+ *     A round is given one poll interval as its deadline, so a stalled download cannot hold up later rounds.
+ *     A snapshot is emitted only if its prices or volume differ from the last snapshot seen of the symbol.
+ * </p>
+ * <p>
+ *     Snapshots waiting for demand are kept per symbol, a newer one replacing an older one, so a slow subscriber
+ *     receives the latest snapshot of each changed symbol and never more than one per symbol.
+ *     No round is started while the subscriber has no demand and snapshots are still waiting.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class PollingPublisher implements Flow.Publisher<SummaryQuote> {
+    private final List<String> symbolList;
+    private final Function<String, CompletableFuture<SummaryQuote>> fetcher;
+    private final Supplier<RefreshScheduler> refreshSchedulerFactory;
+    private final int roundBudget;
+    private final Duration pollInterval;
+    private final int concurrency;
+    private final ScheduledExecutorService scheduler;
+
+    PollingPublisher(List<String> symbolList, Function<String, CompletableFuture<SummaryQuote>> fetcher
+            , Supplier<RefreshScheduler> refreshSchedulerFactory, int roundBudget
+            , Duration pollInterval, int concurrency, ScheduledExecutorService scheduler) {
+        this.symbolList = List.copyOf(symbolList);
+        this.fetcher = fetcher;
+        this.refreshSchedulerFactory = refreshSchedulerFactory;
+        this.roundBudget = roundBudget;
+        this.pollInterval = pollInterval;
+        this.concurrency = concurrency;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SummaryQuote> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber must exist.");
+        var subscription = new PollingSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    /**
+     * Prices and volume of a snapshot, which tell whether a symbol changed
+     */
+    private record Tick(
+            BigDecimal previousPrice
+            , BigDecimal openPrice
+            , BigDecimal bidPrice
+            , BigDecimal askPrice
+            , BigDecimal dayLow
+            , BigDecimal dayHigh
+            , Long volume
+    ) {
+        static Tick of(SummaryQuote quote) {
+            return new Tick(
+                    quote.previousPrice()
+                    , quote.openPrice()
+                    , quote.bidPrice()
+                    , quote.askPrice()
+                    , quote.dayLow()
+                    , quote.dayHigh()
+                    , quote.volume()
+            );
+        }
+    }
+
+    private final class PollingSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super SummaryQuote> subscriber;
+        private final RefreshScheduler refreshScheduler;
+        private final Map<String, Tick> lastTickMap = new ConcurrentHashMap<>();
+        private final LinkedHashMap<String, SummaryQuote> pendingMap = new LinkedHashMap<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drainCount = new AtomicInteger();
+        private final AtomicBoolean polling = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile ScheduledFuture<?> ticker;
+        private volatile List<CompletableFuture<SummaryQuote>> roundFutureList = List.of();
+
+        PollingSubscription(Flow.Subscriber<? super SummaryQuote> subscriber) {
+            this.subscriber = subscriber;
+            this.refreshScheduler = refreshSchedulerFactory.get();
+            this.refreshScheduler.track(symbolList);
+        }
+
+        void start() {
+            if (this.cancelled) {
+                return;
+            }
+            try {
+                this.ticker = scheduler.scheduleAtFixedRate(this::poll, 0L, pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException ex) {
+                this.cancelled = true;
+                this.subscriber.onError(ex);
+                return;
+            }
+            if (this.cancelled) {
+                // cancelled by onSubscribe or while scheduling
+                this.ticker.cancel(false);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                this.subscriber.onError(new IllegalArgumentException("Demand must be positive: " + n));
+                return;
+            }
+            this.demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            ScheduledFuture<?> currentTicker = this.ticker;
+            if (currentTicker != null) {
+                currentTicker.cancel(false);
+            }
+            this.roundFutureList.forEach(future -> future.cancel(true));
+            synchronized (this.pendingMap) {
+                this.pendingMap.clear();
+            }
+        }
+
+        private void poll() {
+            if (this.cancelled || !this.polling.compareAndSet(false, true)) {
+                return;
+            }
+            boolean behind;
+            synchronized (this.pendingMap) {
+                behind = this.demand.get() == 0 && !this.pendingMap.isEmpty();
+            }
+            List<String> dueList = behind ? List.of() : this.refreshScheduler.due(Instant.now(), roundBudget);
+            if (dueList.isEmpty()) {
+                this.polling.set(false);
+                return;
+            }
+            Deadline deadline = Deadline.after(pollInterval);
+            List<CompletableFuture<SummaryQuote>> futureList = deadline.cancelOnExpiry(AsyncBatch.mapBounded(
+                    dueList
+                    , concurrency
+                    , symbol -> {
+                        CompletableFuture<SummaryQuote> future = fetcher.apply(symbol);
+                        return AsyncBatch.propagateCancel(future.whenComplete((quote, ex) -> {
+                            if (quote != null) {
+                                offer(quote);
+                            }
+                        }), future);
+                    }
+                    , () -> this.cancelled || deadline.isExpired()
+            ));
+            this.roundFutureList = futureList;
+            if (this.cancelled) {
+                // cancelled while starting the round
+                futureList.forEach(future -> future.cancel(true));
+            }
+            AsyncBatch.allSettled(futureList).whenComplete((v, ex) -> this.polling.set(false));
+        }
+
+        private void offer(SummaryQuote quote) {
+            this.refreshScheduler.observe(quote);
+            Tick tick = Tick.of(quote);
+            if (this.cancelled || tick.equals(this.lastTickMap.put(quote.symbol(), tick))) {
+                return;
+            }
+            synchronized (this.pendingMap) {
+                // keep the position of a waiting symbol but replace its snapshot by the newer one
+                this.pendingMap.put(quote.symbol(), quote);
+            }
+            drain();
+        }
+
+        private SummaryQuote nextPending() {
+            synchronized (this.pendingMap) {
+                Iterator<SummaryQuote> iterator = this.pendingMap.values().iterator();
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                SummaryQuote quote = iterator.next();
+                iterator.remove();
+                return quote;
+            }
+        }
+
+        /**
+         * Emit waiting snapshots as far as demand allows, from one thread at a time
+         */
+        private void drain() {
+            if (this.drainCount.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!this.cancelled && this.demand.get() > 0) {
+                    SummaryQuote quote = nextPending();
+                    if (quote == null) {
+                        break;
+                    }
+                    if (this.demand.get() != Long.MAX_VALUE) {
+                        this.demand.decrementAndGet();
+                    }
+                    try {
+                        this.subscriber.onNext(quote);
+                    } catch (RuntimeException ex) {
+                        // a subscriber throwing from onNext is treated as cancelled
+                        cancel();
+                    }
+                }
+                missed = this.drainCount.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
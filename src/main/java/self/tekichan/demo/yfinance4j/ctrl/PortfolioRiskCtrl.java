@@ -0,0 +1,233 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.analytics.HistoricalSimulation;
+import self.tekichan.demo.yfinance4j.analytics.Position;
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.model.Interval;
+import self.tekichan.demo.yfinance4j.series.FillPolicy;
+import self.tekichan.demo.yfinance4j.series.SeriesAligner;
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+import self.tekichan.demo.yfinance4j.util.Deadline;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
+
+/**
+ * Controller class for portfolio risk by historical simulation
+ * <p>
+ *     Historical quotes of all positions are downloaded with bounded concurrency, aligned onto one
+ *     forward-filled date axis and turned into a {@link HistoricalSimulation}, which can be evaluated
+ *     and rolled forward without downloading the history again.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class PortfolioRiskCtrl {
+    static final int DEFAULT_LOOKBACK = 250;
+    static final int DEFAULT_CONCURRENCY = 8;
+
+    Optional<List<Position>> positionList;
+    Optional<Integer> lookback;
+    Optional<Integer> concurrency;
+    Optional<Integer> timeoutMillis;
+    Optional<Priority> priority;
+    Optional<Duration> budget;
+    Optional<Exception> lastException;
+    Set<String> failedSymbols;
+
+    /**
+     * Constructor of Portfolio Risk Controller
+     */
+    public PortfolioRiskCtrl() {
+        this.positionList = Optional.empty();
+        this.lookback = Optional.of(DEFAULT_LOOKBACK);
+        this.concurrency = Optional.of(DEFAULT_CONCURRENCY);
+        this.timeoutMillis = Optional.of(TIMEOUT_MILLIS);
+        this.priority = Optional.of(Priority.BULK);
+        this.budget = Optional.empty();
+        this.lastException = Optional.empty();
+        this.failedSymbols = Set.of();
+    }
+
+    /**
+     * Set positions of the portfolio
+     * @param positionList  List of positions
+     * @return  the configured controller
+     */
+    public PortfolioRiskCtrl positions(List<Position> positionList) {
+        Objects.requireNonNull(positionList, "Positions must exist for risk.");
+        this.positionList = Optional.of(List.copyOf(positionList));
+        return this;
+    }
+
+    /**
+     * Set number of daily returns in the lookback window
+     * @param lookback  number of scenarios
+     * @return  the configured controller
+     */
+    public PortfolioRiskCtrl lookback(Integer lookback) {
+        this.lookback = Optional.ofNullable(lookback)
+                .filter(l -> l > 0)
+                .or(() -> Optional.of(DEFAULT_LOOKBACK));
+        return this;
+    }
+
+    /**
+     * Set maximum number of concurrent downloads
+     * @param concurrency   maximum number of downloads in flight
+     * @return  the configured controller
+     */
+    public PortfolioRiskCtrl concurrency(Integer concurrency) {
+        this.concurrency = Optional.ofNullable(concurrency)
+                .filter(c -> c > 0)
+                .or(() -> Optional.of(DEFAULT_CONCURRENCY));
+        return this;
+    }
+
+    /**
+     * Set read and connection timeout for HTTP connection
+     * @param timeoutMillis timeout in milliseconds
+     * @return  the configured controller
+     */
+    public PortfolioRiskCtrl timeout(Integer timeoutMillis) {
+        this.timeoutMillis = Optional.ofNullable(timeoutMillis)
+                .filter(t -> t > 0);
+        return this;
+    }
+
+    /**
+     * Set priority class of the requests sent, {@link Priority#BULK} by default
+     * @see self.tekichan.demo.yfinance4j.http.PrioritizedTransport
+     * @param priority  Priority class, or null for the default
+     * @return  the configured controller
+     */
+    public PortfolioRiskCtrl priority(Priority priority) {
+        this.priority = Optional.ofNullable(priority).or(() -> Optional.of(Priority.BULK));
+        return this;
+    }
+
+    /**
+     * Set time allowed for the whole download
+     * <p>
+     *     The timeout of each request shrinks to the time left. Once the time is up, no further request is started
+     *     and requests in flight are cancelled, leaving their symbols failed.
+     * </p>
+     * @param budget    time allowed, or null for no deadline
+     * @return  the configured controller
+     */
+    public PortfolioRiskCtrl deadline(Duration budget) {
+        this.budget = Optional.ofNullable(budget).filter(b -> !b.isNegative() && !b.isZero());
+        return this;
+    }
+
+    /**
+     * Get Optional of Exception
+     * @return  Optional of Exception when exception happens when getting the data or Optional.empty() if normal
+     */
+    public Optional<Exception> getLastException() {
+        return this.lastException;
+    }
+
+    /**
+     * Get symbols whose history could not be downloaded in the last run by {@link #getHistoricalSimulation()}
+     * <p>
+     *     Positions of those symbols carry no exposure in the simulation.
+     * </p>
+     * @return  Set of symbols
+     */
+    public Set<String> getFailedSymbols() {
+        return this.failedSymbols;
+    }
+
+    /**
+     * Get historical simulation of the portfolio
+     * @return  Historical simulation or null if error
+     */
+    public HistoricalSimulation getHistoricalSimulation() {
+        this.lastException = Optional.empty();
+        this.failedSymbols = Set.of();
+        try {
+            BulkResult<HistoricalSimulation> result = getHistoricalSimulationAsync().get();
+            this.failedSymbols = result.failedSymbols();
+            this.lastException = result.failureMap().values().stream().reduce((first, second) -> second);
+            return result.value();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.lastException = Optional.of(ex);
+            return null;
+        } catch (ExecutionException ex) {
+            this.lastException = Optional.of(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Asynchronously get historical simulation of the portfolio
+     * <p>
+     *     Symbols whose history fails to download are reported in the result, so runs may overlap.
+     *     Cancelling the returned CompletableFuture cancels the downloads in flight.
+     * </p>
+     * @return  CompletableFuture of historical simulation
+     */
+    public CompletableFuture<BulkResult<HistoricalSimulation>> getHistoricalSimulationAsync() {
+        if (this.positionList.isEmpty()) {
+            var ex = new IllegalStateException("Positions must exist for risk.");
+            this.lastException = Optional.of(ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+        List<Position> positions = this.positionList.get();
+        int lookbackDays = this.lookback.orElse(DEFAULT_LOOKBACK);
+        List<String> symbolList = positions.stream().map(Position::symbol).distinct().toList();
+        // calendar days covering the trading days plus holidays
+        LocalDate startDate = LocalDate.now().minusDays(lookbackDays * 7L / 5L + 21L);
+        int timeout = this.timeoutMillis.orElse(TIMEOUT_MILLIS);
+        Priority priority = this.priority.orElse(Priority.BULK);
+        Optional<Deadline> deadline = this.budget.map(Deadline::after);
+        var startedCount = new AtomicInteger();
+        List<CompletableFuture<List<HistoricalQuote>>> futureList = AsyncBatch.mapBounded(
+                symbolList
+                , this.concurrency.orElse(DEFAULT_CONCURRENCY)
+                , symbol -> {
+                    startedCount.incrementAndGet();
+                    return Result.valueAsync(new HistoricalQuoteRequest(
+                            symbol
+                            , Optional.of(startDate)
+                            , Optional.empty()
+                            , Interval.DAILY
+                            , deadline.map(d -> d.timeoutMillis(timeout)).orElse(timeout)
+                            , priority
+                    ).executeAsync());
+                }
+                , () -> deadline.map(Deadline::isExpired).orElse(false)
+        );
+        deadline.ifPresent(d -> d.cancelOnExpiry(futureList));
+        return AsyncBatch.propagateCancel(AsyncBatch.allSettled(futureList)
+                .thenApply(v -> {
+                    var quoteMap = new LinkedHashMap<String, List<HistoricalQuote>>();
+                    var failureMap = new LinkedHashMap<String, Exception>();
+                    for (int i = 0; i < symbolList.size(); i++) {
+                        try {
+                            quoteMap.put(symbolList.get(i), futureList.get(i).join());
+                        } catch (CompletionException | CancellationException ex) {
+                            failureMap.put(symbolList.get(i), ex);
+                        }
+                    }
+                    var simulation = new HistoricalSimulation(
+                            positions
+                            , SeriesAligner.alignQuotes(quoteMap, FillPolicy.FORWARD_FILL)
+                            , lookbackDays
+                    );
+                    return new BulkResult<>(simulation, startedCount.get(), failureMap);
+                }), futureList.toArray(Future[]::new));
+    }
+}
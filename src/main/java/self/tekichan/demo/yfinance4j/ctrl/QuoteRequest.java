@@ -0,0 +1,66 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.http.Priority;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Immutable request of Yahoo! Finance data
+ * <p>
+ *     A request holds nothing but its parameters, so it can be built once, cached and executed
+ *     any number of times from any number of threads. Every execution reports its own outcome in a {@link Result}.
+ * </p>
+ * <p>
+ *     Executions pass the circuit breaker of their endpoint, see {@link EndpointBreakers}.
+ * </p>
+ * <p>
+ *     e.g. {@code KeyStatisticsRequest.of("TSCO.L").withTimeout(5000).executeAsync()}
+ * </p>
+ * @param <T>   the type of data
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public interface QuoteRequest<T> {
+    /**
+     * Get quote code symbol
+     * @return  quote code symbol in upper case
+     */
+    String symbol();
+
+    /**
+     * Get read and connection timeout for HTTP connection
+     * @return  timeout in milliseconds
+     */
+    int timeoutMillis();
+
+    /**
+     * Get priority class of the requests sent by executions
+     * @see self.tekichan.demo.yfinance4j.http.PrioritizedTransport
+     * @return  Priority
+     */
+    Priority priority();
+
+    /**
+     * Get the endpoint type this request downloads from
+     * @return  Endpoint
+     */
+    Endpoint endpoint();
+
+    /**
+     * Get the URL this request downloads
+     * @return  target URL
+     */
+    String targetUrl();
+
+    /**
+     * Execute this request
+     * @return  Result of this execution
+     */
+    Result<T> execute();
+
+    /**
+     * Asynchronously execute this request
+     * @return  CompletableFuture of Result of this execution, which never completes exceptionally
+     */
+    CompletableFuture<Result<T>> executeAsync();
+}
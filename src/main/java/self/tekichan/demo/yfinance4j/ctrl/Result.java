@@ -0,0 +1,144 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Outcome of one execution of a {@link QuoteRequest}
+ * <p>
+ *     Either the value or the exception is present. The value may also be absent without an exception,
+ *     e.g. a page parsed to nothing. Each execution gets its own Result, so no state is shared between calls.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param value Value of a successful execution
+ * @param exception Exception of a failed execution
+ * @param <T>   the value type
+ */
+public record Result<T>(
+        Optional<T> value
+        , Optional<Exception> exception
+) {
+    /**
+     * Constructor of Result
+     * @param value Value of a successful execution
+     * @param exception Exception of a failed execution
+     */
+    public Result {
+        Objects.requireNonNull(value, "Optional of value must exist.");
+        Objects.requireNonNull(exception, "Optional of exception must exist.");
+        if (value.isPresent() && exception.isPresent()) {
+            throw new IllegalArgumentException("Result cannot hold both a value and an exception.");
+        }
+    }
+
+    /**
+     * Get Result of a successful execution
+     * @param value Value, or null if nothing
+     * @return  Result
+     * @param <T>   the value type
+     */
+    public static <T> Result<T> success(T value) {
+        return new Result<>(Optional.ofNullable(value), Optional.empty());
+    }
+
+    /**
+     * Get Result of a failed execution
+     * @param exception Exception
+     * @return  Result
+     * @param <T>   the value type
+     */
+    public static <T> Result<T> failure(Exception exception) {
+        Objects.requireNonNull(exception, "Exception must exist for failure.");
+        return new Result<>(Optional.empty(), Optional.of(exception));
+    }
+
+    /**
+     * Whether the execution succeeded
+     * @return  true if no exception
+     */
+    public boolean isSuccess() {
+        return this.exception.isEmpty();
+    }
+
+    /**
+     * Get the value or throw the exception
+     * @return  the value, or null if nothing
+     * @throws Exception    the exception of a failed execution
+     */
+    public T orElseThrow() throws Exception {
+        if (this.exception.isPresent()) {
+            throw this.exception.get();
+        }
+        return this.value.orElse(null);
+    }
+
+    /**
+     * Get this Result as a CompletableFuture
+     * @return  CompletableFuture completed with the value, or completed exceptionally with the exception
+     */
+    public CompletableFuture<T> toFuture() {
+        return this.exception.<CompletableFuture<T>>map(CompletableFuture::failedFuture)
+                .orElseGet(() -> CompletableFuture.completedFuture(this.value.orElse(null)));
+    }
+
+    /**
+     * Get CompletableFuture of the value of an asynchronous execution
+     * @param future    CompletableFuture of Result
+     * @return  CompletableFuture of the value, completed exceptionally with the exception;
+     *          cancelling it cancels the execution
+     * @param <T>   the value type
+     */
+    static <T> CompletableFuture<T> valueAsync(CompletableFuture<Result<T>> future) {
+        return AsyncBatch.propagateCancel(future.thenCompose(Result::toFuture), future);
+    }
+
+    /**
+     * Get Result of calling a blocking call
+     * @param call  Call returning a value
+     * @return  Result
+     * @param <T>   the value type
+     */
+    static <T> Result<T> of(Callable<T> call) {
+        try {
+            return success(call.call());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return failure(ex);
+        } catch (Exception ex) {
+            return failure(ex);
+        }
+    }
+
+    /**
+     * Get Result of calling an asynchronous call
+     * @param call  Call returning CompletableFuture of a value
+     * @return  CompletableFuture of Result, which never completes exceptionally unless cancelled;
+     *          cancelling it cancels the call
+     * @param <T>   the value type
+     */
+    static <T> CompletableFuture<Result<T>> ofAsync(Callable<CompletableFuture<T>> call) {
+        try {
+            CompletableFuture<T> future = call.call();
+            return AsyncBatch.propagateCancel(
+                    future.handle((value, throwable) -> throwable == null ? success(value) : failure(unwrap(throwable)))
+                    , future
+            );
+        } catch (Exception ex) {
+            return CompletableFuture.completedFuture(failure(ex));
+        }
+    }
+
+    private static Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return cause instanceof Exception ex ? ex : new ExecutionException(cause);
+    }
+}
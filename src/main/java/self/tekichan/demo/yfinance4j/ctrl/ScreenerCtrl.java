@@ -0,0 +1,311 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.model.IndexComponent;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+import self.tekichan.demo.yfinance4j.util.Deadline;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
+
+/**
+ * Controller class for screening stocks by KeyStatistics
+ * <p>
+ *     Key statistics of the universe are downloaded and filtered with bounded concurrency.
+ *     In "first N" mode no further download is started once N matches have been found.
+ *     In "top K" mode every stock has to be seen, and only the best K matches are kept.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class ScreenerCtrl {
+    static final int DEFAULT_CONCURRENCY = 8;
+
+    Optional<List<String>> universe;
+    Optional<String> indexSymbol;
+    Optional<Predicate<KeyStatistics>> filter;
+    Optional<Integer> firstN;
+    Optional<Integer> topK;
+    Optional<Comparator<KeyStatistics>> ranking;
+    Optional<Integer> concurrency;
+    Optional<Integer> timeoutMillis;
+    Optional<Priority> priority;
+    Optional<Duration> budget;
+    Optional<Exception> lastException;
+    int requestCount;
+
+    /**
+     * Constructor of Screener Controller
+     */
+    public ScreenerCtrl() {
+        this.universe = Optional.empty();
+        this.indexSymbol = Optional.empty();
+        this.filter = Optional.empty();
+        this.firstN = Optional.empty();
+        this.topK = Optional.empty();
+        this.ranking = Optional.empty();
+        this.concurrency = Optional.of(DEFAULT_CONCURRENCY);
+        this.timeoutMillis = Optional.of(TIMEOUT_MILLIS);
+        this.priority = Optional.of(Priority.BULK);
+        this.budget = Optional.empty();
+        this.lastException = Optional.empty();
+        this.requestCount = 0;
+    }
+
+    /**
+     * Set universe of stock symbols to screen
+     * @param symbolList    List of stock symbols
+     * @return  the configured controller
+     */
+    public ScreenerCtrl universe(List<String> symbolList) {
+        Objects.requireNonNull(symbolList, "Universe must exist for screening.");
+        this.universe = Optional.of(symbolList.stream().map(String::toUpperCase).distinct().toList());
+        this.indexSymbol = Optional.empty();
+        return this;
+    }
+
+    /**
+     * Set stock index whose components form the universe
+     * @param quoteCode quote code symbol of stock index
+     * @return  the configured controller
+     */
+    public ScreenerCtrl indexSymbol(String quoteCode) {
+        Objects.requireNonNull(quoteCode, "Quote symbol must exist for lookup.");
+        this.indexSymbol = Optional.of(quoteCode).filter(q -> q.startsWith("^")).map(String::toUpperCase);
+        this.universe = Optional.empty();
+        return this;
+    }
+
+    /**
+     * Set filter of key statistics
+     * @see self.tekichan.demo.yfinance4j.analytics.StatFilters
+     * @param filter    Predicate over KeyStatistics
+     * @return  the configured controller
+     */
+    public ScreenerCtrl filter(Predicate<KeyStatistics> filter) {
+        this.filter = Optional.ofNullable(filter);
+        return this;
+    }
+
+    /**
+     * Stop screening once the given number of matches have been found
+     * @param count number of matches
+     * @return  the configured controller
+     */
+    public ScreenerCtrl firstN(Integer count) {
+        this.firstN = Optional.ofNullable(count).filter(n -> n > 0);
+        this.topK = Optional.empty();
+        return this;
+    }
+
+    /**
+     * Keep only the best matches by a ranking
+     * @param count number of matches to keep
+     * @param ranking   Comparator ordering the best match first
+     * @return  the configured controller
+     */
+    public ScreenerCtrl topK(Integer count, Comparator<KeyStatistics> ranking) {
+        Objects.requireNonNull(ranking, "Ranking must exist for top K.");
+        this.topK = Optional.ofNullable(count).filter(k -> k > 0);
+        this.ranking = Optional.of(ranking);
+        this.firstN = Optional.empty();
+        return this;
+    }
+
+    /**
+     * Set maximum number of concurrent downloads
+     * @param concurrency   maximum number of downloads in flight
+     * @return  the configured controller
+     */
+    public ScreenerCtrl concurrency(Integer concurrency) {
+        this.concurrency = Optional.ofNullable(concurrency)
+                .filter(c -> c > 0)
+                .or(() -> Optional.of(DEFAULT_CONCURRENCY));
+        return this;
+    }
+
+    /**
+     * Set read and connection timeout for HTTP connection
+     * @param timeoutMillis timeout in milliseconds
+     * @return  the configured controller
+     */
+    public ScreenerCtrl timeout(Integer timeoutMillis) {
+        this.timeoutMillis = Optional.ofNullable(timeoutMillis)
+                .filter(t -> t > 0);
+        return this;
+    }
+
+    /**
+     * Set priority class of the requests sent, {@link Priority#BULK} by default
+     * @see self.tekichan.demo.yfinance4j.http.PrioritizedTransport
+     * @param priority  Priority class, or null for the default
+     * @return  the configured controller
+     */
+    public ScreenerCtrl priority(Priority priority) {
+        this.priority = Optional.ofNullable(priority).or(() -> Optional.of(Priority.BULK));
+        return this;
+    }
+
+    /**
+     * Set time allowed for the whole screening
+     * <p>
+     *     The timeout of each request shrinks to the time left. Once the time is up, no further request is started
+     *     and requests in flight are cancelled, so the matches found so far are returned.
+     * </p>
+     * @param budget    time allowed, or null for no deadline
+     * @return  the configured controller
+     */
+    public ScreenerCtrl deadline(Duration budget) {
+        this.budget = Optional.ofNullable(budget).filter(b -> !b.isNegative() && !b.isZero());
+        return this;
+    }
+
+    /**
+     * Get Optional of Exception
+     * @return  Optional of Exception when exception happens when getting the data or Optional.empty() if normal
+     */
+    public Optional<Exception> getLastException() {
+        return this.lastException;
+    }
+
+    /**
+     * Get number of key statistics requests started in the last screening by {@link #screen()}
+     * @return  number of requests
+     */
+    public int getRequestCount() {
+        return this.requestCount;
+    }
+
+    /**
+     * Screen the universe
+     * <p>
+     *     Counts and failures of the screening are kept on the controller, for the calling thread only;
+     *     use {@link #screenAsync()} to get them per screening.
+     * </p>
+     * @return  List of matched key statistics or empty list if error
+     */
+    public List<KeyStatistics> screen() {
+        this.lastException = Optional.empty();
+        this.requestCount = 0;
+        try {
+            BulkResult<List<KeyStatistics>> result = screenAsync().get();
+            this.requestCount = result.requestCount();
+            this.lastException = result.failureMap().values().stream().reduce((first, second) -> second);
+            return result.value();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.lastException = Optional.of(ex);
+            return Collections.emptyList();
+        } catch (ExecutionException ex) {
+            this.lastException = Optional.of(ex);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Asynchronously screen the universe
+     * <p>
+     *     Matches are in the order of the universe, or in the order of the ranking in "top K" mode.
+     *     Stocks failing to download are skipped, and reported in the result with the number of requests started,
+     *     so screenings may run concurrently.
+     *     Cancelling the returned CompletableFuture cancels the downloads in flight.
+     * </p>
+     * @return  CompletableFuture of the matched key statistics
+     */
+    public CompletableFuture<BulkResult<List<KeyStatistics>>> screenAsync() {
+        Optional<Deadline> deadline = this.budget.map(Deadline::after);
+        Priority priority = this.priority.orElse(Priority.BULK);
+        var screenFuture = new CompletableFuture<BulkResult<List<KeyStatistics>>>();
+        CompletableFuture<BulkResult<List<KeyStatistics>>> future;
+        if (this.universe.isPresent()) {
+            future = screenUniverse(this.universe.get(), deadline, priority, screenFuture);
+        } else if (this.indexSymbol.isPresent()) {
+            CompletableFuture<Result<IndexComponentInfo>> infoFuture =
+                    new IndexComponentRequest(this.indexSymbol.get(), timeoutOf(deadline), priority).executeAsync();
+            deadline.ifPresent(d -> d.cancelOnExpiry(List.of(infoFuture)));
+            AsyncBatch.propagateCancel(screenFuture, infoFuture);
+            future = infoFuture.thenCompose(Result::toFuture)
+                    .thenCompose(info -> screenUniverse(
+                            info.componentList().stream().map(IndexComponent::symbol).toList()
+                            , deadline
+                            , priority
+                            , screenFuture
+                    ));
+        } else {
+            var ex = new IllegalStateException("Universe or index symbol must exist for screening.");
+            this.lastException = Optional.of(ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                screenFuture.completeExceptionally(ex);
+            } else {
+                screenFuture.complete(result);
+            }
+        });
+        return screenFuture;
+    }
+
+    private int timeoutOf(Optional<Deadline> deadline) {
+        int timeout = this.timeoutMillis.orElse(TIMEOUT_MILLIS);
+        return deadline.map(d -> d.timeoutMillis(timeout)).orElse(timeout);
+    }
+
+    private CompletableFuture<BulkResult<List<KeyStatistics>>> screenUniverse(List<String> symbolList
+            , Optional<Deadline> deadline, Priority priority, CompletableFuture<?> screenFuture) {
+        Predicate<KeyStatistics> statFilter = this.filter.orElse(stat -> true);
+        int matchLimit = this.firstN.orElse(Integer.MAX_VALUE);
+        Optional<Integer> topK = this.topK;
+        Optional<Comparator<KeyStatistics>> ranking = this.ranking;
+        var matchCount = new AtomicInteger();
+        var startedCount = new AtomicInteger();
+        List<CompletableFuture<KeyStatistics>> futureList = AsyncBatch.mapBounded(
+                symbolList
+                , this.concurrency.orElse(DEFAULT_CONCURRENCY)
+                , symbol -> {
+                    startedCount.incrementAndGet();
+                    CompletableFuture<KeyStatistics> future =
+                            Result.valueAsync(new KeyStatisticsRequest(symbol, timeoutOf(deadline), priority).executeAsync());
+                    return AsyncBatch.propagateCancel(future.thenApply(stat -> {
+                        if (stat != null && statFilter.test(stat)) {
+                            matchCount.incrementAndGet();
+                            return stat;
+                        }
+                        return null;
+                    }), future);
+                }
+                , () -> matchCount.get() >= matchLimit || deadline.map(Deadline::isExpired).orElse(false)
+        );
+        deadline.ifPresent(d -> d.cancelOnExpiry(futureList));
+        AsyncBatch.propagateCancel(screenFuture, futureList.toArray(Future[]::new));
+        return AsyncBatch.allSettled(futureList)
+                .thenApply(v -> {
+                    var matchList = new ArrayList<KeyStatistics>();
+                    var failureMap = new LinkedHashMap<String, Exception>();
+                    for (int i = 0; i < futureList.size(); i++) {
+                        var future = futureList.get(i);
+                        try {
+                            if (!future.isCancelled() && future.join() != null) {
+                                matchList.add(future.join());
+                            }
+                        } catch (CompletionException ex) {
+                            failureMap.put(symbolList.get(i), ex);
+                        }
+                    }
+                    List<KeyStatistics> resultList = topK.isPresent()
+                            ? matchList.stream().sorted(ranking.get()).limit(topK.get()).toList()
+                            : matchList.stream().limit(matchLimit).toList();
+                    return new BulkResult<>(resultList, startedCount.get(), failureMap);
+                });
+    }
+}
@@ -2,14 +2,13 @@ package self.tekichan.demo.yfinance4j.ctrl;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import self.tekichan.demo.yfinance4j.http.Priority;
 import self.tekichan.demo.yfinance4j.model.SummaryQuote;
 import self.tekichan.demo.yfinance4j.util.StringUtil;
-import self.tekichan.demo.yfinance4j.util.WebClientHelper;
 
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.net.URLEncoder;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -17,7 +16,6 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
-import static java.net.HttpURLConnection.HTTP_OK;
 import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
 
 /**
@@ -79,6 +77,14 @@ public class SummaryQuoteCtrl {
         return this;
     }
 
+    /**
+     * Get an immutable request of the current settings, which can be shared across threads
+     * @return  SummaryQuoteRequest
+     */
+    public SummaryQuoteRequest toRequest() {
+        return new SummaryQuoteRequest(this.symbol.orElseThrow(), this.timeoutMillis.orElse(TIMEOUT_MILLIS), Priority.INTERACTIVE);
+    }
+
     /**
      * Get Optional of Exception
      * @return  Optional of Exception when exception happens when getting the data or Optional.empty() if normal
@@ -93,13 +99,7 @@ public class SummaryQuoteCtrl {
      */
     public SummaryQuote getSummaryQuote() {
         try {
-            HttpResponse<String> response = WebClientHelper.getHttpResponse(getTargetUrl(), this.timeoutMillis.orElse(TIMEOUT_MILLIS));
-            if (response.statusCode() == HTTP_OK) {
-                return getSummaryQuoteFromBody(response.body());
-            } else {
-                this.lastException = Optional.of(new Exception("Unsuccessful Status Code: " + response.statusCode()));
-                return null;
-            }
+            return toRequest().execute().orElseThrow();
         } catch (Exception ex) {
             this.lastException = Optional.of(ex);
             return null;
@@ -108,25 +108,23 @@ public class SummaryQuoteCtrl {
 
     /**
      * Asynchrously get summary quote
-     * @return  CompletableFuture of summary quote
+     * @return  CompletableFuture of summary quote; cancelling it aborts the download once no other caller shares it
      */
     public CompletableFuture<SummaryQuote> getSummaryQuoteAsync() {
         try {
-            return WebClientHelper.getHttpResponseAsync(getTargetUrl(), this.timeoutMillis.orElse(TIMEOUT_MILLIS))
-                    .thenApply(HttpResponse::body)
-                    .thenApply(this::getSummaryQuoteFromBody);
+            return Result.valueAsync(toRequest().executeAsync());
         } catch (Exception ex) {
             this.lastException = Optional.of(ex);
             return CompletableFuture.failedFuture(ex);
         }
     }
 
-    private SummaryQuote getSummaryQuoteFromBody(String body) {
+    static SummaryQuote getSummaryQuoteFromBody(String symbol, String body) {
         Document htmlDoc = Jsoup.parse(body);
 
         var companyString = htmlDoc.select(CSS_SELECT_COMP_NAME_PATTERN).first().text();
         var matcherCompany = COMP_NAME_PATTERN.matcher(companyString);
-        var companyName = this.symbol.get();
+        var companyName = symbol;
         if (matcherCompany.find()) {
             companyName = matcherCompany.group(1);
         } else {
@@ -201,7 +199,7 @@ public class SummaryQuoteCtrl {
         var oneYearEst = StringUtil.getBigDecimal(secondColElements.get(7).text());
 
         return new SummaryQuote(
-                this.symbol.get()
+                symbol
                 , LocalDateTime.now()
                 , companyName
                 , stockExchange
@@ -230,18 +228,18 @@ public class SummaryQuoteCtrl {
         );
     }
 
-    private String getQuoteCode() {
+    private static String getQuoteCode(String symbol) {
         try {
-            return URLEncoder.encode(this.symbol.get(), StandardCharsets.UTF_8.toString());
+            return URLEncoder.encode(symbol, StandardCharsets.UTF_8.toString());
         } catch (UnsupportedEncodingException e) {
-            return this.symbol.get();
+            return symbol;
         }
     }
 
-    private String getTargetUrl() {
+    static String getTargetUrl(String symbol) {
         return String.format(
                 SUMM_QUOTE_URL_PATTERN
-                , getQuoteCode()
+                , getQuoteCode(symbol)
         );
     }
 }
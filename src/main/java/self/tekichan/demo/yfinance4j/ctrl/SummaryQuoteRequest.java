@@ -0,0 +1,105 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
+
+/**
+ * Immutable request of summary quote of a stock
+ * @see SummaryQuoteCtrl
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param symbol    quote code symbol
+ * @param timeoutMillis read and connection timeout in milliseconds
+ * @param priority  Priority class of the request
+ */
+public record SummaryQuoteRequest(
+        String symbol
+        , int timeoutMillis
+        , Priority priority
+) implements QuoteRequest<SummaryQuote> {
+    /**
+     * Constructor of SummaryQuoteRequest
+     * @param symbol    quote code symbol
+     * @param timeoutMillis read and connection timeout in milliseconds
+     * @param priority  Priority class of the request
+     */
+    public SummaryQuoteRequest {
+        Objects.requireNonNull(symbol, "Quote symbol must exist for lookup.");
+        Objects.requireNonNull(priority, "Priority must exist.");
+        symbol = symbol.toUpperCase();
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeoutMillis);
+        }
+    }
+
+    /**
+     * Get request with the default timeout, as an interactive lookup
+     * @param quoteCode quote code symbol
+     * @return  SummaryQuoteRequest
+     */
+    public static SummaryQuoteRequest of(String quoteCode) {
+        return new SummaryQuoteRequest(quoteCode, TIMEOUT_MILLIS, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Get a copy of this request with another timeout
+     * @param timeoutMillis timeout in milliseconds
+     * @return  SummaryQuoteRequest
+     */
+    public SummaryQuoteRequest withTimeout(int timeoutMillis) {
+        return new SummaryQuoteRequest(this.symbol, timeoutMillis, this.priority);
+    }
+
+    /**
+     * Get a copy of this request with another priority class
+     * @param priority  Priority class
+     * @return  SummaryQuoteRequest
+     */
+    public SummaryQuoteRequest withPriority(Priority priority) {
+        return new SummaryQuoteRequest(this.symbol, this.timeoutMillis, priority);
+    }
+
+    @Override
+    public Endpoint endpoint() {
+        return Endpoint.SUMMARY_QUOTE;
+    }
+
+    @Override
+    public String targetUrl() {
+        return SummaryQuoteCtrl.getTargetUrl(this.symbol);
+    }
+
+    @Override
+    public Result<SummaryQuote> execute() {
+        return EndpointBreakers.execute(this, () -> Result.of(() -> this.priority.call(() -> WebClientHelper.getParsed(
+                targetUrl()
+                , this.timeoutMillis
+                , body -> SummaryQuoteCtrl.getSummaryQuoteFromBody(this.symbol, body)
+                , endpoint().metrics()
+        ))));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Concurrent executions of identical requests share one download and parse.
+     * </p>
+     */
+    @Override
+    public CompletableFuture<Result<SummaryQuote>> executeAsync() {
+        return InFlightRequests.execute(this, () -> EndpointBreakers.executeAsync(this
+                , () -> Result.ofAsync(() -> this.priority.call(() -> WebClientHelper.getParsedAsync(
+                        targetUrl()
+                        , this.timeoutMillis
+                        , body -> SummaryQuoteCtrl.getSummaryQuoteFromBody(this.symbol, body)
+                        , endpoint().metrics()
+                )))
+        ));
+    }
+}
@@ -0,0 +1,210 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.market.RefreshScheduler;
+import self.tekichan.demo.yfinance4j.market.TradingCalendar;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
+
+/**
+ * Controller class for live summary quotes of a watchlist
+ * <p>
+ *     The publisher polls the summary quotes of the watchlist at a fixed cadence and emits only the snapshots
+ *     whose prices or volume changed, as far as the subscriber requests them.
+ *     With market hours set, symbols on open markets are polled every round, while closed markets get one final
+ *     refresh after the close and then a refresh per closed interval only.
+ * </p>
+ * <p>
+ *     e.g. polling a watchlist every 30 seconds, where subscriber is any Flow.Subscriber of SummaryQuote
+ * </p>
+ * <pre>{@code
+ * new WatchlistCtrl()
+ *         .symbols(List.of("TSCO.L", "BARC.L", "AAPL"))
+ *         .pollInterval(Duration.ofSeconds(30))
+ *         .marketHours(TradingCalendar.defaults())
+ *         .publisher()
+ *         .subscribe(subscriber);
+ * }</pre>
+ * @see PollingPublisher
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class WatchlistCtrl {
+    static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(15);
+    static final int DEFAULT_CONCURRENCY = 8;
+    private static final ScheduledExecutorService DEFAULT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "yfinance4j-watchlist");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    Optional<List<String>> symbolList;
+    Optional<Duration> pollInterval;
+    Optional<Integer> concurrency;
+    Optional<Integer> timeoutMillis;
+    Optional<Priority> priority;
+    Optional<ScheduledExecutorService> scheduler;
+    Optional<TradingCalendar> calendar;
+    Optional<Duration> closedInterval;
+    Optional<Integer> roundBudget;
+
+    /**
+     * Constructor of Watchlist Controller
+     */
+    public WatchlistCtrl() {
+        this.symbolList = Optional.empty();
+        this.pollInterval = Optional.of(DEFAULT_POLL_INTERVAL);
+        this.concurrency = Optional.of(DEFAULT_CONCURRENCY);
+        this.timeoutMillis = Optional.of(TIMEOUT_MILLIS);
+        this.priority = Optional.of(Priority.NORMAL);
+        this.scheduler = Optional.empty();
+        this.calendar = Optional.empty();
+        this.closedInterval = Optional.of(RefreshScheduler.DEFAULT_CLOSED_INTERVAL);
+        this.roundBudget = Optional.empty();
+    }
+
+    /**
+     * Set stock symbols to watch
+     * @param symbolList    List of stock symbols
+     * @return  the configured controller
+     */
+    public WatchlistCtrl symbols(List<String> symbolList) {
+        Objects.requireNonNull(symbolList, "Watchlist must exist for polling.");
+        this.symbolList = Optional.of(symbolList.stream().map(String::toUpperCase).distinct().toList());
+        return this;
+    }
+
+    /**
+     * Set cadence of polling
+     * @param pollInterval  Interval between starts of polling rounds
+     * @return  the configured controller
+     */
+    public WatchlistCtrl pollInterval(Duration pollInterval) {
+        this.pollInterval = Optional.ofNullable(pollInterval)
+                .filter(d -> !d.isNegative() && !d.isZero())
+                .or(() -> Optional.of(DEFAULT_POLL_INTERVAL));
+        return this;
+    }
+
+    /**
+     * Set maximum number of concurrent downloads
+     * @param concurrency   maximum number of downloads in flight
+     * @return  the configured controller
+     */
+    public WatchlistCtrl concurrency(Integer concurrency) {
+        this.concurrency = Optional.ofNullable(concurrency)
+                .filter(c -> c > 0)
+                .or(() -> Optional.of(DEFAULT_CONCURRENCY));
+        return this;
+    }
+
+    /**
+     * Set read and connection timeout for HTTP connection
+     * @param timeoutMillis timeout in milliseconds
+     * @return  the configured controller
+     */
+    public WatchlistCtrl timeout(Integer timeoutMillis) {
+        this.timeoutMillis = Optional.ofNullable(timeoutMillis)
+                .filter(t -> t > 0);
+        return this;
+    }
+
+    /**
+     * Set priority class of the requests sent, {@link Priority#NORMAL} by default
+     * @see self.tekichan.demo.yfinance4j.http.PrioritizedTransport
+     * @param priority  Priority class, or null for the default
+     * @return  the configured controller
+     */
+    public WatchlistCtrl priority(Priority priority) {
+        this.priority = Optional.ofNullable(priority).or(() -> Optional.of(Priority.NORMAL));
+        return this;
+    }
+
+    /**
+     * Set scheduler starting the polling rounds
+     * @param scheduler ScheduledExecutorService, or null for a shared daemon thread
+     * @return  the configured controller
+     */
+    public WatchlistCtrl scheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = Optional.ofNullable(scheduler);
+        return this;
+    }
+
+    /**
+     * Set trading sessions of exchanges, so that closed markets are polled at a low rate
+     * @param calendar  TradingCalendar, e.g. TradingCalendar.defaults(), or null to poll every symbol every round
+     * @return  the configured controller
+     */
+    public WatchlistCtrl marketHours(TradingCalendar calendar) {
+        this.calendar = Optional.ofNullable(calendar);
+        return this;
+    }
+
+    /**
+     * Set interval between refreshes of a symbol while its market is closed
+     * @param closedInterval    Interval, or null for the default of 30 minutes
+     * @return  the configured controller
+     */
+    public WatchlistCtrl closedInterval(Duration closedInterval) {
+        this.closedInterval = Optional.ofNullable(closedInterval)
+                .filter(d -> !d.isNegative())
+                .or(() -> Optional.of(RefreshScheduler.DEFAULT_CLOSED_INTERVAL));
+        return this;
+    }
+
+    /**
+     * Set maximum number of symbols downloaded per round, given first to open markets
+     * @param roundBudget   maximum number of symbols, or null for no limit
+     * @return  the configured controller
+     */
+    public WatchlistCtrl roundBudget(Integer roundBudget) {
+        this.roundBudget = Optional.ofNullable(roundBudget)
+                .filter(b -> b > 0);
+        return this;
+    }
+
+    /**
+     * Get publisher of changed summary quotes of the watchlist
+     * <p>
+     *     The publisher takes a copy of the current settings. Each subscriber starts its own polling,
+     *     which stops when the subscription is cancelled. Symbols failing to download are skipped in that round.
+     *     Downloads still in flight when the next round is due, or when the subscription is cancelled,
+     *     are cancelled.
+     * </p>
+     * @return  Flow.Publisher of SummaryQuote
+     */
+    public Flow.Publisher<SummaryQuote> publisher() {
+        int timeout = this.timeoutMillis.orElse(TIMEOUT_MILLIS);
+        Priority priority = this.priority.orElse(Priority.NORMAL);
+        return publisher(symbol -> {
+            CompletableFuture<Result<SummaryQuote>> future = new SummaryQuoteRequest(symbol, timeout, priority).executeAsync();
+            return AsyncBatch.propagateCancel(future.thenApply(result -> result.value().orElse(null)), future);
+        });
+    }
+
+    Flow.Publisher<SummaryQuote> publisher(Function<String, CompletableFuture<SummaryQuote>> fetcher) {
+        TradingCalendar tradingCalendar = this.calendar.orElse(TradingCalendar.empty());
+        Duration closed = this.closedInterval.orElse(RefreshScheduler.DEFAULT_CLOSED_INTERVAL);
+        return new PollingPublisher(
+                this.symbolList.orElseThrow(() -> new IllegalStateException("Watchlist must exist for polling."))
+                , fetcher
+                , () -> new RefreshScheduler(tradingCalendar, closed, RefreshScheduler.DEFAULT_SETTLE_DELAY)
+                , this.roundBudget.orElse(Integer.MAX_VALUE)
+                , this.pollInterval.orElse(DEFAULT_POLL_INTERVAL)
+                , this.concurrency.orElse(DEFAULT_CONCURRENCY)
+                , this.scheduler.orElse(DEFAULT_SCHEDULER)
+        );
+    }
+}
@@ -0,0 +1,230 @@
+package self.tekichan.demo.yfinance4j.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Buffered byte sink formatting values straight into a reusable byte array
+ * <p>
+ *     Numbers, dates and text are written digit by digit and character by character, so no intermediate
+ *     String is created per value. The buffer is flushed to the OutputStream only when full.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class ByteSink {
+    static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes();
+    // decimals of up to 15 digits are taken apart through double arithmetic, which is exact for them
+    private static final int DOUBLE_DIGITS = 15;
+    private static final double[] DOUBLE_POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] digits = new byte[20];
+    private int pos;
+
+    ByteSink(OutputStream out) {
+        this.out = out;
+    }
+
+    void put(byte b) throws IOException {
+        if (this.pos == BUFFER_SIZE) {
+            drain();
+        }
+        this.buffer[this.pos++] = b;
+    }
+
+    void put(char c) throws IOException {
+        put((byte) c);
+    }
+
+    void putAscii(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            put((byte) text.charAt(i));
+        }
+    }
+
+    /**
+     * Write a character as UTF-8
+     * @param text  text holding the character
+     * @param i index of the character
+     * @return  index of the last char consumed, which is i + 1 for a surrogate pair
+     * @throws IOException  {@link IOException}
+     */
+    int putUtf8(String text, int i) throws IOException {
+        char c = text.charAt(i);
+        if (c < 0x80) {
+            put((byte) c);
+        } else if (c < 0x800) {
+            put((byte) (0xC0 | (c >> 6)));
+            put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+            int codePoint = Character.toCodePoint(c, text.charAt(i + 1));
+            put((byte) (0xF0 | (codePoint >> 18)));
+            put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+            put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            put((byte) (0x80 | (codePoint & 0x3F)));
+            return i + 1;
+        } else if (Character.isSurrogate(c)) {
+            put((byte) '?');
+        } else {
+            put((byte) (0xE0 | (c >> 12)));
+            put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            put((byte) (0x80 | (c & 0x3F)));
+        }
+        return i;
+    }
+
+    void putLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            for (byte b : MIN_LONG) {
+                put(b);
+            }
+            return;
+        }
+        if (value < 0) {
+            put('-');
+            value = -value;
+        }
+        int count = 0;
+        do {
+            this.digits[count++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        while (count > 0) {
+            put(this.digits[--count]);
+        }
+    }
+
+    /**
+     * Write a decimal in plain notation, multiplied by a power of ten
+     * <p>
+     *     The digits are taken as a scaled long without {@link BigDecimal#unscaledValue()}, which allocates a
+     *     BigInteger: an integer gives its long at once, and a fraction of up to 15 digits is
+     *     {@link BigDecimal#doubleValue()} scaled back up, where the rounding error stays far below a half.
+     *     Other decimals are written through a String.
+     * </p>
+     * @param value decimal value
+     * @param powerOfTen    power of ten to multiply by, e.g. 9 for billions
+     * @throws IOException  {@link IOException}
+     */
+    void putDecimal(BigDecimal value, int powerOfTen) throws IOException {
+        long digitsValue;
+        if (value.scale() == 0 && value.precision() < 19) {
+            digitsValue = value.longValue();
+        } else if (value.scale() > 0 && value.scale() <= DOUBLE_DIGITS && value.precision() <= DOUBLE_DIGITS) {
+            digitsValue = Math.round(value.doubleValue() * DOUBLE_POWERS[value.scale()]);
+        } else {
+            putAscii(value.scaleByPowerOfTen(powerOfTen).toPlainString());
+            return;
+        }
+        int scale = value.scale() - powerOfTen;
+        if (digitsValue < 0) {
+            put('-');
+            digitsValue = -digitsValue;
+        }
+        int count = 0;
+        do {
+            this.digits[count++] = (byte) ('0' + digitsValue % 10);
+            digitsValue /= 10;
+        } while (digitsValue != 0);
+        if (scale <= 0) {
+            while (count > 0) {
+                put(this.digits[--count]);
+            }
+            // zero stays a single digit, as in BigDecimal#toPlainString
+            for (int i = value.signum() != 0 ? scale : 0; i < 0; i++) {
+                put('0');
+            }
+            return;
+        }
+        if (count <= scale) {
+            put('0');
+            put('.');
+            for (int i = count; i < scale; i++) {
+                put('0');
+            }
+        } else {
+            while (count > scale) {
+                put(this.digits[--count]);
+            }
+            put('.');
+        }
+        while (count > 0) {
+            put(this.digits[--count]);
+        }
+    }
+
+    void putDate(LocalDate date) throws IOException {
+        putPadded(date.getYear(), 4);
+        put('-');
+        putPadded(date.getMonthValue(), 2);
+        put('-');
+        putPadded(date.getDayOfMonth(), 2);
+    }
+
+    void putDateTime(LocalDateTime dateTime) throws IOException {
+        putDate(dateTime.toLocalDate());
+        put('T');
+        putPadded(dateTime.getHour(), 2);
+        put(':');
+        putPadded(dateTime.getMinute(), 2);
+        put(':');
+        putPadded(dateTime.getSecond(), 2);
+        int nano = dateTime.getNano();
+        if (nano != 0) {
+            put('.');
+            if (nano % 1_000_000 == 0) {
+                putPadded(nano / 1_000_000, 3);
+            } else if (nano % 1_000 == 0) {
+                putPadded(nano / 1_000, 6);
+            } else {
+                putPadded(nano, 9);
+            }
+        }
+    }
+
+    void flush() throws IOException {
+        drain();
+        this.out.flush();
+    }
+
+    void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            this.out.close();
+        }
+    }
+
+    private void putPadded(int value, int width) throws IOException {
+        if (value < 0) {
+            put('-');
+            value = -value;
+        }
+        int count = 0;
+        do {
+            this.digits[count++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = count; i < width; i++) {
+            put('0');
+        }
+        while (count > 0) {
+            put(this.digits[--count]);
+        }
+    }
+
+    private void drain() throws IOException {
+        if (this.pos > 0) {
+            this.out.write(this.buffer, 0, this.pos);
+            this.pos = 0;
+        }
+    }
+}
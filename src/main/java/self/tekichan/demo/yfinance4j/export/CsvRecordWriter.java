@@ -0,0 +1,125 @@
+package self.tekichan.demo.yfinance4j.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * RecordWriter of CSV as RFC 4180 with a header line
+ * @param <T>   the record type
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class CsvRecordWriter<T> extends RecordWriter<T> {
+    CsvRecordWriter(Schema<T> schema, OutputStream out) {
+        super(schema, out);
+        Field<T> listField = schema.listField();
+        if (listField != null && listField.elementSchema().listField() != null) {
+            throw new IllegalArgumentException("Nested list fields cannot be flattened to CSV: " + listField.name());
+        }
+    }
+
+    @Override
+    void writeStart() throws IOException {
+        boolean first = true;
+        for (Field<T> field : this.schema.fieldList()) {
+            if (field.isList()) {
+                for (Field<?> elementField : field.elementSchema().fieldList()) {
+                    first = writeSeparator(first);
+                    writeText(elementField.name());
+                }
+            } else {
+                first = writeSeparator(first);
+                writeText(field.name());
+            }
+        }
+        this.sink.put('\n');
+    }
+
+    @Override
+    void writeRecord(T record) throws IOException {
+        Field<T> listField = this.schema.listField();
+        if (listField == null) {
+            writeRow(record, null, null);
+            this.sink.put('\n');
+            return;
+        }
+        List<?> elementList = (List<?>) listField.accessor().apply(record);
+        if (elementList == null || elementList.isEmpty()) {
+            writeRow(record, listField, null);
+            this.sink.put('\n');
+            return;
+        }
+        for (Object element : elementList) {
+            writeRow(record, listField, element);
+            this.sink.put('\n');
+        }
+    }
+
+    @Override
+    void writeEnd() {
+        // CSV has no trailer
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeRow(T record, Field<T> listField, Object element) throws IOException {
+        boolean first = true;
+        for (Field<T> field : this.schema.fieldList()) {
+            if (field == listField) {
+                for (Field<?> elementField : field.elementSchema().fieldList()) {
+                    first = writeSeparator(first);
+                    if (element != null) {
+                        writeValue(((Field<Object>) elementField).accessor().apply(element));
+                    }
+                }
+            } else {
+                first = writeSeparator(first);
+                writeValue(field.accessor().apply(record));
+            }
+        }
+    }
+
+    private boolean writeSeparator(boolean first) throws IOException {
+        if (!first) {
+            this.sink.put(',');
+        }
+        return false;
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            writeText(text);
+        } else if (!writePlainValue(value) && !writeSafeText(value)) {
+            writeText(value.toString());
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        boolean quoted = needsQuote(text);
+        if (quoted) {
+            this.sink.put('"');
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                this.sink.put('"');
+            }
+            i = this.sink.putUtf8(text, i);
+        }
+        if (quoted) {
+            this.sink.put('"');
+        }
+    }
+
+    private static boolean needsQuote(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package self.tekichan.demo.yfinance4j.export;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Named field of a record to export
+ * <p>
+ *     A scalar field holds a String, a number, a date, a date-time, a {@link self.tekichan.demo.yfinance4j.model.BigDecimalAndUnit}
+ *     or a {@link self.tekichan.demo.yfinance4j.model.FactorRatio}; any other value is written by its toString().
+ *     A list field holds records described by a nested schema.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param name  Field name used as CSV header and JSON key
+ * @param accessor  Function to get the value of the field from a record
+ * @param elementSchema Schema of list elements, or null for a scalar field
+ * @param <T>   the record type
+ */
+public record Field<T>(
+        String name
+        , Function<? super T, ?> accessor
+        , Schema<?> elementSchema
+) {
+    /**
+     * Construct Field
+     * @param name  Field name
+     * @param accessor  Function to get the value of the field
+     * @param elementSchema Schema of list elements, or null for a scalar field
+     */
+    public Field {
+        Objects.requireNonNull(name, "Field name must exist.");
+        Objects.requireNonNull(accessor, "Field accessor must exist.");
+    }
+
+    /**
+     * Create a scalar field
+     * @param name  Field name
+     * @param accessor  Function to get the value of the field
+     * @return  Field
+     * @param <T>   the record type
+     */
+    public static <T> Field<T> of(String name, Function<? super T, ?> accessor) {
+        return new Field<>(name, accessor, null);
+    }
+
+    /**
+     * Create a list field
+     * @param name  Field name
+     * @param accessor  Function to get the list
+     * @param elementSchema Schema of list elements
+     * @return  Field
+     * @param <T>   the record type
+     * @param <E>   the element type
+     */
+    public static <T, E> Field<T> list(String name, Function<? super T, ? extends List<E>> accessor, Schema<E> elementSchema) {
+        return new Field<>(name, accessor, Objects.requireNonNull(elementSchema, "Element schema must exist."));
+    }
+
+    /**
+     * Check if the field is a list of records
+     * @return  true if list field
+     */
+    public boolean isList() {
+        return this.elementSchema != null;
+    }
+}
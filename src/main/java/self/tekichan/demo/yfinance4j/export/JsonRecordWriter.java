@@ -0,0 +1,109 @@
+package self.tekichan.demo.yfinance4j.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * RecordWriter of a JSON array with one object per line
+ * @param <T>   the record type
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class JsonRecordWriter<T> extends RecordWriter<T> {
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    private boolean firstRecord = true;
+
+    JsonRecordWriter(Schema<T> schema, OutputStream out) {
+        super(schema, out);
+    }
+
+    @Override
+    void writeStart() throws IOException {
+        this.sink.put('[');
+    }
+
+    @Override
+    void writeRecord(T record) throws IOException {
+        if (!this.firstRecord) {
+            this.sink.put(',');
+        }
+        this.firstRecord = false;
+        this.sink.put('\n');
+        writeObject(this.schema, record);
+    }
+
+    @Override
+    void writeEnd() throws IOException {
+        this.sink.put('\n');
+        this.sink.put(']');
+        this.sink.put('\n');
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> void writeObject(Schema<E> schema, E record) throws IOException {
+        this.sink.put('{');
+        boolean first = true;
+        for (Field<E> field : schema.fieldList()) {
+            if (!first) {
+                this.sink.put(',');
+            }
+            first = false;
+            writeString(field.name());
+            this.sink.put(':');
+            Object value = field.accessor().apply(record);
+            if (value == null) {
+                this.sink.putAscii("null");
+            } else if (field.isList()) {
+                this.sink.put('[');
+                boolean firstElement = true;
+                for (Object element : (List<?>) value) {
+                    if (!firstElement) {
+                        this.sink.put(',');
+                    }
+                    firstElement = false;
+                    writeObject((Schema<Object>) field.elementSchema(), element);
+                }
+                this.sink.put(']');
+            } else if (value instanceof String text) {
+                writeString(text);
+            } else if (!writePlainValue(value)) {
+                this.sink.put('"');
+                if (!writeSafeText(value)) {
+                    writeEscaped(value.toString());
+                }
+                this.sink.put('"');
+            }
+        }
+        this.sink.put('}');
+    }
+
+    private void writeString(String text) throws IOException {
+        this.sink.put('"');
+        writeEscaped(text);
+        this.sink.put('"');
+    }
+
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> this.sink.putAscii("\\\"");
+                case '\\' -> this.sink.putAscii("\\\\");
+                case '\n' -> this.sink.putAscii("\\n");
+                case '\r' -> this.sink.putAscii("\\r");
+                case '\t' -> this.sink.putAscii("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        this.sink.putAscii("\\u00");
+                        this.sink.put(HEX[c >> 4]);
+                        this.sink.put(HEX[c & 0xF]);
+                    } else {
+                        i = this.sink.putUtf8(text, i);
+                    }
+                }
+            }
+        }
+    }
+}
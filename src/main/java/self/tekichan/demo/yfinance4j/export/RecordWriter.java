@@ -0,0 +1,219 @@
+package self.tekichan.demo.yfinance4j.export;
+
+import self.tekichan.demo.yfinance4j.model.BigDecimalAndUnit;
+import self.tekichan.demo.yfinance4j.model.FactorRatio;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming writer of records as CSV or JSON
+ * <p>
+ *     Values are formatted straight into a reusable buffer, so writing a record creates no intermediate String.
+ *     Closing the writer finishes the document and closes the underlying stream or channel.
+ * </p>
+ * <pre>{@code
+ * try (var writer = RecordWriter.csv(Schemas.HISTORICAL_QUOTE, Files.newOutputStream(path), true)) {
+ *     writer.writeAll(historicalQuoteList);
+ * }
+ * }</pre>
+ * @param <T>   the record type
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public abstract class RecordWriter<T> implements Closeable, Flushable {
+    final Schema<T> schema;
+    final ByteSink sink;
+    private boolean started;
+
+    RecordWriter(Schema<T> schema, OutputStream out) {
+        this.schema = Objects.requireNonNull(schema, "Schema must exist for writing.");
+        this.sink = new ByteSink(Objects.requireNonNull(out, "OutputStream must exist for writing."));
+    }
+
+    /**
+     * Create a CSV writer
+     * @param schema    Schema of records
+     * @param out   OutputStream to write to
+     * @return  RecordWriter
+     * @param <T>   the record type
+     */
+    public static <T> RecordWriter<T> csv(Schema<T> schema, OutputStream out) {
+        return new CsvRecordWriter<>(schema, out);
+    }
+
+    /**
+     * Create a CSV writer with optional gzip
+     * @param schema    Schema of records
+     * @param out   OutputStream to write to
+     * @param gzip  true to compress with gzip
+     * @return  RecordWriter
+     * @param <T>   the record type
+     * @throws IOException  {@link IOException}
+     */
+    public static <T> RecordWriter<T> csv(Schema<T> schema, OutputStream out, boolean gzip) throws IOException {
+        return new CsvRecordWriter<>(schema, wrap(out, gzip));
+    }
+
+    /**
+     * Create a CSV writer over a channel with optional gzip
+     * @param schema    Schema of records
+     * @param channel   WritableByteChannel to write to
+     * @param gzip  true to compress with gzip
+     * @return  RecordWriter
+     * @param <T>   the record type
+     * @throws IOException  {@link IOException}
+     */
+    public static <T> RecordWriter<T> csv(Schema<T> schema, WritableByteChannel channel, boolean gzip) throws IOException {
+        return csv(schema, Channels.newOutputStream(channel), gzip);
+    }
+
+    /**
+     * Create a JSON writer producing an array of objects
+     * @param schema    Schema of records
+     * @param out   OutputStream to write to
+     * @return  RecordWriter
+     * @param <T>   the record type
+     */
+    public static <T> RecordWriter<T> json(Schema<T> schema, OutputStream out) {
+        return new JsonRecordWriter<>(schema, out);
+    }
+
+    /**
+     * Create a JSON writer with optional gzip
+     * @param schema    Schema of records
+     * @param out   OutputStream to write to
+     * @param gzip  true to compress with gzip
+     * @return  RecordWriter
+     * @param <T>   the record type
+     * @throws IOException  {@link IOException}
+     */
+    public static <T> RecordWriter<T> json(Schema<T> schema, OutputStream out, boolean gzip) throws IOException {
+        return new JsonRecordWriter<>(schema, wrap(out, gzip));
+    }
+
+    /**
+     * Create a JSON writer over a channel with optional gzip
+     * @param schema    Schema of records
+     * @param channel   WritableByteChannel to write to
+     * @param gzip  true to compress with gzip
+     * @return  RecordWriter
+     * @param <T>   the record type
+     * @throws IOException  {@link IOException}
+     */
+    public static <T> RecordWriter<T> json(Schema<T> schema, WritableByteChannel channel, boolean gzip) throws IOException {
+        return json(schema, Channels.newOutputStream(channel), gzip);
+    }
+
+    /**
+     * Write a record
+     * @param record    Record
+     * @throws IOException  {@link IOException}
+     */
+    public void write(T record) throws IOException {
+        Objects.requireNonNull(record, "Record must exist for writing.");
+        if (!this.started) {
+            this.started = true;
+            writeStart();
+        }
+        writeRecord(record);
+    }
+
+    /**
+     * Write records in order
+     * @param records   Records
+     * @throws IOException  {@link IOException}
+     */
+    public void writeAll(Iterable<? extends T> records) throws IOException {
+        for (T record : records) {
+            write(record);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.sink.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!this.started) {
+                this.started = true;
+                writeStart();
+            }
+            writeEnd();
+        } finally {
+            this.sink.close();
+        }
+    }
+
+    abstract void writeStart() throws IOException;
+
+    abstract void writeRecord(T record) throws IOException;
+
+    abstract void writeEnd() throws IOException;
+
+    /**
+     * Write the plain value of a scalar without quoting
+     * @param value value other than String
+     * @return  false if the value has no plain form and has to be written as text
+     * @throws IOException  {@link IOException}
+     */
+    final boolean writePlainValue(Object value) throws IOException {
+        if (value instanceof BigDecimal decimal) {
+            this.sink.putDecimal(decimal, 0);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            this.sink.putLong(((Number) value).longValue());
+        } else if (value instanceof BigDecimalAndUnit decimalAndUnit) {
+            // scale units go up in steps of a thousand
+            this.sink.putDecimal(decimalAndUnit.baseValue(), 3 * decimalAndUnit.scaleUnit().ordinal());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Write the textual form of a scalar which needs no escaping
+     * @param value value
+     * @return  false if the value is not one of the known types
+     * @throws IOException  {@link IOException}
+     */
+    final boolean writeSafeText(Object value) throws IOException {
+        if (value instanceof LocalDate date) {
+            this.sink.putDate(date);
+        } else if (value instanceof LocalDateTime dateTime) {
+            this.sink.putDateTime(dateTime);
+        } else if (value instanceof FactorRatio ratio) {
+            this.sink.putDecimal(ratio.leftValue(), 0);
+            this.sink.put(':');
+            this.sink.putDecimal(ratio.rightValue(), 0);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static OutputStream wrap(OutputStream out, boolean gzip) throws IOException {
+        if (!gzip) {
+            return out;
+        }
+        // exports are large and repetitive, so the fastest level already compresses well
+        return new GZIPOutputStream(out, ByteSink.BUFFER_SIZE) {
+            {
+                this.def.setLevel(Deflater.BEST_SPEED);
+            }
+        };
+    }
+}
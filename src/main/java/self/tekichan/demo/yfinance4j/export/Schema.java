@@ -0,0 +1,113 @@
+package self.tekichan.demo.yfinance4j.export;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Ordered list of fields to export of a record type
+ * <p>
+ *     At most one field may be a list field. In CSV a record with a list field is flattened to one row per element,
+ *     with the scalar fields of the record repeated on each row.
+ * </p>
+ * @param <T>   the record type
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class Schema<T> {
+    private final List<Field<T>> fieldList;
+    private final Field<T> listField;
+
+    private Schema(List<Field<T>> fieldList) {
+        this.fieldList = List.copyOf(fieldList);
+        List<Field<T>> listFields = this.fieldList.stream().filter(Field::isList).toList();
+        if (listFields.size() > 1) {
+            throw new IllegalArgumentException("At most one list field is supported: " + listFields);
+        }
+        this.listField = listFields.isEmpty() ? null : listFields.get(0);
+    }
+
+    /**
+     * Create a schema of the given fields
+     * @param fields    Fields in output order
+     * @return  Schema
+     * @param <T>   the record type
+     */
+    @SafeVarargs
+    public static <T> Schema<T> of(Field<T>... fields) {
+        var fieldList = new ArrayList<Field<T>>(fields.length);
+        for (Field<T> field : fields) {
+            fieldList.add(field);
+        }
+        return new Schema<>(fieldList);
+    }
+
+    /**
+     * Create a schema of all components of a record class, named in snake case
+     * <p>
+     *     e.g. the component {@code fiftyTwoWeekHigh} becomes the field {@code fifty_two_week_high}
+     * </p>
+     * <p>
+     *     The accessors are bound as method handles once here, so no reflective call is made per value.
+     * </p>
+     * @param recordClass   Public record class
+     * @return  Schema
+     * @param <T>   the record type
+     */
+    public static <T extends Record> Schema<T> ofRecord(Class<T> recordClass) {
+        Objects.requireNonNull(recordClass, "Record class must exist.");
+        var fieldList = new ArrayList<Field<T>>();
+        for (RecordComponent component : recordClass.getRecordComponents()) {
+            MethodHandle accessor;
+            try {
+                accessor = MethodHandles.publicLookup()
+                        .unreflect(component.getAccessor())
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException ex) {
+                throw new IllegalArgumentException("Cannot read " + component.getName(), ex);
+            }
+            fieldList.add(Field.of(toSnakeCase(component.getName()), record -> {
+                try {
+                    return (Object) accessor.invokeExact((Object) record);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException("Cannot read " + component.getName(), ex);
+                }
+            }));
+        }
+        return new Schema<>(fieldList);
+    }
+
+    /**
+     * Get fields in output order
+     * @return  List of fields
+     */
+    public List<Field<T>> fieldList() {
+        return this.fieldList;
+    }
+
+    Field<T> listField() {
+        return this.listField;
+    }
+
+    static String toSnakeCase(String name) {
+        var builder = new StringBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    builder.append('_');
+                }
+                builder.append(Character.toLowerCase(c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
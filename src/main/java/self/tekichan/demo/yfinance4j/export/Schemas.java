@@ -0,0 +1,65 @@
+package self.tekichan.demo.yfinance4j.export;
+
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.model.IndexComponent;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+/**
+ * Schemas of the model records
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class Schemas {
+    /**
+     * Schema of HistoricalQuote, with the keys of the historical quote example preceded by the symbol,
+     * so rows of several stocks can be told apart
+     */
+    public static final Schema<HistoricalQuote> HISTORICAL_QUOTE = Schema.of(
+            Field.of("symbol", HistoricalQuote::symbol)
+            , Field.of("trade_date", HistoricalQuote::tradeDate)
+            , Field.of("open", HistoricalQuote::openPrice)
+            , Field.of("high", HistoricalQuote::highPrice)
+            , Field.of("low", HistoricalQuote::lowPrice)
+            , Field.of("close", HistoricalQuote::closePrice)
+            , Field.of("adj_close", HistoricalQuote::adjustPrice)
+            , Field.of("volume", HistoricalQuote::volume)
+    );
+
+    /**
+     * Schema of SummaryQuote with all its components
+     */
+    public static final Schema<SummaryQuote> SUMMARY_QUOTE = Schema.ofRecord(SummaryQuote.class);
+
+    /**
+     * Schema of KeyStatistics with all its components
+     */
+    public static final Schema<KeyStatistics> KEY_STATISTICS = Schema.ofRecord(KeyStatistics.class);
+
+    /**
+     * Schema of IndexComponent
+     */
+    public static final Schema<IndexComponent> INDEX_COMPONENT = Schema.of(
+            Field.of("symbol", IndexComponent::symbol)
+            , Field.of("company_name", IndexComponent::companyName)
+            , Field.of("last_price", IndexComponent::lastPrice)
+            , Field.of("change", IndexComponent::change)
+            , Field.of("percent_change", IndexComponent::percentChange)
+            , Field.of("volume", IndexComponent::volume)
+    );
+
+    /**
+     * Schema of IndexComponentInfo; in CSV one row per component
+     */
+    public static final Schema<IndexComponentInfo> INDEX_COMPONENT_INFO = Schema.of(
+            Field.of("index_symbol", IndexComponentInfo::symbol)
+            , Field.of("download_date_time", IndexComponentInfo::downloadDateTime)
+            , Field.of("currency_code", IndexComponentInfo::currencyCode)
+            , Field.list("components", IndexComponentInfo::componentList, INDEX_COMPONENT)
+    );
+
+    private Schemas() {
+        // restrict instantiation
+    }
+}
@@ -0,0 +1,439 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import self.tekichan.demo.yfinance4j.metrics.Histogram;
+import self.tekichan.demo.yfinance4j.metrics.RollingHistogram;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+
+/**
+ * Timeouts following the latency observed per endpoint and response size class
+ * <p>
+ *     A fixed timeout is far too long for a quote page and may be too short for a CSV of forty years.
+ *     Instead, the latency of successful responses is kept in rolling histograms, and a timeout is the p99 of its
+ *     window times a multiplier, bounded by a floor and a ceiling:
+ * </p>
+ * <ul>
+ *     <li>the request timeout, until the response headers arrive, follows the headers latency of the endpoint;</li>
+ *     <li>the body timeout follows the body latency of the endpoint and the size class of the Content-Length.
+ *     It is an idle timeout, restarted by every chunk received, so a large download still making progress is
+ *     never cut off while a stalled one fails.</li>
+ * </ul>
+ * <p>
+ *     Until enough responses have been seen, a request keeps its own timeout and its body the ceiling.
+ * </p>
+ * @see self.tekichan.demo.yfinance4j.util.WebClientHelper#setAdaptiveTimeouts(AdaptiveTimeouts)
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class AdaptiveTimeouts {
+    /**
+     * Size class of a response by its Content-Length
+     */
+    public enum SizeClass {
+        /**
+         * Below 128 KiB, e.g. a quote page or a CSV of a few years
+         */
+        SMALL,
+        /**
+         * From 128 KiB to below 1 MiB
+         */
+        MEDIUM,
+        /**
+         * 1 MiB and above
+         */
+        LARGE,
+        /**
+         * No Content-Length, e.g. a chunked response
+         */
+        UNKNOWN;
+
+        static final long MEDIUM_BYTES = 128L * 1024;
+        static final long LARGE_BYTES = 1024L * 1024;
+
+        /**
+         * Get the size class of a Content-Length
+         * @param contentLength Content-Length, or empty if unknown
+         * @return  SizeClass
+         */
+        public static SizeClass of(OptionalLong contentLength) {
+            if (contentLength.isEmpty() || contentLength.getAsLong() < 0) {
+                return UNKNOWN;
+            }
+            long length = contentLength.getAsLong();
+            return length < MEDIUM_BYTES ? SMALL : length < LARGE_BYTES ? MEDIUM : LARGE;
+        }
+    }
+
+    /**
+     * Settings of adaptive timeouts
+     * @param multiplier    Multiple of the observed p99 latency
+     * @param floor Shortest timeout
+     * @param ceiling   Longest timeout, also the body timeout before warm-up
+     * @param minimumSamples    Number of responses in the window before a timeout adapts
+     * @param window    Length of the rolling window of latencies
+     */
+    public record Settings(
+            double multiplier
+            , Duration floor
+            , Duration ceiling
+            , int minimumSamples
+            , Duration window
+    ) {
+        /**
+         * Constructor of Settings
+         * @param multiplier    Multiple of the observed p99 latency
+         * @param floor Shortest timeout
+         * @param ceiling   Longest timeout, also the body timeout before warm-up
+         * @param minimumSamples    Number of responses in the window before a timeout adapts
+         * @param window    Length of the rolling window of latencies
+         */
+        public Settings {
+            Objects.requireNonNull(floor, "Floor must exist.");
+            Objects.requireNonNull(ceiling, "Ceiling must exist.");
+            Objects.requireNonNull(window, "Window must exist.");
+            if (!(multiplier >= 1.0)) {
+                throw new IllegalArgumentException("Multiplier must be at least 1: " + multiplier);
+            }
+            if (floor.isNegative() || floor.isZero() || ceiling.compareTo(floor) < 0) {
+                throw new IllegalArgumentException("Floor %1$s must be positive and within ceiling %2$s"
+                        .formatted(floor, ceiling));
+            }
+            if (minimumSamples <= 0 || window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("Minimum samples and window must be positive: %1$d, %2$s"
+                        .formatted(minimumSamples, window));
+            }
+        }
+
+        /**
+         * Get default settings
+         * <p>
+         *     3 times the p99 over the last 5 minutes, within 500 milliseconds and 2 minutes,
+         *     once 20 responses have been seen.
+         * </p>
+         * @return  Settings
+         */
+        public static Settings defaults() {
+            return new Settings(3.0, Duration.ofMillis(500), Duration.ofMinutes(2), 20, Duration.ofMinutes(5));
+        }
+
+        /**
+         * Get a copy of these settings with another multiplier
+         * @param multiplier    Multiple of the observed p99 latency
+         * @return  Settings
+         */
+        public Settings withMultiplier(double multiplier) {
+            return new Settings(multiplier, this.floor, this.ceiling, this.minimumSamples, this.window);
+        }
+
+        /**
+         * Get a copy of these settings with other bounds
+         * @param floor Shortest timeout
+         * @param ceiling   Longest timeout
+         * @return  Settings
+         */
+        public Settings withBounds(Duration floor, Duration ceiling) {
+            return new Settings(this.multiplier, floor, ceiling, this.minimumSamples, this.window);
+        }
+
+        /**
+         * Get a copy of these settings with another warm-up
+         * @param minimumSamples    Number of responses in the window before a timeout adapts
+         * @param window    Length of the rolling window of latencies
+         * @return  Settings
+         */
+        public Settings withWarmUp(int minimumSamples, Duration window) {
+            return new Settings(this.multiplier, this.floor, this.ceiling, minimumSamples, window);
+        }
+    }
+
+    private final Settings settings;
+    private final Map<String, Latency> headersLatencyMap = new ConcurrentHashMap<>();
+    private final Map<String, Latency> bodyLatencyMap = new ConcurrentHashMap<>();
+
+    /**
+     * Construct AdaptiveTimeouts with default settings
+     */
+    public AdaptiveTimeouts() {
+        this(Settings.defaults());
+    }
+
+    /**
+     * Construct AdaptiveTimeouts
+     * @param settings  Settings
+     */
+    public AdaptiveTimeouts(Settings settings) {
+        this.settings = Objects.requireNonNull(settings, "Settings must exist.");
+    }
+
+    /**
+     * Get settings
+     * @return  Settings
+     */
+    public Settings getSettings() {
+        return this.settings;
+    }
+
+    /**
+     * Get the current timeout until the response headers of an endpoint
+     * @param endpoint  Endpoint name
+     * @return  Timeout, or empty while warming up
+     */
+    public Optional<Duration> headersTimeout(String endpoint) {
+        return timeoutOf(this.headersLatencyMap.get(endpoint));
+    }
+
+    /**
+     * Get the current idle timeout of the response bodies of an endpoint
+     * @param endpoint  Endpoint name
+     * @param sizeClass Size class of the body
+     * @return  Timeout, or empty while warming up
+     */
+    public Optional<Duration> bodyTimeout(String endpoint, SizeClass sizeClass) {
+        return timeoutOf(this.bodyLatencyMap.get(bodyKeyOf(endpoint, sizeClass)));
+    }
+
+    /**
+     * Apply the headers timeout of an endpoint to a request
+     * <p>
+     *     The adapted timeout only ever shortens the timeout of the request, which may already have been shrunk
+     *     to a deadline. The network transport also uses the request timeout as connection timeout.
+     * </p>
+     * @param endpoint  Endpoint name
+     * @param request   HTTP request
+     * @return  the request with the shorter of its own and the adapted timeout; the same request while warming up
+     */
+    public HttpRequest adapt(String endpoint, HttpRequest request) {
+        Optional<Duration> timeout = headersTimeout(endpoint)
+                .filter(adapted -> request.timeout().map(own -> adapted.compareTo(own) < 0).orElse(true));
+        if (timeout.isEmpty()) {
+            return request;
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> true).timeout(timeout.get()).build();
+    }
+
+    /**
+     * Wrap a body handler to observe the latency of an exchange and to time out an idle body
+     * <p>
+     *     The exchange is timed from this call, so wrap the handler right before sending.
+     *     A body idle for longer than its timeout fails with {@link HttpTimeoutException}.
+     * </p>
+     * @param endpoint  Endpoint name
+     * @param bodyHandler   Body handler
+     * @return  watching body handler
+     * @param <T>   the body type
+     */
+    public <T> HttpResponse.BodyHandler<T> watching(String endpoint, HttpResponse.BodyHandler<T> bodyHandler) {
+        Objects.requireNonNull(bodyHandler, "Body handler must exist.");
+        long startNanos = System.nanoTime();
+        return info -> {
+            // error pages such as 429 come back fast and would pull the timeouts down
+            boolean successful = info.statusCode() / 100 == 2 || info.statusCode() == HTTP_NOT_MODIFIED;
+            if (successful) {
+                recordHeaders(endpoint, System.nanoTime() - startNanos);
+            }
+            SizeClass sizeClass = SizeClass.of(info.headers().firstValueAsLong("Content-Length"));
+            Duration idleTimeout = bodyTimeout(endpoint, sizeClass).orElse(this.settings.ceiling());
+            return new IdleTimeoutSubscriber<>(bodyHandler.apply(info), idleTimeout.toNanos()
+                    , successful ? bodyNanos -> recordBody(endpoint, sizeClass, bodyNanos) : bodyNanos -> {});
+        };
+    }
+
+    void recordHeaders(String endpoint, long nanos) {
+        this.headersLatencyMap.computeIfAbsent(endpoint, key -> new Latency()).record(nanos);
+    }
+
+    void recordBody(String endpoint, SizeClass sizeClass, long nanos) {
+        this.bodyLatencyMap.computeIfAbsent(bodyKeyOf(endpoint, sizeClass), key -> new Latency()).record(nanos);
+    }
+
+    private static Optional<Duration> timeoutOf(Latency latency) {
+        return latency == null ? Optional.empty() : latency.timeout();
+    }
+
+    private static String bodyKeyOf(String endpoint, SizeClass sizeClass) {
+        return endpoint + "/" + sizeClass;
+    }
+
+    /**
+     * Rolling latency of an endpoint with the timeout derived from it
+     * <p>
+     *     Merging the slots of the window costs more than a lookup should, so the timeout is derived again only
+     *     once a slot has rolled over, or once enough responses have been recorded to end the warm-up.
+     * </p>
+     */
+    private final class Latency {
+        private final RollingHistogram histogram = new RollingHistogram(AdaptiveTimeouts.this.settings.window());
+        private final long refreshNanos = this.histogram.slotLength().toNanos();
+        private final AtomicLong recordCount = new AtomicLong();
+        private volatile Derived derived;
+
+        void record(long nanos) {
+            this.histogram.record(nanos);
+            this.recordCount.incrementAndGet();
+        }
+
+        Optional<Duration> timeout() {
+            Derived current = this.derived;
+            long now = System.nanoTime();
+            if (current == null || now - current.expiryNanos() >= 0 || this.recordCount.get() >= current.untilCount()) {
+                current = derive(now);
+                this.derived = current;
+            }
+            return current.timeout();
+        }
+
+        private Derived derive(long now) {
+            Settings settings = AdaptiveTimeouts.this.settings;
+            long count = this.recordCount.get();
+            Histogram.Snapshot snapshot = this.histogram.snapshot();
+            if (snapshot.count() < settings.minimumSamples()) {
+                return new Derived(Optional.empty(), now + this.refreshNanos
+                        , count + settings.minimumSamples() - snapshot.count());
+            }
+            double nanos = snapshot.percentile(99) * settings.multiplier();
+            long floorNanos = settings.floor().toNanos();
+            long ceilingNanos = settings.ceiling().toNanos();
+            return new Derived(
+                    Optional.of(Duration.ofNanos((long) Math.max(floorNanos, Math.min(ceilingNanos, Math.ceil(nanos)))))
+                    , now + this.refreshNanos
+                    , Long.MAX_VALUE
+            );
+        }
+    }
+
+    /**
+     * Timeout derived from a latency, valid until a time or a number of responses recorded
+     */
+    private record Derived(Optional<Duration> timeout, long expiryNanos, long untilCount) {
+    }
+
+    /**
+     * Subscriber failing the body once no chunk has arrived for the idle timeout
+     * <p>
+     *     Only time with demand outstanding counts as idle, so a slow consumer of a streamed body does not time out.
+     *     Signals to the downstream subscriber are serialized, so a timeout never overlaps a chunk.
+     * </p>
+     */
+    private static final class IdleTimeoutSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private final HttpResponse.BodySubscriber<T> downstream;
+        private final long idleNanos;
+        private final LongConsumer bodyListener;
+        private final long startNanos = System.nanoTime();
+        private Flow.Subscription subscription;
+        private long lastChunkNanos = this.startNanos;
+        private long demand;
+        private boolean done;
+
+        IdleTimeoutSubscriber(HttpResponse.BodySubscriber<T> downstream, long idleNanos, LongConsumer bodyListener) {
+            this.downstream = downstream;
+            this.idleNanos = idleNanos;
+            this.bodyListener = bodyListener;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return this.downstream.getBody();
+        }
+
+        @Override
+        public synchronized void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            this.lastChunkNanos = System.nanoTime();
+            this.downstream.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    demanded(n);
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled();
+                    subscription.cancel();
+                }
+            });
+            schedule(this.idleNanos);
+        }
+
+        @Override
+        public synchronized void onNext(List<ByteBuffer> item) {
+            if (this.done) {
+                return;
+            }
+            this.lastChunkNanos = System.nanoTime();
+            if (this.demand != Long.MAX_VALUE) {
+                this.demand = Math.max(0L, this.demand - 1);
+            }
+            this.downstream.onNext(item);
+        }
+
+        @Override
+        public synchronized void onError(Throwable throwable) {
+            if (this.done) {
+                return;
+            }
+            this.done = true;
+            this.downstream.onError(throwable);
+        }
+
+        @Override
+        public synchronized void onComplete() {
+            if (this.done) {
+                return;
+            }
+            this.done = true;
+            this.bodyListener.accept(System.nanoTime() - this.startNanos);
+            this.downstream.onComplete();
+        }
+
+        private synchronized void cancelled() {
+            // no more signals are wanted, so stop checking for idleness
+            this.done = true;
+        }
+
+        private synchronized void demanded(long n) {
+            if (this.demand == 0L) {
+                // the wait for the next chunk starts now, not when the last one arrived
+                this.lastChunkNanos = System.nanoTime();
+            }
+            this.demand = n > Long.MAX_VALUE - this.demand ? Long.MAX_VALUE : this.demand + n;
+        }
+
+        private void schedule(long delayNanos) {
+            CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(this::checkIdle);
+        }
+
+        private synchronized void checkIdle() {
+            if (this.done) {
+                return;
+            }
+            long idle = System.nanoTime() - this.lastChunkNanos;
+            if (this.demand == 0L || idle < this.idleNanos) {
+                schedule(this.demand == 0L ? this.idleNanos : this.idleNanos - idle);
+                return;
+            }
+            this.done = true;
+            this.subscription.cancel();
+            this.downstream.onError(new HttpTimeoutException(
+                    "Response body idle for %1$d ms".formatted(TimeUnit.NANOSECONDS.toMillis(idle))));
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import self.tekichan.demo.yfinance4j.jfr.CacheLookupEvent;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
+
+/**
+ * Cache of validators and parsed models for conditional requests
+ * <p>
+ *     For each URL the cache keeps the {@code ETag} and {@code Last-Modified} validators of the last response,
+ *     the SHA-256 of its body and the model parsed from it. A refresh of the URL then
+ * </p>
+ * <ol>
+ *     <li>sends {@code If-None-Match} and {@code If-Modified-Since}, and a 304 Not Modified response resolves
+ *     to the cached model;</li>
+ *     <li>otherwise hashes the body, and a body identical to the last one also resolves to the cached model;</li>
+ *     <li>parses the body only when it has changed.</li>
+ * </ol>
+ * <p>
+ *     An unchanged response therefore returns the very same model instance, including its download time.
+ *     The least recently used URL is evicted once the cache is full.
+ * </p>
+ * @see self.tekichan.demo.yfinance4j.util.WebClientHelper#setConditionalCache(ConditionalCache)
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class ConditionalCache {
+    static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private final Map<String, Entry> entryMap;
+    private final LongAdder notModifiedCount = new LongAdder();
+    private final LongAdder unchangedCount = new LongAdder();
+    private final LongAdder parsedCount = new LongAdder();
+
+    /**
+     * Construct ConditionalCache of the default size
+     */
+    public ConditionalCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Construct ConditionalCache
+     * @param maxEntries    Maximum number of URLs kept
+     */
+    public ConditionalCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Maximum number of entries must be positive: " + maxEntries);
+        }
+        this.entryMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Add the validators of the last response of the URL to a request
+     * @param request   HTTP request
+     * @return  the request with If-None-Match and If-Modified-Since headers if known; otherwise the same request
+     */
+    public HttpRequest conditional(HttpRequest request) {
+        Optional<Entry> entry = lookup(request);
+        if (entry.isEmpty()) {
+            return request;
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true);
+        entry.get().etag().ifPresent(etag -> builder.setHeader("If-None-Match", etag));
+        entry.get().lastModified().ifPresent(lastModified -> builder.setHeader("If-Modified-Since", lastModified));
+        return builder.build();
+    }
+
+    /**
+     * Resolve a response to a model
+     * @param request   HTTP request before {@link #conditional(HttpRequest)}, which keys the URL even if redirected
+     * @param response  HTTP response of the conditional request
+     * @param parser    Function parsing the body text to a model
+     * @return  the cached model if the response is 304 or its body is unchanged; otherwise the newly parsed model
+     * @param <T>   the model type
+     * @throws IOException  {@link IOException} if the status code is neither 200 nor 304 with a cached model
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T resolve(HttpRequest request, HttpResponse<byte[]> response, Function<String, T> parser)
+            throws IOException {
+        String key = keyOf(request);
+        var event = new CacheLookupEvent();
+        event.begin();
+        Optional<Entry> entry = lookup(request);
+        Optional<String> etag = response.headers().firstValue("ETag");
+        Optional<String> lastModified = response.headers().firstValue("Last-Modified");
+        if (response.statusCode() == HTTP_NOT_MODIFIED && entry.isPresent()) {
+            this.notModifiedCount.increment();
+            put(key, entry.get().revalidated(etag, lastModified));
+            commit(event, key, "NOT_MODIFIED");
+            return (T) entry.get().model();
+        }
+        if (response.statusCode() != HTTP_OK) {
+            throw new IOException("Unsuccessful Status Code: " + response.statusCode());
+        }
+        byte[] digest = sha256(response.body());
+        if (entry.isPresent() && Arrays.equals(digest, entry.get().digest())) {
+            this.unchangedCount.increment();
+            put(key, entry.get().revalidated(etag, lastModified));
+            commit(event, key, "UNCHANGED");
+            return (T) entry.get().model();
+        }
+        this.parsedCount.increment();
+        // the lookup ends before parsing, which is an event of its own
+        commit(event, key, "PARSED");
+        T model = parser.apply(new String(response.body(), charsetOf(response)));
+        if (model != null) {
+            put(key, new Entry(etag, lastModified, digest, model));
+        }
+        return model;
+    }
+
+    /**
+     * Get number of responses resolved by 304 Not Modified
+     * @return  number of responses
+     */
+    public long getNotModifiedCount() {
+        return this.notModifiedCount.sum();
+    }
+
+    /**
+     * Get number of 200 responses resolved by an unchanged body
+     * @return  number of responses
+     */
+    public long getUnchangedCount() {
+        return this.unchangedCount.sum();
+    }
+
+    /**
+     * Get number of responses parsed
+     * @return  number of responses
+     */
+    public long getParsedCount() {
+        return this.parsedCount.sum();
+    }
+
+    /**
+     * Forget all URLs
+     */
+    public synchronized void clear() {
+        this.entryMap.clear();
+    }
+
+    private synchronized Optional<Entry> lookup(HttpRequest request) {
+        return Optional.ofNullable(this.entryMap.get(keyOf(request)));
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        this.entryMap.put(key, entry);
+    }
+
+    private static void commit(CacheLookupEvent event, String key, String result) {
+        if (event.shouldCommit()) {
+            event.url = key;
+            event.result = result;
+            event.commit();
+        }
+    }
+
+    private static String keyOf(HttpRequest request) {
+        return request.uri().toString();
+    }
+
+    private static Charset charsetOf(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Type")
+                .flatMap(contentType -> Arrays.stream(contentType.split(";"))
+                        .map(String::trim)
+                        .filter(param -> param.regionMatches(true, 0, "charset=", 0, 8))
+                        .map(param -> param.substring(8).replace("\"", ""))
+                        .flatMap(name -> {
+                            try {
+                                return Stream.of(Charset.forName(name));
+                            } catch (IllegalArgumentException ex) {
+                                return Stream.empty();
+                            }
+                        })
+                        .findFirst())
+                .orElse(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Validators and model of the last response of a URL
+     * <p>
+     *     A validator missing from a 304 response keeps its previous value.
+     * </p>
+     */
+    private record Entry(Optional<String> etag, Optional<String> lastModified, byte[] digest, Object model) {
+        Entry revalidated(Optional<String> newEtag, Optional<String> newLastModified) {
+            return new Entry(newEtag.or(this::etag), newLastModified.or(this::lastModified), this.digest, this.model);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Body handlers decoding gzip and deflate Content-Encoding
+ * <p>
+ *     {@link java.net.http.HttpClient} neither asks for nor decodes compressed bodies. A decoding handler inflates
+ *     each chunk as it arrives and passes the decoded bytes on to the wrapped handler, so it composes with
+ *     {@link HttpResponse.BodyHandlers#ofLines()} and {@link HttpResponse.BodyHandlers#ofString()} alike.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class ContentDecoding {
+    /**
+     * Value of Accept-Encoding header for the encodings decoded here
+     */
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private ContentDecoding() {
+        // restrict instantiation
+    }
+
+    /**
+     * Wrap a body handler to decode compressed bodies
+     * @param uri   Request URI, reported in transfer statistics
+     * @param bodyHandler   Handler of decoded body
+     * @param statsListener Listener of transfer statistics, called when the body completes
+     * @return  decoding body handler
+     * @param <T>   the body type
+     */
+    public static <T> HttpResponse.BodyHandler<T> decoding(URI uri, HttpResponse.BodyHandler<T> bodyHandler
+            , Consumer<TransferStats> statsListener) {
+        Objects.requireNonNull(bodyHandler, "Body handler must exist.");
+        Objects.requireNonNull(statsListener, "Listener of transfer statistics must exist.");
+        return info -> {
+            String encoding = info.headers().firstValue("Content-Encoding")
+                    .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                    .orElse("identity");
+            StreamingInflater inflater = switch (encoding) {
+                case "gzip", "x-gzip" -> new StreamingInflater(true);
+                case "deflate" -> new StreamingInflater(false);
+                default -> null;
+            };
+            return new DecodingSubscriber<>(bodyHandler.apply(info), inflater, uri, encoding, statsListener);
+        };
+    }
+
+    /**
+     * Subscriber counting body bytes and inflating them when compressed
+     */
+    private static final class DecodingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private final HttpResponse.BodySubscriber<T> downstream;
+        private final StreamingInflater inflater;
+        private final URI uri;
+        private final String encoding;
+        private final Consumer<TransferStats> statsListener;
+        private Flow.Subscription subscription;
+        private long wireBytes;
+        private long identityBytes;
+        private boolean failed;
+
+        DecodingSubscriber(HttpResponse.BodySubscriber<T> downstream, StreamingInflater inflater, URI uri
+                , String encoding, Consumer<TransferStats> statsListener) {
+            this.downstream = downstream;
+            this.inflater = inflater;
+            this.uri = uri;
+            this.encoding = encoding;
+            this.statsListener = statsListener;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return this.downstream.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            this.downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            if (this.failed) {
+                return;
+            }
+            long chunkBytes = 0;
+            for (ByteBuffer buffer : item) {
+                chunkBytes += buffer.remaining();
+            }
+            this.wireBytes += chunkBytes;
+            if (this.inflater == null) {
+                this.identityBytes += chunkBytes;
+                this.downstream.onNext(item);
+                return;
+            }
+            try {
+                var decoded = new ArrayList<ByteBuffer>();
+                for (ByteBuffer buffer : item) {
+                    decoded.addAll(this.inflater.decode(buffer));
+                }
+                if (decoded.isEmpty()) {
+                    // nothing for downstream yet; keep its demand by asking upstream for one more
+                    this.subscription.request(1);
+                } else {
+                    this.downstream.onNext(decoded);
+                }
+            } catch (IOException ex) {
+                this.failed = true;
+                this.subscription.cancel();
+                this.inflater.end();
+                this.downstream.onError(ex);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (this.inflater != null) {
+                this.inflater.end();
+            }
+            if (!this.failed) {
+                this.downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (this.failed) {
+                return;
+            }
+            if (this.inflater != null) {
+                try {
+                    this.inflater.finish();
+                } catch (IOException ex) {
+                    this.downstream.onError(ex);
+                    return;
+                }
+            }
+            long decodedBytes = this.inflater != null ? this.inflater.decodedBytes() : this.identityBytes;
+            try {
+                this.statsListener.accept(new TransferStats(this.uri, this.encoding, this.wireBytes, decodedBytes));
+            } catch (RuntimeException ex) {
+                // a failing listener must not fail the response
+            }
+            this.downstream.onComplete();
+        }
+    }
+}
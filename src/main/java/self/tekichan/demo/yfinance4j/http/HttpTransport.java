@@ -0,0 +1,97 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transport sending HTTP requests on behalf of {@link self.tekichan.demo.yfinance4j.util.WebClientHelper}
+ * <p>
+ *     The default transport sends requests over the network. Recording and replaying transports
+ *     let every controller run offline against saved responses.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public interface HttpTransport {
+    /**
+     * Send a request
+     * @param request   HTTP request
+     * @param bodyHandler   Handler of response body
+     * @return  HTTP response
+     * @param <T>   the body type
+     * @throws IOException  {@link IOException}
+     * @throws InterruptedException {@link InterruptedException}
+     */
+    <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException;
+
+    /**
+     * Asynchronously send a request
+     * @param request   HTTP request
+     * @param bodyHandler   Handler of response body
+     * @return  CompletableFuture of HTTP response
+     * @param <T>   the body type
+     */
+    <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler);
+
+    /**
+     * Send a request, calling back once it is dispatched
+     * <p>
+     *     A transport queueing requests, such as {@link PrioritizedTransport}, dispatches a request when it lets it
+     *     through, so the callback is where its latency starts; any other transport dispatches it at once.
+     * </p>
+     * @param request   HTTP request
+     * @param bodyHandler   Handler of response body
+     * @param onDispatch    Callback run once when the request is dispatched
+     * @return  HTTP response
+     * @param <T>   the body type
+     * @throws IOException  {@link IOException}
+     * @throws InterruptedException {@link InterruptedException}
+     */
+    default <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, Runnable onDispatch)
+            throws IOException, InterruptedException {
+        onDispatch.run();
+        return send(request, bodyHandler);
+    }
+
+    /**
+     * Asynchronously send a request, calling back once it is dispatched
+     * @see #send(HttpRequest, HttpResponse.BodyHandler, Runnable)
+     * @param request   HTTP request
+     * @param bodyHandler   Handler of response body
+     * @param onDispatch    Callback run once when the request is dispatched
+     * @return  CompletableFuture of HTTP response
+     * @param <T>   the body type
+     */
+    default <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler
+            , Runnable onDispatch) {
+        onDispatch.run();
+        return sendAsync(request, bodyHandler);
+    }
+
+    /**
+     * Get the transport sending requests over the network
+     * @return  network transport
+     */
+    static HttpTransport network() {
+        return NetworkTransport.INSTANCE;
+    }
+
+    /**
+     * Get a transport sending every request to another host, e.g. a local stand-in server
+     * <p>
+     *     Only the scheme and authority are replaced; path and query are kept, so
+     *     {@code https://finance.yahoo.com/quote/TSCO.L?p=TSCO.L} is sent as
+     *     {@code http://localhost:8080/quote/TSCO.L?p=TSCO.L} with base URI {@code http://localhost:8080}.
+     * </p>
+     * @param delegate  Transport sending the rebased requests
+     * @param baseUri   URI of the other host
+     * @return  rebasing transport
+     */
+    static HttpTransport rebased(HttpTransport delegate, URI baseUri) {
+        return new RebasingTransport(delegate, baseUri);
+    }
+}
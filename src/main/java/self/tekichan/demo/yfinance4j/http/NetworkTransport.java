@@ -0,0 +1,42 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static self.tekichan.demo.yfinance4j.YFinanceConfig.TIMEOUT_MILLIS;
+
+/**
+ * Transport sending requests over the network with a client per request
+ * <p>
+ *     The connection timeout of a client is the timeout of its request.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class NetworkTransport implements HttpTransport {
+    static final NetworkTransport INSTANCE = new NetworkTransport();
+
+    private NetworkTransport() {
+        // singleton
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        return WebClientHelper.buildHttpClient(timeoutMillis(request)).send(request, bodyHandler);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return WebClientHelper.buildHttpClient(timeoutMillis(request)).sendAsync(request, bodyHandler);
+    }
+
+    private static int timeoutMillis(HttpRequest request) {
+        return request.timeout().map(Duration::toMillis).map(Math::toIntExact).orElse(TIMEOUT_MILLIS);
+    }
+}
@@ -0,0 +1,307 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Transport sharing one budget of requests in flight among {@link Priority} classes
+ * <p>
+ *     At most a given number of requests are in flight through the wrapped transport; the others wait in a queue
+ *     per class, first in first out. When a request completes, the next one is taken
+ * </p>
+ * <ul>
+ *     <li>{@link Policy#STRICT}: from the highest class waiting, so interactive lookups always jump queued bulk
+ *     work, which may starve while they keep coming;</li>
+ *     <li>{@link Policy#WEIGHTED}: from the classes waiting in proportion to {@link Priority#weight()}, so bulk work
+ *     keeps a share of the budget.</li>
+ * </ul>
+ * <p>
+ *     Install it in front of the network transport, so every controller shares the budget:
+ * </p>
+ * <pre>{@code
+ * WebClientHelper.setTransport(new PrioritizedTransport(HttpTransport.network(), 8, PrioritizedTransport.Policy.STRICT));
+ * }</pre>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class PrioritizedTransport implements HttpTransport {
+    /**
+     * Policy choosing the class of the next request
+     */
+    public enum Policy {
+        /**
+         * Highest class first
+         */
+        STRICT,
+        /**
+         * Smooth weighted round robin by the weights of the classes
+         */
+        WEIGHTED
+    }
+
+    private final HttpTransport delegate;
+    private final int maxInFlight;
+    private final Policy policy;
+    private final Map<Priority, ArrayDeque<Runnable>> queueMap = new EnumMap<>(Priority.class);
+    private final Map<Priority, Integer> creditMap = new EnumMap<>(Priority.class);
+    private final ThreadLocal<ArrayDeque<Runnable>> dispatchQueue = new ThreadLocal<>();
+    private int inFlightCount;
+
+    /**
+     * Construct PrioritizedTransport
+     * @param delegate  Transport sending the requests
+     * @param maxInFlight   Maximum number of requests in flight
+     * @param policy    Policy choosing the class of the next request
+     */
+    public PrioritizedTransport(HttpTransport delegate, int maxInFlight, Policy policy) {
+        this.delegate = Objects.requireNonNull(delegate, "Transport must exist.");
+        this.policy = Objects.requireNonNull(policy, "Policy must exist.");
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Maximum number of requests in flight must be positive: " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        for (Priority priority : Priority.values()) {
+            this.queueMap.put(priority, new ArrayDeque<>());
+            this.creditMap.put(priority, 0);
+        }
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        return send(request, bodyHandler, () -> {});
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     A request waits in its queue no longer than its timeout, failing with {@link HttpTimeoutException},
+     *     and is sent with the timeout left after waiting.
+     * </p>
+     */
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, Runnable onDispatch)
+            throws IOException, InterruptedException {
+        long queuedNanos = System.nanoTime();
+        Priority priority = Priority.current();
+        var permit = new CompletableFuture<Void>();
+        Runnable grant = () -> {
+            if (!permit.complete(null)) {
+                // the caller stopped waiting
+                release();
+            }
+        };
+        submit(priority, grant);
+        try {
+            if (request.timeout().isPresent()) {
+                permit.get(request.timeout().get().toNanos(), TimeUnit.NANOSECONDS);
+            } else {
+                permit.get();
+            }
+        } catch (InterruptedException | TimeoutException ex) {
+            if (!withdraw(priority, grant) && !permit.cancel(false)) {
+                // granted meanwhile
+                release();
+            }
+            if (ex instanceof InterruptedException interrupted) {
+                throw interrupted;
+            }
+            throw new HttpTimeoutException("Request timed out waiting in queue of " + priority);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Permit cannot fail", ex);
+        }
+        try {
+            onDispatch.run();
+            return this.delegate.send(remaining(request, queuedNanos), bodyHandler);
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return sendAsync(request, bodyHandler, () -> {});
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     A request waits in its queue no longer than its timeout, failing with {@link HttpTimeoutException},
+     *     and is sent with the timeout left after waiting.
+     *     Cancelling the returned CompletableFuture while the request is queued skips it.
+     * </p>
+     */
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler
+            , Runnable onDispatch) {
+        long queuedNanos = System.nanoTime();
+        Priority priority = Priority.current();
+        var responseFuture = new CompletableFuture<HttpResponse<T>>();
+        Runnable start = () -> {
+            if (responseFuture.isDone()) {
+                release();
+                return;
+            }
+            CompletableFuture<HttpResponse<T>> future;
+            try {
+                onDispatch.run();
+                future = this.delegate.sendAsync(remaining(request, queuedNanos), bodyHandler);
+            } catch (RuntimeException ex) {
+                release();
+                responseFuture.completeExceptionally(ex);
+                return;
+            }
+            AsyncBatch.propagateCancel(responseFuture, future);
+            future.whenComplete((response, ex) -> {
+                release();
+                if (ex != null) {
+                    responseFuture.completeExceptionally(ex);
+                } else {
+                    responseFuture.complete(response);
+                }
+            });
+        };
+        if (submit(priority, start) && request.timeout().isPresent()) {
+            CompletableFuture.delayedExecutor(request.timeout().get().toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+                if (withdraw(priority, start)) {
+                    responseFuture.completeExceptionally(
+                            new HttpTimeoutException("Request timed out waiting in queue of " + priority));
+                }
+            });
+        }
+        return responseFuture;
+    }
+
+    /**
+     * Get number of requests in flight
+     * @return  number of requests
+     */
+    public synchronized int getInFlightCount() {
+        return this.inFlightCount;
+    }
+
+    /**
+     * Get number of requests waiting in a class
+     * @param priority  Priority class
+     * @return  number of requests
+     */
+    public synchronized int getQueuedCount(Priority priority) {
+        return this.queueMap.get(priority).size();
+    }
+
+    /**
+     * Get the request with the part of its timeout left after waiting in a queue
+     */
+    private static HttpRequest remaining(HttpRequest request, long queuedNanos) {
+        if (request.timeout().isEmpty()) {
+            return request;
+        }
+        long waitedNanos = System.nanoTime() - queuedNanos;
+        if (waitedNanos < TimeUnit.MILLISECONDS.toNanos(1)) {
+            return request;
+        }
+        long leftNanos = request.timeout().get().toNanos() - waitedNanos;
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .timeout(Duration.ofNanos(Math.max(1L, leftNanos)))
+                .build();
+    }
+
+    /**
+     * Start a request now if the budget allows, otherwise queue it
+     * @return  true if queued
+     */
+    private boolean submit(Priority priority, Runnable start) {
+        synchronized (this) {
+            if (this.inFlightCount >= this.maxInFlight) {
+                this.queueMap.get(priority).add(start);
+                return true;
+            }
+            this.inFlightCount++;
+        }
+        start.run();
+        return false;
+    }
+
+    /**
+     * Remove a request from its queue
+     * @return  true if it was still queued
+     */
+    private synchronized boolean withdraw(Priority priority, Runnable start) {
+        return this.queueMap.get(priority).remove(start);
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = poll();
+            if (next == null) {
+                this.inFlightCount--;
+                return;
+            }
+            // the permit passes straight to the next request
+        }
+        dispatch(next);
+    }
+
+    private void dispatch(Runnable start) {
+        ArrayDeque<Runnable> pending = this.dispatchQueue.get();
+        if (pending != null) {
+            // a request completing at once releases from within a dispatch; run it in this loop, not deeper
+            pending.add(start);
+            return;
+        }
+        pending = new ArrayDeque<>();
+        this.dispatchQueue.set(pending);
+        try {
+            for (Runnable next = start; next != null; next = pending.poll()) {
+                next.run();
+            }
+        } finally {
+            this.dispatchQueue.remove();
+        }
+    }
+
+    private Runnable poll() {
+        Priority chosen = null;
+        if (this.policy == Policy.STRICT) {
+            for (Priority priority : Priority.values()) {
+                if (!this.queueMap.get(priority).isEmpty()) {
+                    chosen = priority;
+                    break;
+                }
+            }
+        } else {
+            int totalWeight = 0;
+            for (Priority priority : Priority.values()) {
+                if (this.queueMap.get(priority).isEmpty()) {
+                    // an idle class saves up no credit
+                    this.creditMap.put(priority, 0);
+                    continue;
+                }
+                int credit = this.creditMap.get(priority) + priority.weight();
+                this.creditMap.put(priority, credit);
+                totalWeight += priority.weight();
+                if (chosen == null || credit > this.creditMap.get(chosen)) {
+                    chosen = priority;
+                }
+            }
+            if (chosen != null) {
+                this.creditMap.put(chosen, this.creditMap.get(chosen) - totalWeight);
+            }
+        }
+        return chosen != null ? this.queueMap.get(chosen).poll() : null;
+    }
+}
@@ -0,0 +1,75 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Priority class of requests sharing one request budget
+ * <p>
+ *     A request is sent with the priority current on the thread sending it, which the quote requests set
+ *     around their own sends. {@link PrioritizedTransport} then lets higher classes ahead of queued lower ones.
+ * </p>
+ * <pre>{@code
+ * List<HistoricalQuote> quoteList = Priority.BULK.call(() -> WebClientHelper.downloadCsvToList(url, timeout, mapFunc));
+ * }</pre>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public enum Priority {
+    /**
+     * User-facing lookups of a single symbol
+     */
+    INTERACTIVE(16),
+    /**
+     * Requests sent without a priority
+     */
+    NORMAL(4),
+    /**
+     * Bulk work such as backfills of history and screening of a universe
+     */
+    BULK(1);
+
+    private static final ThreadLocal<Priority> CURRENT = ThreadLocal.withInitial(() -> NORMAL);
+
+    private final int weight;
+
+    Priority(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Get weight of this class under weighted-fair scheduling
+     * @return  number of requests started per request of weight 1 while both are queued
+     */
+    public int weight() {
+        return this.weight;
+    }
+
+    /**
+     * Get the priority of requests sent by the current thread
+     * @return  Priority; {@link #NORMAL} unless set by {@link #call(Callable)}
+     */
+    public static Priority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Call with this priority for the requests sent by the current thread meanwhile
+     * <p>
+     *     Only sends made on the calling thread take the priority; an asynchronous request takes it when it is
+     *     sent, not when it completes.
+     * </p>
+     * @param callable  Callable sending requests
+     * @return  result of the callable
+     * @param <T>   the result type
+     * @throws Exception    the exception of the callable
+     */
+    public <T> T call(Callable<T> callable) throws Exception {
+        Priority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return callable.call();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
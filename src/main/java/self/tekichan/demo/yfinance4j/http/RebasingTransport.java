@@ -0,0 +1,60 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transport sending requests to another host, keeping their path and query
+ * @see HttpTransport#rebased(HttpTransport, URI)
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class RebasingTransport implements HttpTransport {
+    private final HttpTransport delegate;
+    private final URI baseUri;
+
+    RebasingTransport(HttpTransport delegate, URI baseUri) {
+        this.delegate = Objects.requireNonNull(delegate, "Transport must exist.");
+        Objects.requireNonNull(baseUri, "Base URI must exist.");
+        if (baseUri.getScheme() == null || baseUri.getRawAuthority() == null) {
+            throw new IllegalArgumentException("Base URI must have a scheme and a host: " + baseUri);
+        }
+        this.baseUri = baseUri;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        return this.delegate.send(rebase(request), bodyHandler);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return this.delegate.sendAsync(rebase(request), bodyHandler);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, Runnable onDispatch)
+            throws IOException, InterruptedException {
+        // the delegate may queue the request, so only it knows when it is dispatched
+        return this.delegate.send(rebase(request), bodyHandler, onDispatch);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler
+            , Runnable onDispatch) {
+        return this.delegate.sendAsync(rebase(request), bodyHandler, onDispatch);
+    }
+
+    HttpRequest rebase(HttpRequest request) {
+        URI uri = request.uri();
+        String rawQuery = uri.getRawQuery();
+        URI rebased = URI.create(this.baseUri.getScheme() + "://" + this.baseUri.getRawAuthority()
+                + uri.getRawPath() + (rawQuery != null ? "?" + rawQuery : ""));
+        return HttpRequest.newBuilder(request, (name, value) -> true).uri(rebased).build();
+    }
+}
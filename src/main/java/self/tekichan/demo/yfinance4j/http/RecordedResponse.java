@@ -0,0 +1,126 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * HttpResponse served from a recording
+ * @param <T>   the body type
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class RecordedResponse<T> implements HttpResponse<T> {
+    private final HttpRequest request;
+    private final Recording recording;
+    private final HttpHeaders headers;
+    private final T body;
+
+    private RecordedResponse(HttpRequest request, Recording recording, HttpHeaders headers, T body) {
+        this.request = request;
+        this.recording = recording;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * Build a response by feeding the recorded body to a body handler, as HttpClient would
+     * @param request   HTTP request
+     * @param recording Recording of the response
+     * @param bodyHandler   Handler of response body
+     * @return  CompletableFuture of the response, completing when the body handler completes
+     * @param <T>   the body type
+     */
+    static <T> CompletableFuture<HttpResponse<T>> of(HttpRequest request, Recording recording
+            , HttpResponse.BodyHandler<T> bodyHandler) {
+        HttpHeaders headers = recording.headers();
+        HttpResponse.ResponseInfo info = new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+                return recording.statusCode();
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return headers;
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+        HttpResponse.BodySubscriber<T> subscriber = bodyHandler.apply(info);
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private boolean done;
+
+            @Override
+            public synchronized void request(long n) {
+                if (this.done || n <= 0) {
+                    return;
+                }
+                this.done = true;
+                if (recording.body().length > 0) {
+                    // HttpClient never delivers an empty chunk, and its subscribers assert so
+                    subscriber.onNext(List.of(ByteBuffer.wrap(recording.body()).asReadOnlyBuffer()));
+                }
+                subscriber.onComplete();
+            }
+
+            @Override
+            public synchronized void cancel() {
+                this.done = true;
+            }
+        });
+        return subscriber.getBody().toCompletableFuture()
+                .thenApply(body -> new RecordedResponse<>(request, recording, headers, body));
+    }
+
+    @Override
+    public int statusCode() {
+        return this.recording.statusCode();
+    }
+
+    @Override
+    public HttpRequest request() {
+        return this.request;
+    }
+
+    @Override
+    public Optional<HttpResponse<T>> previousResponse() {
+        return Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return this.headers;
+    }
+
+    @Override
+    public T body() {
+        return this.body;
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+        return Optional.empty();
+    }
+
+    @Override
+    public URI uri() {
+        return this.request.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+        return HttpClient.Version.HTTP_1_1;
+    }
+}
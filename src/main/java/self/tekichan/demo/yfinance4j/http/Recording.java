@@ -0,0 +1,156 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Saved HTTP response
+ * <p>
+ *     A recording file holds a header block of text lines, a blank line and the raw body:
+ * </p>
+ * <pre>
+ * YF4J-RECORDING 1
+ * key: GET https://...
+ * status: 200
+ * header: content-type: text/csv
+ *
+ * (body bytes)
+ * </pre>
+ * <p>
+ *     The file is named by the SHA-256 of its key, so any request key maps to a safe file name.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param key   Request key
+ * @param uri   Request URI
+ * @param statusCode    HTTP status code
+ * @param headerMap Response headers
+ * @param body  Raw response body
+ */
+public record Recording(
+        String key
+        , URI uri
+        , int statusCode
+        , Map<String, List<String>> headerMap
+        , byte[] body
+) {
+    static final String FIRST_LINE = "YF4J-RECORDING 1";
+    static final String FILE_SUFFIX = ".http";
+
+    /**
+     * Get response headers as HttpHeaders
+     * @return  HttpHeaders
+     */
+    public HttpHeaders headers() {
+        return HttpHeaders.of(this.headerMap, (name, value) -> true);
+    }
+
+    /**
+     * Get path of the recording file of a key
+     * @param directory Directory of recordings
+     * @param key   Request key
+     * @return  Path of the recording file
+     */
+    public static Path pathOf(Path directory, String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + FILE_SUFFIX);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Save this recording into a directory, replacing any recording of the same key
+     * @param directory Directory of recordings
+     * @throws IOException  {@link IOException}
+     */
+    public void save(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        var out = new ByteArrayOutputStream(this.body.length + 512);
+        writeLine(out, FIRST_LINE);
+        writeLine(out, "key: " + this.key);
+        writeLine(out, "uri: " + this.uri);
+        writeLine(out, "status: " + this.statusCode);
+        for (var header : new TreeMap<>(this.headerMap).entrySet()) {
+            for (String value : header.getValue()) {
+                writeLine(out, "header: " + header.getKey() + ": " + value);
+            }
+        }
+        writeLine(out, "");
+        out.write(this.body);
+        Path path = pathOf(directory, this.key);
+        Path tempPath = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        Files.write(tempPath, out.toByteArray());
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Load a recording
+     * @param path  Path of the recording file
+     * @return  Recording
+     * @throws IOException  {@link IOException} if the file cannot be read or is not a recording
+     */
+    public static Recording load(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            if (!FIRST_LINE.equals(readLine(in))) {
+                throw new IOException("Not a recording: " + path);
+            }
+            String key = null;
+            URI uri = null;
+            int statusCode = 0;
+            Map<String, List<String>> headerMap = new LinkedHashMap<>();
+            for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+                int colon = line.indexOf(": ");
+                if (colon < 0) {
+                    throw new IOException("Malformed recording line: " + line);
+                }
+                String value = line.substring(colon + 2);
+                switch (line.substring(0, colon)) {
+                    case "key" -> key = value;
+                    case "uri" -> uri = URI.create(value);
+                    case "status" -> statusCode = Integer.parseInt(value);
+                    case "header" -> {
+                        int separator = value.indexOf(": ");
+                        headerMap.computeIfAbsent(value.substring(0, separator), name -> new ArrayList<>())
+                                .add(value.substring(separator + 2));
+                    }
+                    default -> throw new IOException("Unknown recording line: " + line);
+                }
+            }
+            return new Recording(key, uri, statusCode, headerMap, in.readAllBytes());
+        }
+    }
+
+    private static void writeLine(OutputStream out, String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        var line = new ByteArrayOutputStream(128);
+        for (int b = in.read(); b != '\n'; b = in.read()) {
+            if (b < 0) {
+                throw new IOException("Unexpected end of recording header");
+            }
+            line.write(b);
+        }
+        return line.toString(StandardCharsets.UTF_8);
+    }
+}
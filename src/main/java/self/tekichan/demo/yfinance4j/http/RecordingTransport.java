@@ -0,0 +1,84 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Transport saving every response it receives from a delegate transport
+ * <p>
+ *     The whole body is received as bytes and saved with status and headers before it is handed
+ *     to the body handler of the caller.
+ * </p>
+ * @see ReplayTransport
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class RecordingTransport implements HttpTransport {
+    private final HttpTransport delegate;
+    private final Path directory;
+    private final Function<HttpRequest, String> keyFunction;
+
+    /**
+     * Construct RecordingTransport over the network, keyed by method and URI
+     * @param directory Directory of recordings
+     */
+    public RecordingTransport(Path directory) {
+        this(HttpTransport.network(), directory, RequestKeys.methodAndUri());
+    }
+
+    /**
+     * Construct RecordingTransport
+     * @param delegate  Transport to send requests
+     * @param directory Directory of recordings
+     * @param keyFunction   Function mapping a request to its key
+     */
+    public RecordingTransport(HttpTransport delegate, Path directory, Function<HttpRequest, String> keyFunction) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate transport must exist for recording.");
+        this.directory = Objects.requireNonNull(directory, "Directory must exist for recording.");
+        this.keyFunction = Objects.requireNonNull(keyFunction, "Key function must exist for recording.");
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        Recording recording = save(request, this.delegate.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+        try {
+            return RecordedResponse.of(request, recording, bodyHandler).join();
+        } catch (CompletionException ex) {
+            throw new IOException(ex.getCause());
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        CompletableFuture<HttpResponse<byte[]>> future = this.delegate.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        return AsyncBatch.propagateCancel(future.thenCompose(response -> {
+            try {
+                return RecordedResponse.of(request, save(request, response), bodyHandler);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }), future);
+    }
+
+    private Recording save(HttpRequest request, HttpResponse<byte[]> response) throws IOException {
+        var recording = new Recording(
+                this.keyFunction.apply(request)
+                , request.uri()
+                , response.statusCode()
+                , response.headers().map()
+                , response.body()
+        );
+        recording.save(this.directory);
+        return recording;
+    }
+}
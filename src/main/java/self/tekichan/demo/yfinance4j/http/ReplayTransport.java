@@ -0,0 +1,124 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Transport serving responses from recordings without touching the network
+ * <p>
+ *     Recordings are loaded from disk once and kept in memory, so replay runs at full speed unless
+ *     a latency is injected. A request without a recording fails with {@link FileNotFoundException}.
+ * </p>
+ * <pre>{@code
+ * WebClientHelper.setTransport(new ReplayTransport(dir).withLatency(Duration.ofMillis(50)));
+ * }</pre>
+ * @see RecordingTransport
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class ReplayTransport implements HttpTransport {
+    private final Path directory;
+    private final Function<HttpRequest, String> keyFunction;
+    private final Duration latency;
+    private final ConcurrentMap<String, Recording> cache;
+
+    /**
+     * Construct ReplayTransport keyed by method and URI, without latency
+     * @param directory Directory of recordings
+     */
+    public ReplayTransport(Path directory) {
+        this(directory, RequestKeys.methodAndUri());
+    }
+
+    /**
+     * Construct ReplayTransport without latency
+     * @param directory Directory of recordings
+     * @param keyFunction   Function mapping a request to its key, the same as used in recording
+     */
+    public ReplayTransport(Path directory, Function<HttpRequest, String> keyFunction) {
+        this(directory, keyFunction, Duration.ZERO, new ConcurrentHashMap<>());
+    }
+
+    private ReplayTransport(Path directory, Function<HttpRequest, String> keyFunction, Duration latency
+            , ConcurrentMap<String, Recording> cache) {
+        this.directory = Objects.requireNonNull(directory, "Directory must exist for replay.");
+        this.keyFunction = Objects.requireNonNull(keyFunction, "Key function must exist for replay.");
+        this.latency = latency;
+        this.cache = cache;
+    }
+
+    /**
+     * Get a ReplayTransport which delays every response
+     * @param latency   Delay of each response
+     * @return  ReplayTransport sharing the loaded recordings of this one
+     */
+    public ReplayTransport withLatency(Duration latency) {
+        Objects.requireNonNull(latency, "Latency must exist.");
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("Latency must not be negative: " + latency);
+        }
+        return new ReplayTransport(this.directory, this.keyFunction, latency, this.cache);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        Recording recording = find(request);
+        if (!this.latency.isZero()) {
+            Thread.sleep(this.latency.toMillis(), this.latency.toNanosPart() % 1_000_000);
+        }
+        try {
+            return RecordedResponse.of(request, recording, bodyHandler).join();
+        } catch (CompletionException ex) {
+            throw new IOException(ex.getCause());
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        Recording recording;
+        try {
+            recording = find(request);
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        if (this.latency.isZero()) {
+            return RecordedResponse.of(request, recording, bodyHandler);
+        }
+        Executor delayed = CompletableFuture.delayedExecutor(this.latency.toNanos(), TimeUnit.NANOSECONDS);
+        CompletableFuture<Recording> latent = CompletableFuture.supplyAsync(() -> recording, delayed);
+        CompletableFuture<HttpResponse<T>> future = latent.thenCompose(r -> RecordedResponse.of(request, r, bodyHandler));
+        // cancelling a delayed response skips it, as an aborted exchange would
+        return AsyncBatch.propagateCancel(future, latent);
+    }
+
+    private Recording find(HttpRequest request) throws IOException {
+        String key = this.keyFunction.apply(request);
+        Recording recording = this.cache.get(key);
+        if (recording != null) {
+            return recording;
+        }
+        Path path = Recording.pathOf(this.directory, key);
+        if (!Files.exists(path)) {
+            throw new FileNotFoundException("No recording of " + key);
+        }
+        recording = Recording.load(path);
+        this.cache.putIfAbsent(key, recording);
+        return recording;
+    }
+}
@@ -0,0 +1,52 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Functions mapping a request to the key of its recording
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class RequestKeys {
+    private RequestKeys() {
+        // restrict instantiation
+    }
+
+    /**
+     * Key of method and full URI, e.g. "GET https://finance.yahoo.com/quote/TSCO.L"
+     * @return  key function
+     */
+    public static Function<HttpRequest, String> methodAndUri() {
+        return request -> request.method() + " " + request.uri();
+    }
+
+    /**
+     * Key of method and URI without some query parameters
+     * <p>
+     *     e.g. ignoring "period2" lets a recording of historical quotes, whose end time is now, be replayed
+     *     on any later day.
+     * </p>
+     * @param parameterNames    Names of query parameters to ignore
+     * @return  key function
+     */
+    public static Function<HttpRequest, String> ignoringQueryParameters(String... parameterNames) {
+        Set<String> ignored = Set.of(parameterNames);
+        return request -> {
+            URI uri = request.uri();
+            String query = uri.getRawQuery();
+            if (query == null) {
+                return request.method() + " " + uri;
+            }
+            String kept = Arrays.stream(query.split("&"))
+                    .filter(param -> !ignored.contains(param.split("=", 2)[0]))
+                    .collect(Collectors.joining("&"));
+            String base = uri.toString().substring(0, uri.toString().indexOf('?'));
+            return request.method() + " " + base + (kept.isEmpty() ? "" : "?" + kept);
+        };
+    }
+}
@@ -0,0 +1,172 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Incremental decoder of a gzip or deflate body arriving in chunks
+ * <p>
+ *     The gzip header is parsed as bytes arrive, then the deflate stream is inflated chunk by chunk.
+ *     Deflate bodies may be zlib-wrapped as RFC 9110 says or raw as some servers send; the first two bytes tell which.
+ *     The gzip trailer is skipped without verification.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class StreamingInflater {
+    private static final int OUTPUT_CHUNK = 16 * 1024;
+    private static final int FHCRC = 0x02;
+    private static final int FEXTRA = 0x04;
+    private static final int FNAME = 0x08;
+    private static final int FCOMMENT = 0x10;
+
+    private final boolean gzip;
+    private byte[] head = new byte[0];
+    private Inflater inflater;
+    private long decodedBytes;
+
+    StreamingInflater(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    /**
+     * Decode a chunk of the body
+     * @param chunk encoded bytes
+     * @return  decoded bytes, possibly none
+     * @throws IOException  {@link IOException} if the body is malformed
+     */
+    List<ByteBuffer> decode(ByteBuffer chunk) throws IOException {
+        byte[] input = new byte[chunk.remaining()];
+        chunk.get(input);
+        if (this.inflater == null) {
+            input = concat(this.head, input);
+            int headerLength = this.gzip ? gzipHeaderLength(input) : deflateHeaderLength(input);
+            if (headerLength < 0) {
+                this.head = input;
+                return List.of();
+            }
+            this.head = null;
+            if (this.gzip) {
+                this.inflater = new Inflater(true);
+                input = copyFrom(input, headerLength);
+            } else {
+                this.inflater = new Inflater(headerLength == 0);
+            }
+        }
+        if (this.inflater.finished() || input.length == 0) {
+            return List.of();
+        }
+        this.inflater.setInput(input);
+        var outputList = new ArrayList<ByteBuffer>(2);
+        try {
+            while (!this.inflater.finished()) {
+                byte[] output = new byte[OUTPUT_CHUNK];
+                int length = this.inflater.inflate(output);
+                if (length > 0) {
+                    this.decodedBytes += length;
+                    outputList.add(ByteBuffer.wrap(output, 0, length));
+                } else if (this.inflater.needsInput()) {
+                    break;
+                } else if (this.inflater.needsDictionary()) {
+                    throw new IOException("Compressed body needs a preset dictionary");
+                }
+            }
+        } catch (DataFormatException ex) {
+            throw new IOException("Malformed compressed body", ex);
+        }
+        return outputList;
+    }
+
+    /**
+     * Check the body is complete and release the inflater
+     * @throws IOException  {@link IOException} if the body is truncated
+     */
+    void finish() throws IOException {
+        try {
+            if (this.inflater == null || !this.inflater.finished()) {
+                throw new IOException("Truncated compressed body");
+            }
+        } finally {
+            end();
+        }
+    }
+
+    void end() {
+        if (this.inflater != null) {
+            this.inflater.end();
+        }
+    }
+
+    long decodedBytes() {
+        return this.decodedBytes;
+    }
+
+    /**
+     * Get length of the gzip header
+     * @return  header length, or -1 if more bytes are needed
+     */
+    static int gzipHeaderLength(byte[] input) throws IOException {
+        if (input.length < 10) {
+            return -1;
+        }
+        if ((input[0] & 0xFF) != 0x1F || (input[1] & 0xFF) != 0x8B || input[2] != 8) {
+            throw new IOException("Not a gzip body");
+        }
+        int flags = input[3] & 0xFF;
+        int pos = 10;
+        if ((flags & FEXTRA) != 0) {
+            if (input.length < pos + 2) {
+                return -1;
+            }
+            pos += 2 + ((input[pos] & 0xFF) | (input[pos + 1] & 0xFF) << 8);
+        }
+        for (int flag : new int[] { FNAME, FCOMMENT }) {
+            if ((flags & flag) != 0) {
+                while (pos < input.length && input[pos] != 0) {
+                    pos++;
+                }
+                if (pos >= input.length) {
+                    return -1;
+                }
+                pos++;
+            }
+        }
+        if ((flags & FHCRC) != 0) {
+            pos += 2;
+        }
+        return pos <= input.length ? pos : -1;
+    }
+
+    /**
+     * Get length of the zlib header to hand to the inflater
+     * @return  2 for zlib-wrapped, 0 for raw deflate, or -1 if more bytes are needed
+     */
+    static int deflateHeaderLength(byte[] input) {
+        if (input.length < 2) {
+            return -1;
+        }
+        int cmf = input[0] & 0xFF;
+        int flg = input[1] & 0xFF;
+        return (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0 ? 2 : 0;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        if (first.length == 0) {
+            return second;
+        }
+        byte[] joined = new byte[first.length + second.length];
+        System.arraycopy(first, 0, joined, 0, first.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    private static byte[] copyFrom(byte[] input, int from) {
+        byte[] rest = new byte[input.length - from];
+        System.arraycopy(input, from, rest, 0, rest.length);
+        return rest;
+    }
+}
@@ -0,0 +1,27 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import java.net.URI;
+
+/**
+ * Transfer statistics of one response body
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param uri   Request URI
+ * @param contentEncoding   Content-Encoding of the response, e.g. gzip, or identity if none
+ * @param wireBytes Number of body bytes received
+ * @param decodedBytes  Number of body bytes after decompression
+ */
+public record TransferStats(
+        URI uri
+        , String contentEncoding
+        , long wireBytes
+        , long decodedBytes
+) {
+    /**
+     * Get the saving of compression
+     * @return  percentage of decoded bytes not sent on the wire, or 0 if nothing decoded
+     */
+    public double savingPercent() {
+        return this.decodedBytes > 0 ? (1.0 - (double) this.wireBytes / this.decodedBytes) * 100.0 : 0.0;
+    }
+}
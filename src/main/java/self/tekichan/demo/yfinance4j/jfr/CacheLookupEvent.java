@@ -0,0 +1,27 @@
+package self.tekichan.demo.yfinance4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of resolving a response against the conditional cache
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@Name("self.tekichan.demo.yfinance4j.CacheLookup")
+@Label("Cache Lookup")
+@Description("Resolution of a conditional response to a cached or newly parsed model")
+@Category({"YFinance4J", "Cache"})
+@StackTrace(false)
+public final class CacheLookupEvent extends Event {
+    @Label("URL")
+    public String url;
+
+    @Label("Result")
+    @Description("NOT_MODIFIED, UNCHANGED or PARSED")
+    public String result;
+}
@@ -0,0 +1,46 @@
+package self.tekichan.demo.yfinance4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of an HTTP exchange, lasting from sending the request until the model is parsed
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@Name("self.tekichan.demo.yfinance4j.HttpExchange")
+@Label("HTTP Exchange")
+@Description("Download of a Yahoo! Finance page, including parsing")
+@Category({"YFinance4J", "HTTP"})
+@StackTrace(false)
+public final class HttpExchangeEvent extends Event {
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Symbol")
+    @Description("Stock or index symbol in the URL path, e.g. TSCO.L or ^FTSE")
+    public String symbol;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Wire Bytes")
+    @DataAmount
+    public long wireBytes;
+
+    @Label("Decoded Bytes")
+    @DataAmount
+    public long decodedBytes;
+
+    @Label("Outcome")
+    @Description("SUCCESS, CANCELLED or the simple name of the exception")
+    public String outcome;
+}
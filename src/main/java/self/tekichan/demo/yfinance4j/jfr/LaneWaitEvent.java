@@ -0,0 +1,35 @@
+package self.tekichan.demo.yfinance4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of a task of a bounded batch starting after waiting for a free lane
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@Name("self.tekichan.demo.yfinance4j.LaneWait")
+@Label("Lane Wait")
+@Description("Time a task of a bounded batch waited for one of the concurrency lanes")
+@Category({"YFinance4J", "Concurrency"})
+@StackTrace(false)
+public final class LaneWaitEvent extends Event {
+    @Label("Index")
+    @Description("Position of the task in the batch")
+    public int index;
+
+    @Label("Batch Size")
+    public int batchSize;
+
+    @Label("Concurrency")
+    public int concurrency;
+
+    @Label("Wait Time")
+    @Timespan
+    public long waitNanos;
+}
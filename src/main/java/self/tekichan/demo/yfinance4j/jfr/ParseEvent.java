@@ -0,0 +1,29 @@
+package self.tekichan.demo.yfinance4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of parsing an HTML or CSV body to a model
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@Name("self.tekichan.demo.yfinance4j.Parse")
+@Label("Parse")
+@Description("Parsing of a downloaded page to a model")
+@Category({"YFinance4J", "Parse"})
+@StackTrace(false)
+public final class ParseEvent extends Event {
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,30 @@
+package self.tekichan.demo.yfinance4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of executing a quote request through the circuit breaker of its endpoint
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+@Name("self.tekichan.demo.yfinance4j.QuoteRequest")
+@Label("Quote Request")
+@Description("Execution of a quote request by a controller")
+@Category({"YFinance4J", "Request"})
+@StackTrace(false)
+public final class QuoteRequestEvent extends Event {
+    @Label("Symbol")
+    public String symbol;
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Outcome")
+    @Description("SUCCESS, FAILURE, PARSE_FAILURE, REJECTED by an open circuit, or RELEASED if cancelled or interrupted")
+    public String outcome;
+}
@@ -0,0 +1,159 @@
+package self.tekichan.demo.yfinance4j.market;
+
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Scheduler choosing which symbols to refresh, by the trading sessions of their exchanges
+ * <p>
+ *     {@link #due(Instant, int)} is called at the cadence of open markets, e.g. every polling round,
+ *     and returns up to a budget of symbols in order of priority:
+ * </p>
+ * <ol>
+ *     <li>symbols never refreshed, and symbols whose market is open or closed less than the settle delay ago;</li>
+ *     <li>symbols whose market has closed since their last refresh, for one final refresh after the close;</li>
+ *     <li>symbols whose market is closed, once per closed interval.</li>
+ * </ol>
+ * <p>
+ *     Within a priority the symbol refreshed longest ago comes first. The session of a symbol is guessed from its
+ *     suffix until a quote tells its exchange; a symbol of unknown session is treated as on an open market.
+ *     A symbol returned is taken as refreshed at that instant once its quote is observed, so a failed or cancelled
+ *     download leaves it due, e.g. for its final refresh after the close. The scheduler is thread-safe.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class RefreshScheduler {
+    /**
+     * Default interval between refreshes of a closed market
+     */
+    public static final Duration DEFAULT_CLOSED_INTERVAL = Duration.ofMinutes(30);
+    /**
+     * Default time after the close before the final refresh, while late trades and the closing auction settle
+     */
+    public static final Duration DEFAULT_SETTLE_DELAY = Duration.ofMinutes(15);
+
+    private final TradingCalendar calendar;
+    private final Duration closedInterval;
+    private final Duration settleDelay;
+    private final Map<String, SymbolState> stateMap = new LinkedHashMap<>();
+
+    /**
+     * Construct RefreshScheduler with the default closed interval and settle delay
+     * @param calendar  Calendar of trading sessions
+     */
+    public RefreshScheduler(TradingCalendar calendar) {
+        this(calendar, DEFAULT_CLOSED_INTERVAL, DEFAULT_SETTLE_DELAY);
+    }
+
+    /**
+     * Construct RefreshScheduler
+     * @param calendar  Calendar of trading sessions
+     * @param closedInterval    Interval between refreshes of a closed market
+     * @param settleDelay   Time after the close during which a market is still refreshed as open,
+     *                      before its final refresh
+     */
+    public RefreshScheduler(TradingCalendar calendar, Duration closedInterval, Duration settleDelay) {
+        this.calendar = Objects.requireNonNull(calendar, "Trading calendar must exist.");
+        this.closedInterval = Objects.requireNonNull(closedInterval, "Closed interval must exist.");
+        this.settleDelay = Objects.requireNonNull(settleDelay, "Settle delay must exist.");
+        if (closedInterval.isNegative() || settleDelay.isNegative()) {
+            throw new IllegalArgumentException("Closed interval and settle delay must not be negative.");
+        }
+    }
+
+    /**
+     * Track symbols
+     * @param symbols   quote code symbols
+     */
+    public synchronized void track(Collection<String> symbols) {
+        for (String symbol : symbols) {
+            this.stateMap.computeIfAbsent(symbol, s -> new SymbolState(this.calendar.sessionOfSymbol(s)));
+        }
+    }
+
+    /**
+     * Take a symbol as refreshed by its quote, at the instant it was last returned as due,
+     * and learn its exchange from the quote
+     * @param quote Summary quote
+     */
+    public synchronized void observe(SummaryQuote quote) {
+        SymbolState state = this.stateMap.get(quote.symbol());
+        if (state != null) {
+            this.calendar.sessionOf(quote.stockExchange()).ifPresent(session -> state.session = Optional.of(session));
+            if (state.pendingRefresh != null) {
+                state.lastRefresh = state.pendingRefresh;
+                state.pendingRefresh = null;
+            }
+        }
+    }
+
+    /**
+     * Get symbols to refresh now
+     * @param now   Current instant
+     * @param budget    Maximum number of symbols
+     * @return  List of symbols in order of priority, each taken as refreshed at now once its quote is observed
+     */
+    public synchronized List<String> due(Instant now, int budget) {
+        record Candidate(String symbol, SymbolState state, int priority) {
+        }
+        var candidateList = new ArrayList<Candidate>();
+        for (Map.Entry<String, SymbolState> entry : this.stateMap.entrySet()) {
+            int priority = priorityOf(entry.getValue(), now);
+            if (priority >= 0) {
+                candidateList.add(new Candidate(entry.getKey(), entry.getValue(), priority));
+            }
+        }
+        candidateList.sort(Comparator.comparingInt(Candidate::priority)
+                .thenComparing(candidate -> candidate.state().lastRefresh));
+        var dueList = new ArrayList<String>(Math.min(budget, candidateList.size()));
+        for (Candidate candidate : candidateList) {
+            if (dueList.size() >= budget) {
+                break;
+            }
+            candidate.state().pendingRefresh = now;
+            dueList.add(candidate.symbol());
+        }
+        return dueList;
+    }
+
+    /**
+     * Get priority of a symbol
+     * @return  0 for open markets, 1 for a final refresh after close, 2 for closed markets, or -1 if not due
+     */
+    private int priorityOf(SymbolState state, Instant now) {
+        if (state.lastRefresh.equals(Instant.MIN) || state.session.isEmpty()) {
+            return 0;
+        }
+        TradingSession session = state.session.get();
+        Instant lastClose = session.lastClose(now);
+        Instant settled = lastClose.equals(Instant.MIN) ? Instant.MIN : lastClose.plus(this.settleDelay);
+        if (session.isOpen(now) || now.isBefore(settled)) {
+            return 0;
+        }
+        if (state.lastRefresh.isBefore(settled)) {
+            return 1;
+        }
+        return Duration.between(state.lastRefresh, now).compareTo(this.closedInterval) >= 0 ? 2 : -1;
+    }
+
+    private static final class SymbolState {
+        Optional<TradingSession> session;
+        Instant lastRefresh = Instant.MIN;
+        Instant pendingRefresh;
+
+        SymbolState(Optional<TradingSession> session) {
+            this.session = session;
+        }
+    }
+}
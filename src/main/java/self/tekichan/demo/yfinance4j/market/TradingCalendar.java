@@ -0,0 +1,132 @@
+package self.tekichan.demo.yfinance4j.market;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Trading sessions of stock exchanges
+ * <p>
+ *     Sessions are looked up by the stock exchange of a SummaryQuote, or guessed from the suffix of a symbol
+ *     before any quote of it has been seen, e.g. TSCO.L trades on LSE and a symbol without suffix in New York.
+ * </p>
+ * <p>
+ *     The default calendar knows the regular hours of major exchanges but only the holidays common to all of them;
+ *     add the holidays of the year with {@link #withHolidays(String, Collection)}.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class TradingCalendar {
+    static final String NO_SUFFIX = "";
+
+    private final Map<String, TradingSession> sessionMap;
+    private final Map<String, String> suffixMap;
+
+    private TradingCalendar(Map<String, TradingSession> sessionMap, Map<String, String> suffixMap) {
+        this.sessionMap = Map.copyOf(sessionMap);
+        this.suffixMap = Map.copyOf(suffixMap);
+    }
+
+    /**
+     * Get calendar without any session, in which every market is treated as open
+     * @return  TradingCalendar
+     */
+    public static TradingCalendar empty() {
+        return new TradingCalendar(Map.of(), Map.of());
+    }
+
+    /**
+     * Get calendar of regular hours of major exchanges
+     * @return  TradingCalendar
+     */
+    public static TradingCalendar defaults() {
+        TradingCalendar calendar = empty();
+        for (String us : List.of("NYSE", "NasdaqGS", "NasdaqGM", "NasdaqCM", "NYSEArca", "NYSEAmerican")) {
+            calendar = calendar.with(TradingSession.of(us, "America/New_York", "09:30", "16:00"));
+        }
+        return calendar
+                .with(TradingSession.of("LSE", "Europe/London", "08:00", "16:30"))
+                .with(TradingSession.of("XETRA", "Europe/Berlin", "09:00", "17:30"))
+                .with(TradingSession.of("Frankfurt", "Europe/Berlin", "08:00", "22:00"))
+                .with(TradingSession.of("Paris", "Europe/Paris", "09:00", "17:30"))
+                .with(TradingSession.of("HKSE", "Asia/Hong_Kong", "09:30", "16:00"))
+                .with(TradingSession.of("Tokyo", "Asia/Tokyo", "09:00", "15:00"))
+                .with(TradingSession.of("ASX", "Australia/Sydney", "10:00", "16:00"))
+                .with(TradingSession.of("Toronto", "America/Toronto", "09:30", "16:00"))
+                .withSuffix(NO_SUFFIX, "NYSE")
+                .withSuffix("L", "LSE")
+                .withSuffix("DE", "XETRA")
+                .withSuffix("F", "Frankfurt")
+                .withSuffix("PA", "Paris")
+                .withSuffix("HK", "HKSE")
+                .withSuffix("T", "Tokyo")
+                .withSuffix("AX", "ASX")
+                .withSuffix("TO", "Toronto");
+    }
+
+    /**
+     * Get a copy of this calendar with a session added or replaced
+     * @param session   TradingSession
+     * @return  TradingCalendar
+     */
+    public TradingCalendar with(TradingSession session) {
+        Objects.requireNonNull(session, "Trading session must exist.");
+        var newSessionMap = new HashMap<>(this.sessionMap);
+        newSessionMap.put(session.exchange(), session);
+        return new TradingCalendar(newSessionMap, this.suffixMap);
+    }
+
+    /**
+     * Get a copy of this calendar with holidays added to a session
+     * @param exchange  Stock exchange (abbr)
+     * @param holidays  Holidays
+     * @return  TradingCalendar
+     */
+    public TradingCalendar withHolidays(String exchange, Collection<LocalDate> holidays) {
+        TradingSession session = sessionOf(exchange)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown stock exchange: " + exchange));
+        return with(session.withHolidays(holidays));
+    }
+
+    /**
+     * Get a copy of this calendar mapping a symbol suffix to an exchange
+     * @param suffix    Suffix after the last dot of a symbol, e.g. L for TSCO.L, or empty for no suffix
+     * @param exchange  Stock exchange (abbr)
+     * @return  TradingCalendar
+     */
+    public TradingCalendar withSuffix(String suffix, String exchange) {
+        Objects.requireNonNull(suffix, "Suffix must exist.");
+        Objects.requireNonNull(exchange, "Stock exchange must exist.");
+        var newSuffixMap = new HashMap<>(this.suffixMap);
+        newSuffixMap.put(suffix.toUpperCase(), exchange);
+        return new TradingCalendar(this.sessionMap, newSuffixMap);
+    }
+
+    /**
+     * Get session of an exchange
+     * @param exchange  Stock exchange (abbr) as in SummaryQuote
+     * @return  Optional of TradingSession, or Optional.empty() if unknown
+     */
+    public Optional<TradingSession> sessionOf(String exchange) {
+        return Optional.ofNullable(exchange).map(this.sessionMap::get);
+    }
+
+    /**
+     * Guess session of a symbol from its suffix
+     * @param symbol    quote code symbol
+     * @return  Optional of TradingSession, or Optional.empty() if unknown, e.g. for an index like ^FTSE
+     */
+    public Optional<TradingSession> sessionOfSymbol(String symbol) {
+        if (symbol == null || symbol.startsWith("^")) {
+            return Optional.empty();
+        }
+        int dot = symbol.lastIndexOf('.');
+        String suffix = dot < 0 ? NO_SUFFIX : symbol.substring(dot + 1).toUpperCase();
+        return Optional.ofNullable(this.suffixMap.get(suffix)).flatMap(this::sessionOf);
+    }
+}
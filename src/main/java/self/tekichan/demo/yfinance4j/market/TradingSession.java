@@ -0,0 +1,126 @@
+package self.tekichan.demo.yfinance4j.market;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Regular trading session of a stock exchange
+ * <p>
+ *     The exchange trades from the opening to the closing time in its own time zone, Monday to Friday,
+ *     except on holidays. New Year's Day and Christmas Day are always closed; other holidays differ by exchange
+ *     and year and are given by {@link #withHolidays(Collection)}. Lunch breaks are ignored.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ * @param exchange  Stock exchange (abbr) as in SummaryQuote, e.g. LSE
+ * @param zone  Time zone of the exchange
+ * @param openTime  Opening time, local to the exchange
+ * @param closeTime Closing time, local to the exchange
+ * @param holidays  Holidays on which the exchange is closed
+ */
+public record TradingSession(
+        String exchange
+        , ZoneId zone
+        , LocalTime openTime
+        , LocalTime closeTime
+        , Set<LocalDate> holidays
+) {
+    static final Set<MonthDay> FIXED_HOLIDAYS = Set.of(MonthDay.of(1, 1), MonthDay.of(12, 25));
+    /**
+     * Number of days searched back for the last close, covering weekends and holiday runs
+     */
+    static final int MAX_CLOSED_DAYS = 14;
+
+    /**
+     * Constructor of TradingSession
+     * @param exchange  Stock exchange (abbr) as in SummaryQuote, e.g. LSE
+     * @param zone  Time zone of the exchange
+     * @param openTime  Opening time, local to the exchange
+     * @param closeTime Closing time, local to the exchange
+     * @param holidays  Holidays on which the exchange is closed
+     */
+    public TradingSession {
+        Objects.requireNonNull(exchange, "Stock exchange must exist.");
+        Objects.requireNonNull(zone, "Time zone must exist.");
+        Objects.requireNonNull(openTime, "Opening time must exist.");
+        Objects.requireNonNull(closeTime, "Closing time must exist.");
+        if (!openTime.isBefore(closeTime)) {
+            throw new IllegalArgumentException("Opening time %1$s is not before closing time %2$s".formatted(openTime, closeTime));
+        }
+        holidays = Set.copyOf(holidays);
+    }
+
+    /**
+     * Get session without holidays other than New Year's Day and Christmas Day
+     * @param exchange  Stock exchange (abbr)
+     * @param zoneId    Time zone ID, e.g. Europe/London
+     * @param openTime  Opening time, e.g. 08:00
+     * @param closeTime Closing time, e.g. 16:30
+     * @return  TradingSession
+     */
+    public static TradingSession of(String exchange, String zoneId, String openTime, String closeTime) {
+        return new TradingSession(exchange, ZoneId.of(zoneId), LocalTime.parse(openTime), LocalTime.parse(closeTime), Set.of());
+    }
+
+    /**
+     * Get a copy of this session with more holidays
+     * @param moreHolidays  Holidays to add
+     * @return  TradingSession
+     */
+    public TradingSession withHolidays(Collection<LocalDate> moreHolidays) {
+        var holidaySet = new HashSet<>(this.holidays);
+        holidaySet.addAll(moreHolidays);
+        return new TradingSession(this.exchange, this.zone, this.openTime, this.closeTime, holidaySet);
+    }
+
+    /**
+     * Whether the exchange trades on a date
+     * @param date  Date local to the exchange
+     * @return  true if a trading day
+     */
+    public boolean isTradingDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY
+                && dayOfWeek != DayOfWeek.SUNDAY
+                && !FIXED_HOLIDAYS.contains(MonthDay.from(date))
+                && !this.holidays.contains(date);
+    }
+
+    /**
+     * Whether the exchange is open at an instant
+     * @param instant   Instant
+     * @return  true if within the session of a trading day
+     */
+    public boolean isOpen(Instant instant) {
+        ZonedDateTime local = instant.atZone(this.zone);
+        LocalTime time = local.toLocalTime();
+        return isTradingDay(local.toLocalDate()) && !time.isBefore(this.openTime) && time.isBefore(this.closeTime);
+    }
+
+    /**
+     * Get the last close at or before an instant
+     * @param instant   Instant
+     * @return  Instant of the last close, or Instant.MIN if none within two weeks
+     */
+    public Instant lastClose(Instant instant) {
+        LocalDate date = instant.atZone(this.zone).toLocalDate();
+        for (int i = 0; i <= MAX_CLOSED_DAYS; i++, date = date.minusDays(1)) {
+            if (isTradingDay(date)) {
+                Instant close = date.atTime(this.closeTime).atZone(this.zone).toInstant();
+                if (!close.isAfter(instant)) {
+                    return close;
+                }
+            }
+        }
+        return Instant.MIN;
+    }
+}
@@ -0,0 +1,436 @@
+package self.tekichan.demo.yfinance4j.metrics;
+
+import self.tekichan.demo.yfinance4j.http.TransferStats;
+import self.tekichan.demo.yfinance4j.jfr.HttpExchangeEvent;
+import self.tekichan.demo.yfinance4j.jfr.ParseEvent;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Metrics of the HTTP exchanges of one endpoint
+ * <p>
+ *     Every exchange records its latency per {@link Phase}, its status code, response size, whether its body
+ *     failed to parse and whether a conditional cache resolved it. Recording is lock-free, so exchanges running
+ *     concurrently on many threads do not contend.
+ * </p>
+ * @see Metrics#endpoint(String)
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class EndpointMetrics implements EndpointMetricsMXBean {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String name;
+    private final Map<Phase, Histogram> latencyMap = new EnumMap<>(Phase.class);
+    private final Histogram responseSize = new Histogram();
+    private final Map<Integer, LongAdder> statusCountMap = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder cancelledCount = new LongAdder();
+    private final LongAdder parseFailureCount = new LongAdder();
+    private final LongAdder cacheHitCount = new LongAdder();
+    private final LongAdder cacheMissCount = new LongAdder();
+    private final LongAdder wireBytes = new LongAdder();
+    private final LongAdder decodedBytes = new LongAdder();
+
+    EndpointMetrics(String name) {
+        this.name = name;
+        for (Phase phase : Phase.values()) {
+            this.latencyMap.put(phase, new Histogram());
+        }
+    }
+
+    /**
+     * Get endpoint name
+     * @return  endpoint name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Start timing an exchange
+     * <p>
+     *     The exchange is also reported to Flight Recorder as {@link HttpExchangeEvent} and {@link ParseEvent}
+     *     while a recording enables them.
+     * </p>
+     * @param metrics   Metrics of the endpoint, or null not to record
+     * @param uri   Request URI
+     * @return  Exchange
+     */
+    public static Exchange start(EndpointMetrics metrics, URI uri) {
+        // a new event is cheap and reports disabled while no recording runs
+        var event = new HttpExchangeEvent();
+        if (metrics == null && !event.isEnabled() && !new ParseEvent().isEnabled()) {
+            return Exchange.NONE;
+        }
+        return new Exchange(metrics, uri, event);
+    }
+
+    /**
+     * Take a snapshot of the metrics
+     * @return  Snapshot
+     */
+    public Snapshot snapshot() {
+        var latencySnapshotMap = new EnumMap<Phase, Histogram.Snapshot>(Phase.class);
+        this.latencyMap.forEach((phase, histogram) -> latencySnapshotMap.put(phase, histogram.snapshot()));
+        return new Snapshot(
+                this.name
+                , this.requestCount.sum()
+                , this.failureCount.sum()
+                , this.cancelledCount.sum()
+                , this.parseFailureCount.sum()
+                , this.cacheHitCount.sum()
+                , this.cacheMissCount.sum()
+                , this.wireBytes.sum()
+                , this.decodedBytes.sum()
+                , Collections.unmodifiableMap(getStatusCounts())
+                , Collections.unmodifiableMap(latencySnapshotMap)
+                , this.responseSize.snapshot()
+        );
+    }
+
+    @Override
+    public long getRequestCount() {
+        return this.requestCount.sum();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return this.failureCount.sum();
+    }
+
+    @Override
+    public long getCancelledCount() {
+        return this.cancelledCount.sum();
+    }
+
+    @Override
+    public long getParseFailureCount() {
+        return this.parseFailureCount.sum();
+    }
+
+    @Override
+    public double getCacheHitRatio() {
+        long hits = this.cacheHitCount.sum();
+        long total = hits + this.cacheMissCount.sum();
+        return total > 0 ? (double) hits / total : 0.0;
+    }
+
+    @Override
+    public long getWireBytes() {
+        return this.wireBytes.sum();
+    }
+
+    @Override
+    public long getDecodedBytes() {
+        return this.decodedBytes.sum();
+    }
+
+    @Override
+    public Map<Integer, Long> getStatusCounts() {
+        var statusMap = new TreeMap<Integer, Long>();
+        this.statusCountMap.forEach((status, count) -> statusMap.put(status, count.sum()));
+        return statusMap;
+    }
+
+    @Override
+    public Map<String, Double> getLatencyMillis() {
+        var millisMap = new LinkedHashMap<String, Double>();
+        this.latencyMap.forEach((phase, histogram) -> {
+            Histogram.Snapshot snapshot = histogram.snapshot();
+            millisMap.put(phase + ".p50", snapshot.percentile(50) / NANOS_PER_MILLI);
+            millisMap.put(phase + ".p99", snapshot.percentile(99) / NANOS_PER_MILLI);
+            millisMap.put(phase + ".max", snapshot.max() / NANOS_PER_MILLI);
+        });
+        return millisMap;
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointMetrics[" + this.name + "]";
+    }
+
+    /**
+     * Timing of one HTTP exchange
+     * <p>
+     *     The exchange starts when created. The wrappers here stamp the arrival of the response headers,
+     *     the completion of the body and the parsing, and the exchange ends with {@link #completed(Object)},
+     *     {@link #failed(Throwable)} or {@link #complete(Object, Throwable)}.
+     * </p>
+     */
+    public static final class Exchange {
+        static final Exchange NONE = new Exchange(null, null, null);
+
+        private final EndpointMetrics metrics;
+        private final URI uri;
+        private final HttpExchangeEvent event;
+        private final long startNanos;
+        private volatile long dispatchNanos;
+        private volatile long headersNanos;
+        private volatile boolean parsed;
+
+        private Exchange(EndpointMetrics metrics, URI uri, HttpExchangeEvent event) {
+            this.metrics = metrics;
+            this.uri = uri;
+            this.event = uri != null && event != null && event.isEnabled() ? event : null;
+            if (this.event != null) {
+                this.event.begin();
+                this.event.endpoint = endpointName();
+                this.event.symbol = symbolOf(uri);
+                this.event.url = uri.toString();
+            }
+            this.startNanos = System.nanoTime();
+            this.dispatchNanos = this.startNanos;
+        }
+
+        /**
+         * Stamp the dispatch of the request, e.g. once a transport queueing requests lets it through
+         * <p>
+         *     The headers latency runs from the dispatch, so time spent queued counts only in the total latency.
+         * </p>
+         */
+        public void dispatched() {
+            if (this != NONE) {
+                this.dispatchNanos = System.nanoTime();
+            }
+        }
+
+        /**
+         * Wrap a body handler to stamp the arrival of the response headers
+         * @param bodyHandler   Body handler
+         * @return  timing body handler
+         * @param <T>   the body type
+         */
+        public <T> HttpResponse.BodyHandler<T> timingHeaders(HttpResponse.BodyHandler<T> bodyHandler) {
+            if (this.metrics == null && this.event == null) {
+                return bodyHandler;
+            }
+            return info -> {
+                long now = System.nanoTime();
+                this.headersNanos = now;
+                if (this.metrics != null) {
+                    this.metrics.latencyMap.get(Phase.HEADERS).record(now - this.dispatchNanos);
+                    this.metrics.statusCountMap.computeIfAbsent(info.statusCode(), status -> new LongAdder()).increment();
+                }
+                if (this.event != null) {
+                    this.event.statusCode = info.statusCode();
+                }
+                return bodyHandler.apply(info);
+            };
+        }
+
+        /**
+         * Wrap a listener of transfer statistics to stamp the completion of the body
+         * @param statsListener Listener of transfer statistics
+         * @return  timing listener
+         */
+        public Consumer<TransferStats> timingBody(Consumer<TransferStats> statsListener) {
+            if (this.metrics == null && this.event == null) {
+                return statsListener;
+            }
+            return stats -> {
+                if (this.metrics != null) {
+                    long headers = this.headersNanos;
+                    if (headers != 0L) {
+                        this.metrics.latencyMap.get(Phase.BODY).record(System.nanoTime() - headers);
+                    }
+                    this.metrics.wireBytes.add(stats.wireBytes());
+                    this.metrics.decodedBytes.add(stats.decodedBytes());
+                    this.metrics.responseSize.record(stats.decodedBytes());
+                }
+                if (this.event != null) {
+                    this.event.wireBytes = stats.wireBytes();
+                    this.event.decodedBytes = stats.decodedBytes();
+                }
+                statsListener.accept(stats);
+            };
+        }
+
+        /**
+         * Wrap a parser to time it and count its failures
+         * <p>
+         *     A body streamed line by line is transferred while it is parsed, so its parse time includes
+         *     part of the body transfer.
+         * </p>
+         * @param parser    Function parsing a body to a model
+         * @return  timing parser
+         * @param <B>   the body type
+         * @param <T>   the model type
+         */
+        public <B, T> Function<B, T> timingParser(Function<B, T> parser) {
+            if (this == NONE) {
+                return parser;
+            }
+            return body -> {
+                this.parsed = true;
+                var parseEvent = new ParseEvent();
+                parseEvent.begin();
+                long start = System.nanoTime();
+                boolean succeeded = false;
+                try {
+                    T model = parser.apply(body);
+                    succeeded = true;
+                    return model;
+                } catch (RuntimeException ex) {
+                    if (this.metrics != null) {
+                        this.metrics.parseFailureCount.increment();
+                    }
+                    throw ex;
+                } finally {
+                    if (this.metrics != null) {
+                        this.metrics.latencyMap.get(Phase.PARSE).record(System.nanoTime() - start);
+                    }
+                    if (parseEvent.shouldCommit()) {
+                        parseEvent.endpoint = endpointName();
+                        parseEvent.url = String.valueOf(this.uri);
+                        parseEvent.succeeded = succeeded;
+                        parseEvent.commit();
+                    }
+                }
+            };
+        }
+
+        /**
+         * Mark the exchange as conditional, counting a cache hit unless the parser ran
+         */
+        public void cacheResolved() {
+            if (this.metrics == null) {
+                return;
+            }
+            (this.parsed ? this.metrics.cacheMissCount : this.metrics.cacheHitCount).increment();
+        }
+
+        /**
+         * End the exchange successfully
+         * @param value Model of the exchange
+         * @return  the same model
+         * @param <T>   the model type
+         */
+        public <T> T completed(T value) {
+            complete(value, null);
+            return value;
+        }
+
+        /**
+         * End the exchange with an exception
+         * @param ex    Exception of the exchange
+         * @return  the same exception, for rethrowing
+         * @param <E>   the exception type
+         */
+        public <E extends Throwable> E failed(E ex) {
+            complete(null, ex);
+            return ex;
+        }
+
+        /**
+         * End the exchange, e.g. from {@link java.util.concurrent.CompletableFuture#whenComplete}
+         * @param value Model of the exchange, ignored
+         * @param ex    Exception of the exchange, or null if successful
+         */
+        public void complete(Object value, Throwable ex) {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (this.metrics != null) {
+                this.metrics.latencyMap.get(Phase.TOTAL).record(System.nanoTime() - this.startNanos);
+                this.metrics.requestCount.increment();
+                if (cause instanceof CancellationException) {
+                    this.metrics.cancelledCount.increment();
+                } else if (cause != null) {
+                    this.metrics.failureCount.increment();
+                }
+            }
+            if (this.event != null && this.event.shouldCommit()) {
+                this.event.outcome = cause == null ? "SUCCESS"
+                        : cause instanceof CancellationException ? "CANCELLED"
+                        : cause.getClass().getSimpleName();
+                this.event.commit();
+            }
+        }
+
+        private String endpointName() {
+            return this.metrics != null ? this.metrics.getName() : null;
+        }
+    }
+
+    /**
+     * Get symbol in the path of a Yahoo! Finance URL
+     * <p>
+     *     e.g. TSCO.L of /quote/TSCO.L/key-statistics or /v7/finance/download/TSCO.L, and ^FTSE of /quote/%5EFTSE
+     * </p>
+     * @param uri   URI of the request
+     * @return  symbol, or null if the path has none
+     */
+    static String symbolOf(URI uri) {
+        String path = uri.getPath();
+        if (path == null) {
+            return null;
+        }
+        String[] segments = path.split("/");
+        for (int i = 0; i + 1 < segments.length; i++) {
+            if (segments[i].equals("quote") || segments[i].equals("download")) {
+                return segments[i + 1].isEmpty() ? null : segments[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Snapshot of the metrics of an endpoint
+     * @param name  Endpoint name
+     * @param requestCount  Number of completed exchanges
+     * @param failureCount  Number of exchanges completed with an exception, including parse failures
+     * @param cancelledCount    Number of exchanges cancelled
+     * @param parseFailureCount Number of bodies the parser failed on
+     * @param cacheHitCount Number of conditional exchanges resolved from the cache
+     * @param cacheMissCount    Number of conditional exchanges parsed
+     * @param wireBytes Bytes received on the wire
+     * @param decodedBytes  Bytes of bodies after decoding
+     * @param statusCountMap    Map of status code to number of responses
+     * @param latencyMap    Map of phase to latency in nanoseconds
+     * @param responseSize  Decoded body size in bytes
+     */
+    public record Snapshot(
+            String name
+            , long requestCount
+            , long failureCount
+            , long cancelledCount
+            , long parseFailureCount
+            , long cacheHitCount
+            , long cacheMissCount
+            , long wireBytes
+            , long decodedBytes
+            , Map<Integer, Long> statusCountMap
+            , Map<Phase, Histogram.Snapshot> latencyMap
+            , Histogram.Snapshot responseSize
+    ) {
+        /**
+         * Get latency of a phase
+         * @param phase Phase of exchange
+         * @return  Snapshot of latency in nanoseconds
+         */
+        public Histogram.Snapshot latency(Phase phase) {
+            return this.latencyMap.get(phase);
+        }
+
+        /**
+         * Get ratio of conditional exchanges resolved from the cache
+         * @return  ratio between 0 and 1, or 0 if no conditional exchange
+         */
+        public double cacheHitRatio() {
+            long total = this.cacheHitCount + this.cacheMissCount;
+            return total > 0 ? (double) this.cacheHitCount / total : 0.0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package self.tekichan.demo.yfinance4j.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of the metrics of an endpoint, registered with the platform MBean server
+ * @see Metrics#endpoint(String)
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public interface EndpointMetricsMXBean {
+    /**
+     * Get number of completed exchanges
+     * @return  number of exchanges
+     */
+    long getRequestCount();
+
+    /**
+     * Get number of exchanges completed with an exception, including parse failures
+     * @return  number of exchanges
+     */
+    long getFailureCount();
+
+    /**
+     * Get number of exchanges cancelled before completion
+     * @return  number of exchanges
+     */
+    long getCancelledCount();
+
+    /**
+     * Get number of bodies the parser failed on
+     * @return  number of bodies
+     */
+    long getParseFailureCount();
+
+    /**
+     * Get ratio of conditional exchanges resolved from the cache without parsing
+     * @return  ratio between 0 and 1, or 0 if no conditional exchange
+     */
+    double getCacheHitRatio();
+
+    /**
+     * Get bytes received on the wire
+     * @return  number of bytes
+     */
+    long getWireBytes();
+
+    /**
+     * Get bytes of bodies after decoding
+     * @return  number of bytes
+     */
+    long getDecodedBytes();
+
+    /**
+     * Get number of responses by status code
+     * @return  Map of status code to number of responses
+     */
+    Map<Integer, Long> getStatusCounts();
+
+    /**
+     * Get p50, p99 and maximum latency of each phase
+     * @return  Map of keys like "HEADERS.p99" to latency in milliseconds
+     */
+    Map<String, Double> getLatencyMillis();
+}
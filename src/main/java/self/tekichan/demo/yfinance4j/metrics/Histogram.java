@@ -0,0 +1,134 @@
+package self.tekichan.demo.yfinance4j.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative long values, e.g. latencies in nanoseconds or sizes in bytes
+ * <p>
+ *     Values fall into log-linear buckets: every power of two is split into 4 buckets, so a bucket is at most
+ *     25% wide relative to its lower bound. Recording a value is one atomic increment of its bucket plus two
+ *     striped adders, with no lock and no allocation.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class Histogram {
+    static final int SUB_BUCKET_BITS = 2;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Record a value
+     * @param value Value; a negative value is recorded as 0
+     */
+    public void record(long value) {
+        long v = Math.max(0L, value);
+        this.bucketCounts.incrementAndGet(bucketOf(v));
+        this.count.increment();
+        this.sum.add(v);
+        this.max.accumulate(v);
+    }
+
+    /**
+     * Take a snapshot of the recorded values
+     * <p>
+     *     Values recorded while the snapshot is taken may be partly included.
+     * </p>
+     * @return  Snapshot
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.bucketCounts.get(i);
+        }
+        return new Snapshot(this.count.sum(), this.sum.sum(), this.max.get(), counts);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Snapshot of a histogram
+     * @param count Number of values
+     * @param sum   Sum of values
+     * @param max   Largest value, or 0 if none
+     * @param bucketCounts  Number of values per bucket
+     */
+    public record Snapshot(
+            long count
+            , long sum
+            , long max
+            , long[] bucketCounts
+    ) {
+        /**
+         * Get mean of values
+         * @return  mean, or 0 if none
+         */
+        public double mean() {
+            return this.count > 0 ? (double) this.sum / this.count : 0.0;
+        }
+
+        /**
+         * Merge with another snapshot, e.g. of another period
+         * @param other Snapshot
+         * @return  Snapshot of the values of both
+         */
+        public Snapshot merge(Snapshot other) {
+            long[] counts = this.bucketCounts.clone();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.bucketCounts[i];
+            }
+            return new Snapshot(this.count + other.count, this.sum + other.sum, Math.max(this.max, other.max), counts);
+        }
+
+        /**
+         * Get a percentile of values
+         * @param percentile    Percentile between 0 and 100, e.g. 99 for p99
+         * @return  upper bound of the bucket holding the percentile, never above the largest value; 0 if none
+         */
+        public long percentile(double percentile) {
+            if (!(percentile >= 0.0 && percentile <= 100.0)) {
+                throw new IllegalArgumentException("Percentile must be within [0, 100]: " + percentile);
+            }
+            long total = 0L;
+            for (long bucketCount : this.bucketCounts) {
+                total += bucketCount;
+            }
+            if (total == 0L) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+            long seen = 0L;
+            for (int i = 0; i < this.bucketCounts.length; i++) {
+                seen += this.bucketCounts[i];
+                if (seen >= rank) {
+                    long upperBound = i + 1 < BUCKET_COUNT ? lowerBoundOf(i + 1) - 1 : Long.MAX_VALUE;
+                    return Math.min(upperBound, this.max);
+                }
+            }
+            return this.max;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package self.tekichan.demo.yfinance4j.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of endpoint metrics
+ * <p>
+ *     Metrics of an endpoint are created on first use and registered with the platform MBean server as
+ *     {@code self.tekichan.demo.yfinance4j:type=EndpointMetrics,name=<endpoint>}, so JConsole or any JMX client
+ *     can watch them. {@link #snapshot()} gives the same figures to code.
+ * </p>
+ * <pre>{@code
+ * Metrics.snapshot().forEach((name, snapshot) -> System.out.printf("%s p99 %d ns%n"
+ *         , name, snapshot.latency(Phase.TOTAL).percentile(99)));
+ * }</pre>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class Metrics {
+    /**
+     * JMX domain of the registered MBeans
+     */
+    public static final String JMX_DOMAIN = "self.tekichan.demo.yfinance4j";
+
+    private static final Map<String, EndpointMetrics> METRICS_MAP = new ConcurrentHashMap<>();
+
+    private Metrics() {
+        // restrict instantiation
+    }
+
+    /**
+     * Get the metrics of an endpoint, creating and registering them on first use
+     * @param name  Endpoint name
+     * @return  EndpointMetrics
+     */
+    public static EndpointMetrics endpoint(String name) {
+        Objects.requireNonNull(name, "Endpoint name must exist.");
+        EndpointMetrics metrics = METRICS_MAP.get(name);
+        if (metrics != null) {
+            return metrics;
+        }
+        return METRICS_MAP.computeIfAbsent(name, key -> {
+            var created = new EndpointMetrics(key);
+            register(created);
+            return created;
+        });
+    }
+
+    /**
+     * Take a snapshot of the metrics of all endpoints used so far
+     * @return  Map of endpoint name to snapshot, sorted by name
+     */
+    public static Map<String, EndpointMetrics.Snapshot> snapshot() {
+        var snapshotMap = new TreeMap<String, EndpointMetrics.Snapshot>();
+        METRICS_MAP.forEach((name, metrics) -> snapshotMap.put(name, metrics.snapshot()));
+        return snapshotMap;
+    }
+
+    private static void register(EndpointMetrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=EndpointMetrics,name="
+                    + ObjectName.quote(metrics.getName()));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(metrics, objectName);
+            }
+        } catch (JMException | SecurityException ex) {
+            // metrics still work without JMX
+        }
+    }
+}
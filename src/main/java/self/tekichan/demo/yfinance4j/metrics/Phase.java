@@ -0,0 +1,29 @@
+package self.tekichan.demo.yfinance4j.metrics;
+
+/**
+ * Enum for phases of an HTTP exchange
+ * <p>
+ *     {@link java.net.http.HttpClient} does not report DNS lookup and connection separately,
+ *     so they are part of the time to response headers.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public enum Phase {
+    /**
+     * From sending the request until the response headers arrive, including DNS lookup and connection
+     */
+    HEADERS,
+    /**
+     * From the response headers until the body completes
+     */
+    BODY,
+    /**
+     * Parsing the body into a model
+     */
+    PARSE,
+    /**
+     * The whole exchange including parsing
+     */
+    TOTAL
+}
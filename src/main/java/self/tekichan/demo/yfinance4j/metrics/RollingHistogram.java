@@ -0,0 +1,86 @@
+package self.tekichan.demo.yfinance4j.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Histogram of the values recorded within a sliding time window
+ * <p>
+ *     The window is split into slots of equal length, each a {@link Histogram}. A slot older than the window is
+ *     replaced by an empty one when it is next recorded into, and a snapshot merges the slots still within the
+ *     window. Values therefore age out in steps of one slot.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class RollingHistogram {
+    static final int DEFAULT_SLOTS = 6;
+
+    private final long slotNanos;
+    private final AtomicReferenceArray<Slot> slotArray;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Construct RollingHistogram split into the default number of slots
+     * @param window    Length of the window
+     */
+    public RollingHistogram(Duration window) {
+        this(window, DEFAULT_SLOTS, System::nanoTime);
+    }
+
+    RollingHistogram(Duration window, int slots, LongSupplier nanoClock) {
+        if (window.isNegative() || window.isZero() || slots <= 0) {
+            throw new IllegalArgumentException("Window %1$s of %2$d slots".formatted(window, slots));
+        }
+        this.slotNanos = Math.max(1L, window.toNanos() / slots);
+        this.slotArray = new AtomicReferenceArray<>(slots);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Get length of a slot, the step in which values age out of the window
+     * @return  Length of a slot
+     */
+    public Duration slotLength() {
+        return Duration.ofNanos(this.slotNanos);
+    }
+
+    /**
+     * Record a value
+     * @param value Value; a negative value is recorded as 0
+     */
+    public void record(long value) {
+        long epoch = this.nanoClock.getAsLong() / this.slotNanos;
+        int index = (int) Math.floorMod(epoch, (long) this.slotArray.length());
+        Slot slot = this.slotArray.get(index);
+        while (slot == null || slot.epoch() != epoch) {
+            var fresh = new Slot(epoch, new Histogram());
+            if (this.slotArray.compareAndSet(index, slot, fresh)) {
+                slot = fresh;
+            } else {
+                slot = this.slotArray.get(index);
+            }
+        }
+        slot.histogram().record(value);
+    }
+
+    /**
+     * Take a snapshot of the values within the window
+     * @return  Snapshot
+     */
+    public Histogram.Snapshot snapshot() {
+        long epoch = this.nanoClock.getAsLong() / this.slotNanos;
+        var merged = new Histogram.Snapshot(0L, 0L, 0L, new long[Histogram.BUCKET_COUNT]);
+        for (int i = 0; i < this.slotArray.length(); i++) {
+            Slot slot = this.slotArray.get(i);
+            if (slot != null && epoch - slot.epoch() < this.slotArray.length()) {
+                merged = merged.merge(slot.histogram().snapshot());
+            }
+        }
+        return merged;
+    }
+
+    private record Slot(long epoch, Histogram histogram) {
+    }
+}
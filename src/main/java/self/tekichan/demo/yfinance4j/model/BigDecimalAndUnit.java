@@ -17,4 +17,14 @@ public record BigDecimalAndUnit(
         BigDecimal baseValue,
         ScaleUnit scaleUnit
 ) {
+    /**
+     * Return the combined value it represents
+     * <p>
+     *     e.g. 1.35B gives 1350000000
+     * </p>
+     * @return  BigDecimal value of base value times scale unit
+     */
+    public BigDecimal toBigDecimal() {
+        return this.baseValue.multiply(this.scaleUnit.toBigDecimal());
+    }
 }
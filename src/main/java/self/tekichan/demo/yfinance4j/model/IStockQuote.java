@@ -1,5 +1,7 @@
 package self.tekichan.demo.yfinance4j.model;
 
+import java.time.LocalDateTime;
+
 /**
  * A simple interface representing Stock Quote
  * <p>
@@ -14,4 +16,16 @@ public sealed interface IStockQuote permits SummaryQuote, KeyStatistics {
      * @return  description
      */
     String getDescription();
+
+    /**
+     * Get stock symbol
+     * @return  stock symbol
+     */
+    String symbol();
+
+    /**
+     * Get date/time of downloading the quote
+     * @return  download date/time
+     */
+    LocalDateTime downloadDateTime();
 }
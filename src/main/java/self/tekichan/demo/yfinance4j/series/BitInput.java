@@ -0,0 +1,77 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bit-level reader over an InputStream, the counterpart of {@link BitOutput}
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class BitInput {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPos;
+    private int bufferLimit;
+    private long pending;
+    private int pendingBits;
+
+    BitInput(InputStream in) {
+        this.in = in;
+    }
+
+    boolean readBit() throws IOException {
+        return readBits(1) != 0L;
+    }
+
+    /**
+     * Read bits as the lowest bits of a value
+     * @param bits  number of bits from 0 to 64
+     * @return  value holding the bits
+     * @throws IOException  {@link IOException}, or {@link EOFException} at the end of the stream
+     */
+    long readBits(int bits) throws IOException {
+        if (bits > 32) {
+            long high = readBits(bits - 32);
+            return (high << 32) | readBits(32);
+        }
+        while (this.pendingBits < bits) {
+            this.pending = (this.pending << 8) | nextByte();
+            this.pendingBits += 8;
+        }
+        this.pendingBits -= bits;
+        return (this.pending >>> this.pendingBits) & ((1L << bits) - 1);
+    }
+
+    /**
+     * Read an unsigned varint written by {@link BitOutput#writeVarLong(long)}
+     * @return  value
+     * @throws IOException  {@link IOException}
+     */
+    long readVarLong() throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            long group = readBits(8);
+            value |= (group & 0x7FL) << shift;
+            if ((group & 0x80L) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private int nextByte() throws IOException {
+        if (this.bufferPos == this.bufferLimit) {
+            int read = this.in.read(this.buffer, 0, BUFFER_SIZE);
+            if (read <= 0) {
+                throw new EOFException("Unexpected end of encoded series");
+            }
+            this.bufferPos = 0;
+            this.bufferLimit = read;
+        }
+        return this.buffer[this.bufferPos++] & 0xFF;
+    }
+}
@@ -0,0 +1,87 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Bit-level writer over an OutputStream
+ * <p>
+ *     Bits are written most significant first and flushed to the stream in whole bytes through a reusable buffer.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class BitOutput {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPos;
+    private long pending;
+    private int pendingBits;
+
+    BitOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    void writeBit(boolean bit) throws IOException {
+        writeBits(bit ? 1L : 0L, 1);
+    }
+
+    /**
+     * Write the lowest bits of a value
+     * @param value value holding the bits
+     * @param bits  number of bits from 0 to 64
+     * @throws IOException  {@link IOException}
+     */
+    void writeBits(long value, int bits) throws IOException {
+        if (bits > 32) {
+            writeBits(value >>> 32, bits - 32);
+            bits = 32;
+        }
+        if (bits == 0) {
+            return;
+        }
+        this.pending = (this.pending << bits) | (value & ((1L << bits) - 1));
+        this.pendingBits += bits;
+        while (this.pendingBits >= 8) {
+            this.pendingBits -= 8;
+            putByte((int) (this.pending >>> this.pendingBits));
+        }
+    }
+
+    /**
+     * Write an unsigned varint as groups of 7 bits each led by a continuation bit
+     * @param value value treated as unsigned
+     * @throws IOException  {@link IOException}
+     */
+    void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            writeBits(0x80L | (value & 0x7FL), 8);
+            value >>>= 7;
+        }
+        writeBits(value, 8);
+    }
+
+    /**
+     * Pad the last byte with zeros and flush everything to the stream
+     * @throws IOException  {@link IOException}
+     */
+    void flush() throws IOException {
+        if (this.pendingBits > 0) {
+            putByte((int) (this.pending << (8 - this.pendingBits)));
+            this.pendingBits = 0;
+        }
+        this.out.write(this.buffer, 0, this.bufferPos);
+        this.bufferPos = 0;
+        this.out.flush();
+    }
+
+    private void putByte(int b) throws IOException {
+        if (this.bufferPos == BUFFER_SIZE) {
+            this.out.write(this.buffer, 0, BUFFER_SIZE);
+            this.bufferPos = 0;
+        }
+        this.buffer[this.bufferPos++] = (byte) b;
+    }
+}
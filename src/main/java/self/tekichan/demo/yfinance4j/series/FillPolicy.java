@@ -0,0 +1,26 @@
+package self.tekichan.demo.yfinance4j.series;
+
+/**
+ * Enum for filling policy when aligning series onto a shared date axis
+ * <p>
+ *     Series from different exchanges have different trading calendars, so a date on the shared axis
+ *     may be missing from some series. The policy decides what the panel holds for those cells.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public enum FillPolicy {
+    /**
+     * Keep the union of dates. Missing prices are NaN and missing volumes are 0.
+     */
+    NONE,
+    /**
+     * Keep the union of dates. Missing prices repeat the last observed prices of the same series and
+     * missing volumes are 0. Dates before the first observation of a series stay NaN.
+     */
+    FORWARD_FILL,
+    /**
+     * Keep only the dates which exist in every series
+     */
+    DROP
+}
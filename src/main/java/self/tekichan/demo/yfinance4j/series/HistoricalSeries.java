@@ -0,0 +1,215 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Columnar representation of historical quotes of one symbol
+ * <p>
+ *     Trading dates are kept as epoch days and prices as primitive columns, so a series of
+ *     decades of bars costs a few arrays instead of one record and six BigDecimal objects per bar.
+ *     Rows are sorted by trading date in ascending order.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class HistoricalSeries {
+    private final String symbol;
+    private final int[] epochDays;
+    private final double[][] prices;
+    private final long[] volumes;
+
+    /**
+     * Construct HistoricalSeries from columns
+     * <p>
+     *     The arrays are taken as they are without copying. Dates must be in ascending order.
+     * </p>
+     * @param symbol    Quote symbol
+     * @param epochDays Trading dates in epoch days
+     * @param open  Open prices
+     * @param high  Highest prices
+     * @param low   Lowest prices
+     * @param close Close prices
+     * @param adjClose  Adjusted close prices
+     * @param volumes   Volumes
+     */
+    public HistoricalSeries(String symbol, int[] epochDays
+            , double[] open, double[] high, double[] low, double[] close, double[] adjClose
+            , long[] volumes) {
+        Objects.requireNonNull(symbol, "Quote symbol must exist.");
+        int size = epochDays.length;
+        if (open.length != size || high.length != size || low.length != size
+                || close.length != size || adjClose.length != size || volumes.length != size) {
+            throw new IllegalArgumentException("All columns must have the same length: " + size);
+        }
+        for (int i = 1; i < size; i++) {
+            if (epochDays[i - 1] > epochDays[i]) {
+                throw new IllegalArgumentException("Trading dates must be in ascending order at row " + i);
+            }
+        }
+        this.symbol = symbol;
+        this.epochDays = epochDays;
+        this.prices = new double[][] { open, high, low, close, adjClose };
+        this.volumes = volumes;
+    }
+
+    /**
+     * Construct HistoricalSeries from a list of historical quotes
+     * @param symbol    Quote symbol
+     * @param quoteList List of historical quotes in any order
+     * @return  HistoricalSeries sorted by trading date
+     */
+    public static HistoricalSeries fromQuotes(String symbol, List<HistoricalQuote> quoteList) {
+        List<HistoricalQuote> sortedList = isSorted(quoteList)
+                ? quoteList
+                : quoteList.stream().sorted(Comparator.comparing(HistoricalQuote::tradeDate)).toList();
+        int size = sortedList.size();
+        int[] epochDays = new int[size];
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        double[] adjClose = new double[size];
+        long[] volumes = new long[size];
+        for (int i = 0; i < size; i++) {
+            HistoricalQuote quote = sortedList.get(i);
+            epochDays[i] = (int) quote.tradeDate().toEpochDay();
+            open[i] = quote.openPrice().doubleValue();
+            high[i] = quote.highPrice().doubleValue();
+            low[i] = quote.lowPrice().doubleValue();
+            close[i] = quote.closePrice().doubleValue();
+            adjClose[i] = quote.adjustPrice().doubleValue();
+            volumes[i] = quote.volume();
+        }
+        return new HistoricalSeries(symbol, epochDays, open, high, low, close, adjClose, volumes);
+    }
+
+    private static boolean isSorted(List<HistoricalQuote> quoteList) {
+        for (int i = 1; i < quoteList.size(); i++) {
+            if (quoteList.get(i - 1).tradeDate().isAfter(quoteList.get(i).tradeDate())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get quote symbol
+     * @return  quote symbol
+     */
+    public String symbol() {
+        return this.symbol;
+    }
+
+    /**
+     * Get number of rows
+     * @return  number of rows
+     */
+    public int size() {
+        return this.epochDays.length;
+    }
+
+    /**
+     * Get trading date of a row in epoch days
+     * @param row   row index
+     * @return  trading date in epoch days
+     */
+    public int epochDay(int row) {
+        return this.epochDays[row];
+    }
+
+    /**
+     * Get trading date of a row
+     * @param row   row index
+     * @return  trading date
+     */
+    public LocalDate tradeDate(int row) {
+        return LocalDate.ofEpochDay(this.epochDays[row]);
+    }
+
+    /**
+     * Get price of a row
+     * @param field Price field
+     * @param row   row index
+     * @return  price
+     */
+    public double price(PriceField field, int row) {
+        return this.prices[field.ordinal()][row];
+    }
+
+    /**
+     * Get volume of a row
+     * @param row   row index
+     * @return  volume
+     */
+    public long volume(int row) {
+        return this.volumes[row];
+    }
+
+    /**
+     * Get the backing column of trading dates in epoch days
+     * <p>
+     *     The array is shared with this series and must not be modified.
+     * </p>
+     * @return  column of trading dates
+     */
+    public int[] epochDayColumn() {
+        return this.epochDays;
+    }
+
+    /**
+     * Get the backing column of a price field
+     * <p>
+     *     The array is shared with this series and must not be modified.
+     * </p>
+     * @param field Price field
+     * @return  column of prices
+     */
+    public double[] priceColumn(PriceField field) {
+        return this.prices[field.ordinal()];
+    }
+
+    /**
+     * Get the backing column of volumes
+     * <p>
+     *     The array is shared with this series and must not be modified.
+     * </p>
+     * @return  column of volumes
+     */
+    public long[] volumeColumn() {
+        return this.volumes;
+    }
+
+    /**
+     * Find the row of a trading date
+     * @param tradeDate Trading date
+     * @return  row index if found; otherwise (-(insertion point) - 1) as {@link Arrays#binarySearch(int[], int)}
+     */
+    public int indexOf(LocalDate tradeDate) {
+        return Arrays.binarySearch(this.epochDays, (int) tradeDate.toEpochDay());
+    }
+
+    /**
+     * Convert a row back to HistoricalQuote
+     * @param row   row index
+     * @return  HistoricalQuote of the row
+     */
+    public HistoricalQuote toQuote(int row) {
+        return new HistoricalQuote(
+                this.symbol
+                , tradeDate(row)
+                , BigDecimal.valueOf(price(PriceField.OPEN, row))
+                , BigDecimal.valueOf(price(PriceField.HIGH, row))
+                , BigDecimal.valueOf(price(PriceField.LOW, row))
+                , BigDecimal.valueOf(price(PriceField.CLOSE, row))
+                , BigDecimal.valueOf(price(PriceField.ADJ_CLOSE, row))
+                , this.volumes[row]
+        );
+    }
+}
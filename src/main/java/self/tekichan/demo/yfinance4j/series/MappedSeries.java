@@ -0,0 +1,203 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+
+/**
+ * Read-only view of a series file mapped into memory
+ * <p>
+ *     Values are read straight from the mapped file, so opening a series costs no parsing and no copying.
+ *     A slice by date range is another view over the same mapping.
+ *     The mapping is released by the garbage collector once no view refers to it.
+ * </p>
+ * @see SeriesFile
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class MappedSeries {
+    private final String symbol;
+    private final ByteBuffer buffer;
+    private final SeriesFile.Layout layout;
+    private final int fromRow;
+    private final int toRow;
+
+    MappedSeries(String symbol, ByteBuffer buffer, SeriesFile.Layout layout, int fromRow, int toRow) {
+        this.symbol = symbol;
+        this.buffer = buffer;
+        this.layout = layout;
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+    }
+
+    /**
+     * Get quote symbol
+     * @return  quote symbol
+     */
+    public String symbol() {
+        return this.symbol;
+    }
+
+    /**
+     * Get number of rows in this view
+     * @return  number of rows
+     */
+    public int size() {
+        return this.toRow - this.fromRow;
+    }
+
+    /**
+     * Get trading date of a row in epoch days
+     * @param row   row index within this view
+     * @return  trading date in epoch days
+     */
+    public int epochDay(int row) {
+        return this.buffer.getInt(this.layout.dateOffset + Integer.BYTES * fileRow(row));
+    }
+
+    /**
+     * Get trading date of a row
+     * @param row   row index within this view
+     * @return  trading date
+     */
+    public LocalDate tradeDate(int row) {
+        return LocalDate.ofEpochDay(epochDay(row));
+    }
+
+    /**
+     * Get price of a row
+     * @param field Price field
+     * @param row   row index within this view
+     * @return  price
+     */
+    public double price(PriceField field, int row) {
+        return this.buffer.getDouble(this.layout.priceOffset(field) + Double.BYTES * fileRow(row));
+    }
+
+    /**
+     * Get volume of a row
+     * @param row   row index within this view
+     * @return  volume
+     */
+    public long volume(int row) {
+        return this.buffer.getLong(this.layout.volumeOffset + Long.BYTES * fileRow(row));
+    }
+
+    /**
+     * Get the column of trading dates as a buffer over the mapping
+     * @return  read-only IntBuffer of trading dates in epoch days
+     */
+    public IntBuffer epochDayBuffer() {
+        return column(this.layout.dateOffset, Integer.BYTES).asIntBuffer();
+    }
+
+    /**
+     * Get the column of a price field as a buffer over the mapping
+     * @param field Price field
+     * @return  read-only DoubleBuffer of prices
+     */
+    public DoubleBuffer priceBuffer(PriceField field) {
+        return column(this.layout.priceOffset(field), Double.BYTES).asDoubleBuffer();
+    }
+
+    /**
+     * Get the column of volumes as a buffer over the mapping
+     * @return  read-only LongBuffer of volumes
+     */
+    public LongBuffer volumeBuffer() {
+        return column(this.layout.volumeOffset, Long.BYTES).asLongBuffer();
+    }
+
+    /**
+     * Find the row of a trading date
+     * @param tradeDate Trading date
+     * @return  row index within this view if found, any of the rows if the date repeats;
+     *          otherwise (-(insertion point) - 1)
+     */
+    public int indexOf(LocalDate tradeDate) {
+        int key = (int) tradeDate.toEpochDay();
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midDay = epochDay(mid);
+            if (midDay < key) {
+                low = mid + 1;
+            } else if (midDay > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Get a view of the rows within a date range
+     * @param fromDate  Start date, inclusive
+     * @param toDate    End date, inclusive
+     * @return  MappedSeries sharing the mapping of this view
+     */
+    public MappedSeries slice(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("Start date %1$s is after end date %2$s".formatted(fromDate, toDate));
+        }
+        // bounds of the first row on or after each end, so rows repeating a date are all kept
+        int from = lowerBound((int) fromDate.toEpochDay());
+        int to = lowerBound((int) toDate.toEpochDay() + 1);
+        return new MappedSeries(this.symbol, this.buffer, this.layout, this.fromRow + from, this.fromRow + Math.max(from, to));
+    }
+
+    /**
+     * Copy this view into heap columns
+     * @return  HistoricalSeries holding a copy of the rows of this view
+     */
+    public HistoricalSeries toHistoricalSeries() {
+        int size = size();
+        int[] epochDays = new int[size];
+        epochDayBuffer().get(epochDays);
+        double[][] prices = new double[PriceField.values().length][size];
+        for (PriceField field : PriceField.values()) {
+            priceBuffer(field).get(prices[field.ordinal()]);
+        }
+        long[] volumes = new long[size];
+        volumeBuffer().get(volumes);
+        return new HistoricalSeries(this.symbol, epochDays
+                , prices[PriceField.OPEN.ordinal()]
+                , prices[PriceField.HIGH.ordinal()]
+                , prices[PriceField.LOW.ordinal()]
+                , prices[PriceField.CLOSE.ordinal()]
+                , prices[PriceField.ADJ_CLOSE.ordinal()]
+                , volumes
+        );
+    }
+
+    private int fileRow(int row) {
+        if (row < 0 || row >= size()) {
+            throw new IndexOutOfBoundsException("Row %1$d out of bounds for size %2$d".formatted(row, size()));
+        }
+        return this.fromRow + row;
+    }
+
+    private ByteBuffer column(int offset, int width) {
+        return this.buffer.slice(offset + width * this.fromRow, width * size())
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private int lowerBound(int key) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDay(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,32 @@
+package self.tekichan.demo.yfinance4j.series;
+
+/**
+ * Enum for price columns of a historical series
+ * <p>
+ *     Each constant maps to one price of {@link self.tekichan.demo.yfinance4j.model.HistoricalQuote}.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public enum PriceField {
+    /**
+     * Open price
+     */
+    OPEN,
+    /**
+     * Highest price on the day
+     */
+    HIGH,
+    /**
+     * Lowest price on the day
+     */
+    LOW,
+    /**
+     * Close price
+     */
+    CLOSE,
+    /**
+     * Adjusted close price
+     */
+    ADJ_CLOSE
+}
@@ -0,0 +1,185 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Aligner of several date-sorted series onto one shared date axis
+ * <p>
+ *     The shared axis is built by a k-way merge over a binary heap of series cursors, so N series of
+ *     R rows are merged in O(N R log N) without any intermediate map of dates. The values are then
+ *     copied column by column into a {@link SeriesPanel}.
+ * </p>
+ * <p>
+ *     When a series has duplicated dates, the last row of the date wins.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class SeriesAligner {
+    private static final int FIELD_COUNT = PriceField.values().length;
+
+    private SeriesAligner() {
+        // restrict instantiation
+    }
+
+    /**
+     * Align lists of historical quotes by symbol
+     * @param quoteMap  Map of symbol to list of historical quotes
+     * @param fillPolicy    Fill policy for missing dates
+     * @return  Panel of aligned series in the iteration order of the map
+     */
+    public static SeriesPanel alignQuotes(Map<String, List<HistoricalQuote>> quoteMap, FillPolicy fillPolicy) {
+        Objects.requireNonNull(quoteMap, "Map of quotes must exist for alignment.");
+        List<HistoricalSeries> seriesList = new ArrayList<>(quoteMap.size());
+        quoteMap.forEach((symbol, quoteList) -> seriesList.add(HistoricalSeries.fromQuotes(symbol, quoteList)));
+        return align(seriesList, fillPolicy);
+    }
+
+    /**
+     * Align historical series
+     * @param seriesList    List of historical series
+     * @param fillPolicy    Fill policy for missing dates
+     * @return  Panel of aligned series in the order of the list
+     */
+    public static SeriesPanel align(List<HistoricalSeries> seriesList, FillPolicy fillPolicy) {
+        Objects.requireNonNull(seriesList, "List of series must exist for alignment.");
+        Objects.requireNonNull(fillPolicy, "Fill policy must exist for alignment.");
+        int[] axis = mergeDates(seriesList, fillPolicy == FillPolicy.DROP);
+        int width = seriesList.size();
+        double[][][] prices = new double[width][][];
+        long[][] volumes = new long[width][];
+        List<String> symbols = new ArrayList<>(width);
+        for (int s = 0; s < width; s++) {
+            HistoricalSeries series = seriesList.get(s);
+            symbols.add(series.symbol());
+            prices[s] = new double[FIELD_COUNT][axis.length];
+            volumes[s] = new long[axis.length];
+            fillColumns(series, axis, fillPolicy, prices[s], volumes[s]);
+        }
+        return new SeriesPanel(symbols, axis, prices, volumes, fillPolicy);
+    }
+
+    /**
+     * Merge dates of all series by a k-way heap merge
+     * @param seriesList    List of historical series
+     * @param intersect true to keep only dates existing in every series
+     * @return  sorted distinct dates in epoch days
+     */
+    static int[] mergeDates(List<HistoricalSeries> seriesList, boolean intersect) {
+        int width = seriesList.size();
+        int[][] dateColumns = new int[width][];
+        int[] cursors = new int[width];
+        int[] heap = new int[width];
+        int heapSize = 0;
+        int capacity = 16;
+        for (int s = 0; s < width; s++) {
+            dateColumns[s] = seriesList.get(s).epochDayColumn();
+            capacity = Math.max(capacity, dateColumns[s].length);
+            if (dateColumns[s].length > 0) {
+                heap[heapSize++] = s;
+            }
+        }
+        if (intersect && heapSize < width) {
+            return new int[0];  // an empty series leaves nothing in common
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i, dateColumns, cursors);
+        }
+
+        int[] axis = new int[capacity];
+        int axisSize = 0;
+        while (heapSize > 0) {
+            int date = dateColumns[heap[0]][cursors[heap[0]]];
+            int hits = 0;
+            while (heapSize > 0 && dateColumns[heap[0]][cursors[heap[0]]] == date) {
+                int s = heap[0];
+                int[] dates = dateColumns[s];
+                int cursor = cursors[s];
+                while (cursor < dates.length && dates[cursor] == date) {
+                    cursor++;
+                }
+                cursors[s] = cursor;
+                hits++;
+                if (cursor == dates.length) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, dateColumns, cursors);
+            }
+            if (!intersect || hits == width) {
+                if (axisSize == axis.length) {
+                    axis = Arrays.copyOf(axis, axisSize * 2);
+                }
+                axis[axisSize++] = date;
+            }
+        }
+        return Arrays.copyOf(axis, axisSize);
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int pos, int[][] dateColumns, int[] cursors) {
+        int item = heap[pos];
+        int key = heapSize > pos ? dateColumns[item][cursors[item]] : 0;
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            int childKey = dateColumns[heap[child]][cursors[heap[child]]];
+            int right = child + 1;
+            if (right < heapSize) {
+                int rightKey = dateColumns[heap[right]][cursors[heap[right]]];
+                if (rightKey < childKey) {
+                    child = right;
+                    childKey = rightKey;
+                }
+            }
+            if (key <= childKey) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = item;
+    }
+
+    private static void fillColumns(HistoricalSeries series, int[] axis, FillPolicy fillPolicy
+            , double[][] targetPrices, long[] targetVolumes) {
+        int[] dates = series.epochDayColumn();
+        double[][] sourcePrices = new double[FIELD_COUNT][];
+        for (PriceField field : PriceField.values()) {
+            sourcePrices[field.ordinal()] = series.priceColumn(field);
+        }
+        long[] sourceVolumes = series.volumeColumn();
+        boolean forwardFill = fillPolicy == FillPolicy.FORWARD_FILL;
+        int cursor = 0;
+        int lastObserved = -1;
+        for (int row = 0; row < axis.length; row++) {
+            int date = axis[row];
+            while (cursor < dates.length && dates[cursor] < date) {
+                cursor++;
+            }
+            int matched = -1;
+            while (cursor < dates.length && dates[cursor] == date) {
+                matched = cursor++;
+            }
+            if (matched >= 0) {
+                for (int f = 0; f < FIELD_COUNT; f++) {
+                    targetPrices[f][row] = sourcePrices[f][matched];
+                }
+                targetVolumes[row] = sourceVolumes[matched];
+                lastObserved = matched;
+            } else {
+                int source = forwardFill ? lastObserved : -1;
+                for (int f = 0; f < FIELD_COUNT; f++) {
+                    targetPrices[f][row] = source >= 0 ? sourcePrices[f][source] : Double.NaN;
+                }
+                targetVolumes[row] = 0L;
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Streaming decoder of a series written by {@link SeriesEncoder}
+ * <p>
+ *     The decoder is a forward cursor: {@link #next()} decodes one row into primitive fields,
+ *     so a long series can be scanned without inflating it or allocating per row.
+ * </p>
+ * <pre>{@code
+ * var decoder = new SeriesDecoder(in);
+ * while (decoder.next()) {
+ *     sum += decoder.price(PriceField.CLOSE);
+ * }
+ * }</pre>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class SeriesDecoder {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final BitInput in;
+    private final String symbol;
+    private final long[] priceBits = new long[PriceField.values().length];
+    private final int[] leading = new int[PriceField.values().length];
+    private final int[] trailing = new int[PriceField.values().length];
+    private int rowCount;
+    private int epochDay;
+    private int delta;
+    private long volume;
+    private boolean finished;
+
+    /**
+     * Construct SeriesDecoder and read the header
+     * @param in    InputStream to read from
+     * @throws IOException  {@link IOException} if the stream is not an encoded series
+     */
+    public SeriesDecoder(InputStream in) throws IOException {
+        Objects.requireNonNull(in, "InputStream must exist for decoding.");
+        this.in = new BitInput(in);
+        byte[] magic = readBytes(SeriesEncoder.MAGIC.length);
+        if (!Arrays.equals(SeriesEncoder.MAGIC, magic)) {
+            throw new IOException("Not an encoded series");
+        }
+        long symbolLength = this.in.readVarLong();
+        if (symbolLength < 0 || symbolLength > Short.MAX_VALUE) {
+            throw new IOException("Corrupted encoded series header");
+        }
+        this.symbol = new String(readBytes((int) symbolLength), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode a whole stream into a series
+     * @param in    InputStream to read from
+     * @return  HistoricalSeries
+     * @throws IOException  {@link IOException}
+     */
+    public static HistoricalSeries decode(InputStream in) throws IOException {
+        return new SeriesDecoder(in).readAll();
+    }
+
+    /**
+     * Get quote symbol
+     * @return  quote symbol
+     */
+    public String symbol() {
+        return this.symbol;
+    }
+
+    /**
+     * Decode the next row
+     * @return  true if a row is decoded; false at the end of the series
+     * @throws IOException  {@link IOException}
+     */
+    public boolean next() throws IOException {
+        if (this.finished) {
+            return false;
+        }
+        if (!this.in.readBit()) {
+            this.finished = true;
+            return false;
+        }
+        readDate();
+        for (int column = 0; column < this.priceBits.length; column++) {
+            readPrice(column);
+        }
+        long zigzag = this.in.readVarLong();
+        this.volume += (zigzag >>> 1) ^ -(zigzag & 1);
+        this.rowCount++;
+        return true;
+    }
+
+    /**
+     * Get number of rows decoded so far
+     * @return  number of rows
+     */
+    public int rowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Get trading date of the current row in epoch days
+     * @return  trading date in epoch days
+     */
+    public int epochDay() {
+        return this.epochDay;
+    }
+
+    /**
+     * Get trading date of the current row
+     * @return  trading date
+     */
+    public LocalDate tradeDate() {
+        return LocalDate.ofEpochDay(this.epochDay);
+    }
+
+    /**
+     * Get price of the current row
+     * @param field Price field
+     * @return  price
+     */
+    public double price(PriceField field) {
+        return Double.longBitsToDouble(this.priceBits[field.ordinal()]);
+    }
+
+    /**
+     * Get volume of the current row
+     * @return  volume
+     */
+    public long volume() {
+        return this.volume;
+    }
+
+    /**
+     * Decode the remaining rows into primitive columns
+     * @return  HistoricalSeries of the remaining rows
+     * @throws IOException  {@link IOException}
+     */
+    public HistoricalSeries readAll() throws IOException {
+        int capacity = INITIAL_CAPACITY;
+        int size = 0;
+        int[] epochDays = new int[capacity];
+        double[][] prices = new double[PriceField.values().length][capacity];
+        long[] volumes = new long[capacity];
+        while (next()) {
+            if (size == capacity) {
+                capacity *= 2;
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                for (int column = 0; column < prices.length; column++) {
+                    prices[column] = Arrays.copyOf(prices[column], capacity);
+                }
+                volumes = Arrays.copyOf(volumes, capacity);
+            }
+            epochDays[size] = this.epochDay;
+            for (int column = 0; column < prices.length; column++) {
+                prices[column][size] = Double.longBitsToDouble(this.priceBits[column]);
+            }
+            volumes[size] = this.volume;
+            size++;
+        }
+        return new HistoricalSeries(this.symbol, Arrays.copyOf(epochDays, size)
+                , Arrays.copyOf(prices[PriceField.OPEN.ordinal()], size)
+                , Arrays.copyOf(prices[PriceField.HIGH.ordinal()], size)
+                , Arrays.copyOf(prices[PriceField.LOW.ordinal()], size)
+                , Arrays.copyOf(prices[PriceField.CLOSE.ordinal()], size)
+                , Arrays.copyOf(prices[PriceField.ADJ_CLOSE.ordinal()], size)
+                , Arrays.copyOf(volumes, size)
+        );
+    }
+
+    private void readDate() throws IOException {
+        if (this.rowCount == 0) {
+            this.epochDay = (int) this.in.readBits(32);
+            return;
+        }
+        long deltaOfDelta;
+        if (!this.in.readBit()) {
+            deltaOfDelta = 0;
+        } else if (!this.in.readBit()) {
+            deltaOfDelta = signed(this.in.readBits(7), 7);
+        } else if (!this.in.readBit()) {
+            deltaOfDelta = signed(this.in.readBits(9), 9);
+        } else if (!this.in.readBit()) {
+            deltaOfDelta = signed(this.in.readBits(12), 12);
+        } else {
+            deltaOfDelta = signed(this.in.readBits(33), 33);
+        }
+        this.delta = (int) (this.delta + deltaOfDelta);
+        this.epochDay += this.delta;
+    }
+
+    private void readPrice(int column) throws IOException {
+        if (this.rowCount == 0) {
+            this.priceBits[column] = this.in.readBits(64);
+            return;
+        }
+        if (!this.in.readBit()) {
+            return;
+        }
+        if (this.in.readBit()) {
+            this.leading[column] = (int) this.in.readBits(5);
+            int significant = (int) this.in.readBits(6) + 1;
+            this.trailing[column] = 64 - this.leading[column] - significant;
+        }
+        int significant = 64 - this.leading[column] - this.trailing[column];
+        this.priceBits[column] ^= this.in.readBits(significant) << this.trailing[column];
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) this.in.readBits(8);
+        }
+        return bytes;
+    }
+
+    private static long signed(long value, int bits) {
+        return (value << (64 - bits)) >> (64 - bits);
+    }
+}
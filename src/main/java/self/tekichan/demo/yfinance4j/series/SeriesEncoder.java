@@ -0,0 +1,190 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Streaming encoder of a compressed historical series
+ * <p>
+ *     Rows are compressed as they are appended, in the style of the Gorilla time series encoding:
+ * </p>
+ * <ul>
+ *     <li>Trading dates by delta-of-delta, so a run of weekdays costs 1 bit per row</li>
+ *     <li>Each price column by XOR with the previous price, keeping only the meaningful bits</li>
+ *     <li>Volumes by zig-zag varint of the delta from the previous volume</li>
+ * </ul>
+ * <p>
+ *     Each row is led by a 1 bit and the stream ends with a 0 bit, so the number of rows need not be known
+ *     in advance. Closing the encoder finishes the stream but does not close the underlying OutputStream.
+ * </p>
+ * @see SeriesDecoder
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class SeriesEncoder implements Closeable {
+    static final byte[] MAGIC = "YF4JGOR1".getBytes(StandardCharsets.US_ASCII);
+
+    private final BitOutput out;
+    private final long[] previousBits = new long[PriceField.values().length];
+    private final int[] previousLeading = new int[PriceField.values().length];
+    private final int[] previousTrailing = new int[PriceField.values().length];
+    private int rowCount;
+    private int previousEpochDay;
+    private int previousDelta;
+    private long previousVolume;
+    private boolean closed;
+
+    /**
+     * Construct SeriesEncoder and write the header
+     * @param out   OutputStream to write to
+     * @param symbol    Quote symbol
+     * @throws IOException  {@link IOException}
+     */
+    public SeriesEncoder(OutputStream out, String symbol) throws IOException {
+        Objects.requireNonNull(out, "OutputStream must exist for encoding.");
+        Objects.requireNonNull(symbol, "Quote symbol must exist.");
+        this.out = new BitOutput(out);
+        byte[] symbolBytes = symbol.getBytes(StandardCharsets.UTF_8);
+        for (byte b : MAGIC) {
+            this.out.writeBits(b, 8);
+        }
+        this.out.writeVarLong(symbolBytes.length);
+        for (byte b : symbolBytes) {
+            this.out.writeBits(b, 8);
+        }
+    }
+
+    /**
+     * Encode a whole series to a stream
+     * @param series    Historical series
+     * @param out   OutputStream to write to
+     * @throws IOException  {@link IOException}
+     */
+    public static void encode(HistoricalSeries series, OutputStream out) throws IOException {
+        try (var encoder = new SeriesEncoder(out, series.symbol())) {
+            for (int row = 0; row < series.size(); row++) {
+                encoder.append(series.epochDay(row)
+                        , series.price(PriceField.OPEN, row)
+                        , series.price(PriceField.HIGH, row)
+                        , series.price(PriceField.LOW, row)
+                        , series.price(PriceField.CLOSE, row)
+                        , series.price(PriceField.ADJ_CLOSE, row)
+                        , series.volume(row)
+                );
+            }
+        }
+    }
+
+    /**
+     * Append a row
+     * @param epochDay  Trading date in epoch days, not before the previous row
+     * @param open  Open price
+     * @param high  Highest price
+     * @param low   Lowest price
+     * @param close Close price
+     * @param adjClose  Adjusted close price
+     * @param volume    Volume
+     * @throws IOException  {@link IOException}
+     */
+    public void append(int epochDay, double open, double high, double low, double close, double adjClose
+            , long volume) throws IOException {
+        if (this.closed) {
+            throw new IllegalStateException("Encoder is closed.");
+        }
+        if (this.rowCount > 0 && epochDay < this.previousEpochDay) {
+            throw new IllegalArgumentException("Trading dates must be in ascending order at row " + this.rowCount);
+        }
+        this.out.writeBit(true);
+        writeDate(epochDay);
+        writePrice(PriceField.OPEN.ordinal(), open);
+        writePrice(PriceField.HIGH.ordinal(), high);
+        writePrice(PriceField.LOW.ordinal(), low);
+        writePrice(PriceField.CLOSE.ordinal(), close);
+        writePrice(PriceField.ADJ_CLOSE.ordinal(), adjClose);
+        long delta = volume - this.previousVolume;
+        this.out.writeVarLong((delta << 1) ^ (delta >> 63));
+        this.previousVolume = volume;
+        this.rowCount++;
+    }
+
+    /**
+     * Get number of rows appended
+     * @return  number of rows
+     */
+    public int rowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Write the end marker and flush
+     * @throws IOException  {@link IOException}
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            this.out.writeBit(false);
+            this.out.flush();
+        }
+    }
+
+    private void writeDate(int epochDay) throws IOException {
+        if (this.rowCount == 0) {
+            this.out.writeBits(epochDay, 32);
+        } else {
+            int delta = epochDay - this.previousEpochDay;
+            long deltaOfDelta = (long) delta - this.previousDelta;
+            if (deltaOfDelta == 0) {
+                this.out.writeBit(false);
+            } else if (deltaOfDelta >= -64 && deltaOfDelta < 64) {
+                this.out.writeBits(0b10, 2);
+                this.out.writeBits(deltaOfDelta, 7);
+            } else if (deltaOfDelta >= -256 && deltaOfDelta < 256) {
+                this.out.writeBits(0b110, 3);
+                this.out.writeBits(deltaOfDelta, 9);
+            } else if (deltaOfDelta >= -2048 && deltaOfDelta < 2048) {
+                this.out.writeBits(0b1110, 4);
+                this.out.writeBits(deltaOfDelta, 12);
+            } else {
+                this.out.writeBits(0b1111, 4);
+                this.out.writeBits(deltaOfDelta, 33);
+            }
+            this.previousDelta = delta;
+        }
+        this.previousEpochDay = epochDay;
+    }
+
+    private void writePrice(int column, double price) throws IOException {
+        long bits = Double.doubleToRawLongBits(price);
+        if (this.rowCount == 0) {
+            this.out.writeBits(bits, 64);
+            this.previousLeading[column] = Integer.MAX_VALUE;
+        } else {
+            long xor = bits ^ this.previousBits[column];
+            if (xor == 0) {
+                this.out.writeBit(false);
+            } else {
+                int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+                int trailing = Long.numberOfTrailingZeros(xor);
+                if (leading >= this.previousLeading[column] && trailing >= this.previousTrailing[column]) {
+                    // fits in the previous window of meaningful bits
+                    this.out.writeBits(0b10, 2);
+                    int previousSignificant = 64 - this.previousLeading[column] - this.previousTrailing[column];
+                    this.out.writeBits(xor >>> this.previousTrailing[column], previousSignificant);
+                } else {
+                    int significant = 64 - leading - trailing;
+                    this.out.writeBits(0b11, 2);
+                    this.out.writeBits(leading, 5);
+                    this.out.writeBits(significant - 1, 6);
+                    this.out.writeBits(xor >>> trailing, significant);
+                    this.previousLeading[column] = leading;
+                    this.previousTrailing[column] = trailing;
+                }
+            }
+        }
+        this.previousBits[column] = bits;
+    }
+}
@@ -0,0 +1,150 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Binary columnar file format of a historical series
+ * <p>
+ *     A file consists of a header and fixed-width columns, all little-endian and aligned to 8 bytes:
+ * </p>
+ * <pre>
+ * magic "YF4JCOL1" (8 bytes) | version (int32) | row count (int32) | symbol length (int32) | symbol (UTF-8, padded)
+ * trading dates in epoch days (int32 x rows, padded)
+ * open | high | low | close | adjusted close (float64 x rows each)
+ * volume (int64 x rows)
+ * </pre>
+ * <p>
+ *     Files are read through a {@link MappedByteBuffer}, so opening a series neither copies nor parses anything.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class SeriesFile {
+    static final byte[] MAGIC = "YF4JCOL1".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int FIXED_HEADER_BYTES = MAGIC.length + 3 * Integer.BYTES;
+
+    private SeriesFile() {
+        // restrict instantiation
+    }
+
+    /**
+     * Write a historical series to a file
+     * <p>
+     *     The file is written to a temporary sibling first and then moved into place, so a reader never maps
+     *     a half-written file.
+     * </p>
+     * @param series    Historical series
+     * @param path  Path of the file
+     * @throws IOException  {@link IOException}
+     */
+    public static void write(HistoricalSeries series, Path path) throws IOException {
+        Objects.requireNonNull(series, "Series must exist for writing.");
+        byte[] symbolBytes = series.symbol().getBytes(StandardCharsets.UTF_8);
+        int rows = series.size();
+        var layout = new Layout(symbolBytes.length, rows);
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(layout.totalBytes)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(MAGIC).putInt(VERSION).putInt(rows).putInt(symbolBytes.length).put(symbolBytes);
+        buffer.position(layout.dateOffset);
+        buffer.asIntBuffer().put(series.epochDayColumn());
+        for (PriceField field : PriceField.values()) {
+            buffer.position(layout.priceOffset(field));
+            buffer.asDoubleBuffer().put(series.priceColumn(field));
+        }
+        buffer.position(layout.volumeOffset);
+        buffer.asLongBuffer().put(series.volumeColumn());
+        buffer.rewind();
+
+        Path parent = path.toAbsolutePath().getParent();
+        Path tempPath = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            Files.deleteIfExists(tempPath);
+            throw ex;
+        }
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Open a file as a memory-mapped series
+     * @param path  Path of the file
+     * @return  Mapped series covering all rows
+     * @throws IOException  {@link IOException} if the file cannot be read or is not a valid series file
+     */
+    public static MappedSeries open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < FIXED_HEADER_BYTES) {
+            throw new IOException("Series file too short: " + path);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(0, magic);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IOException("Not a series file: " + path);
+        }
+        int version = buffer.getInt(MAGIC.length);
+        if (version != VERSION) {
+            throw new IOException("Unsupported series file version %1$d: %2$s".formatted(version, path));
+        }
+        int rows = buffer.getInt(MAGIC.length + Integer.BYTES);
+        int symbolLength = buffer.getInt(MAGIC.length + 2 * Integer.BYTES);
+        if (rows < 0 || symbolLength < 0) {
+            throw new IOException("Corrupted series file header: " + path);
+        }
+        var layout = new Layout(symbolLength, rows);
+        if (layout.totalBytes != buffer.capacity()) {
+            throw new IOException("Series file size %1$d does not match %2$d rows: %3$s".formatted(buffer.capacity(), rows, path));
+        }
+        byte[] symbolBytes = new byte[symbolLength];
+        buffer.get(FIXED_HEADER_BYTES, symbolBytes);
+        return new MappedSeries(new String(symbolBytes, StandardCharsets.UTF_8), buffer, layout, 0, rows);
+    }
+
+    /**
+     * Byte offsets of the columns of a file
+     */
+    static final class Layout {
+        final int dateOffset;
+        final int firstPriceOffset;
+        final int volumeOffset;
+        final long totalBytes;
+        final int rows;
+
+        Layout(int symbolLength, int rows) {
+            this.rows = rows;
+            this.dateOffset = align8(FIXED_HEADER_BYTES + symbolLength);
+            this.firstPriceOffset = Math.toIntExact(align8((long) this.dateOffset + (long) Integer.BYTES * rows));
+            this.volumeOffset = Math.toIntExact(this.firstPriceOffset + (long) Double.BYTES * rows * PriceField.values().length);
+            this.totalBytes = this.volumeOffset + (long) Long.BYTES * rows;
+        }
+
+        int priceOffset(PriceField field) {
+            return this.firstPriceOffset + Double.BYTES * this.rows * field.ordinal();
+        }
+
+        private static int align8(int value) {
+            return (value + 7) & ~7;
+        }
+
+        private static long align8(long value) {
+            return (value + 7L) & ~7L;
+        }
+    }
+}
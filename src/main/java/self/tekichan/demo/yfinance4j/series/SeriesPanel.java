@@ -0,0 +1,165 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar panel of several series aligned onto one shared date axis
+ * <p>
+ *     The panel keeps one primitive column per symbol and field, so no object is allocated per cell.
+ *     A missing price is NaN and a missing volume is 0.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class SeriesPanel {
+    private final List<String> symbols;
+    private final int[] epochDays;
+    private final double[][][] prices;  // [symbol][field][row]
+    private final long[][] volumes;     // [symbol][row]
+    private final FillPolicy fillPolicy;
+
+    SeriesPanel(List<String> symbols, int[] epochDays, double[][][] prices, long[][] volumes, FillPolicy fillPolicy) {
+        this.symbols = List.copyOf(symbols);
+        this.epochDays = epochDays;
+        this.prices = prices;
+        this.volumes = volumes;
+        this.fillPolicy = fillPolicy;
+    }
+
+    /**
+     * Get symbols in column order
+     * @return  List of symbols
+     */
+    public List<String> symbols() {
+        return this.symbols;
+    }
+
+    /**
+     * Get column index of a symbol
+     * @param symbol    Quote symbol
+     * @return  column index or -1 if not found
+     */
+    public int symbolIndex(String symbol) {
+        return this.symbols.indexOf(symbol);
+    }
+
+    /**
+     * Get the fill policy used to build this panel
+     * @return  Fill policy
+     */
+    public FillPolicy fillPolicy() {
+        return this.fillPolicy;
+    }
+
+    /**
+     * Get number of dates on the shared axis
+     * @return  number of rows
+     */
+    public int size() {
+        return this.epochDays.length;
+    }
+
+    /**
+     * Get number of symbols
+     * @return  number of columns per field
+     */
+    public int width() {
+        return this.symbols.size();
+    }
+
+    /**
+     * Get date of a row in epoch days
+     * @param row   row index
+     * @return  date in epoch days
+     */
+    public int epochDay(int row) {
+        return this.epochDays[row];
+    }
+
+    /**
+     * Get date of a row
+     * @param row   row index
+     * @return  date
+     */
+    public LocalDate tradeDate(int row) {
+        return LocalDate.ofEpochDay(this.epochDays[row]);
+    }
+
+    /**
+     * Find the row of a date
+     * @param tradeDate Date on the shared axis
+     * @return  row index if found; otherwise (-(insertion point) - 1) as {@link Arrays#binarySearch(int[], int)}
+     */
+    public int indexOf(LocalDate tradeDate) {
+        return Arrays.binarySearch(this.epochDays, (int) tradeDate.toEpochDay());
+    }
+
+    /**
+     * Get price of a cell
+     * @param field Price field
+     * @param symbolIdx column index of symbol
+     * @param row   row index
+     * @return  price or NaN if missing
+     */
+    public double price(PriceField field, int symbolIdx, int row) {
+        return this.prices[symbolIdx][field.ordinal()][row];
+    }
+
+    /**
+     * Get volume of a cell
+     * @param symbolIdx column index of symbol
+     * @param row   row index
+     * @return  volume or 0 if missing
+     */
+    public long volume(int symbolIdx, int row) {
+        return this.volumes[symbolIdx][row];
+    }
+
+    /**
+     * Check whether a cell holds a value, either observed or filled
+     * @param symbolIdx column index of symbol
+     * @param row   row index
+     * @return  true if the close price is not NaN
+     */
+    public boolean isPresent(int symbolIdx, int row) {
+        return !Double.isNaN(this.prices[symbolIdx][PriceField.CLOSE.ordinal()][row]);
+    }
+
+    /**
+     * Get the backing column of the shared date axis in epoch days
+     * <p>
+     *     The array is shared with this panel and must not be modified.
+     * </p>
+     * @return  column of dates
+     */
+    public int[] epochDayColumn() {
+        return this.epochDays;
+    }
+
+    /**
+     * Get the backing column of a price field of a symbol
+     * <p>
+     *     The array is shared with this panel and must not be modified.
+     * </p>
+     * @param field Price field
+     * @param symbolIdx column index of symbol
+     * @return  column of prices
+     */
+    public double[] priceColumn(PriceField field, int symbolIdx) {
+        return this.prices[symbolIdx][field.ordinal()];
+    }
+
+    /**
+     * Get the backing column of volumes of a symbol
+     * <p>
+     *     The array is shared with this panel and must not be modified.
+     * </p>
+     * @param symbolIdx column index of symbol
+     * @return  column of volumes
+     */
+    public long[] volumeColumn(int symbolIdx) {
+        return this.volumes[symbolIdx];
+    }
+}
@@ -0,0 +1,149 @@
+package self.tekichan.demo.yfinance4j.store;
+
+import self.tekichan.demo.yfinance4j.model.BigDecimalAndUnit;
+import self.tekichan.demo.yfinance4j.model.FactorRatio;
+import self.tekichan.demo.yfinance4j.model.ScaleUnit;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Compact binary codec of a record class
+ * <p>
+ *     Components are written in declaration order, each led by a presence byte.
+ *     Supported component types are the ones used by the model records.
+ * </p>
+ * @param <T>   the record type
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+final class RecordCodec<T extends Record> {
+    private final Method[] accessors;
+    private final Class<?>[] types;
+    private final Constructor<T> constructor;
+
+    RecordCodec(Class<T> recordClass) {
+        RecordComponent[] components = recordClass.getRecordComponents();
+        this.accessors = Arrays.stream(components).map(RecordComponent::getAccessor).toArray(Method[]::new);
+        this.types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+        for (int i = 0; i < this.types.length; i++) {
+            if (!isSupported(this.types[i])) {
+                throw new IllegalArgumentException("Unsupported component type %1$s of %2$s"
+                        .formatted(this.types[i].getName(), components[i].getName()));
+            }
+        }
+        try {
+            this.constructor = recordClass.getDeclaredConstructor(this.types);
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalArgumentException("No canonical constructor of " + recordClass.getName(), ex);
+        }
+    }
+
+    void write(T record, DataOutput out) throws IOException {
+        for (int i = 0; i < this.accessors.length; i++) {
+            Object value;
+            try {
+                value = this.accessors[i].invoke(record);
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException("Cannot read " + this.accessors[i].getName(), ex);
+            }
+            if (value == null) {
+                out.writeByte(0);
+            } else {
+                out.writeByte(1);
+                writeValue(value, out);
+            }
+        }
+    }
+
+    T read(DataInput in) throws IOException {
+        Object[] args = new Object[this.types.length];
+        for (int i = 0; i < this.types.length; i++) {
+            if (in.readByte() != 0) {
+                args[i] = readValue(this.types[i], in);
+            }
+        }
+        try {
+            return this.constructor.newInstance(args);
+        } catch (ReflectiveOperationException ex) {
+            throw new IOException("Cannot construct " + this.constructor.getDeclaringClass().getName(), ex);
+        }
+    }
+
+    private static boolean isSupported(Class<?> type) {
+        return type == String.class || type == BigDecimal.class || type == Long.class || type == Integer.class
+                || type == LocalDate.class || type == LocalDateTime.class
+                || type == BigDecimalAndUnit.class || type == FactorRatio.class;
+    }
+
+    private static void writeValue(Object value, DataOutput out) throws IOException {
+        if (value instanceof String text) {
+            out.writeUTF(text);
+        } else if (value instanceof BigDecimal decimal) {
+            writeDecimal(decimal, out);
+        } else if (value instanceof Long longValue) {
+            out.writeLong(longValue);
+        } else if (value instanceof Integer intValue) {
+            out.writeInt(intValue);
+        } else if (value instanceof LocalDate date) {
+            out.writeLong(date.toEpochDay());
+        } else if (value instanceof LocalDateTime dateTime) {
+            out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(dateTime.getNano());
+        } else if (value instanceof BigDecimalAndUnit decimalAndUnit) {
+            writeDecimal(decimalAndUnit.baseValue(), out);
+            out.writeByte(decimalAndUnit.scaleUnit().ordinal());
+        } else if (value instanceof FactorRatio ratio) {
+            writeDecimal(ratio.leftValue(), out);
+            writeDecimal(ratio.rightValue(), out);
+        }
+    }
+
+    private static Object readValue(Class<?> type, DataInput in) throws IOException {
+        if (type == String.class) {
+            return in.readUTF();
+        } else if (type == BigDecimal.class) {
+            return readDecimal(in);
+        } else if (type == Long.class) {
+            return in.readLong();
+        } else if (type == Integer.class) {
+            return in.readInt();
+        } else if (type == LocalDate.class) {
+            return LocalDate.ofEpochDay(in.readLong());
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        } else if (type == BigDecimalAndUnit.class) {
+            BigDecimal baseValue = readDecimal(in);
+            return new BigDecimalAndUnit(baseValue, ScaleUnit.values()[in.readByte()]);
+        } else {
+            return new FactorRatio(readDecimal(in), readDecimal(in));
+        }
+    }
+
+    private static void writeDecimal(BigDecimal value, DataOutput out) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        if (unscaled.length > 0xFF) {
+            throw new IllegalArgumentException("Decimal too long to store: " + value);
+        }
+        out.writeInt(value.scale());
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readDecimal(DataInput in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedByte()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+}
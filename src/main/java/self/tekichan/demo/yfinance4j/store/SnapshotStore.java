@@ -0,0 +1,670 @@
+package self.tekichan.demo.yfinance4j.store;
+
+import self.tekichan.demo.yfinance4j.model.IStockQuote;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only point-in-time store of quote snapshots
+ * <p>
+ *     Snapshots are appended sequentially to the active segment file of a directory, which is rolled over
+ *     to a new segment when it reaches the maximum size. An in-memory index per symbol, sorted by download
+ *     date/time, is rebuilt by scanning the segments on open, so an as-of lookup is a binary search
+ *     followed by one positional read.
+ * </p>
+ * <p>
+ *     Each entry carries a CRC32. A torn entry at the end of the active segment, e.g. after a crash,
+ *     is truncated on open. So is a compaction interrupted by a crash: rolled back if its new segments were
+ *     not complete, otherwise rolled forward.
+ * </p>
+ * <p>
+ *     Download date/times are stored as given, without time zone conversion; the quote controllers stamp them
+ *     with the local date/time of the downloading machine.
+ * </p>
+ * <pre>{@code
+ * try (var store = SnapshotStore.openKeyStatistics(dir)) {
+ *     store.append(keyStatistics);
+ *     Optional<KeyStatistics> asOf = store.asOf("TSCO.L", LocalDateTime.of(2024, 3, 29, 23, 59));
+ * }
+ * }</pre>
+ * @param <T>   the snapshot type
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class SnapshotStore<T extends Record & IStockQuote> implements Closeable {
+    static final long DEFAULT_MAX_SEGMENT_BYTES = 64L * 1024 * 1024;
+    static final byte[] MAGIC = "YF4JSNP1".getBytes(StandardCharsets.US_ASCII);
+    static final int ENTRY_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{10})\\.log");
+    private static final Pattern TEMP_NAME = Pattern.compile("segment-(\\d{10})\\.log\\.tmp");
+    private static final String COMMIT_NAME = "compaction.commit";
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final Path directory;
+    private final RecordCodec<T> codec;
+    private final long maxSegmentBytes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Integer, Segment> segmentMap = new TreeMap<>();
+    private final Map<String, SymbolIndex> indexMap = new HashMap<>();
+    private final ByteArrayOutputStream entryBytes = new ByteArrayOutputStream(1024);
+    private Segment active;
+    private boolean closed;
+
+    private SnapshotStore(Path directory, Class<T> snapshotClass, long maxSegmentBytes) {
+        this.directory = directory;
+        this.codec = new RecordCodec<>(snapshotClass);
+        this.maxSegmentBytes = maxSegmentBytes;
+    }
+
+    /**
+     * Open a store of snapshots, creating the directory if needed
+     * @param directory Directory of segment files
+     * @param snapshotClass Class of snapshots
+     * @param maxSegmentBytes   Size of a segment to roll over at
+     * @return  SnapshotStore
+     * @param <T>   the snapshot type
+     * @throws IOException  {@link IOException} if a segment cannot be read or is corrupted
+     */
+    public static <T extends Record & IStockQuote> SnapshotStore<T> open(Path directory, Class<T> snapshotClass
+            , long maxSegmentBytes) throws IOException {
+        Objects.requireNonNull(directory, "Directory must exist for snapshot store.");
+        if (maxSegmentBytes <= MAGIC.length) {
+            throw new IllegalArgumentException("Maximum segment size too small: " + maxSegmentBytes);
+        }
+        Files.createDirectories(directory);
+        var store = new SnapshotStore<>(directory, snapshotClass, maxSegmentBytes);
+        store.load();
+        return store;
+    }
+
+    /**
+     * Open a store of SummaryQuote snapshots with the default segment size
+     * @param directory Directory of segment files
+     * @return  SnapshotStore of SummaryQuote
+     * @throws IOException  {@link IOException}
+     */
+    public static SnapshotStore<SummaryQuote> openSummaryQuotes(Path directory) throws IOException {
+        return open(directory, SummaryQuote.class, DEFAULT_MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Open a store of KeyStatistics snapshots with the default segment size
+     * @param directory Directory of segment files
+     * @return  SnapshotStore of KeyStatistics
+     * @throws IOException  {@link IOException}
+     */
+    public static SnapshotStore<KeyStatistics> openKeyStatistics(Path directory) throws IOException {
+        return open(directory, KeyStatistics.class, DEFAULT_MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Append a snapshot
+     * <p>
+     *     The entry is written to the operating system but not forced to disk; call {@link #flush()} for that.
+     * </p>
+     * @param snapshot  Snapshot with symbol and download date/time
+     * @throws IOException  {@link IOException}
+     */
+    public void append(T snapshot) throws IOException {
+        Objects.requireNonNull(snapshot, "Snapshot must exist for appending.");
+        String symbol = Objects.requireNonNull(snapshot.symbol(), "Symbol of snapshot must exist.");
+        LocalDateTime downloadDateTime = Objects.requireNonNull(snapshot.downloadDateTime(), "Download date/time of snapshot must exist.");
+        this.lock.writeLock().lock();
+        try {
+            checkOpen();
+            ByteBuffer entry = encodeEntry(toMillis(downloadDateTime), symbol, snapshot);
+            if (this.active.size > MAGIC.length && this.active.size + entry.remaining() > this.maxSegmentBytes) {
+                rollActive();
+            }
+            long position = this.active.append(entry);
+            this.indexMap.computeIfAbsent(symbol, s -> new SymbolIndex())
+                    .insert(toMillis(downloadDateTime), this.active.id, position);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the latest snapshot of a symbol downloaded at or before a date/time
+     * @param symbol    Stock symbol
+     * @param dateTime  As-of date/time
+     * @return  Optional of snapshot, or Optional.empty() if none
+     * @throws IOException  {@link IOException}
+     */
+    public Optional<T> asOf(String symbol, LocalDateTime dateTime) throws IOException {
+        this.lock.readLock().lock();
+        try {
+            checkOpen();
+            SymbolIndex index = this.indexMap.get(symbol);
+            if (index == null) {
+                return Optional.empty();
+            }
+            int i = index.upperBound(toMillis(dateTime)) - 1;
+            return i < 0 ? Optional.empty() : Optional.of(readEntry(index.segmentIds[i], index.positions[i]));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get snapshots of a symbol downloaded within a period
+     * @param symbol    Stock symbol
+     * @param from  Start date/time, inclusive
+     * @param to    End date/time, inclusive
+     * @return  List of snapshots in order of download date/time
+     * @throws IOException  {@link IOException}
+     */
+    public List<T> history(String symbol, LocalDateTime from, LocalDateTime to) throws IOException {
+        this.lock.readLock().lock();
+        try {
+            checkOpen();
+            SymbolIndex index = this.indexMap.get(symbol);
+            if (index == null) {
+                return Collections.emptyList();
+            }
+            var snapshotList = new ArrayList<T>();
+            for (int i = index.upperBound(toMillis(from) - 1), end = index.upperBound(toMillis(to)); i < end; i++) {
+                snapshotList.add(readEntry(index.segmentIds[i], index.positions[i]));
+            }
+            return snapshotList;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get symbols in the store
+     * @return  Set of symbols
+     */
+    public Set<String> symbols() {
+        this.lock.readLock().lock();
+        try {
+            return Set.copyOf(this.indexMap.keySet());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get number of snapshots of a symbol
+     * @param symbol    Stock symbol
+     * @return  number of snapshots
+     */
+    public int count(String symbol) {
+        this.lock.readLock().lock();
+        try {
+            SymbolIndex index = this.indexMap.get(symbol);
+            return index == null ? 0 : index.size;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get number of segment files
+     * @return  number of segments
+     */
+    public int segmentCount() {
+        this.lock.readLock().lock();
+        try {
+            return this.segmentMap.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Force appended snapshots to disk
+     * @throws IOException  {@link IOException}
+     */
+    public void flush() throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            checkOpen();
+            this.active.channel.force(false);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compact all segments
+     * <p>
+     *     Segments are rewritten into as few segments as the maximum size allows, keeping only the last snapshot
+     *     of each symbol on each calendar day of its download date/time, in whatever zone it was stamped in.
+     *     Older intraday snapshots are dropped, so an as-of lookup within a compacted day resolves to that day's
+     *     last snapshot only from its download date/time on. Before it, the lookup resolves to the last snapshot
+     *     of an earlier day, as it does for any time before the first snapshot kept.
+     * </p>
+     * <p>
+     *     New segments are written to temporary files, then a commit marker naming the last old segment is
+     *     forced to disk before the temporary files are renamed and the old segments deleted. If the process dies
+     *     before the marker, the next open deletes the temporary files; after it, the next open finishes the swap.
+     * </p>
+     * @return  number of snapshots dropped
+     * @throws IOException  {@link IOException}
+     */
+    public int compact() throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            checkOpen();
+            List<Segment> sealedList = new ArrayList<>(this.segmentMap.values());
+
+            // pick the entries to keep, grouped by source segment to read them sequentially
+            var keptMap = new TreeMap<Integer, List<Long>>();
+            int dropped = 0;
+            for (SymbolIndex index : this.indexMap.values()) {
+                int pending = -1;
+                for (int i = 0; i < index.size; i++) {
+                    if (pending >= 0) {
+                        if (dayOf(index.times[pending]) == dayOf(index.times[i])) {
+                            dropped++;
+                        } else {
+                            keptMap.computeIfAbsent(index.segmentIds[pending], id -> new ArrayList<>()).add(index.positions[pending]);
+                        }
+                    }
+                    pending = i;
+                }
+                if (pending >= 0) {
+                    keptMap.computeIfAbsent(index.segmentIds[pending], id -> new ArrayList<>()).add(index.positions[pending]);
+                }
+            }
+            if (dropped == 0 && sealedList.size() <= 1) {
+                return 0;
+            }
+
+            // copy kept entries without decoding them, over any temporary files of a failed compaction
+            deleteTempFiles();
+            List<Path> tempList = new ArrayList<>();
+            int nextId = this.active.id + 1;
+            Segment output = null;
+            try {
+                for (var keptEntry : keptMap.entrySet()) {
+                    Segment source = this.segmentMap.get(keptEntry.getKey());
+                    List<Long> positionList = keptEntry.getValue();
+                    Collections.sort(positionList);
+                    for (long position : positionList) {
+                        ByteBuffer entry = source.readRawEntry(position);
+                        if (output == null || (output.size > MAGIC.length && output.size + entry.remaining() > this.maxSegmentBytes)) {
+                            if (output != null) {
+                                output.channel.force(false);
+                                output.channel.close();
+                            }
+                            Path tempPath = tempPath(nextId++);
+                            tempList.add(tempPath);
+                            output = Segment.createTemp(tempPath);
+                        }
+                        output.append(entry);
+                    }
+                }
+                if (output != null) {
+                    output.channel.force(false);
+                    output.channel.close();
+                }
+            } catch (IOException ex) {
+                if (output != null) {
+                    output.channel.close();
+                }
+                for (Path tempPath : tempList) {
+                    Files.deleteIfExists(tempPath);
+                }
+                throw ex;
+            }
+            writeCommit(this.active.id);
+            for (Segment segment : sealedList) {
+                segment.channel.close();
+            }
+            finishCompaction(this.active.id);
+            // re-open with the compacted segments, the last of which becomes active
+            this.segmentMap.clear();
+            this.indexMap.clear();
+            load();
+            return dropped;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            IOException failure = null;
+            for (Segment segment : this.segmentMap.values()) {
+                try {
+                    segment.channel.close();
+                } catch (IOException ex) {
+                    failure = ex;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        Path commitPath = this.directory.resolve(COMMIT_NAME);
+        if (Files.exists(commitPath)) {
+            // the new segments of a compaction were complete, so finish swapping them in
+            finishCompaction(Integer.parseInt(Files.readString(commitPath, StandardCharsets.US_ASCII).trim()));
+        } else {
+            deleteTempFiles();
+        }
+        List<Integer> idList = new ArrayList<>();
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path path : files.toList()) {
+                Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    idList.add(Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+        Collections.sort(idList);
+        for (int i = 0; i < idList.size(); i++) {
+            int id = idList.get(i);
+            Segment segment = Segment.open(id, segmentPath(id), i == idList.size() - 1);
+            this.segmentMap.put(id, segment);
+            scan(segment, i == idList.size() - 1);
+        }
+        // the last segment stays active unless it is already full
+        if (this.segmentMap.isEmpty() || this.segmentMap.lastEntry().getValue().size >= this.maxSegmentBytes) {
+            int id = this.segmentMap.isEmpty() ? 0 : this.segmentMap.lastKey() + 1;
+            this.active = Segment.create(id, segmentPath(id));
+            this.segmentMap.put(id, this.active);
+        } else {
+            this.active = this.segmentMap.lastEntry().getValue();
+        }
+    }
+
+    private void writeCommit(int lastOldId) throws IOException {
+        Path tempCommit = this.directory.resolve(COMMIT_NAME + ".tmp");
+        try (var channel = FileChannel.open(tempCommit, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING
+                , StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(Integer.toString(lastOldId).getBytes(StandardCharsets.US_ASCII)));
+            channel.force(false);
+        }
+        Files.move(tempCommit, this.directory.resolve(COMMIT_NAME), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Rename the temporary segments into place and delete the old ones, which is idempotent
+     * @param lastOldId id of the last segment before the compaction
+     */
+    private void finishCompaction(int lastOldId) throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path path : files.sorted().toList()) {
+                String name = path.getFileName().toString();
+                Matcher tempMatcher = TEMP_NAME.matcher(name);
+                Matcher segmentMatcher = SEGMENT_NAME.matcher(name);
+                if (tempMatcher.matches()) {
+                    int id = Integer.parseInt(tempMatcher.group(1));
+                    Files.move(path, segmentPath(id), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } else if (segmentMatcher.matches() && Integer.parseInt(segmentMatcher.group(1)) <= lastOldId) {
+                    Files.delete(path);
+                }
+            }
+        }
+        Files.delete(this.directory.resolve(COMMIT_NAME));
+    }
+
+    private void deleteTempFiles() throws IOException {
+        Files.deleteIfExists(this.directory.resolve(COMMIT_NAME + ".tmp"));
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path path : files.toList()) {
+                if (TEMP_NAME.matcher(path.getFileName().toString()).matches()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    private void scan(Segment segment, boolean last) throws IOException {
+        long position = MAGIC.length;
+        var crc = new CRC32();
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment.path), 64 * 1024))) {
+            in.skipNBytes(position);
+            while (position < segment.size) {
+                int payloadLength;
+                byte[] payload;
+                try {
+                    payloadLength = in.readInt();
+                    int expectedCrc = in.readInt();
+                    if (payloadLength <= Long.BYTES || position + ENTRY_HEADER_BYTES + payloadLength > segment.size) {
+                        throw new EOFException();
+                    }
+                    payload = new byte[payloadLength];
+                    in.readFully(payload);
+                    crc.reset();
+                    crc.update(payload);
+                    if ((int) crc.getValue() != expectedCrc) {
+                        throw new EOFException();
+                    }
+                } catch (EOFException ex) {
+                    if (!last) {
+                        throw new IOException("Corrupted snapshot segment %1$s at %2$d".formatted(segment.path, position));
+                    }
+                    segment.truncate(position);
+                    return;
+                }
+                var payloadIn = new DataInputStream(new ByteArrayInputStream(payload));
+                long time = payloadIn.readLong();
+                String symbol = payloadIn.readUTF();
+                this.indexMap.computeIfAbsent(symbol, s -> new SymbolIndex()).insert(time, segment.id, position);
+                position += ENTRY_HEADER_BYTES + payloadLength;
+            }
+        }
+    }
+
+    private ByteBuffer encodeEntry(long time, String symbol, T snapshot) throws IOException {
+        this.entryBytes.reset();
+        var out = new DataOutputStream(this.entryBytes);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeLong(time);
+        out.writeUTF(symbol);
+        this.codec.write(snapshot, out);
+        out.flush();
+        ByteBuffer entry = ByteBuffer.wrap(this.entryBytes.toByteArray());
+        int payloadLength = entry.capacity() - ENTRY_HEADER_BYTES;
+        var crc = new CRC32();
+        crc.update(entry.array(), ENTRY_HEADER_BYTES, payloadLength);
+        entry.putInt(0, payloadLength);
+        entry.putInt(Integer.BYTES, (int) crc.getValue());
+        return entry;
+    }
+
+    private T readEntry(int segmentId, long position) throws IOException {
+        ByteBuffer entry = this.segmentMap.get(segmentId).readRawEntry(position);
+        var in = new DataInputStream(new ByteArrayInputStream(entry.array(), ENTRY_HEADER_BYTES, entry.capacity() - ENTRY_HEADER_BYTES));
+        in.readLong();
+        in.readUTF();
+        return this.codec.read(in);
+    }
+
+    private void rollActive() throws IOException {
+        this.active.channel.force(false);
+        int id = this.active.id + 1;
+        this.active = Segment.create(id, segmentPath(id));
+        this.segmentMap.put(id, this.active);
+    }
+
+    private void checkOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("Snapshot store is closed.");
+        }
+    }
+
+    private Path segmentPath(int id) {
+        return this.directory.resolve("segment-%1$010d.log".formatted(id));
+    }
+
+    private Path tempPath(int id) {
+        return this.directory.resolve("segment-%1$010d.log.tmp".formatted(id));
+    }
+
+    /**
+     * Get the calendar day of a stored time, which is the date of the download date/time in its own zone
+     */
+    private static long dayOf(long time) {
+        return Math.floorDiv(time, MILLIS_PER_DAY);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Segment file with its channel
+     */
+    private static final class Segment {
+        final int id;
+        final Path path;
+        final FileChannel channel;
+        long size;
+
+        private Segment(int id, Path path, FileChannel channel, long size) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.size = size;
+        }
+
+        static Segment create(int id, Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.write(ByteBuffer.wrap(MAGIC), 0);
+            return new Segment(id, path, channel, MAGIC.length);
+        }
+
+        static Segment createTemp(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING
+                    , StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.write(ByteBuffer.wrap(MAGIC), 0);
+            return new Segment(-1, path, channel, MAGIC.length);
+        }
+
+        static Segment open(int id, Path path, boolean writable) throws IOException {
+            FileChannel channel = writable
+                    ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                    : FileChannel.open(path, StandardOpenOption.READ);
+            ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+            while (magic.hasRemaining() && channel.read(magic, magic.position()) > 0) {
+                // read the whole magic
+            }
+            if (!Arrays.equals(MAGIC, magic.array())) {
+                channel.close();
+                throw new IOException("Not a snapshot segment: " + path);
+            }
+            return new Segment(id, path, channel, channel.size());
+        }
+
+        long append(ByteBuffer entry) throws IOException {
+            long position = this.size;
+            while (entry.hasRemaining()) {
+                this.size += this.channel.write(entry, this.size);
+            }
+            return position;
+        }
+
+        ByteBuffer readRawEntry(long position) throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_BYTES);
+            readFully(header, position);
+            ByteBuffer entry = ByteBuffer.allocate(ENTRY_HEADER_BYTES + header.getInt(0));
+            readFully(entry, position);
+            entry.flip();
+            return entry;
+        }
+
+        void truncate(long position) throws IOException {
+            this.channel.truncate(position);
+            this.size = position;
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (this.channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of snapshot segment " + this.path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Snapshot positions of one symbol sorted by download time
+     */
+    private static final class SymbolIndex {
+        long[] times = new long[16];
+        int[] segmentIds = new int[16];
+        long[] positions = new long[16];
+        int size;
+
+        void insert(long time, int segmentId, long position) {
+            if (this.size == this.times.length) {
+                int capacity = this.size * 2;
+                this.times = Arrays.copyOf(this.times, capacity);
+                this.segmentIds = Arrays.copyOf(this.segmentIds, capacity);
+                this.positions = Arrays.copyOf(this.positions, capacity);
+            }
+            // snapshots mostly arrive in time order, so this is usually an append
+            int at = this.size == 0 || this.times[this.size - 1] <= time ? this.size : upperBound(time);
+            int moved = this.size - at;
+            if (moved > 0) {
+                System.arraycopy(this.times, at, this.times, at + 1, moved);
+                System.arraycopy(this.segmentIds, at, this.segmentIds, at + 1, moved);
+                System.arraycopy(this.positions, at, this.positions, at + 1, moved);
+            }
+            this.times[at] = time;
+            this.segmentIds[at] = segmentId;
+            this.positions[at] = position;
+            this.size++;
+        }
+
+        /**
+         * Get index of the first entry later than a time
+         */
+        int upperBound(long time) {
+            int low = 0;
+            int high = this.size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.times[mid] <= time) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import self.tekichan.demo.yfinance4j.jfr.LaneWaitEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Utility class to run a batch of asynchronous tasks with bounded concurrency
+ * <p>
+ *     At most a given number of tasks are in flight at any time. A task is started when a previous one
+ *     completes, so no thread is blocked while waiting for a free slot.
+ * </p>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class AsyncBatch {
+    private AsyncBatch() {
+        // restrict instantiation
+    }
+
+    /**
+     * Map items to asynchronous tasks with bounded concurrency
+     * @param items List of input items
+     * @param maxConcurrency    Maximum number of tasks in flight
+     * @param task  Function to start an asynchronous task for an item
+     * @return  List of CompletableFuture in the order of items; each completes as its task completes
+     * @param <T>   the input type
+     * @param <R>   the result type
+     */
+    public static <T, R> List<CompletableFuture<R>> mapBounded(List<T> items, int maxConcurrency
+            , Function<? super T, ? extends CompletableFuture<R>> task) {
+        return mapBounded(items, maxConcurrency, task, () -> false);
+    }
+
+    /**
+     * Map items to asynchronous tasks with bounded concurrency and early cutoff
+     * <p>
+     *     The stop condition is checked before each task is started. Once it is true, no further task is started
+     *     and the CompletableFuture of every item not started yet is cancelled. Tasks in flight run to completion.
+     * </p>
+     * @param items List of input items
+     * @param maxConcurrency    Maximum number of tasks in flight
+     * @param task  Function to start an asynchronous task for an item
+     * @param stopWhen  Stop condition
+     * @return  List of CompletableFuture in the order of items; each completes as its task completes
+     * @param <T>   the input type
+     * @param <R>   the result type
+     */
+    public static <T, R> List<CompletableFuture<R>> mapBounded(List<T> items, int maxConcurrency
+            , Function<? super T, ? extends CompletableFuture<R>> task, BooleanSupplier stopWhen) {
+        Objects.requireNonNull(items, "List of items must exist.");
+        Objects.requireNonNull(task, "Task function must exist.");
+        Objects.requireNonNull(stopWhen, "Stop condition must exist.");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive: " + maxConcurrency);
+        }
+        var batch = new Batch<T, R>(items, maxConcurrency, task, stopWhen);
+        int lanes = Math.min(maxConcurrency, items.size());
+        for (int i = 0; i < lanes; i++) {
+            batch.runLane();
+        }
+        return batch.results;
+    }
+
+    /**
+     * Get a CompletableFuture which completes when all given futures complete, successfully or not
+     * @param futureList    List of CompletableFuture
+     * @return  CompletableFuture which never completes exceptionally
+     */
+    public static CompletableFuture<Void> allSettled(List<? extends CompletableFuture<?>> futureList) {
+        return CompletableFuture.allOf(futureList.toArray(CompletableFuture[]::new))
+                .handle((v, ex) -> null);
+    }
+
+    /**
+     * Forward cancellation of a dependent future to the futures it depends on
+     * <p>
+     *     A CompletableFuture derived by {@code thenApply} or the like does not cancel its source when cancelled.
+     *     Forwarding lets a caller giving up tear down the work behind, e.g. abort an HTTP exchange in flight.
+     * </p>
+     * @param dependent Dependent future returned to the caller
+     * @param sources   Futures the dependent one is derived from
+     * @return  the dependent future
+     * @param <T>   the result type
+     */
+    public static <T> CompletableFuture<T> propagateCancel(CompletableFuture<T> dependent, Future<?>... sources) {
+        dependent.whenComplete((result, ex) -> {
+            if (dependent.isCancelled()) {
+                for (Future<?> source : sources) {
+                    source.cancel(true);
+                }
+            }
+        });
+        return dependent;
+    }
+
+    private static final class Batch<T, R> {
+        private final List<T> items;
+        private final int maxConcurrency;
+        private final Function<? super T, ? extends CompletableFuture<R>> task;
+        private final BooleanSupplier stopWhen;
+        private final List<CompletableFuture<R>> results;
+        private final long[] queuedNanos;
+        private final AtomicInteger next = new AtomicInteger();
+
+        Batch(List<T> items, int maxConcurrency, Function<? super T, ? extends CompletableFuture<R>> task
+                , BooleanSupplier stopWhen) {
+            this.items = items;
+            this.maxConcurrency = maxConcurrency;
+            this.task = task;
+            this.stopWhen = stopWhen;
+            this.results = new ArrayList<>(items.size());
+            this.queuedNanos = new long[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                this.results.add(new CompletableFuture<>());
+                this.queuedNanos[i] = System.nanoTime();
+            }
+        }
+
+        void runLane() {
+            while (true) {
+                int idx = this.next.getAndIncrement();
+                if (idx >= this.items.size()) {
+                    return;
+                }
+                if (this.results.get(idx).isDone()) {
+                    // cancelled by the caller before started
+                    continue;
+                }
+                if (this.stopWhen.getAsBoolean()) {
+                    this.results.get(idx).cancel(false);
+                    continue;
+                }
+                CompletableFuture<R> future = start(idx);
+                propagateCancel(this.results.get(idx), future);
+                if (!future.isDone()) {
+                    future.whenComplete((result, ex) -> {
+                        settle(idx, result, ex);
+                        runLane();
+                    });
+                    return;
+                }
+                // completed already, e.g. failed before sending; keep the lane in this loop
+                future.whenComplete((result, ex) -> settle(idx, result, ex));
+            }
+        }
+
+        private CompletableFuture<R> start(int idx) {
+            if (idx >= this.maxConcurrency) {
+                var event = new LaneWaitEvent();
+                if (event.shouldCommit()) {
+                    event.index = idx;
+                    event.batchSize = this.items.size();
+                    event.concurrency = this.maxConcurrency;
+                    event.waitNanos = System.nanoTime() - this.queuedNanos[idx];
+                    event.commit();
+                }
+            }
+            try {
+                CompletableFuture<R> future = this.task.apply(this.items.get(idx));
+                return future != null ? future : CompletableFuture.completedFuture(null);
+            } catch (Exception ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+
+        private void settle(int idx, R result, Throwable ex) {
+            if (ex != null) {
+                this.results.get(idx).completeExceptionally(ex);
+            } else {
+                this.results.get(idx).complete(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker failing calls fast while a remote endpoint is broken
+ * <p>
+ *     While CLOSED, the outcomes of the last calls are kept in a sliding window. The circuit trips OPEN once
+ *     enough calls are in the window and either the failure rate or the parse-failure rate reaches its threshold.
+ *     While OPEN, calls are rejected without being sent. After the open duration the circuit is HALF_OPEN and
+ *     admits a limited number of trial calls: if all of them succeed it closes again, and any failure opens it
+ *     for another open duration.
+ * </p>
+ * <pre>{@code
+ * if (!breaker.tryAcquire()) {
+ *     throw new CircuitOpenException(breaker.getName(), breaker.getRetryAfter());
+ * }
+ * breaker.onResult(CircuitBreaker.Outcome.SUCCESS);
+ * }</pre>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class CircuitBreaker {
+    /**
+     * State of a circuit
+     */
+    public enum State {
+        /**
+         * Calls pass and their outcomes are counted
+         */
+        CLOSED,
+        /**
+         * Calls are rejected
+         */
+        OPEN,
+        /**
+         * A limited number of trial calls pass
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Outcome of a call
+     */
+    public enum Outcome {
+        /**
+         * The call succeeded
+         */
+        SUCCESS,
+        /**
+         * The call failed, e.g. timed out or got an unsuccessful status code
+         */
+        FAILURE,
+        /**
+         * The response arrived but could not be parsed, e.g. the page layout changed
+         */
+        PARSE_FAILURE
+    }
+
+    /**
+     * Thresholds of a circuit breaker
+     * @param windowSize    Number of latest calls in the sliding window
+     * @param minimumCalls  Number of calls in the window before the circuit may trip
+     * @param failureRateThreshold  Rate of failures tripping the circuit, between 0 and 1
+     * @param parseFailureRateThreshold Rate of parse failures tripping the circuit, between 0 and 1
+     * @param openDuration  Time the circuit stays open before trial calls
+     * @param trialCalls    Number of trial calls which must all succeed to close the circuit
+     */
+    public record Settings(
+            int windowSize
+            , int minimumCalls
+            , double failureRateThreshold
+            , double parseFailureRateThreshold
+            , Duration openDuration
+            , int trialCalls
+    ) {
+        /**
+         * Constructor of Settings
+         * @param windowSize    Number of latest calls in the sliding window
+         * @param minimumCalls  Number of calls in the window before the circuit may trip
+         * @param failureRateThreshold  Rate of failures tripping the circuit, between 0 and 1
+         * @param parseFailureRateThreshold Rate of parse failures tripping the circuit, between 0 and 1
+         * @param openDuration  Time the circuit stays open before trial calls
+         * @param trialCalls    Number of trial calls which must all succeed to close the circuit
+         */
+        public Settings {
+            Objects.requireNonNull(openDuration, "Open duration must exist.");
+            if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize) {
+                throw new IllegalArgumentException("Minimum calls %1$d must be within window size %2$d"
+                        .formatted(minimumCalls, windowSize));
+            }
+            if (!(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0)
+                    || !(parseFailureRateThreshold > 0.0 && parseFailureRateThreshold <= 1.0)) {
+                throw new IllegalArgumentException("Thresholds must be within (0, 1]: %1$f, %2$f"
+                        .formatted(failureRateThreshold, parseFailureRateThreshold));
+            }
+            if (openDuration.isNegative() || trialCalls <= 0) {
+                throw new IllegalArgumentException("Open duration and trial calls must be positive: %1$s, %2$d"
+                        .formatted(openDuration, trialCalls));
+            }
+        }
+
+        /**
+         * Get default settings
+         * <p>
+         *     Trips at 50% failures or 20% parse failures over the last 20 calls, with at least 10 calls,
+         *     stays open for 30 seconds, and closes after 3 successful trial calls.
+         * </p>
+         * @return  Settings
+         */
+        public static Settings defaults() {
+            return new Settings(20, 10, 0.5, 0.2, Duration.ofSeconds(30), 3);
+        }
+
+        /**
+         * Get a copy of these settings with another sliding window
+         * @param windowSize    Number of latest calls in the sliding window
+         * @param minimumCalls  Number of calls in the window before the circuit may trip
+         * @return  Settings
+         */
+        public Settings withWindow(int windowSize, int minimumCalls) {
+            return new Settings(windowSize, minimumCalls, this.failureRateThreshold, this.parseFailureRateThreshold
+                    , this.openDuration, this.trialCalls);
+        }
+
+        /**
+         * Get a copy of these settings with other thresholds
+         * @param failureRateThreshold  Rate of failures tripping the circuit, between 0 and 1
+         * @param parseFailureRateThreshold Rate of parse failures tripping the circuit, between 0 and 1
+         * @return  Settings
+         */
+        public Settings withThresholds(double failureRateThreshold, double parseFailureRateThreshold) {
+            return new Settings(this.windowSize, this.minimumCalls, failureRateThreshold, parseFailureRateThreshold
+                    , this.openDuration, this.trialCalls);
+        }
+
+        /**
+         * Get a copy of these settings with another recovery
+         * @param openDuration  Time the circuit stays open before trial calls
+         * @param trialCalls    Number of trial calls which must all succeed to close the circuit
+         * @return  Settings
+         */
+        public Settings withRecovery(Duration openDuration, int trialCalls) {
+            return new Settings(this.windowSize, this.minimumCalls, this.failureRateThreshold
+                    , this.parseFailureRateThreshold, openDuration, trialCalls);
+        }
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final Outcome[] window;
+    private final LongAdder rejectedCount = new LongAdder();
+    private int windowCount;
+    private int windowNext;
+    private int failureCount;
+    private int parseFailureCount;
+    private State state = State.CLOSED;
+    private long openedNanos;
+    private int trialPermits;
+    private int trialSuccesses;
+
+    /**
+     * Construct CircuitBreaker with default settings
+     * @param name  Name of the circuit, e.g. the endpoint
+     */
+    public CircuitBreaker(String name) {
+        this(name, Settings.defaults());
+    }
+
+    /**
+     * Construct CircuitBreaker
+     * @param name  Name of the circuit, e.g. the endpoint
+     * @param settings  Thresholds
+     */
+    public CircuitBreaker(String name, Settings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, Settings settings, LongSupplier nanoClock) {
+        this.name = Objects.requireNonNull(name, "Name must exist for circuit breaker.");
+        this.settings = Objects.requireNonNull(settings, "Settings must exist for circuit breaker.");
+        this.nanoClock = nanoClock;
+        this.window = new Outcome[settings.windowSize()];
+    }
+
+    /**
+     * Get name of the circuit
+     * @return  name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get thresholds of the circuit
+     * @return  Settings
+     */
+    public Settings getSettings() {
+        return this.settings;
+    }
+
+    /**
+     * Get current state
+     * @return  State, HALF_OPEN once the open duration has passed
+     */
+    public synchronized State getState() {
+        advance();
+        return this.state;
+    }
+
+    /**
+     * Get time until the circuit admits trial calls
+     * @return  remaining open Duration, or zero if not open
+     */
+    public synchronized Duration getRetryAfter() {
+        advance();
+        if (this.state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return this.settings.openDuration().minusNanos(this.nanoClock.getAsLong() - this.openedNanos);
+    }
+
+    /**
+     * Get number of calls rejected without being sent
+     * @return  number of calls
+     */
+    public long getRejectedCount() {
+        return this.rejectedCount.sum();
+    }
+
+    /**
+     * Ask to make a call
+     * <p>
+     *     A call admitted must be followed by {@link #onResult(Outcome)} or {@link #release()}.
+     * </p>
+     * @return  true if the call may be sent; false if it must fail fast
+     */
+    public synchronized boolean tryAcquire() {
+        advance();
+        if (this.state == State.CLOSED) {
+            return true;
+        }
+        if (this.state == State.HALF_OPEN && this.trialPermits > 0) {
+            this.trialPermits--;
+            return true;
+        }
+        this.rejectedCount.increment();
+        return false;
+    }
+
+    /**
+     * Record the outcome of an admitted call
+     * @param outcome   Outcome of the call
+     */
+    public synchronized void onResult(Outcome outcome) {
+        Objects.requireNonNull(outcome, "Outcome must exist.");
+        advance();
+        switch (this.state) {
+            case CLOSED -> {
+                push(outcome);
+                if (this.windowCount >= this.settings.minimumCalls()
+                        && (this.failureCount >= this.settings.failureRateThreshold() * this.windowCount
+                        || this.parseFailureCount >= this.settings.parseFailureRateThreshold() * this.windowCount)) {
+                    open();
+                }
+            }
+            case HALF_OPEN -> {
+                if (outcome != Outcome.SUCCESS) {
+                    open();
+                } else if (++this.trialSuccesses >= this.settings.trialCalls()) {
+                    close();
+                }
+            }
+            default -> {
+                // a late outcome of a call admitted before the circuit opened
+            }
+        }
+    }
+
+    /**
+     * Give back an admitted call without an outcome, e.g. cancelled by the caller
+     */
+    public synchronized void release() {
+        if (this.state == State.HALF_OPEN && this.trialSuccesses + this.trialPermits < this.settings.trialCalls()) {
+            this.trialPermits++;
+        }
+    }
+
+    private void advance() {
+        if (this.state == State.OPEN
+                && this.nanoClock.getAsLong() - this.openedNanos >= this.settings.openDuration().toNanos()) {
+            this.state = State.HALF_OPEN;
+            this.trialPermits = this.settings.trialCalls();
+            this.trialSuccesses = 0;
+        }
+    }
+
+    private void push(Outcome outcome) {
+        if (this.windowCount == this.window.length) {
+            count(this.window[this.windowNext], -1);
+        } else {
+            this.windowCount++;
+        }
+        this.window[this.windowNext] = outcome;
+        count(outcome, 1);
+        this.windowNext = (this.windowNext + 1) % this.window.length;
+    }
+
+    private void count(Outcome outcome, int delta) {
+        if (outcome == Outcome.FAILURE) {
+            this.failureCount += delta;
+        } else if (outcome == Outcome.PARSE_FAILURE) {
+            this.parseFailureCount += delta;
+        }
+    }
+
+    private void open() {
+        this.state = State.OPEN;
+        this.openedNanos = this.nanoClock.getAsLong();
+    }
+
+    private void close() {
+        this.state = State.CLOSED;
+        this.windowCount = 0;
+        this.windowNext = 0;
+        this.failureCount = 0;
+        this.parseFailureCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker[%1$s, %2$s]".formatted(this.name, getState());
+    }
+}
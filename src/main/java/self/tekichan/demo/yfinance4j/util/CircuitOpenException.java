@@ -0,0 +1,44 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Exception of a call failed fast because its circuit is open
+ * @see CircuitBreaker
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class CircuitOpenException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final String circuitName;
+    private final Duration retryAfter;
+
+    /**
+     * Constructor of CircuitOpenException
+     * @param circuitName   Name of the open circuit
+     * @param retryAfter    Time until the circuit admits trial calls
+     */
+    public CircuitOpenException(String circuitName, Duration retryAfter) {
+        super("Circuit %1$s is open; retry after %2$d ms".formatted(circuitName, retryAfter.toMillis()));
+        this.circuitName = circuitName;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Get name of the open circuit
+     * @return  circuit name
+     */
+    public String getCircuitName() {
+        return this.circuitName;
+    }
+
+    /**
+     * Get time until the circuit admits trial calls
+     * @return  Duration
+     */
+    public Duration getRetryAfter() {
+        return this.retryAfter;
+    }
+}
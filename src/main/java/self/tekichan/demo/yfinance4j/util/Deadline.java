@@ -0,0 +1,96 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time by which a whole batch of asynchronous work must finish
+ * <p>
+ *     The remaining budget shrinks as time passes, so each request started under a deadline gets the smaller of
+ *     its own timeout and the time left. Work not started by the deadline is skipped, and work still in flight
+ *     at the deadline is cancelled.
+ * </p>
+ * <pre>{@code
+ * Deadline deadline = Deadline.after(Duration.ofSeconds(30));
+ * List<CompletableFuture<SummaryQuote>> futureList = deadline.cancelOnExpiry(AsyncBatch.mapBounded(
+ *         symbolList
+ *         , 8
+ *         , symbol -> new SummaryQuoteRequest(symbol, deadline.timeoutMillis(TIMEOUT_MILLIS), Priority.BULK).executeAsync()
+ *                 .thenCompose(Result::toFuture)
+ *         , deadline::isExpired
+ * ));
+ * }</pre>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class Deadline {
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Get a Deadline the given budget from now
+     * @param budget    Time allowed for the whole work
+     * @return  Deadline
+     */
+    public static Deadline after(Duration budget) {
+        Objects.requireNonNull(budget, "Budget must exist for deadline.");
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Budget must be positive: " + budget);
+        }
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Get time left before the deadline
+     * @return  remaining Duration, or zero if expired
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0L, remainingNanos()));
+    }
+
+    /**
+     * Whether the deadline has passed
+     * @return  true if no time is left
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0L;
+    }
+
+    /**
+     * Shrink a request timeout to the time left
+     * @param timeoutMillis timeout of a request in milliseconds
+     * @return  the smaller of the timeout and the time left, but at least 1 millisecond
+     */
+    public int timeoutMillis(int timeoutMillis) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(remainingNanos() + 999_999L);
+        return (int) Math.max(1L, Math.min(timeoutMillis, remainingMillis));
+    }
+
+    /**
+     * Cancel futures still running at the deadline
+     * <p>
+     *     The timer is dropped as soon as all futures complete, so a batch finishing early holds nothing.
+     * </p>
+     * @param futureList    List of futures of a batch
+     * @return  the same list
+     * @param <F>   the future type
+     */
+    public <F extends CompletableFuture<?>> List<F> cancelOnExpiry(List<F> futureList) {
+        Objects.requireNonNull(futureList, "List of futures must exist.");
+        var timer = new CompletableFuture<Void>()
+                .completeOnTimeout(null, Math.max(0L, remainingNanos()), TimeUnit.NANOSECONDS);
+        timer.thenRun(() -> futureList.forEach(future -> future.cancel(true)));
+        AsyncBatch.allSettled(futureList).thenRun(() -> timer.cancel(false));
+        return futureList;
+    }
+
+    private long remainingNanos() {
+        return this.deadlineNanos - System.nanoTime();
+    }
+}
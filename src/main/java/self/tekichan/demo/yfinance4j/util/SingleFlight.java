@@ -0,0 +1,131 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescing of concurrent identical asynchronous calls
+ * <p>
+ *     The first call of a key starts the work; calls of the same key arriving before it completes attach to it
+ *     and share its result instead of starting their own. Once the work completes the key is released,
+ *     so a later call starts afresh.
+ * </p>
+ * <p>
+ *     Every caller gets its own dependent CompletableFuture. Cancelling it detaches that caller only;
+ *     once every caller has detached, nobody waits for the shared work any more, so it is cancelled and
+ *     the key is released.
+ * </p>
+ * @param <K>   the key type
+ * @param <V>   the result type
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class SingleFlight<K, V> {
+    private final ConcurrentMap<K, Flight<V>> inFlightMap = new ConcurrentHashMap<>();
+    private final LongAdder startedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Execute a call, or attach to the identical call in flight
+     * @param key   Key identifying identical calls
+     * @param call  Supplier starting the call
+     * @return  CompletableFuture of the shared result, private to this caller
+     */
+    public CompletableFuture<V> execute(K key, Supplier<? extends CompletableFuture<V>> call) {
+        Objects.requireNonNull(key, "Key must exist.");
+        Objects.requireNonNull(call, "Call must exist.");
+        var created = new Flight<V>();
+        Flight<V> shared;
+        while ((shared = this.inFlightMap.putIfAbsent(key, created)) != null) {
+            if (shared.join()) {
+                this.coalescedCount.increment();
+                return attach(key, shared);
+            }
+            // every caller of the shared call has detached and it is being cancelled, so take the key over
+            this.inFlightMap.remove(key, shared);
+        }
+        this.startedCount.increment();
+        CompletableFuture<V> work;
+        try {
+            work = call.get();
+        } catch (RuntimeException ex) {
+            work = CompletableFuture.failedFuture(ex);
+        }
+        created.work = work;
+        work.whenComplete((value, throwable) -> {
+            // release the key first, so that no caller attaches to a completed call
+            this.inFlightMap.remove(key, created);
+            if (throwable != null) {
+                created.result.completeExceptionally(throwable);
+            } else {
+                created.result.complete(value);
+            }
+        });
+        return attach(key, created);
+    }
+
+    private CompletableFuture<V> attach(K key, Flight<V> flight) {
+        CompletableFuture<V> waiter = flight.result.copy();
+        waiter.whenComplete((value, throwable) -> {
+            if (waiter.isCancelled() && flight.waiterCount.decrementAndGet() == 0) {
+                this.inFlightMap.remove(key, flight);
+                flight.work.cancel(true);
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * Get number of calls in flight
+     * @return  number of keys in flight
+     */
+    public int getInFlightCount() {
+        return this.inFlightMap.size();
+    }
+
+    /**
+     * Get number of calls started
+     * @return  number of calls
+     */
+    public long getStartedCount() {
+        return this.startedCount.sum();
+    }
+
+    /**
+     * Get number of calls attached to a call in flight instead of starting their own
+     * @return  number of calls
+     */
+    public long getCoalescedCount() {
+        return this.coalescedCount.sum();
+    }
+
+    /**
+     * Shared work of a key and the number of callers waiting for it
+     */
+    private static final class Flight<V> {
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        // the caller starting the work counts from the start, so the work exists before the count can drop to 0
+        final AtomicInteger waiterCount = new AtomicInteger(1);
+        volatile CompletableFuture<V> work;
+
+        /**
+         * Count one more caller, unless every caller has detached already
+         * @return  true if counted, false if the flight is being cancelled
+         */
+        boolean join() {
+            int count = this.waiterCount.get();
+            while (count > 0) {
+                if (this.waiterCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+                count = this.waiterCount.get();
+            }
+            return false;
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package self.tekichan.demo.yfinance4j.util;
 
+import self.tekichan.demo.yfinance4j.http.AdaptiveTimeouts;
+import self.tekichan.demo.yfinance4j.http.ConditionalCache;
+import self.tekichan.demo.yfinance4j.http.ContentDecoding;
+import self.tekichan.demo.yfinance4j.http.HttpTransport;
+import self.tekichan.demo.yfinance4j.http.TransferStats;
+import self.tekichan.demo.yfinance4j.metrics.EndpointMetrics;
+
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -8,10 +15,15 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.time.temporal.ChronoUnit.MILLIS;
 
 /**
@@ -22,6 +34,59 @@ import static java.time.temporal.ChronoUnit.MILLIS;
  * @since 1 Jul 2022
  */
 public final class WebClientHelper {
+    private static volatile HttpTransport transport = HttpTransport.network();
+    private static volatile Consumer<TransferStats> transferListener = stats -> {};
+    private static volatile Optional<ConditionalCache> conditionalCache = Optional.empty();
+    private static volatile Optional<AdaptiveTimeouts> adaptiveTimeouts = Optional.empty();
+
+    /**
+     * Get the transport sending requests
+     * @return  HttpTransport; the network transport by default
+     */
+    public static HttpTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Set the transport sending requests, e.g. to record or replay responses
+     * @param httpTransport HttpTransport, or null to restore the network transport
+     */
+    public static void setTransport(HttpTransport httpTransport) {
+        transport = httpTransport != null ? httpTransport : HttpTransport.network();
+    }
+
+    /**
+     * Set the listener of transfer statistics, called once per completed response body
+     * @param listener  Listener of bytes on the wire and decoded bytes, or null to stop listening
+     */
+    public static void setTransferListener(Consumer<TransferStats> listener) {
+        transferListener = listener != null ? listener : stats -> {};
+    }
+
+    /**
+     * Set the cache revalidating responses, after which unchanged responses resolve to previously parsed models
+     * <p>
+     *     It applies to {@link #getParsed(String, int, Function)}, {@link #getParsedAsync(String, int, Function)}
+     *     and the CSV download methods.
+     * </p>
+     * @param cache ConditionalCache, or null to send unconditional requests
+     */
+    public static void setConditionalCache(ConditionalCache cache) {
+        conditionalCache = Optional.ofNullable(cache);
+    }
+
+    /**
+     * Set the adaptive timeouts replacing the fixed timeout once enough responses have been seen
+     * <p>
+     *     Timeouts adapt per endpoint for the methods taking {@link EndpointMetrics}, and per host otherwise.
+     *     A deadline still cancels the requests in flight when it expires.
+     * </p>
+     * @param timeouts  AdaptiveTimeouts, or null to keep the timeout given to each method
+     */
+    public static void setAdaptiveTimeouts(AdaptiveTimeouts timeouts) {
+        adaptiveTimeouts = Optional.ofNullable(timeouts);
+    }
+
     /**
      * Build HttpRequest object
      * @param targetUrl target URL
@@ -31,11 +96,7 @@ public final class WebClientHelper {
      */
     public static HttpRequest buildHttpRequest(String targetUrl, int timeoutMillis)
             throws URISyntaxException {
-        return HttpRequest.newBuilder()
-                .uri(new URI(targetUrl))
-                .timeout(Duration.of(timeoutMillis, MILLIS))
-                .GET()
-                .build();
+        return requestBuilder(targetUrl, timeoutMillis).build();
     }
 
     /**
@@ -61,11 +122,8 @@ public final class WebClientHelper {
      */
     public static HttpResponse<String> getHttpResponse(String targetUrl, int timeoutMillis)
             throws IOException, InterruptedException, URISyntaxException {
-        return buildHttpClient(timeoutMillis)
-                .send(
-                        buildHttpRequest(targetUrl, timeoutMillis)
-                        , HttpResponse.BodyHandlers.ofString()
-                );
+        HttpRequest request = buildHttpRequest(targetUrl, timeoutMillis, null);
+        return send(request, () -> decoding(request, HttpResponse.BodyHandlers.ofString()), () -> {});
     }
 
     /**
@@ -77,11 +135,131 @@ public final class WebClientHelper {
      */
     public static CompletableFuture<HttpResponse<String>> getHttpResponseAsync(String targetUrl, int timeoutMillis)
             throws URISyntaxException {
-        return buildHttpClient(timeoutMillis)
-                .sendAsync(
-                        buildHttpRequest(targetUrl, timeoutMillis)
-                        , HttpResponse.BodyHandlers.ofString()
-                );
+        HttpRequest request = buildHttpRequest(targetUrl, timeoutMillis, null);
+        return sendAsync(request, () -> decoding(request, HttpResponse.BodyHandlers.ofString()), () -> {});
+    }
+
+    /**
+     * Get the model parsed from the response body
+     * <p>
+     *     With a {@link ConditionalCache} set, the request is conditional and the parser is skipped
+     *     when the response is unchanged.
+     * </p>
+     * @param targetUrl target URL
+     * @param timeoutMillis read and connection timeout
+     * @param parser    Function parsing the body text to a model
+     * @return  the model
+     * @param <T>   the model type
+     * @throws IOException  {@link IOException} including an unsuccessful status code
+     * @throws InterruptedException {@link InterruptedException}
+     * @throws URISyntaxException   {@link URISyntaxException}
+     */
+    public static <T> T getParsed(String targetUrl, int timeoutMillis, Function<String, T> parser)
+            throws IOException, InterruptedException, URISyntaxException {
+        return getParsed(targetUrl, timeoutMillis, parser, null);
+    }
+
+    /**
+     * Get the model parsed from the response body, recording the exchange in endpoint metrics
+     * @see #getParsed(String, int, Function)
+     * @param targetUrl target URL
+     * @param timeoutMillis read and connection timeout
+     * @param parser    Function parsing the body text to a model
+     * @param metrics   Metrics of the endpoint, or null not to record
+     * @return  the model
+     * @param <T>   the model type
+     * @throws IOException  {@link IOException} including an unsuccessful status code
+     * @throws InterruptedException {@link InterruptedException}
+     * @throws URISyntaxException   {@link URISyntaxException}
+     */
+    public static <T> T getParsed(String targetUrl, int timeoutMillis, Function<String, T> parser
+            , EndpointMetrics metrics) throws IOException, InterruptedException, URISyntaxException {
+        HttpRequest request = buildHttpRequest(targetUrl, timeoutMillis, metrics);
+        EndpointMetrics.Exchange exchange = EndpointMetrics.start(metrics, request.uri());
+        Function<String, T> timedParser = exchange.timingParser(parser);
+        Optional<ConditionalCache> cache = conditionalCache;
+        try {
+            if (cache.isPresent()) {
+                HttpResponse<byte[]> response = send(cache.get().conditional(request)
+                        , () -> decoding(request, HttpResponse.BodyHandlers.ofByteArray(), exchange, metrics)
+                        , exchange::dispatched);
+                T model = cache.get().resolve(request, response, timedParser);
+                exchange.cacheResolved();
+                return exchange.completed(model);
+            }
+            HttpResponse<String> response = send(request
+                    , () -> decoding(request, HttpResponse.BodyHandlers.ofString(), exchange, metrics)
+                    , exchange::dispatched);
+            return exchange.completed(timedParser.apply(successfulBody(response)));
+        } catch (IOException | InterruptedException | RuntimeException ex) {
+            exchange.failed(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Asynchronously get the model parsed from the response body
+     * <p>
+     *     Cancelling the returned CompletableFuture aborts the exchange in flight.
+     * </p>
+     * @see #getParsed(String, int, Function)
+     * @param targetUrl target URL
+     * @param timeoutMillis read and connection timeout
+     * @param parser    Function parsing the body text to a model
+     * @return  CompletableFuture of the model
+     * @param <T>   the model type
+     * @throws URISyntaxException   {@link URISyntaxException}
+     */
+    public static <T> CompletableFuture<T> getParsedAsync(String targetUrl, int timeoutMillis, Function<String, T> parser)
+            throws URISyntaxException {
+        return getParsedAsync(targetUrl, timeoutMillis, parser, null);
+    }
+
+    /**
+     * Asynchronously get the model parsed from the response body, recording the exchange in endpoint metrics
+     * @see #getParsedAsync(String, int, Function)
+     * @param targetUrl target URL
+     * @param timeoutMillis read and connection timeout
+     * @param parser    Function parsing the body text to a model
+     * @param metrics   Metrics of the endpoint, or null not to record
+     * @return  CompletableFuture of the model
+     * @param <T>   the model type
+     * @throws URISyntaxException   {@link URISyntaxException}
+     */
+    public static <T> CompletableFuture<T> getParsedAsync(String targetUrl, int timeoutMillis, Function<String, T> parser
+            , EndpointMetrics metrics) throws URISyntaxException {
+        HttpRequest request = buildHttpRequest(targetUrl, timeoutMillis, metrics);
+        EndpointMetrics.Exchange exchange = EndpointMetrics.start(metrics, request.uri());
+        Function<String, T> timedParser = exchange.timingParser(parser);
+        Optional<ConditionalCache> cache = conditionalCache;
+        CompletableFuture<T> modelFuture;
+        if (cache.isPresent()) {
+            CompletableFuture<HttpResponse<byte[]>> future = sendAsync(cache.get().conditional(request)
+                    , () -> decoding(request, HttpResponse.BodyHandlers.ofByteArray(), exchange, metrics)
+                    , exchange::dispatched);
+            modelFuture = AsyncBatch.propagateCancel(future.thenApply(response -> {
+                try {
+                    T model = cache.get().resolve(request, response, timedParser);
+                    exchange.cacheResolved();
+                    return model;
+                } catch (IOException ex) {
+                    throw new CompletionException(ex);
+                }
+            }), future);
+        } else {
+            CompletableFuture<HttpResponse<String>> future = sendAsync(request
+                    , () -> decoding(request, HttpResponse.BodyHandlers.ofString(), exchange, metrics)
+                    , exchange::dispatched);
+            modelFuture = AsyncBatch.propagateCancel(future.thenApply(response -> {
+                try {
+                    return timedParser.apply(successfulBody(response));
+                } catch (IOException ex) {
+                    throw new CompletionException(ex);
+                }
+            }), future);
+        }
+        modelFuture.whenComplete(exchange::complete);
+        return modelFuture;
     }
 
     /**
@@ -97,13 +275,38 @@ public final class WebClientHelper {
      */
     public static <T> List<T> downloadCsvToList(String targetUrl, int timeoutMillis, Function<Stream<String>, List<T>> mapFunc)
             throws URISyntaxException, InterruptedException, IOException {
-        HttpResponse<Stream<String>> response =
-                buildHttpClient(timeoutMillis)
-                .send(
-                        buildHttpRequest(targetUrl, timeoutMillis)
-                        , HttpResponse.BodyHandlers.ofLines()
-                );
-        return mapFunc.apply(response.body());
+        return downloadCsvToList(targetUrl, timeoutMillis, mapFunc, null);
+    }
+
+    /**
+     * Download CSV to List of the class type, recording the exchange in endpoint metrics
+     * @see #downloadCsvToList(String, int, Function)
+     * @param targetUrl     target URL
+     * @param timeoutMillis read and connection timeout
+     * @param mapFunc   Mapping function to convert Stream of String to the class type
+     * @param metrics   Metrics of the endpoint, or null not to record
+     * @return  List of the class type
+     * @param <T>   the class type
+     * @throws URISyntaxException   {@link URISyntaxException}
+     * @throws InterruptedException {@link InterruptedException}
+     * @throws IOException  {@link IOException}
+     */
+    public static <T> List<T> downloadCsvToList(String targetUrl, int timeoutMillis, Function<Stream<String>, List<T>> mapFunc
+            , EndpointMetrics metrics) throws URISyntaxException, InterruptedException, IOException {
+        if (conditionalCache.isPresent()) {
+            return getParsed(targetUrl, timeoutMillis, body -> mapFunc.apply(body.lines()), metrics);
+        }
+        HttpRequest request = buildHttpRequest(targetUrl, timeoutMillis, metrics);
+        EndpointMetrics.Exchange exchange = EndpointMetrics.start(metrics, request.uri());
+        try {
+            HttpResponse<Stream<String>> response = send(request
+                    , () -> decoding(request, HttpResponse.BodyHandlers.ofLines(), exchange, metrics)
+                    , exchange::dispatched);
+            return exchange.completed(exchange.timingParser(mapFunc).apply(response.body()));
+        } catch (IOException | InterruptedException | RuntimeException ex) {
+            exchange.failed(ex);
+            throw ex;
+        }
     }
 
     /**
@@ -117,12 +320,126 @@ public final class WebClientHelper {
      */
     public static <T> CompletableFuture<List<T>> downloadCsvToListAsync(String targetUrl, int timeoutMillis, Function<Stream<String>, List<T>> mapFunc)
             throws URISyntaxException {
-        return buildHttpClient(timeoutMillis)
-                .sendAsync(
-                        buildHttpRequest(targetUrl, timeoutMillis)
-                        , HttpResponse.BodyHandlers.ofLines()
-                )
-                .thenApply(HttpResponse::body)
-                .thenApply(mapFunc);
+        return downloadCsvToListAsync(targetUrl, timeoutMillis, mapFunc, null);
+    }
+
+    /**
+     * Asynchronously download CSV to List of the class type, recording the exchange in endpoint metrics
+     * @see #downloadCsvToListAsync(String, int, Function)
+     * @param targetUrl target URL
+     * @param timeoutMillis read and connection timeout
+     * @param mapFunc   Mapping function to convert Stream of String to the class type
+     * @param metrics   Metrics of the endpoint, or null not to record
+     * @return  CompletableFuture of List of the class type
+     * @param <T>   the class type
+     * @throws URISyntaxException   {@link URISyntaxException}
+     */
+    public static <T> CompletableFuture<List<T>> downloadCsvToListAsync(String targetUrl, int timeoutMillis
+            , Function<Stream<String>, List<T>> mapFunc, EndpointMetrics metrics) throws URISyntaxException {
+        if (conditionalCache.isPresent()) {
+            return getParsedAsync(targetUrl, timeoutMillis, body -> mapFunc.apply(body.lines()), metrics);
+        }
+        HttpRequest request = buildHttpRequest(targetUrl, timeoutMillis, metrics);
+        EndpointMetrics.Exchange exchange = EndpointMetrics.start(metrics, request.uri());
+        CompletableFuture<HttpResponse<Stream<String>>> future = sendAsync(request
+                , () -> decoding(request, HttpResponse.BodyHandlers.ofLines(), exchange, metrics)
+                , exchange::dispatched);
+        CompletableFuture<List<T>> listFuture = AsyncBatch.propagateCancel(
+                future.thenApply(HttpResponse::body).thenApply(exchange.timingParser(mapFunc))
+                , future
+        );
+        listFuture.whenComplete(exchange::complete);
+        return listFuture;
+    }
+
+    private static String successfulBody(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() != HTTP_OK) {
+            throw new IOException("Unsuccessful Status Code: " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static HttpRequest.Builder requestBuilder(String targetUrl, int timeoutMillis) throws URISyntaxException {
+        return HttpRequest.newBuilder()
+                .uri(new URI(targetUrl))
+                .timeout(Duration.of(timeoutMillis, MILLIS))
+                .GET();
+    }
+
+    private static HttpRequest buildHttpRequest(String targetUrl, int timeoutMillis, EndpointMetrics metrics)
+            throws URISyntaxException {
+        // the response methods here all decode the body, so they accept compressed encodings
+        HttpRequest request = requestBuilder(targetUrl, timeoutMillis)
+                .header("Accept-Encoding", ContentDecoding.ACCEPT_ENCODING)
+                .build();
+        Optional<AdaptiveTimeouts> timeouts = adaptiveTimeouts;
+        return timeouts.isPresent() ? timeouts.get().adapt(timeoutKeyOf(request, metrics), request) : request;
+    }
+
+    private static <T> HttpResponse<T> send(HttpRequest request, Supplier<HttpResponse.BodyHandler<T>> bodyHandler
+            , Runnable onDispatch) throws IOException, InterruptedException {
+        var handler = new DispatchedHandler<>(bodyHandler, onDispatch);
+        return transport.send(request, handler, handler);
+    }
+
+    private static <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request
+            , Supplier<HttpResponse.BodyHandler<T>> bodyHandler, Runnable onDispatch) {
+        var handler = new DispatchedHandler<>(bodyHandler, onDispatch);
+        return transport.sendAsync(request, handler, handler);
+    }
+
+    private static <T> HttpResponse.BodyHandler<T> decoding(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return watching(request, ContentDecoding.decoding(request.uri(), bodyHandler, transferListener), null);
+    }
+
+    private static <T> HttpResponse.BodyHandler<T> decoding(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler
+            , EndpointMetrics.Exchange exchange, EndpointMetrics metrics) {
+        return watching(request
+                , exchange.timingHeaders(ContentDecoding.decoding(request.uri(), bodyHandler, exchange.timingBody(transferListener)))
+                , metrics);
+    }
+
+    private static <T> HttpResponse.BodyHandler<T> watching(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler
+            , EndpointMetrics metrics) {
+        Optional<AdaptiveTimeouts> timeouts = adaptiveTimeouts;
+        return timeouts.isPresent() ? timeouts.get().watching(timeoutKeyOf(request, metrics), bodyHandler) : bodyHandler;
+    }
+
+    private static String timeoutKeyOf(HttpRequest request, EndpointMetrics metrics) {
+        return metrics != null ? metrics.getName() : request.uri().getHost();
+    }
+
+    /**
+     * Body handler built when its request is dispatched
+     * <p>
+     *     A transport may queue a request, so the exchange and the adaptive timeouts are timed from the dispatch.
+     * </p>
+     */
+    private static final class DispatchedHandler<T> implements HttpResponse.BodyHandler<T>, Runnable {
+        private final Supplier<HttpResponse.BodyHandler<T>> handlerSupplier;
+        private final Runnable onDispatch;
+        private volatile HttpResponse.BodyHandler<T> handler;
+
+        DispatchedHandler(Supplier<HttpResponse.BodyHandler<T>> handlerSupplier, Runnable onDispatch) {
+            this.handlerSupplier = handlerSupplier;
+            this.onDispatch = onDispatch;
+        }
+
+        @Override
+        public void run() {
+            this.onDispatch.run();
+            this.handler = this.handlerSupplier.get();
+        }
+
+        @Override
+        public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
+            HttpResponse.BodyHandler<T> bodyHandler = this.handler;
+            if (bodyHandler == null) {
+                // a transport never dispatching the request
+                bodyHandler = this.handlerSupplier.get();
+                this.handler = bodyHandler;
+            }
+            return bodyHandler.apply(responseInfo);
+        }
     }
 }
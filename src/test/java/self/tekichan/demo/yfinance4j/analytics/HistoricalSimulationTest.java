@@ -0,0 +1,89 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.series.FillPolicy;
+import self.tekichan.demo.yfinance4j.series.HistoricalSeries;
+import self.tekichan.demo.yfinance4j.series.SeriesAligner;
+import self.tekichan.demo.yfinance4j.series.SeriesPanel;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for HistoricalSimulation
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class HistoricalSimulationTest {
+    static final int START_DAY = (int) LocalDate.of(2022, 1, 3).toEpochDay();
+
+    @Test
+    public void testEvaluate() {
+        // A falls 10% on day 3 while B rises 5%; both flat otherwise
+        SeriesPanel panel = SeriesAligner.align(List.of(
+                series("A", 100, 100, 100, 90, 90)
+                , series("B", 50, 50, 50, 52.5, 52.5)
+        ), FillPolicy.FORWARD_FILL);
+        var simulation = new HistoricalSimulation(
+                List.of(new Position("A", 10), new Position("B", 20), new Position("C", 5))
+                , panel
+                , 4
+        );
+        assertEquals(4, simulation.scenarioCount());
+        RiskResult result = simulation.evaluate(0.75);
+        assertEquals(1, result.tailCount());
+        assertEquals(900.0 + 1050.0, result.portfolioValue(), 1e-9);
+        // worst scenario: A -10% on 900, B +5% on 1050
+        assertEquals(90.0 - 52.5, result.valueAtRisk(), 1e-9);
+        assertEquals(result.valueAtRisk(), result.expectedShortfall(), 1e-9);
+        double varSum = result.positionRiskList().stream().mapToDouble(PositionRisk::varContribution).sum();
+        assertEquals(result.valueAtRisk(), varSum, 1e-9);
+        assertEquals(0.0, result.positionRiskList().get(2).exposure());
+    }
+
+    @Test
+    public void testRollAndUpdate() {
+        SeriesPanel panel = SeriesAligner.align(List.of(series("A", 100, 101, 102)), FillPolicy.FORWARD_FILL);
+        var simulation = new HistoricalSimulation(List.of(new Position("A", 1)), panel, 2);
+        assertEquals(2, simulation.scenarioCount());
+        simulation.rollBar(LocalDate.ofEpochDay(START_DAY + 3), new double[] { 51 });
+        assertEquals(2, simulation.scenarioCount());
+        assertEquals(LocalDate.ofEpochDay(START_DAY + 3), simulation.asOfDate());
+        RiskResult result = simulation.evaluate(0.5);
+        assertEquals(51.0 * 0.5, result.valueAtRisk(), 1e-9);
+
+        simulation.updateLatestBar(new double[] { 103 });   // the drop is revised away intraday
+        result = simulation.evaluate(0.5);
+        assertTrue(result.valueAtRisk() < 0.0);   // both remaining scenarios are gains
+        assertEquals(103.0, result.portfolioValue(), 1e-9);
+    }
+
+    @Test
+    public void testSplitKeepsOneBasis() {
+        // a 2-for-1 split on the last day: closes halve while adjusted closes stay flat
+        var split = new HistoricalSeries("A", new int[] { START_DAY, START_DAY + 1, START_DAY + 2 }
+                , new double[] { 100, 100, 50 }, new double[] { 100, 100, 50 }, new double[] { 100, 100, 50 }
+                , new double[] { 100, 100, 50 }, new double[] { 50, 50, 50 }, new long[3]);
+        SeriesPanel panel = SeriesAligner.align(List.of(split), FillPolicy.FORWARD_FILL);
+        var simulation = new HistoricalSimulation(List.of(new Position("A", 10)), panel, 2);
+        assertEquals(500.0, simulation.evaluate(0.5).portfolioValue(), 1e-9);
+
+        // an intraday move to 51 is a 2% gain, not a loss against the pre-split close
+        simulation.updateLatestBar(new double[] { 51 });
+        RiskResult result = simulation.evaluate(0.5);
+        assertEquals(510.0, result.portfolioValue(), 1e-9);
+        assertEquals(0.0, result.valueAtRisk(), 1e-9);
+    }
+
+    static HistoricalSeries series(String symbol, double... closes) {
+        int size = closes.length;
+        int[] days = new int[size];
+        long[] volumes = new long[size];
+        for (int i = 0; i < size; i++) {
+            days[i] = START_DAY + i;
+        }
+        return new HistoricalSeries(symbol, days, closes, closes, closes, closes, closes, volumes);
+    }
+}
@@ -0,0 +1,55 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.model.IndexComponent;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for IndexAnalytics
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class IndexAnalyticsTest {
+    @Test
+    public void testOf() {
+        var info = new IndexComponentInfo(
+                "^TEST"
+                , LocalDateTime.now()
+                , "USD"
+                , List.of(
+                        new IndexComponent("AAA", "Triple A", "110", "10", "10", "1000")
+                        , new IndexComponent("BBB", "Double B", "95", "-5", "-5", "2000")
+                        , new IndexComponent("CCC", "Unchanged C", "20", "0", "0", "300")
+                        , new IndexComponent("DDD", "No Cap D", "10", "1", "11.11", "400")
+                )
+        );
+        // prior caps: AAA 1000, BBB 1000, CCC 500
+        IndexAnalytics analytics = IndexAnalytics.of(info, Map.of(
+                "AAA", new BigDecimal("1100")
+                , "BBB", new BigDecimal("950")
+                , "CCC", new BigDecimal("500")
+        ));
+        assertEquals(4, analytics.componentCount());
+        assertEquals(3, analytics.cappedCount());
+        assertEquals(2, analytics.advancers());
+        assertEquals(1, analytics.decliners());
+        assertEquals(1, analytics.unchanged());
+        assertEquals(3700L, analytics.totalVolume());
+        assertEquals((10.0 - 5.0 + 0.0 + 11.11) / 4, analytics.equalWeightedReturnPercent(), 1e-9);
+        assertEquals((1000 * 10.0 - 1000 * 5.0) / 2500, analytics.capWeightedReturnPercent(), 1e-9);
+        double contributionSum = analytics.contributionList().stream()
+                .mapToDouble(ComponentContribution::contributionPercent)
+                .sum();
+        assertEquals(analytics.capWeightedReturnPercent(), contributionSum, 1e-9);
+        assertEquals(40.0, analytics.contributionList().get(0).weightPercent(), 1e-9);
+        assertTrue(Double.isNaN(analytics.contributionList().get(3).marketCap()));
+        assertEquals(0.0, analytics.contributionList().get(3).contributionPercent());
+    }
+}
@@ -0,0 +1,72 @@
+package self.tekichan.demo.yfinance4j.analytics;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for StatFilters
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class StatFiltersTest {
+    @Test
+    public void testBounds() {
+        Predicate<KeyStatistics> cheap = StatFilters.between(KeyStatistics::trailingPe, 5, 15);
+        assertTrue(cheap.test(stat("10", null)));
+        assertTrue(cheap.test(stat("5", null)));
+        assertTrue(cheap.test(stat("15", null)));
+        assertFalse(cheap.test(stat("15.01", null)));
+        assertFalse(cheap.test(stat("4.99", null)));
+        assertTrue(StatFilters.atLeast(KeyStatistics::returnOnEquityPercent, 10).test(stat(null, "11.36")));
+        assertFalse(StatFilters.atLeast(KeyStatistics::returnOnEquityPercent, 10).test(stat(null, "9.99")));
+        assertTrue(StatFilters.atMost(KeyStatistics::returnOnEquityPercent, 10).test(stat(null, "-5")));
+        assertTrue(cheap.and(StatFilters.atLeast(KeyStatistics::returnOnEquityPercent, 10)).test(stat("12", "20")));
+        assertFalse(cheap.and(StatFilters.atLeast(KeyStatistics::returnOnEquityPercent, 10)).test(stat("12", "5")));
+    }
+
+    @Test
+    public void testUnavailable() {
+        // N/A is parsed as 0, which never matches, even inside the range
+        assertFalse(StatFilters.atMost(KeyStatistics::trailingPe, 15).test(stat("0", null)));
+        assertFalse(StatFilters.atMost(KeyStatistics::trailingPe, 15).test(stat("0.00", null)));
+        assertFalse(StatFilters.between(KeyStatistics::trailingPe, -1, 1).test(stat(null, null)));
+        assertFalse(StatFilters.available(KeyStatistics::trailingPe).test(stat(null, "10")));
+        assertTrue(StatFilters.available(KeyStatistics::trailingPe).test(stat("-3", null)));
+        assertThrows(NullPointerException.class, () -> StatFilters.available(null));
+    }
+
+    /**
+     * Key statistics with only the trailing P/E and return on equity set
+     */
+    static KeyStatistics stat(String trailingPe, String returnOnEquityPercent) {
+        var valueMap = new HashMap<String, Object>();
+        valueMap.put("symbol", "TSCO.L");
+        if (trailingPe != null) {
+            valueMap.put("trailingPe", new BigDecimal(trailingPe));
+        }
+        if (returnOnEquityPercent != null) {
+            valueMap.put("returnOnEquityPercent", new BigDecimal(returnOnEquityPercent));
+        }
+        return of(valueMap);
+    }
+
+    private static KeyStatistics of(Map<String, Object> valueMap) {
+        RecordComponent[] components = KeyStatistics.class.getRecordComponents();
+        try {
+            return KeyStatistics.class
+                    .getDeclaredConstructor(Arrays.stream(components).map(RecordComponent::getType).toArray(Class[]::new))
+                    .newInstance(Arrays.stream(components).map(c -> valueMap.get(c.getName())).toArray());
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
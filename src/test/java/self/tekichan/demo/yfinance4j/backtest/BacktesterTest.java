@@ -0,0 +1,92 @@
+package self.tekichan.demo.yfinance4j.backtest;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.series.FillPolicy;
+import self.tekichan.demo.yfinance4j.series.HistoricalSeries;
+import self.tekichan.demo.yfinance4j.series.PriceField;
+import self.tekichan.demo.yfinance4j.series.SeriesAligner;
+import self.tekichan.demo.yfinance4j.series.SeriesPanel;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for Backtester
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class BacktesterTest {
+    static final int START_DAY = (int) LocalDate.of(2022, 1, 3).toEpochDay();
+
+    @Test
+    public void testBuyAndHold() {
+        SeriesPanel panel = SeriesAligner.align(List.of(
+                series("A", 0, 10, 11, 12, 9, 15)
+                , series("B", 2, 100, 100, 100)   // starts trading two days later
+        ), FillPolicy.NONE);
+        BacktestResult result = new Backtester(panel)
+                .initialCash(1000)
+                .run(context -> {
+                    if (context.row() == 0) {
+                        assertFalse(context.bar(1).isPresent());
+                        assertFalse(context.orderTarget(1, 1));
+                        assertTrue(context.orderTarget(0, 50));
+                    }
+                });
+        assertEquals(1, result.tradeCount());
+        assertEquals(500.0 + 50 * 15, result.finalEquity(), 1e-9);
+        assertEquals(25.0, result.totalReturnPercent(), 1e-9);
+        // peak 1100 at day 3, trough 950 at day 4
+        assertEquals((1100.0 - 950.0) / 1100.0 * 100.0, result.maxDrawdownPercent(), 1e-9);
+        assertEquals(5, result.equityCurve().length);
+    }
+
+    @Test
+    public void testSweep() {
+        double[] closes = IntStream.range(0, 200).mapToDouble(i -> 100 + 10 * Math.sin(i / 10.0)).toArray();
+        SeriesPanel panel = SeriesAligner.align(List.of(series("A", 0, closes)), FillPolicy.NONE);
+        var backtester = new Backtester(panel).commissionRate(0.001);
+        List<Integer> windowList = List.of(5, 10, 20, 40);
+        List<BacktestResult> resultList = backtester.sweep(windowList, MovingAverageCross::new);
+        assertEquals(windowList.size(), resultList.size());
+        for (int i = 0; i < windowList.size(); i++) {
+            BacktestResult sequential = backtester.run(new MovingAverageCross(windowList.get(i)));
+            assertEquals(sequential.finalEquity(), resultList.get(i).finalEquity(), 1e-9);
+            assertTrue(resultList.get(i).tradeCount() > 0);
+            assertTrue(resultList.get(i).commissionPaid() > 0.0);
+        }
+    }
+
+    static final class MovingAverageCross implements Strategy {
+        private final int window;
+
+        MovingAverageCross(int window) {
+            this.window = window;
+        }
+
+        @Override
+        public void onBar(BacktestContext context) {
+            if (context.row() < this.window) {
+                return;
+            }
+            double[] closes = context.priceColumn(PriceField.CLOSE, 0);
+            double sum = 0.0;
+            for (int r = context.row() - this.window + 1; r <= context.row(); r++) {
+                sum += closes[r];
+            }
+            context.orderTargetPercent(0, context.bar(0).close() > sum / this.window ? 100.0 : 0.0);
+        }
+    }
+
+    static HistoricalSeries series(String symbol, int offset, double... closes) {
+        int size = closes.length;
+        int[] days = new int[size];
+        for (int i = 0; i < size; i++) {
+            days[i] = START_DAY + offset + i;
+        }
+        return new HistoricalSeries(symbol, days, closes, closes, closes, closes, closes, new long[size]);
+    }
+}
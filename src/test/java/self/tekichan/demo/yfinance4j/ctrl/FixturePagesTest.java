@@ -0,0 +1,79 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.model.ScaleUnit;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for the parsers against the fixture pages, which the JMH benchmarks also read
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class FixturePagesTest {
+    static String fixture(String name) throws IOException {
+        try (InputStream in = FixturePagesTest.class.getResourceAsStream("/fixtures/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testSummaryQuote() throws IOException {
+        SummaryQuote quote = SummaryQuoteCtrl.getSummaryQuoteFromBody("TSCO.L", fixture("summary-quote.html"));
+        assertEquals("Tesco PLC", quote.companyName());
+        assertEquals("LSE", quote.stockExchange());
+        assertEquals("GBp", quote.currencyCode());
+        assertEquals(new BigDecimal("246.10"), quote.previousPrice());
+        assertEquals(new BigDecimal("246.20"), quote.askPrice());
+        assertEquals(new BigDecimal("285.00"), quote.fiftyTwoWeekHigh());
+        assertEquals(21_432_118L, quote.averageVolume());
+        assertEquals(ScaleUnit.BILLION, quote.marketCap().scaleUnit());
+        assertEquals(LocalDate.of(2022, 10, 5), quote.earningsDate());
+        assertEquals(new BigDecimal("4.48"), quote.forwardYieldPercent());
+        assertEquals(new BigDecimal("3.02"), quote.oneYearEst());
+    }
+
+    @Test
+    public void testKeyStatistics() throws IOException {
+        KeyStatistics stat = KeyStatisticsCtrl.getKeyStatisticsFromBody("TSCO.L", fixture("key-statistics.html"));
+        assertEquals("Tesco PLC", stat.companyName());
+        assertEquals(new BigDecimal("18.04"), stat.marketCap().baseValue());
+        assertEquals(new BigDecimal("6.71"), stat.enterpriseValueEbitaRatio());
+        assertEquals(LocalDate.of(2022, 2, 25), stat.fiscalYearEnds());
+        assertEquals(ScaleUnit.BILLION, stat.leveredFreeCashFlow().scaleUnit());
+        assertEquals(new BigDecimal("0.57"), stat.beta());
+        assertEquals(ScaleUnit.MILLION, stat.sharesShortPriorMonth().scaleUnit());
+        assertEquals(new BigDecimal("19"), stat.lastSplitFactor().leftValue());
+        assertEquals(LocalDate.of(2022, 5, 16), stat.lastSplitDate());
+    }
+
+    @Test
+    public void testIndexComponents() throws IOException {
+        IndexComponentInfo info = IndexComponentCtrl.getComponentInfoFromBody("^FTSE", fixture("index-components.html"));
+        assertEquals("GBP", info.currencyCode());
+        assertEquals(100, info.componentList().size());
+        assertEquals("C000.L", info.componentList().get(0).symbol());
+        assertEquals("Component 099 PLC", info.componentList().get(99).companyName());
+    }
+
+    @Test
+    public void testHistoricalQuotes() throws IOException {
+        List<HistoricalQuote> quoteList = HistoricalQuoteCtrl.fromStreamToList("TSCO.L"
+                , fixture("historical-quote.csv").lines());
+        assertEquals(5365, quoteList.size());
+        assertEquals(LocalDate.of(2002, 1, 2), quoteList.get(0).tradeDate());
+        assertEquals(LocalDate.of(2022, 7, 26), quoteList.get(quoteList.size() - 1).tradeDate());
+    }
+}
@@ -0,0 +1,121 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.model.IndexComponent;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for IndexSnapshotCtrl
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class IndexSnapshotCtrlTest {
+    @Test
+    public void testPartialSnapshot() {
+        var info = new IndexComponentInfo("^FTSE", LocalDateTime.now(), "GBP", IntStream.range(0, 20)
+                .mapToObj(i -> new IndexComponent("S" + i + ".L", "Company " + i, "100", "1", "1", "1000"))
+                .toList());
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var ctrl = new IndexSnapshotCtrl().symbol("^ftse").concurrency(4);
+        IndexSnapshot snapshot = ctrl.getIndexSnapshotAsync(
+                (symbol, timeout) -> CompletableFuture.completedFuture(Result.success(info))
+                , (symbol, timeout) -> delayed(inFlight, maxInFlight, symbol.equals("S3.L")
+                        ? Result.failure(new IOException("down"))
+                        : Result.success(WatchlistCtrlTest.quote(symbol, 1000L)))
+                , (symbol, timeout) -> delayed(inFlight, maxInFlight, Result.<KeyStatistics>success(null))
+        ).join();
+
+        assertEquals("^FTSE", snapshot.symbol());
+        assertEquals(20, snapshot.componentList().size());
+        assertEquals("S19.L", snapshot.componentList().get(19).symbol());
+        assertEquals("S19.L", snapshot.componentList().get(19).summaryQuote().value().map(SummaryQuote::symbol).orElseThrow());
+        assertFalse(snapshot.isComplete());
+        assertEquals(List.of("S3.L"), snapshot.failedSymbols());
+        assertTrue(snapshot.componentList().get(3).keyStatistics().isSuccess());
+        assertInstanceOf(IOException.class, snapshot.componentList().get(3).summaryQuote().exception().orElseThrow());
+        // the callbacks leave the controller alone
+        assertTrue(ctrl.getLastException().isEmpty());
+        // two pages per component in flight
+        assertTrue(maxInFlight.get() <= 8);
+        assertTrue(maxInFlight.get() > 2);
+        assertTrue(snapshot.timing().summaryQuotes().compareTo(Duration.ofMillis(20 * 5 / 4)) >= 0);
+        assertTrue(snapshot.timing().total().compareTo(snapshot.timing().summaryQuotes()) >= 0);
+    }
+
+    @Test
+    public void testDeadline() {
+        var info = new IndexComponentInfo("^FTSE", LocalDateTime.now(), "GBP", IntStream.range(0, 6)
+                .mapToObj(i -> new IndexComponent("S" + i + ".L", "Company " + i, "100", "1", "1", "1000"))
+                .toList());
+        var stalledList = new CopyOnWriteArrayList<CompletableFuture<?>>();
+        var timeoutList = new CopyOnWriteArrayList<Integer>();
+        IndexSnapshot snapshot = new IndexSnapshotCtrl()
+                .symbol("^FTSE")
+                .concurrency(2)
+                .timeout(60_000)
+                .deadline(Duration.ofMillis(200))
+                .getIndexSnapshotAsync(
+                        (symbol, timeout) -> CompletableFuture.completedFuture(Result.success(info))
+                        , (symbol, timeout) -> {
+                            timeoutList.add(timeout);
+                            if (symbol.equals("S0.L")) {
+                                return CompletableFuture.completedFuture(Result.success(WatchlistCtrlTest.quote(symbol, 1000L)));
+                            }
+                            // a stalled server
+                            var stalled = new CompletableFuture<Result<SummaryQuote>>();
+                            stalledList.add(stalled);
+                            return stalled;
+                        }
+                        , (symbol, timeout) -> CompletableFuture.completedFuture(Result.<KeyStatistics>success(null))
+                ).join();
+        assertTrue(snapshot.componentList().get(0).isComplete());
+        assertEquals(List.of("S1.L", "S2.L", "S3.L", "S4.L", "S5.L"), snapshot.failedSymbols());
+        // S0.L frees a slot at once, so S1.L and S2.L are started; the rest are skipped at the deadline
+        assertEquals(3, timeoutList.size());
+        assertTrue(timeoutList.stream().allMatch(timeout -> timeout <= 200));
+        // teardown runs on the timer thread and may trail the snapshot by a moment
+        CompletableFuture.allOf(stalledList.toArray(CompletableFuture[]::new))
+                .handle((v, ex) -> null)
+                .orTimeout(1, TimeUnit.SECONDS)
+                .join();
+        assertTrue(stalledList.stream().allMatch(CompletableFuture::isCancelled));
+        assertTrue(snapshot.timing().total().compareTo(Duration.ofMillis(200)) >= 0);
+    }
+
+    @Test
+    public void testComponentListFailure() {
+        var ctrl = new IndexSnapshotCtrl().symbol("^FTSE");
+        CompletableFuture<IndexSnapshot> future = ctrl.getIndexSnapshotAsync(
+                (symbol, timeout) -> CompletableFuture.completedFuture(Result.failure(new IOException("down")))
+                , (symbol, timeout) -> fail("no component")
+                , (symbol, timeout) -> fail("no component")
+        );
+        assertInstanceOf(IOException.class, assertThrows(CompletionException.class, future::join).getCause());
+        assertTrue(ctrl.getLastException().isEmpty());
+        assertTrue(new IndexSnapshotCtrl().symbol("FTSE").getIndexSnapshotAsync().isCompletedExceptionally());
+    }
+
+    static <T> CompletableFuture<Result<T>> delayed(AtomicInteger inFlight, AtomicInteger maxInFlight, Result<T> result) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return CompletableFuture.supplyAsync(() -> {
+            inFlight.decrementAndGet();
+            return result;
+        }, CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS));
+    }
+}
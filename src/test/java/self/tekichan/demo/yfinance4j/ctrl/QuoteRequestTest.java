@@ -0,0 +1,277 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import self.tekichan.demo.yfinance4j.http.HttpTransport;
+import self.tekichan.demo.yfinance4j.http.Priority;
+import self.tekichan.demo.yfinance4j.http.Recording;
+import self.tekichan.demo.yfinance4j.http.ReplayTransport;
+import self.tekichan.demo.yfinance4j.http.RequestKeys;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.model.Interval;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+import self.tekichan.demo.yfinance4j.util.CircuitBreaker;
+import self.tekichan.demo.yfinance4j.util.CircuitOpenException;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for QuoteRequest
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class QuoteRequestTest {
+    static final String CSV = """
+            Date,Open,High,Low,Close,Adj Close,Volume
+            2022-07-25,245.600006,247.000000,244.500000,246.100006,240.050003,11375840
+            2022-07-26,246.000000,248.199997,245.000000,247.199997,241.100006,9581023
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void resetTransport() {
+        WebClientHelper.setTransport(null);
+        for (Endpoint endpoint : Endpoint.values()) {
+            EndpointBreakers.set(endpoint, null);
+        }
+    }
+
+    @Test
+    public void testImmutableRequest() {
+        var request = HistoricalQuoteRequest.of("tsco.l");
+        var ranged = request
+                .withStartDate(LocalDate.of(2022, 7, 25))
+                .withEndDate(LocalDate.of(2022, 7, 26))
+                .withInterval(Interval.WEEKLY)
+                .withTimeout(5000);
+        assertEquals("TSCO.L", request.symbol());
+        assertEquals(Optional.empty(), request.startDate());
+        assertEquals(Interval.DAILY, request.interval());
+        assertTrue(ranged.targetUrl().contains("TSCO.L?period1=1658707200&period2=1658879999&interval=1wk"));
+        assertEquals(ranged, ranged.withInterval(Interval.WEEKLY));
+
+        var ctrl = new HistoricalQuoteCtrl()
+                .symbol("tsco.l")
+                .startDate(LocalDate.of(2022, 7, 25))
+                .endDate(LocalDate.of(2022, 7, 26))
+                .timeout(5000);
+        assertEquals(ranged.withInterval(Interval.DAILY), ctrl.toRequest());
+
+        assertThrows(IllegalArgumentException.class, () -> ranged.withStartDate(LocalDate.of(2022, 8, 1)));
+        assertThrows(IllegalArgumentException.class, () -> ranged.withTimeout(0));
+        assertThrows(IllegalArgumentException.class, () -> IndexComponentRequest.of("TSCO.L"));
+        assertEquals("^FTSE", IndexComponentRequest.of("^ftse").symbol());
+        assertThrows(NullPointerException.class, () -> KeyStatisticsRequest.of(null));
+    }
+
+    @Test
+    public void testConcurrentExecution() throws IOException {
+        var request = HistoricalQuoteRequest.of("TSCO.L")
+                .withStartDate(LocalDate.of(2022, 7, 25))
+                .withEndDate(LocalDate.of(2022, 7, 26));
+        var failing = request.withEndDate(LocalDate.of(2022, 7, 27));
+        var missing = request.withEndDate(LocalDate.of(2022, 7, 28));
+        record(request.targetUrl(), 200, CSV);
+        record(failing.targetUrl(), 500, "error");
+        WebClientHelper.setTransport(new ReplayTransport(this.tempDir));
+        // missing recordings are expected failures here, not a broken endpoint
+        EndpointBreakers.set(Endpoint.HISTORICAL_QUOTE, new CircuitBreaker("test"
+                , CircuitBreaker.Settings.defaults().withWindow(100, 100)));
+        List<CompletableFuture<Result<List<HistoricalQuote>>>> futureList = IntStream.range(0, 48)
+                .mapToObj(i -> switch (i % 3) {
+                    case 0 -> request.executeAsync();
+                    case 1 -> failing.executeAsync();
+                    default -> CompletableFuture.supplyAsync(missing::execute);
+                })
+                .toList();
+        for (int i = 0; i < futureList.size(); i++) {
+            Result<List<HistoricalQuote>> result = futureList.get(i).join();
+            switch (i % 3) {
+                case 0 -> {
+                    assertTrue(result.isSuccess());
+                    assertEquals(2, result.value().orElseThrow().size());
+                    assertEquals("TSCO.L", result.value().get().get(0).symbol());
+                }
+                case 1 -> {
+                    // a server error page is not a CSV, so nothing parses
+                    assertTrue(result.isSuccess());
+                    assertEquals(List.of(), result.value().orElseThrow());
+                }
+                default -> {
+                    assertFalse(result.isSuccess());
+                    assertInstanceOf(FileNotFoundException.class, result.exception().orElseThrow());
+                }
+            }
+        }
+        assertTrue(missing.executeAsync().join().toFuture().isCompletedExceptionally());
+        assertThrows(FileNotFoundException.class, () -> missing.execute().orElseThrow());
+    }
+
+    @Test
+    public void testCoalescedExecution() throws IOException {
+        var request = HistoricalQuoteRequest.of("TSCO.L")
+                .withStartDate(LocalDate.of(2022, 7, 25))
+                .withEndDate(LocalDate.of(2022, 7, 26));
+        record(request.targetUrl(), 200, CSV);
+        var replay = new ReplayTransport(this.tempDir).withLatency(Duration.ofMillis(200));
+        var sendCount = new AtomicInteger();
+        WebClientHelper.setTransport(new HttpTransport() {
+            @Override
+            public <T> HttpResponse<T> send(HttpRequest httpRequest, HttpResponse.BodyHandler<T> bodyHandler)
+                    throws IOException, InterruptedException {
+                sendCount.incrementAndGet();
+                return replay.send(httpRequest, bodyHandler);
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest httpRequest, HttpResponse.BodyHandler<T> bodyHandler) {
+                sendCount.incrementAndGet();
+                return replay.sendAsync(httpRequest, bodyHandler);
+            }
+        });
+
+        CompletableFuture<List<HistoricalQuote>> cancelled = new HistoricalQuoteCtrl()
+                .symbol("tsco.l")
+                .startDate(LocalDate.of(2022, 7, 25))
+                .endDate(LocalDate.of(2022, 7, 26))
+                .getHistoricalDataAsync();
+        List<CompletableFuture<Result<List<HistoricalQuote>>>> futureList = IntStream.range(0, 8)
+                .mapToObj(i -> request.executeAsync())
+                .toList();
+        // another priority or timeout waits in another queue or gives up at another time, so it is not shared
+        CompletableFuture<Result<List<HistoricalQuote>>> bulk = request.withPriority(Priority.BULK).executeAsync();
+        CompletableFuture<Result<List<HistoricalQuote>>> shorter = request.withTimeout(1000).executeAsync();
+        cancelled.cancel(true);
+        List<HistoricalQuote> first = futureList.get(0).join().value().orElseThrow();
+        assertEquals(2, first.size());
+        for (var future : futureList) {
+            assertSame(first, future.join().value().orElseThrow());
+        }
+        assertNotSame(first, bulk.join().value().orElseThrow());
+        assertNotSame(first, shorter.join().value().orElseThrow());
+        assertEquals(3, sendCount.get());
+        assertEquals(2, request.executeAsync().join().value().orElseThrow().size());
+        assertEquals(4, sendCount.get());
+    }
+
+    @Test
+    public void testCancelledExecution() {
+        var exchangeList = new CopyOnWriteArrayList<CompletableFuture<?>>();
+        WebClientHelper.setTransport(new HttpTransport() {
+            @Override
+            public <T> HttpResponse<T> send(HttpRequest httpRequest, HttpResponse.BodyHandler<T> bodyHandler) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest httpRequest, HttpResponse.BodyHandler<T> bodyHandler) {
+                var exchange = new CompletableFuture<HttpResponse<T>>();
+                exchangeList.add(exchange);
+                return exchange;
+            }
+        });
+        CompletableFuture<SummaryQuote> first = new SummaryQuoteCtrl().symbol("TSCO.L").getSummaryQuoteAsync();
+        CompletableFuture<Result<SummaryQuote>> second = SummaryQuoteRequest.of("TSCO.L").executeAsync();
+        assertEquals(1, exchangeList.size());
+        first.cancel(true);
+        assertFalse(exchangeList.get(0).isCancelled());
+        second.cancel(true);
+        // the last caller giving up aborts the exchange
+        assertTrue(exchangeList.get(0).isCancelled());
+    }
+
+    @Test
+    public void testCircuitOpen() throws IOException {
+        var request = SummaryQuoteRequest.of("TSCO.L");
+        // a page whose layout changed
+        record(request.targetUrl(), 200, "<html><body>Something else</body></html>");
+        var replay = new ReplayTransport(this.tempDir);
+        var sendCount = new AtomicInteger();
+        WebClientHelper.setTransport(new HttpTransport() {
+            @Override
+            public <T> HttpResponse<T> send(HttpRequest httpRequest, HttpResponse.BodyHandler<T> bodyHandler)
+                    throws IOException, InterruptedException {
+                sendCount.incrementAndGet();
+                return replay.send(httpRequest, bodyHandler);
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest httpRequest, HttpResponse.BodyHandler<T> bodyHandler) {
+                sendCount.incrementAndGet();
+                return replay.sendAsync(httpRequest, bodyHandler);
+            }
+        });
+        EndpointBreakers.set(Endpoint.SUMMARY_QUOTE, new CircuitBreaker("summary"
+                , CircuitBreaker.Settings.defaults().withWindow(4, 4)));
+        for (int i = 0; i < 4; i++) {
+            assertInstanceOf(RuntimeException.class, request.execute().exception().orElseThrow());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, EndpointBreakers.get(Endpoint.SUMMARY_QUOTE).getState());
+        assertInstanceOf(CircuitOpenException.class, request.execute().exception().orElseThrow());
+        assertInstanceOf(CircuitOpenException.class, request.executeAsync().join().exception().orElseThrow());
+        // failing fast sends nothing
+        assertEquals(4, sendCount.get());
+        // other endpoints are not affected
+        assertEquals(CircuitBreaker.State.CLOSED, EndpointBreakers.get(Endpoint.KEY_STATISTICS).getState());
+    }
+
+    @Test
+    public void testStreamedBodyFailure() {
+        var request = HistoricalQuoteRequest.of("TSCO.L");
+        EndpointBreakers.set(Endpoint.HISTORICAL_QUOTE, new CircuitBreaker("historical"
+                , CircuitBreaker.Settings.defaults().withWindow(4, 4).withThresholds(1.0, 0.5)));
+        // a connection dropped while the lines were parsed is a transport failure, not a parse failure
+        for (int i = 0; i < 2; i++) {
+            EndpointBreakers.execute(request, () -> Result.failure(new UncheckedIOException(new IOException("reset"))));
+            EndpointBreakers.execute(request, () -> Result.success(List.<HistoricalQuote>of()));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, EndpointBreakers.get(Endpoint.HISTORICAL_QUOTE).getState());
+        for (int i = 0; i < 2; i++) {
+            EndpointBreakers.execute(request, () -> Result.failure(new IllegalStateException("layout")));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, EndpointBreakers.get(Endpoint.HISTORICAL_QUOTE).getState());
+    }
+
+    @Test
+    public void testResult() {
+        Result<String> success = Result.success("value");
+        assertTrue(success.isSuccess());
+        assertEquals("value", success.toFuture().join());
+        Result<String> nothing = Result.success(null);
+        assertTrue(nothing.isSuccess());
+        assertEquals(Optional.empty(), nothing.value());
+        Result<String> failure = Result.ofAsync(() -> CompletableFuture.<String>failedFuture(new IOException("down"))).join();
+        assertFalse(failure.isSuccess());
+        assertInstanceOf(IOException.class, failure.exception().orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> new Result<>(Optional.of("value"), Optional.of(new Exception())));
+    }
+
+    private void record(String url, int statusCode, String body) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        new Recording(RequestKeys.methodAndUri().apply(request), request.uri(), statusCode
+                , Map.of("content-type", List.of("text/csv")), body.getBytes(StandardCharsets.UTF_8)
+        ).save(this.tempDir);
+    }
+}
@@ -0,0 +1,75 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.analytics.StatFilters;
+import self.tekichan.demo.yfinance4j.http.StubYahooServer;
+import self.tekichan.demo.yfinance4j.model.KeyStatistics;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for ScreenerCtrl against the stub server, which answers the same key statistics for every symbol
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class ScreenerCtrlTest {
+    static final List<String> UNIVERSE = IntStream.range(0, 10).mapToObj(i -> "S" + i + ".L").toList();
+
+    @AfterEach
+    public void resetTransport() {
+        WebClientHelper.setTransport(null);
+    }
+
+    @Test
+    public void testFirstNStopsEarly() throws Exception {
+        try (var server = StubYahooServer.start(StubYahooServer.Settings.defaults())) {
+            WebClientHelper.setTransport(server.transport());
+            var ctrl = new ScreenerCtrl()
+                    .universe(UNIVERSE)
+                    .filter(StatFilters.atMost(KeyStatistics::trailingPe, 20))
+                    .firstN(2)
+                    .concurrency(1);
+            BulkResult<List<KeyStatistics>> result = ctrl.screenAsync().join();
+            assertEquals(List.of("S0.L", "S1.L"), result.value().stream().map(KeyStatistics::symbol).toList());
+            // one download at a time, so none is started after the second match
+            assertEquals(2, result.requestCount());
+            assertTrue(result.isComplete());
+            assertEquals(2, server.getRequestCount());
+
+            assertEquals(2, ctrl.screen().size());
+            assertEquals(2, ctrl.getRequestCount());
+            assertTrue(ctrl.getLastException().isEmpty());
+        }
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        try (var server = StubYahooServer.start(StubYahooServer.Settings.defaults())) {
+            WebClientHelper.setTransport(server.transport());
+            var ctrl = new ScreenerCtrl()
+                    .universe(UNIVERSE)
+                    .filter(StatFilters.atMost(KeyStatistics::trailingPe, 10))
+                    .firstN(2)
+                    .concurrency(3);
+            BulkResult<List<KeyStatistics>> result = ctrl.screenAsync().join();
+            assertTrue(result.value().isEmpty());
+            assertEquals(UNIVERSE.size(), result.requestCount());
+            assertEquals(UNIVERSE.size(), server.getRequestCount());
+
+            // top K screens the whole universe
+            List<KeyStatistics> topList = ctrl.filter(null)
+                    .topK(3, Comparator.comparing(KeyStatistics::trailingPe))
+                    .screen();
+            assertEquals(3, topList.size());
+            assertEquals(new BigDecimal("15.89"), topList.get(0).trailingPe());
+            assertEquals(UNIVERSE.size(), ctrl.getRequestCount());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package self.tekichan.demo.yfinance4j.ctrl;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for WatchlistCtrl
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class WatchlistCtrlTest {
+    static final List<String> WATCHLIST = List.of("TSCO.L", "BARC.L", "VOD.L");
+
+    @Test
+    public void testEmitChangesOnly() throws InterruptedException {
+        var scheduler = new ManualScheduler();
+        var market = new Market();
+        var subscriber = new QueueSubscriber();
+        watchlist().scheduler(scheduler).publisher(market::fetch).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        scheduler.tick();
+        assertEquals(3, subscriber.take(3).stream().map(SummaryQuote::symbol).distinct().count());
+        scheduler.tick(3);
+        assertEquals(12, market.fetchCount.get());
+        assertNull(subscriber.queue.poll(), "Unchanged snapshots must not be emitted");
+
+        market.volumeMap.put("BARC.L", 2000L);
+        scheduler.tick();
+        SummaryQuote changed = subscriber.take(1).get(0);
+        assertEquals("BARC.L", changed.symbol());
+        assertEquals(2000L, changed.volume());
+        scheduler.tick(3);
+        assertEquals(24, market.fetchCount.get());
+        assertNull(subscriber.queue.poll());
+        subscriber.subscription.cancel();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testBackpressure() throws InterruptedException {
+        var scheduler = new ManualScheduler();
+        var market = new Market();
+        var subscriber = new QueueSubscriber();
+        watchlist().scheduler(scheduler).publisher(market::fetch).subscribe(subscriber);
+        subscriber.request(1);
+        scheduler.tick();
+        assertEquals("TSCO.L", subscriber.take(1).get(0).symbol());
+        assertEquals(3, market.fetchCount.get());
+
+        // two symbols wait for demand, so no further round is started
+        scheduler.tick(3);
+        assertEquals(3, market.fetchCount.get());
+        assertNull(subscriber.queue.poll());
+
+        subscriber.request(1);
+        assertEquals("BARC.L", subscriber.take(1).get(0).symbol());
+        market.volumeMap.put("TSCO.L", 3000L);
+        scheduler.tick();
+        market.volumeMap.put("TSCO.L", 4000L);
+        scheduler.tick();
+        assertEquals(3, market.fetchCount.get());
+        subscriber.request(10);
+        assertEquals("VOD.L", subscriber.take(1).get(0).symbol());
+        scheduler.tick();
+        SummaryQuote latest = subscriber.take(1).get(0);
+        assertEquals("TSCO.L", latest.symbol());
+        assertEquals(4000L, latest.volume(), "Polling resumes with the latest data once demand is back");
+        assertEquals(6, market.fetchCount.get());
+
+        subscriber.subscription.cancel();
+        scheduler.tick(3);
+        assertTrue(scheduler.isCancelled(), "Polling stops on cancel");
+        assertEquals(6, market.fetchCount.get());
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testInvalidDemand() throws Exception {
+        var market = new Market();
+        var subscriber = new QueueSubscriber();
+        watchlist().publisher(market::fetch).subscribe(subscriber);
+        subscriber.request(0);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error.get(1, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class, () -> new WatchlistCtrl().publisher());
+    }
+
+    private static WatchlistCtrl watchlist() {
+        return new WatchlistCtrl()
+                .symbols(WATCHLIST)
+                // long enough that no round reaches its deadline between manual ticks
+                .pollInterval(Duration.ofMinutes(1))
+                .concurrency(2);
+    }
+
+    /**
+     * Quotes with volumes changed by tests
+     */
+    static class Market {
+        final Map<String, Long> volumeMap = new ConcurrentHashMap<>(Map.of("TSCO.L", 1000L, "BARC.L", 1000L, "VOD.L", 1000L));
+        final AtomicInteger fetchCount = new AtomicInteger();
+
+        CompletableFuture<SummaryQuote> fetch(String symbol) {
+            this.fetchCount.incrementAndGet();
+            // completed at once, so a round emits in the order of the watchlist
+            return CompletableFuture.completedFuture(quote(symbol, this.volumeMap.get(symbol)));
+        }
+
+    }
+
+    /**
+     * Scheduler running the polling task only when a test ticks it, on the thread of the test
+     */
+    static class ManualScheduler extends ScheduledThreadPoolExecutor {
+        private volatile Runnable task;
+        private volatile ScheduledFuture<?> ticker;
+
+        ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            this.task = command;
+            // never fires by itself, but tells whether the polling was cancelled
+            this.ticker = schedule(() -> { }, 1L, TimeUnit.DAYS);
+            return this.ticker;
+        }
+
+        void tick() {
+            tick(1);
+        }
+
+        void tick(int rounds) {
+            for (int i = 0; i < rounds && !isCancelled(); i++) {
+                this.task.run();
+            }
+        }
+
+        boolean isCancelled() {
+            return this.ticker.isCancelled();
+        }
+    }
+
+    static SummaryQuote quote(String symbol, long volume) {
+        var price = new BigDecimal("245.60");
+        return new SummaryQuote(symbol, LocalDateTime.now(), symbol, "LSE", "GBp"
+                , price, price, price, 100, price, 100, price, price, price, price
+                , volume, volume, null, null, null, null, null, null, null, null, null);
+    }
+
+    static class QueueSubscriber implements Flow.Subscriber<SummaryQuote> {
+        final BlockingQueue<SummaryQuote> queue = new LinkedBlockingQueue<>();
+        final CompletableFuture<Throwable> error = new CompletableFuture<>();
+        volatile Flow.Subscription subscription;
+
+        void request(long n) {
+            this.subscription.request(n);
+        }
+
+        List<SummaryQuote> take(int count) throws InterruptedException {
+            var quoteList = new ArrayList<SummaryQuote>();
+            for (int i = 0; i < count; i++) {
+                SummaryQuote quote = this.queue.poll(5, TimeUnit.SECONDS);
+                assertNotNull(quote, "Timed out waiting for a snapshot");
+                quoteList.add(quote);
+            }
+            return quoteList;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(SummaryQuote item) {
+            this.queue.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error.complete(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
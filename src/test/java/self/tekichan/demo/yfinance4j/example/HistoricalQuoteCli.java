@@ -2,9 +2,13 @@ package self.tekichan.demo.yfinance4j.example;
 
 import self.tekichan.demo.yfinance4j.YFinance4J;
 import self.tekichan.demo.yfinance4j.YFinanceConfig;
+import self.tekichan.demo.yfinance4j.export.RecordWriter;
+import self.tekichan.demo.yfinance4j.export.Schemas;
 import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
 import self.tekichan.demo.yfinance4j.model.Interval;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -24,29 +28,7 @@ interval: Reportinng interval. d: Daily, w: Weekly, m: Monthly
 """.formatted(HistoricalQuoteCli.class.getName());
     }
 
-    public static String toJson(HistoricalQuote quote) {
-        return """
-{
-  "trade_date": "%1$s"
-  , "open": %2$s
-  , "high": %3$s
-  , "low": %4$s
-  , "close": %5$s
-  , "adj_close": %6$s
-  , "volume": %7$s
-}
-""".formatted(
-            DATE_FORMATTER.format(quote.tradeDate()),
-            quote.openPrice().toString()
-            , quote.highPrice().toString()
-            , quote.lowPrice().toString()
-            , quote.closePrice().toString()
-            , quote.adjustPrice().toString()
-            , quote.volume().toString()
-        );
-    }
-
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         if (args.length < 1) {
             System.out.println(usage());
             System.exit(-1);
@@ -110,32 +92,20 @@ interval: Reportinng interval. d: Daily, w: Weekly, m: Monthly
                 .endDate(endDate)
                 .interval(interval)
                 .getHistoricalData();
-        System.out.println("[" +
-                        String.join(
-                                ",",
-                                historicalQuoteList.stream()
-                                        .map(quote ->
-"""
-{
-  "trade_date": "%1$s"
-  , "open": %2$s
-  , "high": %3$s
-  , "low": %4$s
-  , "close": %5$s
-  , "adj_close": %6$s
-  , "volume": %7$s
-}""".formatted(
-        DATE_FORMATTER.format(quote.tradeDate()),
-        quote.openPrice().toString()
-        , quote.highPrice().toString()
-        , quote.lowPrice().toString()
-        , quote.closePrice().toString()
-        , quote.adjustPrice().toString()
-        , quote.volume().toString()
-)
-                                        )
-                                        .toList()
-                        ) + "]"
-        );
+        // the writer ends the JSON array on close, which must flush System.out rather than close it
+        var stdout = new FilterOutputStream(System.out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                this.out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        try (var writer = RecordWriter.json(Schemas.HISTORICAL_QUOTE, stdout)) {
+            writer.writeAll(historicalQuoteList);
+        }
     }
 }
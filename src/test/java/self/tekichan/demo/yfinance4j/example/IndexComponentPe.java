@@ -1,6 +1,7 @@
 package self.tekichan.demo.yfinance4j.example;
 
 import self.tekichan.demo.yfinance4j.YFinance4J;
+import self.tekichan.demo.yfinance4j.ctrl.IndexSnapshot;
 
 public class IndexComponentPe {
     public static String usage() {
@@ -17,13 +18,14 @@ symbol: Index code symbol without caret. e.g: FTSE
         }
 
         String symbol = "^" + args[0];
-        var componentList = YFinance4J.indexComponentCtrl()
+        IndexSnapshot snapshot = YFinance4J.indexSnapshotCtrl()
                 .symbol(symbol)
-                .getIndexComponentInfo()
-                .componentList();
+                .getIndexSnapshot();
         System.out.println("Index %1$s Component Stock P/E Ratio:".formatted(symbol));
-        componentList.stream()
-                .map(comp -> YFinance4J.summaryQuoteCtrl().symbol(comp.symbol()).getSummaryQuote())
+        snapshot.componentList().stream()
+                .flatMap(comp -> comp.summaryQuote().value().stream())
                 .forEach(quote -> System.out.printf("%1$s: %2$f%n", quote.symbol(), quote.peRatio()));
+        System.out.println("Failed: %1$s".formatted(snapshot.failedSymbols()));
+        System.out.println("Timing: %1$s".formatted(snapshot.timing()));
     }
 }
@@ -0,0 +1,152 @@
+package self.tekichan.demo.yfinance4j.example;
+
+import self.tekichan.demo.yfinance4j.analytics.Position;
+import self.tekichan.demo.yfinance4j.ctrl.Endpoint;
+import self.tekichan.demo.yfinance4j.ctrl.EndpointBreakers;
+import self.tekichan.demo.yfinance4j.ctrl.IndexSnapshotCtrl;
+import self.tekichan.demo.yfinance4j.ctrl.PortfolioRiskCtrl;
+import self.tekichan.demo.yfinance4j.ctrl.ScreenerCtrl;
+import self.tekichan.demo.yfinance4j.http.HttpTransport;
+import self.tekichan.demo.yfinance4j.http.StubYahooServer;
+import self.tekichan.demo.yfinance4j.metrics.EndpointMetrics;
+import self.tekichan.demo.yfinance4j.metrics.Histogram;
+import self.tekichan.demo.yfinance4j.metrics.Metrics;
+import self.tekichan.demo.yfinance4j.metrics.Phase;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public class LoadTestDriver {
+    static final List<String> SYMBOL_LIST = IntStream.range(0, 100).mapToObj("C%03d.L"::formatted).toList();
+
+    record Scenario(String name, StubYahooServer.Settings settings) {
+    }
+
+    record BulkPath(String name, Supplier<Object> call) {
+    }
+
+    public static String usage() {
+        return """
+Usage - java %1$s [scenario] [concurrency] [rounds]
+scenario: steady, bursts, faulty or all. Default: all
+concurrency: Maximum number of requests in flight per bulk call. Default: 16
+rounds: Number of calls per bulk path, after one warm-up call. Default: 5
+""".formatted(LoadTestDriver.class.getName());
+    }
+
+    public static void main(String[] args) throws IOException {
+        String scenarioName = args.length > 0 ? args[0] : "all";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        List<Scenario> scenarioList = List.of(
+                new Scenario("steady", StubYahooServer.Settings.defaults()
+                        .withLatency(StubYahooServer.Latency.logNormal(Duration.ofMillis(40), 0.5)))
+                , new Scenario("bursts", StubYahooServer.Settings.defaults()
+                        .withLatency(StubYahooServer.Latency.logNormal(Duration.ofMillis(40), 0.5))
+                        .withBursts(50, 5))
+                , new Scenario("faulty", StubYahooServer.Settings.defaults()
+                        .withLatency(StubYahooServer.Latency.uniform(Duration.ofMillis(10), Duration.ofMillis(200)))
+                        .withTruncation(0.05)
+                        .withSlowDrip(16 * 1024, Duration.ofMillis(2)))
+        );
+        List<Scenario> selectedList = scenarioList.stream()
+                .filter(s -> "all".equals(scenarioName) || s.name().equals(scenarioName))
+                .toList();
+        if (selectedList.isEmpty()) {
+            System.out.println(usage());
+            return;
+        }
+        List<BulkPath> pathList = List.of(
+                new BulkPath("index snapshot", () -> new IndexSnapshotCtrl()
+                        .symbol("^FTSE").concurrency(concurrency).getIndexSnapshot())
+                , new BulkPath("screener", () -> new ScreenerCtrl()
+                        .universe(SYMBOL_LIST).concurrency(concurrency).screen())
+                , new BulkPath("portfolio risk", () -> new PortfolioRiskCtrl()
+                        .positions(SYMBOL_LIST.subList(0, 20).stream().map(s -> new Position(s, 100)).toList())
+                        .concurrency(concurrency).getHistoricalSimulation())
+        );
+        System.out.println("Concurrency %1$d, %2$d rounds per bulk path".formatted(concurrency, rounds));
+        System.out.println("-*-".repeat(20));
+        try {
+            for (Scenario scenario : selectedList) {
+                try (var server = StubYahooServer.start(scenario.settings())) {
+                    WebClientHelper.setTransport(server.transport());
+                    System.out.println("Scenario " + scenario.name());
+                    for (BulkPath path : pathList) {
+                        // every path starts with closed breakers, so one path tripping them does not starve the next
+                        for (Endpoint endpoint : Endpoint.values()) {
+                            EndpointBreakers.set(endpoint, null);
+                        }
+                        path.call().get();
+                        long served = server.getRequestCount();
+                        long tooMany = server.getTooManyRequestsCount();
+                        long rejected = rejectedCount();
+                        Map<String, EndpointMetrics.Snapshot> before = Metrics.snapshot();
+                        long start = System.nanoTime();
+                        for (int round = 0; round < rounds; round++) {
+                            path.call().get();
+                        }
+                        long elapsed = System.nanoTime() - start;
+                        report(path.name(), elapsed, before, Metrics.snapshot()
+                                , server.getRequestCount() - served, server.getTooManyRequestsCount() - tooMany
+                                , rejectedCount() - rejected);
+                    }
+                }
+            }
+        } finally {
+            WebClientHelper.setTransport(HttpTransport.network());
+        }
+    }
+
+    private static void report(String pathName, long elapsedNanos, Map<String, EndpointMetrics.Snapshot> before
+            , Map<String, EndpointMetrics.Snapshot> after, long served, long tooMany, long rejected) {
+        long requests = 0;
+        long errors = 0;
+        Histogram.Snapshot latency = null;
+        for (var entry : after.entrySet()) {
+            EndpointMetrics.Snapshot last = entry.getValue();
+            EndpointMetrics.Snapshot first = before.get(entry.getKey());
+            requests += last.requestCount() - (first != null ? first.requestCount() : 0);
+            // parse failures are among the failures already
+            errors += last.failureCount() - (first != null ? first.failureCount() : 0);
+            Histogram.Snapshot delta = minus(last.latency(Phase.TOTAL), first != null ? first.latency(Phase.TOTAL) : null);
+            latency = latency == null ? delta : latency.merge(delta);
+        }
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("  %1$-15s %2$8.1f req/s  p50 %3$7.1f ms  p99 %4$7.1f ms  errors %5$5.1f%%  429s %6$d of %7$d served  rejected %8$d%n"
+                , pathName
+                , requests / seconds
+                , latency != null ? latency.percentile(50) / 1e6 : 0.0
+                , latency != null ? latency.percentile(99) / 1e6 : 0.0
+                , requests > 0 ? errors * 100.0 / requests : 0.0
+                , tooMany
+                , served
+                , rejected
+        );
+    }
+
+    private static long rejectedCount() {
+        long rejected = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            rejected += EndpointBreakers.get(endpoint).getRejectedCount();
+        }
+        return rejected;
+    }
+
+    private static Histogram.Snapshot minus(Histogram.Snapshot last, Histogram.Snapshot first) {
+        if (first == null) {
+            return last;
+        }
+        long[] bucketCounts = last.bucketCounts().clone();
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] -= first.bucketCounts()[i];
+        }
+        // the maximum cannot be taken apart, so it is the one over both periods
+        return new Histogram.Snapshot(last.count() - first.count(), last.sum() - first.sum(), last.max(), bucketCounts);
+    }
+}
@@ -0,0 +1,124 @@
+package self.tekichan.demo.yfinance4j.export;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.model.BigDecimalAndUnit;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.model.IndexComponent;
+import self.tekichan.demo.yfinance4j.model.IndexComponentInfo;
+import self.tekichan.demo.yfinance4j.model.ScaleUnit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for RecordWriter
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class RecordWriterTest {
+    static final List<HistoricalQuote> QUOTE_LIST = List.of(
+            new HistoricalQuote("TSCO.L", "2022-07-25", "245.600006", "247", "244.5", "246.100006", "240.05", "11375840")
+            , new HistoricalQuote("TSCO.L", "2022-07-26", "0.05", "-0.5", "1E+3", "0", "12.000", "0")
+    );
+
+    @Test
+    public void testCsv() throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var writer = RecordWriter.csv(Schemas.HISTORICAL_QUOTE, out)) {
+            writer.writeAll(QUOTE_LIST);
+        }
+        assertEquals("""
+symbol,trade_date,open,high,low,close,adj_close,volume
+TSCO.L,2022-07-25,245.600006,247,244.5,246.100006,240.05,11375840
+TSCO.L,2022-07-26,0.05,-0.5,1000,0,12.000,0
+""", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCsvFlattenAndEscape() throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var writer = RecordWriter.csv(Schemas.INDEX_COMPONENT_INFO, out)) {
+            writer.write(sampleInfo());
+        }
+        assertEquals("""
+index_symbol,download_date_time,currency_code,symbol,company_name,last_price,change,percent_change,volume
+^FTSE,2022-07-25T16:35:00.500,GBP,TSCO.L,"Tesco, ""Every Little Helps"" PLC",246.1,-1.2,-0.49,11375840
+^FTSE,2022-07-25T16:35:00.500,GBP,BP.L,BP Soci\u00e9t\u00e9,400,3,0.75,
+""", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testJsonGzip() throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var writer = RecordWriter.json(Schemas.INDEX_COMPONENT_INFO, out, true)) {
+            writer.write(sampleInfo());
+        }
+        String json;
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertEquals("[\n{\"index_symbol\":\"^FTSE\",\"download_date_time\":\"2022-07-25T16:35:00.500\",\"currency_code\":\"GBP\""
+                + ",\"components\":[{\"symbol\":\"TSCO.L\",\"company_name\":\"Tesco, \\\"Every Little Helps\\\" PLC\""
+                + ",\"last_price\":246.1,\"change\":-1.2,\"percent_change\":-0.49,\"volume\":11375840}"
+                + ",{\"symbol\":\"BP.L\",\"company_name\":\"BP Soci\u00e9t\u00e9\",\"last_price\":400,\"change\":3"
+                + ",\"percent_change\":0.75,\"volume\":null}]}\n]\n", json);
+    }
+
+    @Test
+    public void testJsonScaledValue() throws IOException {
+        Schema<BigDecimalAndUnit> schema = Schema.ofRecord(BigDecimalAndUnit.class);
+        assertEquals("scale_unit", schema.fieldList().get(1).name());
+        var out = new ByteArrayOutputStream();
+        try (var writer = RecordWriter.json(Schema.of(Field.<BigDecimalAndUnit>of("value", v -> v)), out)) {
+            writer.write(new BigDecimalAndUnit(new BigDecimal("1.35"), ScaleUnit.BILLION));
+            writer.write(new BigDecimalAndUnit(new BigDecimal("-1234.5678"), ScaleUnit.THOUSAND));
+        }
+        assertEquals("[\n{\"value\":1350000000},\n{\"value\":-1234567.8}\n]\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testDecimalDigits() throws IOException {
+        var random = new Random(42);
+        var valueList = new ArrayList<BigDecimal>(List.of(
+                new BigDecimal("0.000000000000001"), new BigDecimal("-999999999999999"), new BigDecimal("999999999999999.9")
+                , new BigDecimal("9223372036854775807"), new BigDecimal("-9223372036854775808"), new BigDecimal("1E+3")
+                , new BigDecimal("0.00"), new BigDecimal("123456789012345678901234.5")
+        ));
+        for (int i = 0; i < 10_000; i++) {
+            long unscaled = random.nextLong() >> random.nextInt(64);
+            valueList.add(BigDecimal.valueOf(unscaled, random.nextInt(20)));
+        }
+        for (BigDecimal value : valueList) {
+            for (int powerOfTen : new int[] {0, 3, 12}) {
+                var out = new ByteArrayOutputStream();
+                var sink = new ByteSink(out);
+                sink.putDecimal(value, powerOfTen);
+                sink.flush();
+                assertEquals(value.scaleByPowerOfTen(powerOfTen).toPlainString(), out.toString(StandardCharsets.US_ASCII)
+                        , value + "E" + powerOfTen);
+            }
+        }
+    }
+
+    static IndexComponentInfo sampleInfo() {
+        return new IndexComponentInfo(
+                "^FTSE"
+                , LocalDateTime.of(2022, 7, 25, 16, 35, 0, 500_000_000)
+                , "GBP"
+                , List.of(
+                        new IndexComponent("TSCO.L", "Tesco, \"Every Little Helps\" PLC", "246.1", "-1.2", "-0.49", "11375840")
+                        , new IndexComponent("BP.L", "BP Soci\u00e9t\u00e9", new BigDecimal("400"), new BigDecimal("3"), new BigDecimal("0.75"), null)
+                )
+        );
+    }
+}
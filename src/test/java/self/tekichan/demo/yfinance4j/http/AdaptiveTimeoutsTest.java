@@ -0,0 +1,132 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.metrics.EndpointMetrics;
+import self.tekichan.demo.yfinance4j.metrics.Metrics;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for AdaptiveTimeouts
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class AdaptiveTimeoutsTest {
+    static final String CSV_URL = "https://query1.finance.yahoo.com/v7/finance/download/TSCO.L";
+    static final String QUOTE_URL = "https://finance.yahoo.com/quote/TSCO.L?p=TSCO.L";
+
+    @AfterEach
+    public void resetHelper() {
+        WebClientHelper.setTransport(null);
+        WebClientHelper.setAdaptiveTimeouts(null);
+    }
+
+    @Test
+    public void testTimeoutFromPercentile() {
+        var timeouts = new AdaptiveTimeouts(AdaptiveTimeouts.Settings.defaults()
+                .withBounds(Duration.ofMillis(100), Duration.ofSeconds(30))
+                .withWarmUp(10, Duration.ofMinutes(1)));
+        for (int i = 0; i < 9; i++) {
+            timeouts.recordHeaders("quote", Duration.ofMillis(200).toNanos());
+        }
+        assertEquals(Optional.empty(), timeouts.headersTimeout("quote"));
+        timeouts.recordHeaders("quote", Duration.ofMillis(200).toNanos());
+        Duration timeout = timeouts.headersTimeout("quote").orElseThrow();
+        // 3 times a p99 of 200 ms, with buckets at most a quarter wide
+        assertTrue(timeout.toMillis() >= 600 && timeout.toMillis() <= 750, timeout.toString());
+
+        // the adapted timeout never lengthens a shorter timeout of the caller
+        var request = HttpRequest.newBuilder(URI.create(QUOTE_URL)).timeout(Duration.ofSeconds(10)).build();
+        assertEquals(timeout, timeouts.adapt("quote", request).timeout().orElseThrow());
+        var shortRequest = HttpRequest.newBuilder(URI.create(QUOTE_URL)).timeout(Duration.ofMillis(300)).build();
+        assertSame(shortRequest, timeouts.adapt("quote", shortRequest));
+
+        for (int i = 0; i < 10; i++) {
+            timeouts.recordBody("csv", AdaptiveTimeouts.SizeClass.SMALL, Duration.ofMillis(1).toNanos());
+            timeouts.recordBody("csv", AdaptiveTimeouts.SizeClass.LARGE, Duration.ofSeconds(20).toNanos());
+        }
+        assertEquals(Duration.ofMillis(100), timeouts.bodyTimeout("csv", AdaptiveTimeouts.SizeClass.SMALL).orElseThrow());
+        assertEquals(Duration.ofSeconds(30), timeouts.bodyTimeout("csv", AdaptiveTimeouts.SizeClass.LARGE).orElseThrow());
+        assertEquals(Optional.empty(), timeouts.bodyTimeout("csv", AdaptiveTimeouts.SizeClass.MEDIUM));
+
+        assertEquals(AdaptiveTimeouts.SizeClass.UNKNOWN, AdaptiveTimeouts.SizeClass.of(OptionalLong.empty()));
+        assertEquals(AdaptiveTimeouts.SizeClass.SMALL, AdaptiveTimeouts.SizeClass.of(OptionalLong.of(60_000)));
+        assertEquals(AdaptiveTimeouts.SizeClass.MEDIUM, AdaptiveTimeouts.SizeClass.of(OptionalLong.of(400_000)));
+        assertEquals(AdaptiveTimeouts.SizeClass.LARGE, AdaptiveTimeouts.SizeClass.of(OptionalLong.of(4_000_000)));
+        assertThrows(IllegalArgumentException.class
+                , () -> AdaptiveTimeouts.Settings.defaults().withBounds(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void testStuckRequestsFailFast() throws Exception {
+        var timeouts = new AdaptiveTimeouts(AdaptiveTimeouts.Settings.defaults()
+                .withBounds(Duration.ofMillis(200), Duration.ofSeconds(30))
+                .withWarmUp(5, Duration.ofMinutes(1)));
+        WebClientHelper.setAdaptiveTimeouts(timeouts);
+        EndpointMetrics metrics = Metrics.endpoint("test-adaptive");
+        try (var server = StubYahooServer.start(StubYahooServer.Settings.defaults())) {
+            WebClientHelper.setTransport(server.transport());
+            for (int i = 0; i < 5; i++) {
+                WebClientHelper.getParsed(QUOTE_URL, 10_000, Function.identity(), metrics);
+            }
+        }
+        assertEquals(Duration.ofMillis(200), timeouts.headersTimeout("test-adaptive").orElseThrow());
+
+        // a server stuck before the headers fails at the adapted timeout, not the 10 seconds given
+        var stuck = StubYahooServer.Settings.defaults().withLatency(StubYahooServer.Latency.fixed(Duration.ofSeconds(3)));
+        try (var server = StubYahooServer.start(stuck)) {
+            WebClientHelper.setTransport(server.transport());
+            long start = System.nanoTime();
+            assertThrows(HttpTimeoutException.class
+                    , () -> WebClientHelper.getParsed(QUOTE_URL, 10_000, Function.identity(), metrics));
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+        }
+    }
+
+    @Test
+    public void testIdleBodyTimeout() throws Exception {
+        var timeouts = new AdaptiveTimeouts(AdaptiveTimeouts.Settings.defaults()
+                .withBounds(Duration.ofMillis(300), Duration.ofSeconds(30))
+                .withWarmUp(5, Duration.ofMinutes(1)));
+        WebClientHelper.setAdaptiveTimeouts(timeouts);
+        EndpointMetrics metrics = Metrics.endpoint("test-idle");
+        try (var server = StubYahooServer.start(StubYahooServer.Settings.defaults())) {
+            WebClientHelper.setTransport(server.transport());
+            for (int i = 0; i < 5; i++) {
+                WebClientHelper.downloadCsvToList(CSV_URL, 10_000, lines -> lines.toList(), metrics);
+            }
+        }
+        assertEquals(Duration.ofMillis(300)
+                , timeouts.bodyTimeout("test-idle", AdaptiveTimeouts.SizeClass.MEDIUM).orElseThrow());
+
+        // a download longer than the timeout is not cut off while chunks keep arriving
+        var dripping = StubYahooServer.Settings.defaults().withSlowDrip(64 * 1024, Duration.ofMillis(100));
+        try (var server = StubYahooServer.start(dripping)) {
+            WebClientHelper.setTransport(server.transport());
+            long start = System.nanoTime();
+            String body = WebClientHelper.getParsed(CSV_URL, 10_000, Function.identity(), metrics);
+            assertTrue(System.nanoTime() - start > Duration.ofMillis(300).toNanos());
+            assertEquals(5366, body.lines().count());
+        }
+
+        // a stalled download fails once idle for the timeout
+        var stalled = StubYahooServer.Settings.defaults().withSlowDrip(64 * 1024, Duration.ofSeconds(3));
+        try (var server = StubYahooServer.start(stalled)) {
+            WebClientHelper.setTransport(server.transport());
+            long start = System.nanoTime();
+            assertThrows(HttpTimeoutException.class
+                    , () -> WebClientHelper.getParsed(CSV_URL, 10_000, Function.identity(), metrics));
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.ctrl.HistoricalQuoteCtrl;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for ConditionalCache
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class ConditionalCacheTest {
+    static final String CSV = """
+            Date,Open,High,Low,Close,Adj Close,Volume
+            2022-07-25,245.600006,247.000000,244.500000,246.100006,240.050003,11375840
+            2022-07-26,246.000000,249.199997,245.300003,248.899994,242.781265,12052311
+            """;
+
+    @AfterEach
+    public void resetHelper() {
+        WebClientHelper.setTransport(null);
+        WebClientHelper.setConditionalCache(null);
+    }
+
+    @Test
+    public void testRevalidation() {
+        var server = new StubServer();
+        var cache = new ConditionalCache();
+        WebClientHelper.setTransport(server);
+        WebClientHelper.setConditionalCache(cache);
+        var ctrl = new HistoricalQuoteCtrl()
+                .symbol("TSCO.L")
+                .startDate(LocalDate.of(2022, 7, 25))
+                .endDate(LocalDate.of(2022, 7, 26));
+
+        server.respond(200, Map.of("ETag", List.of("\"v1\"")), CSV);
+        List<HistoricalQuote> first = ctrl.getHistoricalData();
+        assertEquals(2, first.size());
+        assertNull(server.lastRequest.headers().firstValue("If-None-Match").orElse(null));
+
+        server.respond(304, Map.of(), "");
+        assertSame(first, ctrl.getHistoricalData());
+        assertEquals("\"v1\"", server.lastRequest.headers().firstValue("If-None-Match").orElse(null));
+
+        server.respond(200, Map.of("Last-Modified", List.of("Tue, 26 Jul 2022 16:30:00 GMT")), CSV);
+        assertSame(first, ctrl.getHistoricalDataAsync().join());
+        assertEquals("\"v1\"", server.lastRequest.headers().firstValue("If-None-Match").orElse(null));
+
+        server.respond(200, Map.of(), CSV.replace("11375840", "11375841"));
+        List<HistoricalQuote> changed = ctrl.getHistoricalData();
+        assertNotSame(first, changed);
+        assertEquals(11375841L, changed.get(0).volume().longValue());
+        assertEquals("Tue, 26 Jul 2022 16:30:00 GMT", server.lastRequest.headers().firstValue("If-Modified-Since").orElse(null));
+
+        assertEquals(1, cache.getNotModifiedCount());
+        assertEquals(1, cache.getUnchangedCount());
+        assertEquals(2, cache.getParsedCount());
+        assertEquals(4, server.requestCount.get());
+    }
+
+    @Test
+    public void testUnsuccessfulStatus() throws Exception {
+        var server = new StubServer();
+        var cache = new ConditionalCache(1);
+        WebClientHelper.setTransport(server);
+        WebClientHelper.setConditionalCache(cache);
+        var parseCount = new AtomicInteger();
+
+        server.respond(304, Map.of(), "");
+        assertThrows(Exception.class, () -> WebClientHelper.getParsed("https://example.com/a", 1000, body -> body));
+
+        server.respond(200, Map.of("Content-Type", List.of("text/plain; charset=ISO-8859-1")), "caf\u00e9");
+        String parsed = WebClientHelper.getParsed("https://example.com/a", 1000, body -> {
+            parseCount.incrementAndGet();
+            return body;
+        });
+        assertEquals("caf\u00e9", parsed);
+        assertSame(parsed, WebClientHelper.getParsed("https://example.com/a", 1000, body -> body));
+
+        // evicts the first URL
+        WebClientHelper.getParsed("https://example.com/b", 1000, body -> body);
+        assertNotSame(parsed, WebClientHelper.getParsed("https://example.com/a", 1000, body -> body));
+        assertEquals(1, parseCount.get());
+
+        WebClientHelper.setConditionalCache(null);
+        server.respond(500, Map.of(), "error");
+        assertThrows(Exception.class, () -> WebClientHelper.getParsedAsync("https://example.com/a", 1000, body -> body).join());
+    }
+
+    /**
+     * Transport answering every request with a preset response
+     */
+    static class StubServer implements HttpTransport {
+        final AtomicInteger requestCount = new AtomicInteger();
+        volatile HttpRequest lastRequest;
+        private volatile int statusCode;
+        private volatile Map<String, List<String>> headerMap;
+        private volatile byte[] body;
+
+        void respond(int statusCode, Map<String, List<String>> headerMap, String body) {
+            this.statusCode = statusCode;
+            this.headerMap = headerMap;
+            boolean latin1 = headerMap.getOrDefault("Content-Type", List.of("")).get(0).contains("ISO-8859-1");
+            this.body = body.getBytes(latin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            return sendAsync(request, bodyHandler).join();
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            this.requestCount.incrementAndGet();
+            this.lastRequest = request;
+            var recording = new Recording("", request.uri(), this.statusCode, this.headerMap, this.body);
+            return RecordedResponse.of(request, recording, bodyHandler);
+        }
+    }
+}
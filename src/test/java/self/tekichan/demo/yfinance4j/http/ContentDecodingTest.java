@@ -0,0 +1,205 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for ContentDecoding
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class ContentDecodingTest {
+    static final URI TEST_URI = URI.create("https://query1.finance.yahoo.com/v7/finance/download/TSCO.L");
+    static final String CSV = "Date,Open,High,Low,Close,Adj Close,Volume\n"
+            + "2022-07-25,245.600006,247.000000,244.500000,246.100006,240.050003,11375840\n".repeat(200);
+
+    @AfterEach
+    public void resetHelper() {
+        WebClientHelper.setTransport(null);
+        WebClientHelper.setTransferListener(null);
+    }
+
+    @Test
+    public void testGzipInSmallChunks() throws IOException {
+        var stats = new ArrayList<TransferStats>();
+        byte[] body = gzipWithFileName(CSV.getBytes(StandardCharsets.UTF_8));
+        String decoded = feed(ContentDecoding.decoding(TEST_URI, HttpResponse.BodyHandlers.ofString(), stats::add)
+                , "gzip", body, 5).join();
+        assertEquals(CSV, decoded);
+        assertEquals(1, stats.size());
+        assertEquals("gzip", stats.get(0).contentEncoding());
+        assertEquals(body.length, stats.get(0).wireBytes());
+        assertEquals(CSV.length(), stats.get(0).decodedBytes());
+        assertTrue(stats.get(0).savingPercent() > 90.0, "Saving: " + stats.get(0).savingPercent());
+    }
+
+    @Test
+    public void testDeflateLines() throws IOException {
+        for (boolean raw : new boolean[] { false, true }) {
+            var out = new ByteArrayOutputStream();
+            try (var deflater = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+                deflater.write(CSV.getBytes(StandardCharsets.UTF_8));
+            }
+            List<String> lines = feed(ContentDecoding.decoding(TEST_URI, HttpResponse.BodyHandlers.ofLines(), s -> {})
+                    , "deflate", out.toByteArray(), 64).join().toList();
+            assertEquals(201, lines.size());
+            assertEquals(CSV, lines.stream().map(line -> line + "\n").collect(Collectors.joining()));
+        }
+    }
+
+    @Test
+    public void testIdentityAndTruncated() throws IOException {
+        var stats = new ArrayList<TransferStats>();
+        byte[] plain = CSV.getBytes(StandardCharsets.UTF_8);
+        assertEquals(CSV, feed(ContentDecoding.decoding(TEST_URI, HttpResponse.BodyHandlers.ofString(), stats::add)
+                , null, plain, 1000).join());
+        assertEquals(new TransferStats(TEST_URI, "identity", plain.length, plain.length), stats.get(0));
+
+        byte[] gzip = gzip(plain);
+        byte[] truncated = new byte[gzip.length / 2];
+        System.arraycopy(gzip, 0, truncated, 0, truncated.length);
+        CompletionException ex = assertThrows(CompletionException.class, () -> feed(
+                ContentDecoding.decoding(TEST_URI, HttpResponse.BodyHandlers.ofString(), s -> {}), "gzip", truncated, 100).join());
+        assertInstanceOf(IOException.class, ex.getCause());
+    }
+
+    @Test
+    public void testWebClientHelper() throws Exception {
+        byte[] gzip = gzip(CSV.getBytes(StandardCharsets.UTF_8));
+        var acceptEncoding = new AtomicReference<String>();
+        WebClientHelper.setTransport(new HttpTransport() {
+            @Override
+            public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+                return sendAsync(request, bodyHandler).join();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+                acceptEncoding.set(request.headers().firstValue("Accept-Encoding").orElse(null));
+                var recording = new Recording("", request.uri(), 200, Map.of("Content-Encoding", List.of("gzip")), gzip);
+                return RecordedResponse.of(request, recording, bodyHandler);
+            }
+        });
+        var stats = new AtomicReference<TransferStats>();
+        WebClientHelper.setTransferListener(stats::set);
+        List<String> lines = WebClientHelper.downloadCsvToList(TEST_URI.toString(), 1000, stream -> stream.toList());
+        assertEquals(201, lines.size());
+        assertEquals(ContentDecoding.ACCEPT_ENCODING, acceptEncoding.get());
+        assertEquals(gzip.length, stats.get().wireBytes());
+        assertEquals(CSV, WebClientHelper.getHttpResponseAsync(TEST_URI.toString(), 1000).get().body());
+        // a request built for the caller's own client is not offered encodings it may not decode
+        assertTrue(WebClientHelper.buildHttpRequest(TEST_URI.toString(), 1000).headers().firstValue("Accept-Encoding").isEmpty());
+    }
+
+    /**
+     * Feed a body to a handler in chunks as HttpClient would
+     */
+    static <T> CompletableFuture<T> feed(HttpResponse.BodyHandler<T> handler, String encoding, byte[] body, int chunkSize) {
+        Map<String, List<String>> headerMap = encoding == null ? Map.of() : Map.of("Content-Encoding", List.of(encoding));
+        HttpHeaders headers = HttpHeaders.of(headerMap, (name, value) -> true);
+        HttpResponse.BodySubscriber<T> subscriber = handler.apply(new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+                return 200;
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return headers;
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        });
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private int offset;
+            private long demand;
+            private boolean delivering;
+            private boolean cancelled;
+
+            @Override
+            public void request(long n) {
+                this.demand += n;
+                if (this.delivering) {
+                    return;
+                }
+                this.delivering = true;
+                while (this.demand > 0 && !this.cancelled && this.offset < body.length) {
+                    int length = Math.min(chunkSize, body.length - this.offset);
+                    this.demand--;
+                    this.offset += length;
+                    subscriber.onNext(List.of(ByteBuffer.wrap(body, this.offset - length, length)));
+                }
+                if (this.offset >= body.length && !this.cancelled) {
+                    this.cancelled = true;
+                    subscriber.onComplete();
+                }
+                this.delivering = false;
+            }
+
+            @Override
+            public void cancel() {
+                this.cancelled = true;
+            }
+        });
+        return subscriber.getBody().toCompletableFuture();
+    }
+
+    static byte[] gzip(byte[] data) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * gzip with the optional file name field, which GZIPOutputStream never writes
+     */
+    static byte[] gzipWithFileName(byte[] data) throws IOException {
+        var out = new ByteArrayOutputStream();
+        out.write(new byte[] { 0x1F, (byte) 0x8B, 8, 0x08, 0, 0, 0, 0, 0, (byte) 0xFF });
+        out.write("download.csv\0".getBytes(StandardCharsets.US_ASCII));
+        try (var deflater = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, true)) {
+            @Override
+            public void close() throws IOException {
+                finish();
+            }
+        }) {
+            deflater.write(data);
+        }
+        var crc = new CRC32();
+        crc.update(data);
+        ByteBuffer trailer = ByteBuffer.allocate(8).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+        trailer.putInt((int) crc.getValue()).putInt(data.length);
+        out.write(trailer.array());
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,234 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLSession;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for PrioritizedTransport
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class PrioritizedTransportTest {
+    @Test
+    public void testStrictPolicy() throws Exception {
+        var gate = new GatedTransport();
+        var transport = new PrioritizedTransport(gate, 1, PrioritizedTransport.Policy.STRICT);
+        var bulkList = new ArrayList<CompletableFuture<HttpResponse<String>>>();
+        for (int i = 0; i < 3; i++) {
+            bulkList.add(Priority.BULK.call(() -> transport.sendAsync(request("bulk"), null)));
+        }
+        var interactive = Priority.INTERACTIVE.call(() -> transport.sendAsync(request("interactive"), null));
+        assertEquals(1, transport.getInFlightCount());
+        assertEquals(2, transport.getQueuedCount(Priority.BULK));
+        assertEquals(1, transport.getQueuedCount(Priority.INTERACTIVE));
+
+        // the interactive request jumps the bulk ones queued before it
+        gate.completeAll();
+        gate.completeAll();
+        assertEquals("interactive", interactive.get(1, TimeUnit.SECONDS).body());
+        gate.completeAll();
+        gate.completeAll();
+        for (var bulk : bulkList) {
+            assertEquals("bulk", bulk.get(1, TimeUnit.SECONDS).body());
+        }
+        assertEquals(List.of("bulk", "interactive", "bulk", "bulk"), gate.sentList);
+        assertEquals(0, transport.getInFlightCount());
+    }
+
+    @Test
+    public void testWeightedPolicy() throws Exception {
+        var gate = new GatedTransport();
+        var transport = new PrioritizedTransport(gate, 1, PrioritizedTransport.Policy.WEIGHTED);
+        Priority.NORMAL.call(() -> transport.sendAsync(request("first"), null));
+        for (int i = 0; i < 20; i++) {
+            Priority.INTERACTIVE.call(() -> transport.sendAsync(request("interactive"), null));
+            Priority.BULK.call(() -> transport.sendAsync(request("bulk"), null));
+        }
+        for (int i = 0; i < 17; i++) {
+            gate.completeAll();
+        }
+        // bulk work keeps a share of 1 in 17 while interactive requests are waiting
+        List<String> startedList = gate.sentList.subList(1, gate.sentList.size());
+        assertEquals(17, startedList.size());
+        assertEquals(1, startedList.stream().filter("bulk"::equals).count());
+    }
+
+    @Test
+    public void testCancelWhileQueued() throws Exception {
+        var gate = new GatedTransport();
+        var transport = new PrioritizedTransport(gate, 1, PrioritizedTransport.Policy.STRICT);
+        var first = transport.sendAsync(request("first"), null);
+        var cancelled = transport.sendAsync(request("cancelled"), null);
+        var last = transport.sendAsync(request("last"), null);
+        assertTrue(cancelled.cancel(true));
+        gate.completeAll();
+        gate.completeAll();
+        assertEquals("first", first.get(1, TimeUnit.SECONDS).body());
+        assertEquals("last", last.get(1, TimeUnit.SECONDS).body());
+        assertEquals(List.of("first", "last"), gate.sentList);
+        assertEquals(0, transport.getInFlightCount());
+    }
+
+    @Test
+    public void testSendWaitsForBudget() throws Exception {
+        var gate = new GatedTransport();
+        var transport = new PrioritizedTransport(gate, 1, PrioritizedTransport.Policy.STRICT);
+        var first = transport.sendAsync(request("first"), null);
+        var sendFuture = CompletableFuture.supplyAsync(() -> {
+            try {
+                return transport.send(request("sync"), null).body();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        while (transport.getQueuedCount(Priority.NORMAL) == 0) {
+            Thread.onSpinWait();
+        }
+        assertFalse(sendFuture.isDone());
+        gate.completeAll();
+        assertEquals("first", first.get(1, TimeUnit.SECONDS).body());
+        assertEquals("sync", sendFuture.get(1, TimeUnit.SECONDS));
+        assertEquals(0, transport.getInFlightCount());
+        assertThrows(IllegalArgumentException.class
+                , () -> new PrioritizedTransport(gate, 0, PrioritizedTransport.Policy.STRICT));
+    }
+
+    @Test
+    public void testQueueTimeout() throws Exception {
+        var gate = new GatedTransport();
+        var transport = new PrioritizedTransport(gate, 1, PrioritizedTransport.Policy.STRICT);
+        var dispatchList = new ArrayList<String>();
+        var first = transport.sendAsync(request("first"), null, () -> dispatchList.add("first"));
+        HttpRequest timed = HttpRequest.newBuilder(request("timed"), (name, value) -> true)
+                .timeout(Duration.ofMillis(100))
+                .build();
+
+        // a queued request gives up at its timeout, without being dispatched
+        long start = System.nanoTime();
+        assertThrows(HttpTimeoutException.class, () -> transport.send(timed, null, () -> dispatchList.add("sync")));
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+        var timedFuture = transport.sendAsync(timed, null, () -> dispatchList.add("async"));
+        var error = assertThrows(ExecutionException.class, () -> timedFuture.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(HttpTimeoutException.class, error.getCause());
+        assertEquals(0, transport.getQueuedCount(Priority.NORMAL));
+
+        // a request dispatched after waiting is sent with the timeout left
+        var late = transport.sendAsync(HttpRequest.newBuilder(request("late"), (name, value) -> true)
+                .timeout(Duration.ofSeconds(10))
+                .build(), null, () -> dispatchList.add("late"));
+        Thread.sleep(50);
+        gate.completeAll();
+        assertEquals("first", first.get(1, TimeUnit.SECONDS).body());
+        assertEquals(List.of("first", "late"), dispatchList);
+        Duration sentTimeout = gate.requestList.get(1).timeout().orElseThrow();
+        assertTrue(sentTimeout.compareTo(Duration.ofSeconds(10).minusMillis(50)) <= 0, sentTimeout.toString());
+        gate.completeAll();
+        assertEquals("late", late.get(1, TimeUnit.SECONDS).body());
+        assertEquals(0, transport.getInFlightCount());
+    }
+
+    private static HttpRequest request(String name) {
+        return HttpRequest.newBuilder(URI.create("https://query1.finance.yahoo.com/" + name)).build();
+    }
+
+    /**
+     * Transport holding the responses until released, answering the path of the request as the body
+     */
+    private static class GatedTransport implements HttpTransport {
+        final List<String> sentList = new ArrayList<>();
+        final List<HttpRequest> requestList = new ArrayList<>();
+        final List<Runnable> pendingList = new ArrayList<>();
+
+        @Override
+        public synchronized <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            String name = request.uri().getPath().substring(1);
+            this.sentList.add(name);
+            this.requestList.add(request);
+            return response(request, name);
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request
+                , HttpResponse.BodyHandler<T> bodyHandler) {
+            var future = new CompletableFuture<HttpResponse<T>>();
+            synchronized (this) {
+                String name = request.uri().getPath().substring(1);
+                this.sentList.add(name);
+                this.requestList.add(request);
+                this.pendingList.add(() -> future.complete(response(request, name)));
+            }
+            return future;
+        }
+
+        void completeAll() {
+            List<Runnable> completeList;
+            synchronized (this) {
+                completeList = List.copyOf(this.pendingList);
+                this.pendingList.clear();
+            }
+            completeList.forEach(Runnable::run);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> HttpResponse<T> response(HttpRequest request, String body) {
+            return (HttpResponse<T>) new HttpResponse<String>() {
+                @Override
+                public int statusCode() {
+                    return 200;
+                }
+
+                @Override
+                public HttpRequest request() {
+                    return request;
+                }
+
+                @Override
+                public Optional<HttpResponse<String>> previousResponse() {
+                    return Optional.empty();
+                }
+
+                @Override
+                public HttpHeaders headers() {
+                    return HttpHeaders.of(Map.of(), (name, value) -> true);
+                }
+
+                @Override
+                public String body() {
+                    return body;
+                }
+
+                @Override
+                public Optional<SSLSession> sslSession() {
+                    return Optional.empty();
+                }
+
+                @Override
+                public URI uri() {
+                    return request.uri();
+                }
+
+                @Override
+                public HttpClient.Version version() {
+                    return HttpClient.Version.HTTP_1_1;
+                }
+            };
+        }
+    }
+}
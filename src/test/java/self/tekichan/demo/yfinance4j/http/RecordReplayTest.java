@@ -0,0 +1,114 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import self.tekichan.demo.yfinance4j.ctrl.HistoricalQuoteCtrl;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for RecordingTransport and ReplayTransport
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class RecordReplayTest {
+    static final String CSV = """
+Date,Open,High,Low,Close,Adj Close,Volume
+2022-07-25,245.600006,247.000000,244.500000,246.100006,240.050003,11375840
+2022-07-26,246.000000,248.199997,245.000000,247.199997,241.100006,9581023
+""";
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void resetTransport() {
+        WebClientHelper.setTransport(null);
+    }
+
+    @Test
+    public void testRecordThenReplay() throws Exception {
+        var origin = new StubTransport();
+        var keyFunction = RequestKeys.ignoringQueryParameters("period1", "period2");
+        WebClientHelper.setTransport(new RecordingTransport(origin, this.tempDir, keyFunction));
+        List<HistoricalQuote> recorded = historicalQuoteCtrl().getHistoricalData();
+        assertEquals(2, recorded.size());
+        assertEquals(1, origin.count.get());
+
+        WebClientHelper.setTransport(new ReplayTransport(this.tempDir, keyFunction));
+        assertEquals(recorded, historicalQuoteCtrl().getHistoricalData());
+        assertEquals(recorded, historicalQuoteCtrl().getHistoricalDataAsync().get());
+        assertEquals(1, origin.count.get());
+
+        HttpResponse<String> response = WebClientHelper.getHttpResponse(
+                "https://query1.finance.yahoo.com/v7/finance/download/TSCO.L?period1=1&period2=2&interval=1d&events=history&includeAdjustedClose=true"
+                , 1000);
+        assertEquals(200, response.statusCode());
+        assertEquals("text/csv", response.headers().firstValue("content-type").orElseThrow());
+    }
+
+    @Test
+    public void testReplayMissAndLatency() throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("https://finance.yahoo.com/quote/TSCO.L?p=TSCO.L&t=123")).build();
+        new Recording("GET https://finance.yahoo.com/quote/TSCO.L?p=TSCO.L", request.uri(), 200, Map.of()
+                , "<html></html>".getBytes(StandardCharsets.UTF_8)).save(this.tempDir);
+
+        var strict = new ReplayTransport(this.tempDir);
+        assertThrows(FileNotFoundException.class, () -> strict.send(request, HttpResponse.BodyHandlers.ofString()));
+        ExecutionException ex = assertThrows(ExecutionException.class
+                , () -> strict.sendAsync(request, HttpResponse.BodyHandlers.ofString()).get());
+        assertInstanceOf(FileNotFoundException.class, ex.getCause());
+
+        var slow = new ReplayTransport(this.tempDir, RequestKeys.ignoringQueryParameters("t"))
+                .withLatency(Duration.ofMillis(100));
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> future = slow.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals("<html></html>", future.get().body());
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(100).toNanos());
+    }
+
+    static HistoricalQuoteCtrl historicalQuoteCtrl() {
+        return new HistoricalQuoteCtrl()
+                .symbol("TSCO.L")
+                .startDate(LocalDate.of(2022, 7, 25))
+                .endDate(LocalDate.of(2022, 7, 26));
+    }
+
+    /**
+     * Transport answering every request with the same CSV, standing in for the network
+     */
+    static class StubTransport implements HttpTransport {
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            return sendAsync(request, bodyHandler).join();
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            this.count.incrementAndGet();
+            var recording = new Recording("", request.uri(), 200, Map.of("content-type", List.of("text/csv"))
+                    , CSV.getBytes(StandardCharsets.UTF_8));
+            return RecordedResponse.of(request, recording, bodyHandler);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for Yahoo! Finance serving the fixture pages
+ * <p>
+ *     The server answers the download, quote, key statistics and components URL patterns with the fixtures in
+ *     {@code src/test/resources/fixtures}, whatever the symbol. {@link Settings} add latency, bursts of
+ *     429 Too Many Requests, truncated bodies and slow-drip bodies, so concurrency and fault handling can be
+ *     tuned without the network. Requests reach it through {@link #transport()}.
+ * </p>
+ * <pre>{@code
+ * try (var server = StubYahooServer.start(StubYahooServer.Settings.defaults()
+ *         .withLatency(StubYahooServer.Latency.logNormal(Duration.ofMillis(80), 0.5))
+ *         .withBursts(100, 10))) {
+ *     WebClientHelper.setTransport(server.transport());
+ *     ...
+ * }
+ * }</pre>
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public final class StubYahooServer implements Closeable {
+    static final int TOO_MANY_REQUESTS = 429;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Settings settings;
+    private final List<Route> routeList;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong tooManyRequestsCount = new AtomicLong();
+    private final AtomicLong truncatedCount = new AtomicLong();
+
+    private StubYahooServer(Settings settings) throws IOException {
+        this.settings = Objects.requireNonNull(settings, "Settings must exist.");
+        this.routeList = List.of(
+                new Route(Pattern.compile("/v7/finance/download/[^/]+"), "text/csv", fixture("historical-quote.csv"))
+                , new Route(Pattern.compile("/quote/[^/]+/key-statistics"), "text/html; charset=utf-8", fixture("key-statistics.html"))
+                , new Route(Pattern.compile("/quote/[^/]+/components"), "text/html; charset=utf-8", fixture("index-components.html"))
+                , new Route(Pattern.compile("/quote/[^/]+"), "text/html; charset=utf-8", fixture("summary-quote.html"))
+        );
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        // latency and slow drip block a thread per request, as a real server thread would
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, "stub-yahoo-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    /**
+     * Start a server on a free local port
+     * @param settings  Settings of latency and faults
+     * @return  the started server
+     * @throws IOException  {@link IOException} if no port can be bound
+     */
+    public static StubYahooServer start(Settings settings) throws IOException {
+        var stubServer = new StubYahooServer(settings);
+        stubServer.server.start();
+        return stubServer;
+    }
+
+    /**
+     * Get base URI of the server
+     * @return  URI like http://127.0.0.1:port
+     */
+    public URI baseUri() {
+        InetSocketAddress address = this.server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    /**
+     * Get a network transport sending every request to this server
+     * @return  HttpTransport
+     */
+    public HttpTransport transport() {
+        return HttpTransport.rebased(HttpTransport.network(), baseUri());
+    }
+
+    /**
+     * Get number of requests received
+     * @return  number of requests
+     */
+    public long getRequestCount() {
+        return this.requestCount.get();
+    }
+
+    /**
+     * Get number of requests answered with 429 Too Many Requests
+     * @return  number of requests
+     */
+    public long getTooManyRequestsCount() {
+        return this.tooManyRequestsCount.get();
+    }
+
+    /**
+     * Get number of responses cut short
+     * @return  number of responses
+     */
+    public long getTruncatedCount() {
+        return this.truncatedCount.get();
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long sequence = this.requestCount.getAndIncrement();
+            sleep(this.settings.latency().nextMillis());
+            String path = exchange.getRequestURI().getRawPath();
+            Route route = this.routeList.stream()
+                    .filter(r -> r.pathPattern().matcher(path).matches())
+                    .findFirst()
+                    .orElse(null);
+            if (route == null) {
+                respond(exchange, 404, "text/plain", "Not Found".getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            if (this.settings.burstEvery() > 0 && sequence % this.settings.burstEvery() < this.settings.burstLength()) {
+                this.tooManyRequestsCount.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                respond(exchange, TOO_MANY_REQUESTS, "text/plain", "Too Many Requests".getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            if (ThreadLocalRandom.current().nextDouble() < this.settings.truncateRate()) {
+                this.truncatedCount.incrementAndGet();
+                exchange.getResponseHeaders().set("Content-Type", route.contentType());
+                exchange.sendResponseHeaders(200, route.body().length);
+                // closing short of Content-Length drops the connection mid-body
+                exchange.getResponseBody().write(route.body(), 0, route.body().length / 2);
+                return;
+            }
+            respond(exchange, 200, route.contentType(), route.body());
+        } catch (IOException ex) {
+            // the client went away or the body was cut short on purpose
+        }
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(statusCode, body.length);
+        OutputStream out = exchange.getResponseBody();
+        int chunkBytes = this.settings.dripChunkBytes();
+        if (chunkBytes <= 0) {
+            out.write(body);
+            return;
+        }
+        for (int offset = 0; offset < body.length; offset += chunkBytes) {
+            if (offset > 0) {
+                sleep(this.settings.dripInterval().toMillis());
+            }
+            out.write(body, offset, Math.min(chunkBytes, body.length - offset));
+            out.flush();
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] fixture(String name) {
+        try (InputStream in = StubYahooServer.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private record Route(Pattern pathPattern, String contentType, byte[] body) {
+    }
+
+    /**
+     * Distribution of the latency before a response starts
+     */
+    @FunctionalInterface
+    public interface Latency {
+        /**
+         * Draw the latency of the next response
+         * @return  latency in milliseconds
+         */
+        long nextMillis();
+
+        /**
+         * No latency
+         * @return  Latency
+         */
+        static Latency none() {
+            return () -> 0L;
+        }
+
+        /**
+         * Same latency for every response
+         * @param latency   Latency
+         * @return  Latency
+         */
+        static Latency fixed(Duration latency) {
+            long millis = latency.toMillis();
+            return () -> millis;
+        }
+
+        /**
+         * Latency drawn uniformly from a range
+         * @param min   Shortest latency
+         * @param max   Longest latency
+         * @return  Latency
+         */
+        static Latency uniform(Duration min, Duration max) {
+            long minMillis = min.toMillis();
+            long maxMillis = max.toMillis();
+            if (maxMillis < minMillis) {
+                throw new IllegalArgumentException("Longest latency %1$s is shorter than %2$s".formatted(max, min));
+            }
+            return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+        }
+
+        /**
+         * Log-normal latency, whose long tail resembles a real server
+         * @param median    Median latency
+         * @param sigma Standard deviation of the log of latency, e.g. 0.5 for p99 about 3.2 times the median
+         * @return  Latency
+         */
+        static Latency logNormal(Duration median, double sigma) {
+            double mu = Math.log(Math.max(1L, median.toMillis()));
+            return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+    }
+
+    /**
+     * Settings of latency and faults
+     * @param latency   Latency before each response
+     * @param burstEvery    Length of the cycle of 429 bursts in requests, or 0 for no bursts
+     * @param burstLength   Number of requests answered with 429 at the start of each cycle
+     * @param truncateRate  Fraction of responses cut off halfway through the body
+     * @param dripChunkBytes    Bytes written per chunk of a slow-drip body, or 0 to write bodies at once
+     * @param dripInterval  Pause between chunks of a slow-drip body
+     */
+    public record Settings(
+            Latency latency
+            , int burstEvery
+            , int burstLength
+            , double truncateRate
+            , int dripChunkBytes
+            , Duration dripInterval
+    ) {
+        /**
+         * Get settings of a fast and faultless server
+         * @return  Settings
+         */
+        public static Settings defaults() {
+            return new Settings(Latency.none(), 0, 0, 0.0, 0, Duration.ZERO);
+        }
+
+        /**
+         * Get a copy with another latency
+         * @param latency   Latency before each response
+         * @return  Settings
+         */
+        public Settings withLatency(Latency latency) {
+            return new Settings(Objects.requireNonNull(latency, "Latency must exist."), this.burstEvery
+                    , this.burstLength, this.truncateRate, this.dripChunkBytes, this.dripInterval);
+        }
+
+        /**
+         * Get a copy with bursts of 429 Too Many Requests
+         * @param every Length of the cycle in requests
+         * @param length    Number of requests answered with 429 at the start of each cycle
+         * @return  Settings
+         */
+        public Settings withBursts(int every, int length) {
+            if (every <= 0 || length < 0 || length > every) {
+                throw new IllegalArgumentException("Bursts of %1$d in every %2$d requests".formatted(length, every));
+            }
+            return new Settings(this.latency, every, length, this.truncateRate, this.dripChunkBytes, this.dripInterval);
+        }
+
+        /**
+         * Get a copy cutting off a fraction of responses
+         * @param rate  Fraction of responses between 0 and 1
+         * @return  Settings
+         */
+        public Settings withTruncation(double rate) {
+            if (!(rate >= 0.0 && rate <= 1.0)) {
+                throw new IllegalArgumentException("Truncation rate must be within [0, 1]: " + rate);
+            }
+            return new Settings(this.latency, this.burstEvery, this.burstLength, rate, this.dripChunkBytes, this.dripInterval);
+        }
+
+        /**
+         * Get a copy writing bodies slowly in chunks
+         * @param chunkBytes    Bytes per chunk
+         * @param interval  Pause between chunks
+         * @return  Settings
+         */
+        public Settings withSlowDrip(int chunkBytes, Duration interval) {
+            if (chunkBytes <= 0 || interval.isNegative()) {
+                throw new IllegalArgumentException("Slow drip of %1$d bytes every %2$s".formatted(chunkBytes, interval));
+            }
+            return new Settings(this.latency, this.burstEvery, this.burstLength, this.truncateRate, chunkBytes, interval);
+        }
+    }
+}
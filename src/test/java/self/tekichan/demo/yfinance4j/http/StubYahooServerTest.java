@@ -0,0 +1,136 @@
+package self.tekichan.demo.yfinance4j.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.ctrl.HistoricalQuoteCtrl;
+import self.tekichan.demo.yfinance4j.ctrl.SummaryQuoteCtrl;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for StubYahooServer and RebasingTransport
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class StubYahooServerTest {
+    static final String QUOTE_URL = "https://finance.yahoo.com/quote/TSCO.L?p=TSCO.L";
+
+    @AfterEach
+    public void resetTransport() {
+        WebClientHelper.setTransport(null);
+    }
+
+    @Test
+    public void testServeFixtures() throws Exception {
+        try (var server = StubYahooServer.start(StubYahooServer.Settings.defaults())) {
+            WebClientHelper.setTransport(server.transport());
+            List<HistoricalQuote> quoteList = new HistoricalQuoteCtrl()
+                    .symbol("TSCO.L")
+                    .startDate(LocalDate.of(2002, 1, 2))
+                    .endDate(LocalDate.of(2022, 7, 26))
+                    .getHistoricalData();
+            assertEquals(5365, quoteList.size());
+            SummaryQuote summaryQuote = new SummaryQuoteCtrl().symbol("TSCO.L").getSummaryQuote();
+            assertNotNull(summaryQuote);
+            IOException ex = assertThrows(IOException.class
+                    , () -> WebClientHelper.getParsed("https://finance.yahoo.com/lookup", 1000, Function.identity()));
+            assertTrue(ex.getMessage().contains("404"));
+            assertEquals(3, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testTooManyRequestsBursts() throws Exception {
+        try (var server = StubYahooServer.start(StubYahooServer.Settings.defaults().withBursts(3, 1))) {
+            WebClientHelper.setTransport(server.transport());
+            for (int cycle = 0; cycle < 2; cycle++) {
+                IOException ex = assertThrows(IOException.class
+                        , () -> WebClientHelper.getParsed(QUOTE_URL, 1000, Function.identity()));
+                assertTrue(ex.getMessage().contains("429"));
+                assertNotNull(WebClientHelper.getParsed(QUOTE_URL, 1000, Function.identity()));
+                assertNotNull(WebClientHelper.getParsed(QUOTE_URL, 1000, Function.identity()));
+            }
+            assertEquals(2, server.getTooManyRequestsCount());
+        }
+    }
+
+    @Test
+    public void testTruncatedBody() throws Exception {
+        try (var server = StubYahooServer.start(StubYahooServer.Settings.defaults().withTruncation(1.0))) {
+            WebClientHelper.setTransport(server.transport());
+            assertThrows(IOException.class, () -> WebClientHelper.getParsed(QUOTE_URL, 1000, Function.identity()));
+            assertEquals(1, server.getTruncatedCount());
+        }
+    }
+
+    @Test
+    public void testRebasedDispatch() throws Exception {
+        var dispatchList = new ArrayList<Runnable>();
+        var queueing = new HttpTransport() {
+            @Override
+            public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+                return new CompletableFuture<>();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler
+                    , Runnable onDispatch) {
+                assertEquals("localhost", request.uri().getHost());
+                // dispatched later, as a queueing transport would
+                dispatchList.add(onDispatch);
+                return sendAsync(request, bodyHandler);
+            }
+        };
+        var dispatched = new AtomicBoolean();
+        HttpTransport.rebased(queueing, URI.create("http://localhost:8080"))
+                .sendAsync(HttpRequest.newBuilder(URI.create(QUOTE_URL)).build(), HttpResponse.BodyHandlers.discarding()
+                        , () -> dispatched.set(true));
+        assertEquals(1, dispatchList.size());
+        assertFalse(dispatched.get(), "Dispatch is up to the wrapped transport");
+        dispatchList.get(0).run();
+        assertTrue(dispatched.get());
+    }
+
+    @Test
+    public void testLatencyAndSlowDrip() throws Exception {
+        var settings = StubYahooServer.Settings.defaults()
+                .withLatency(StubYahooServer.Latency.fixed(Duration.ofMillis(50)))
+                .withSlowDrip(64 * 1024, Duration.ofMillis(20));
+        try (var server = StubYahooServer.start(settings)) {
+            WebClientHelper.setTransport(server.transport());
+            String expected;
+            try (var in = getClass().getResourceAsStream("/fixtures/historical-quote.csv")) {
+                expected = new String(in.readAllBytes());
+            }
+            long chunks = (expected.length() + 64 * 1024 - 1) / (64 * 1024);
+            long start = System.nanoTime();
+            String body = WebClientHelper.getParsed(
+                    "https://query1.finance.yahoo.com/v7/finance/download/TSCO.L", 5000, Function.identity());
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(expected, body);
+            assertTrue(elapsedMillis >= 50 + 20 * (chunks - 1), "Elapsed only " + elapsedMillis + " ms");
+        }
+        assertThrows(IllegalArgumentException.class, () -> settings.withBursts(2, 3));
+        assertThrows(IllegalArgumentException.class, () -> settings.withTruncation(1.5));
+    }
+}
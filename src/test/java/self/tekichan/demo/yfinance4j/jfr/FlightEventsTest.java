@@ -0,0 +1,103 @@
+package self.tekichan.demo.yfinance4j.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import self.tekichan.demo.yfinance4j.ctrl.HistoricalQuoteRequest;
+import self.tekichan.demo.yfinance4j.http.ReplayTransport;
+import self.tekichan.demo.yfinance4j.http.RequestKeys;
+import self.tekichan.demo.yfinance4j.util.AsyncBatch;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for Flight Recorder events
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class FlightEventsTest {
+    static final String CSV = """
+            Date,Open,High,Low,Close,Adj Close,Volume
+            2022-07-25,245.600006,247.000000,244.500000,246.100006,240.050003,11375840
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void resetTransport() {
+        WebClientHelper.setTransport(null);
+    }
+
+    @Test
+    public void testEventsRecorded() throws IOException {
+        var request = HistoricalQuoteRequest.of("TSCO.L")
+                .withStartDate(LocalDate.of(2022, 7, 25))
+                .withEndDate(LocalDate.of(2022, 7, 25));
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(request.targetUrl())).GET().build();
+        new self.tekichan.demo.yfinance4j.http.Recording(RequestKeys.methodAndUri().apply(httpRequest)
+                , httpRequest.uri(), 200, Map.of("content-type", List.of("text/csv"))
+                , CSV.getBytes(StandardCharsets.UTF_8)
+        ).save(this.tempDir);
+        WebClientHelper.setTransport(new ReplayTransport(this.tempDir));
+        assertFalse(new HttpExchangeEvent().isEnabled());
+
+        Path dump = this.tempDir.resolve("events.jfr");
+        try (var recording = new Recording()) {
+            for (var eventClass : List.of(HttpExchangeEvent.class, ParseEvent.class, QuoteRequestEvent.class
+                    , LaneWaitEvent.class)) {
+                recording.enable(eventClass).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            assertTrue(new HttpExchangeEvent().isEnabled());
+            assertEquals(1, request.execute().value().orElseThrow().size());
+            List<CompletableFuture<Integer>> futureList = AsyncBatch.mapBounded(List.of(1, 2, 3), 1
+                    , CompletableFuture::completedFuture, () -> false);
+            AsyncBatch.allSettled(futureList).join();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> eventList = RecordingFile.readAllEvents(dump);
+        RecordedEvent exchange = only(eventList, "self.tekichan.demo.yfinance4j.HttpExchange");
+        assertEquals("HISTORICAL_QUOTE", exchange.getString("endpoint"));
+        assertEquals("TSCO.L", exchange.getString("symbol"));
+        assertEquals(request.targetUrl(), exchange.getString("url"));
+        assertEquals(200, exchange.getInt("statusCode"));
+        assertEquals(CSV.length(), exchange.getLong("decodedBytes"));
+        assertEquals("SUCCESS", exchange.getString("outcome"));
+        assertTrue(only(eventList, "self.tekichan.demo.yfinance4j.Parse").getBoolean("succeeded"));
+        RecordedEvent quoteRequest = only(eventList, "self.tekichan.demo.yfinance4j.QuoteRequest");
+        assertEquals("TSCO.L", quoteRequest.getString("symbol"));
+        assertEquals("SUCCESS", quoteRequest.getString("outcome"));
+        // the first task takes the only lane at once; the others wait
+        assertEquals(List.of(1, 2), eventList.stream()
+                .filter(event -> event.getEventType().getName().equals("self.tekichan.demo.yfinance4j.LaneWait"))
+                .map(event -> event.getInt("index"))
+                .sorted()
+                .toList());
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> eventList, String name) {
+        List<RecordedEvent> matchList = eventList.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matchList.size(), name);
+        return matchList.get(0);
+    }
+}
@@ -0,0 +1,109 @@
+package self.tekichan.demo.yfinance4j.market;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for RefreshScheduler
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class RefreshSchedulerTest {
+    static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    @Test
+    public void testTradingSession() {
+        TradingCalendar calendar = TradingCalendar.defaults()
+                .withHolidays("LSE", List.of(LocalDate.of(2026, 8, 31)));
+        TradingSession lse = calendar.sessionOf("LSE").orElseThrow();
+        assertTrue(lse.isOpen(london(2026, 10, 19, "08:00")));
+        assertFalse(lse.isOpen(london(2026, 10, 19, "07:59")));
+        assertFalse(lse.isOpen(london(2026, 10, 19, "16:30")));
+        assertFalse(lse.isOpen(london(2026, 10, 17, "12:00")), "Saturday");
+        assertFalse(lse.isOpen(london(2026, 12, 25, "12:00")), "Christmas Day");
+        assertFalse(lse.isOpen(london(2026, 8, 31, "12:00")), "Added holiday");
+        assertEquals(london(2026, 10, 16, "16:30"), lse.lastClose(london(2026, 10, 19, "09:00")));
+        assertEquals(london(2026, 10, 19, "16:30"), lse.lastClose(london(2026, 10, 19, "16:30")));
+
+        assertEquals("LSE", calendar.sessionOfSymbol("TSCO.L").orElseThrow().exchange());
+        assertEquals("NYSE", calendar.sessionOfSymbol("AAPL").orElseThrow().exchange());
+        assertEquals("Tokyo", calendar.sessionOfSymbol("7203.T").orElseThrow().exchange());
+        assertTrue(calendar.sessionOfSymbol("^FTSE").isEmpty());
+        assertTrue(TradingCalendar.empty().sessionOfSymbol("TSCO.L").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> TradingSession.of("LSE", "Europe/London", "16:30", "08:00"));
+    }
+
+    @Test
+    public void testPriorities() {
+        var scheduler = new RefreshScheduler(TradingCalendar.defaults(), Duration.ofMinutes(30), Duration.ofMinutes(15));
+        scheduler.track(List.of("TSCO.L", "AAPL", "0005.HK"));
+        // Monday 13:00 in London: LSE open, New York not open yet, Hong Kong closed
+        Instant t0 = london(2026, 10, 19, "13:00");
+        assertEquals(List.of("TSCO.L", "AAPL", "0005.HK"), refresh(scheduler, t0, 10), "Never refreshed");
+        assertEquals(List.of("TSCO.L"), refresh(scheduler, t0.plusSeconds(30), 10), "Open market only");
+        assertEquals(List.of("TSCO.L", "AAPL"), refresh(scheduler, t0.plus(Duration.ofMinutes(31)), 2), "Budget goes to open markets first");
+
+        // 16:31 in London: LSE closed a minute ago, still settling; New York open
+        Instant t1 = london(2026, 10, 19, "16:31");
+        assertEquals(List.of("TSCO.L", "AAPL", "0005.HK"), refresh(scheduler, t1, 10));
+        // 16:50: final refresh of LSE after New York
+        Instant t2 = london(2026, 10, 19, "16:50");
+        assertEquals(List.of("AAPL"), refresh(scheduler, t2, 1));
+        assertEquals(List.of("AAPL", "TSCO.L"), refresh(scheduler, t2, 10));
+        assertEquals(List.of("AAPL"), refresh(scheduler, t2.plusSeconds(30), 10), "One final refresh only");
+        assertEquals(List.of("AAPL", "0005.HK", "TSCO.L"), refresh(scheduler, t2.plus(Duration.ofMinutes(30)), 10), "Refreshed longest ago first");
+    }
+
+    @Test
+    public void testFailedRefresh() {
+        var scheduler = new RefreshScheduler(TradingCalendar.defaults(), Duration.ofMinutes(30), Duration.ofMinutes(15));
+        scheduler.track(List.of("TSCO.L"));
+        assertEquals(List.of("TSCO.L"), refresh(scheduler, london(2026, 10, 19, "16:00"), 10));
+        // the final refresh fails, so it is still due at the next round
+        Instant t0 = london(2026, 10, 19, "16:50");
+        assertEquals(List.of("TSCO.L"), scheduler.due(t0, 10));
+        assertEquals(List.of("TSCO.L"), refresh(scheduler, t0.plusSeconds(30), 10), "Final refresh retried");
+        assertEquals(List.of(), scheduler.due(t0.plusSeconds(60), 10));
+    }
+
+    @Test
+    public void testObserveExchange() {
+        var scheduler = new RefreshScheduler(TradingCalendar.defaults());
+        scheduler.track(List.of("BRK.B"));
+        Instant saturday = london(2026, 10, 17, "12:00");
+        assertEquals(List.of("BRK.B"), scheduler.due(saturday, 10));
+        assertEquals(List.of("BRK.B"), scheduler.due(saturday.plusSeconds(10), 10), "Unknown session is treated as open");
+        scheduler.observe(quote("BRK.B", "NYSE"));
+        assertEquals(List.of(), scheduler.due(saturday.plusSeconds(20), 10));
+        assertEquals(List.of("BRK.B"), scheduler.due(saturday.plusSeconds(10).plus(RefreshScheduler.DEFAULT_CLOSED_INTERVAL), 10));
+    }
+
+    /**
+     * Get symbols due and observe a quote of each, as if every download succeeded
+     */
+    static List<String> refresh(RefreshScheduler scheduler, Instant now, int budget) {
+        List<String> dueList = scheduler.due(now, budget);
+        dueList.forEach(symbol -> scheduler.observe(quote(symbol, null)));
+        return dueList;
+    }
+
+    static Instant london(int year, int month, int day, String time) {
+        return LocalDateTime.of(LocalDate.of(year, month, day), LocalTime.parse(time)).atZone(LONDON).toInstant();
+    }
+
+    static SummaryQuote quote(String symbol, String stockExchange) {
+        return new SummaryQuote(symbol, LocalDateTime.now(), symbol, stockExchange, "USD"
+                , null, null, null, null, null, null, null, null, null, null
+                , null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,134 @@
+package self.tekichan.demo.yfinance4j.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import self.tekichan.demo.yfinance4j.http.Recording;
+import self.tekichan.demo.yfinance4j.http.ReplayTransport;
+import self.tekichan.demo.yfinance4j.http.RequestKeys;
+import self.tekichan.demo.yfinance4j.util.WebClientHelper;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for Metrics
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class MetricsTest {
+    static final String URL = "https://example.com/quote/TSCO.L";
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void resetTransport() {
+        WebClientHelper.setTransport(null);
+    }
+
+    @Test
+    public void testHistogram() {
+        for (long value = 0; value < 1 << 20; value++) {
+            int bucket = Histogram.bucketOf(value);
+            assertTrue(Histogram.lowerBoundOf(bucket) <= value);
+            assertTrue(value < Histogram.lowerBoundOf(bucket + 1));
+        }
+        assertEquals(Histogram.BUCKET_COUNT - 1, Histogram.bucketOf(Long.MAX_VALUE));
+
+        var histogram = new Histogram();
+        IntStream.rangeClosed(1, 1000).parallel().forEach(histogram::record);
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(500.5, snapshot.mean(), 1e-9);
+        assertEquals(1000, snapshot.max());
+        // buckets are at most a quarter wide
+        assertEquals(500.0, snapshot.percentile(50), 500 * 0.25);
+        assertEquals(990.0, snapshot.percentile(99), 990 * 0.25);
+        assertEquals(1000, snapshot.percentile(100));
+        assertEquals(0, new Histogram().snapshot().percentile(99));
+    }
+
+    @Test
+    public void testRollingHistogram() {
+        var clock = new AtomicLong();
+        var rolling = new RollingHistogram(Duration.ofSeconds(60), 6, clock::get);
+        rolling.record(100);
+        clock.set(Duration.ofSeconds(30).toNanos());
+        rolling.record(200);
+        rolling.record(300);
+        Histogram.Snapshot snapshot = rolling.snapshot();
+        assertEquals(3, snapshot.count());
+        assertEquals(600, snapshot.sum());
+        assertEquals(300, snapshot.max());
+        // the first value ages out once its slot leaves the window
+        clock.set(Duration.ofSeconds(65).toNanos());
+        assertEquals(2, rolling.snapshot().count());
+        clock.set(Duration.ofSeconds(95).toNanos());
+        rolling.record(400);
+        assertEquals(1, rolling.snapshot().count());
+        assertEquals(400, rolling.snapshot().max());
+        assertThrows(IllegalArgumentException.class, () -> new RollingHistogram(Duration.ZERO));
+    }
+
+    @Test
+    public void testExchangeMetrics() throws Exception {
+        record(URL, 200, "42");
+        record(URL + "/broken", 200, "n/a");
+        record(URL + "/error", 500, "error");
+        WebClientHelper.setTransport(new ReplayTransport(this.tempDir));
+        EndpointMetrics metrics = Metrics.endpoint("test-exchange");
+        assertSame(metrics, Metrics.endpoint("test-exchange"));
+
+        assertEquals(Integer.valueOf(42), WebClientHelper.getParsed(URL, 1000, Integer::parseInt, metrics));
+        assertEquals(Integer.valueOf(42), WebClientHelper.getParsedAsync(URL, 1000, Integer::parseInt, metrics).join());
+        assertThrows(NumberFormatException.class
+                , () -> WebClientHelper.getParsed(URL + "/broken", 1000, Integer::parseInt, metrics));
+        assertThrows(IOException.class
+                , () -> WebClientHelper.getParsed(URL + "/error", 1000, Integer::parseInt, metrics));
+
+        EndpointMetrics.Snapshot snapshot = Metrics.snapshot().get("test-exchange");
+        assertEquals(4, snapshot.requestCount());
+        assertEquals(2, snapshot.failureCount());
+        assertEquals(1, snapshot.parseFailureCount());
+        assertEquals(Map.of(200, 3L, 500, 1L), snapshot.statusCountMap());
+        assertEquals(4, snapshot.latency(Phase.HEADERS).count());
+        assertEquals(4, snapshot.latency(Phase.BODY).count());
+        assertEquals(3, snapshot.latency(Phase.PARSE).count());
+        assertEquals(4, snapshot.latency(Phase.TOTAL).count());
+        assertEquals(2 + 2 + 3 + 5, snapshot.decodedBytes());
+        assertEquals(5, snapshot.responseSize().max());
+
+        var objectName = new ObjectName(Metrics.JMX_DOMAIN + ":type=EndpointMetrics,name="
+                + ObjectName.quote("test-exchange"));
+        assertEquals(4L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "RequestCount"));
+        assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "ParseFailureCount"));
+    }
+
+    @Test
+    public void testSymbolOf() {
+        assertEquals("TSCO.L", EndpointMetrics.symbolOf(URI.create("https://finance.yahoo.com/quote/TSCO.L/key-statistics?p=TSCO.L")));
+        assertEquals("^FTSE", EndpointMetrics.symbolOf(URI.create("https://finance.yahoo.com/quote/%5EFTSE/components")));
+        assertEquals("TSCO.L", EndpointMetrics.symbolOf(URI.create("https://query1.finance.yahoo.com/v7/finance/download/TSCO.L?interval=1d")));
+        assertNull(EndpointMetrics.symbolOf(URI.create("https://example.com/a")));
+    }
+
+    private void record(String url, int statusCode, String body) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        new Recording(RequestKeys.methodAndUri().apply(request), request.uri(), statusCode
+                , Map.of("content-type", List.of("text/plain")), body.getBytes(StandardCharsets.UTF_8)
+        ).save(this.tempDir);
+    }
+}
@@ -0,0 +1,106 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import org.junit.jupiter.api.Test;
+import self.tekichan.demo.yfinance4j.model.HistoricalQuote;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for SeriesAligner
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class SeriesAlignerTest {
+    static final LocalDate MONDAY = LocalDate.of(2022, 7, 25);
+
+    @Test
+    public void testAlignNone() {
+        SeriesPanel panel = SeriesAligner.alignQuotes(sampleQuotes(), FillPolicy.NONE);
+        assertEquals(List.of("TSCO.L", "GOOG", "0005.HK"), panel.symbols());
+        assertEquals(5, panel.size());
+        assertEquals(MONDAY, panel.tradeDate(0));
+        assertEquals(MONDAY.plusDays(4), panel.tradeDate(4));
+        int tsco = panel.symbolIndex("TSCO.L");
+        assertEquals(101.0, panel.price(PriceField.CLOSE, tsco, 1));
+        assertTrue(Double.isNaN(panel.price(PriceField.CLOSE, tsco, 2)));
+        assertEquals(0L, panel.volume(tsco, 2));
+        assertFalse(panel.isPresent(tsco, 2));
+        assertFalse(panel.isPresent(panel.symbolIndex("0005.HK"), 0));
+    }
+
+    @Test
+    public void testAlignForwardFill() {
+        SeriesPanel panel = SeriesAligner.alignQuotes(sampleQuotes(), FillPolicy.FORWARD_FILL);
+        assertEquals(5, panel.size());
+        int tsco = panel.symbolIndex("TSCO.L");
+        assertEquals(101.0, panel.price(PriceField.CLOSE, tsco, 2));
+        assertEquals(0L, panel.volume(tsco, 2));
+        int hsbc = panel.symbolIndex("0005.HK");
+        assertTrue(Double.isNaN(panel.price(PriceField.OPEN, hsbc, 0)));  // nothing to carry yet
+        assertEquals(40.0, panel.price(PriceField.CLOSE, hsbc, 4));
+    }
+
+    @Test
+    public void testAlignDrop() {
+        SeriesPanel panel = SeriesAligner.alignQuotes(sampleQuotes(), FillPolicy.DROP);
+        assertEquals(2, panel.size());
+        assertEquals(MONDAY.plusDays(1), panel.tradeDate(0));
+        assertEquals(MONDAY.plusDays(3), panel.tradeDate(1));
+        for (int s = 0; s < panel.width(); s++) {
+            for (int row = 0; row < panel.size(); row++) {
+                assertTrue(panel.isPresent(s, row));
+            }
+        }
+    }
+
+    @Test
+    public void testDuplicatedAndUnsortedDates() {
+        var quoteMap = new LinkedHashMap<String, List<HistoricalQuote>>();
+        quoteMap.put("A", List.of(
+                quote("A", MONDAY.plusDays(1), 2.0)
+                , quote("A", MONDAY, 1.0)
+                , quote("A", MONDAY.plusDays(1), 3.0)
+        ));
+        SeriesPanel panel = SeriesAligner.alignQuotes(quoteMap, FillPolicy.NONE);
+        assertEquals(2, panel.size());
+        assertEquals(3.0, panel.price(PriceField.CLOSE, 0, 1));
+    }
+
+    private Map<String, List<HistoricalQuote>> sampleQuotes() {
+        var quoteMap = new LinkedHashMap<String, List<HistoricalQuote>>();
+        quoteMap.put("TSCO.L", List.of(
+                quote("TSCO.L", MONDAY, 100.0)
+                , quote("TSCO.L", MONDAY.plusDays(1), 101.0)
+                , quote("TSCO.L", MONDAY.plusDays(3), 103.0)
+        ));
+        quoteMap.put("GOOG", List.of(
+                quote("GOOG", MONDAY.plusDays(1), 10.0)
+                , quote("GOOG", MONDAY.plusDays(2), 11.0)
+                , quote("GOOG", MONDAY.plusDays(3), 12.0)
+                , quote("GOOG", MONDAY.plusDays(4), 13.0)
+        ));
+        quoteMap.put("0005.HK", List.of(
+                quote("0005.HK", MONDAY.plusDays(1), 38.0)
+                , quote("0005.HK", MONDAY.plusDays(3), 40.0)
+        ));
+        return quoteMap;
+    }
+
+    static HistoricalQuote quote(String symbol, LocalDate tradeDate, double close) {
+        return new HistoricalQuote(
+                symbol
+                , tradeDate.toString()
+                , String.valueOf(close)
+                , String.valueOf(close)
+                , String.valueOf(close)
+                , String.valueOf(close)
+                , String.valueOf(close)
+                , "1000"
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for SeriesEncoder and SeriesDecoder
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class SeriesCodecTest {
+    @Test
+    public void testRoundTrip() throws IOException {
+        HistoricalSeries series = SeriesFileTest.sampleSeries();
+        var out = new ByteArrayOutputStream();
+        SeriesEncoder.encode(series, out);
+        assertTrue(out.size() < series.size() * 52, "Encoded size: " + out.size());
+
+        HistoricalSeries decoded = SeriesDecoder.decode(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(series.symbol(), decoded.symbol());
+        assertArrayEquals(series.epochDayColumn(), decoded.epochDayColumn());
+        for (PriceField field : PriceField.values()) {
+            assertArrayEquals(series.priceColumn(field), decoded.priceColumn(field));
+        }
+        assertArrayEquals(series.volumeColumn(), decoded.volumeColumn());
+    }
+
+    @Test
+    public void testIrregularRows() throws IOException {
+        int[] days = {
+                (int) LocalDate.of(1970, 1, 2).toEpochDay()
+                , (int) LocalDate.of(1970, 1, 2).toEpochDay()
+                , (int) LocalDate.of(1971, 6, 30).toEpochDay()
+                , (int) LocalDate.of(2022, 7, 25).toEpochDay()
+                , (int) LocalDate.of(2022, 7, 26).toEpochDay()
+        };
+        double[] prices = { 0.0, Double.NaN, 1e-9, 245.600006, -3.5 };
+        long[] volumes = { 0L, Long.MAX_VALUE, 0L, 17L, 3L };
+        var out = new ByteArrayOutputStream();
+        try (var encoder = new SeriesEncoder(out, "0005.HK")) {
+            for (int i = 0; i < days.length; i++) {
+                encoder.append(days[i], prices[i], prices[i] * 2, prices[i], prices[i], prices[(i + 1) % 5], volumes[i]);
+            }
+            assertThrows(IllegalArgumentException.class, () -> encoder.append(days[0], 1, 1, 1, 1, 1, 1));
+        }
+
+        var decoder = new SeriesDecoder(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals("0005.HK", decoder.symbol());
+        for (int i = 0; i < days.length; i++) {
+            assertTrue(decoder.next());
+            assertEquals(days[i], decoder.epochDay());
+            assertEquals(prices[i], decoder.price(PriceField.CLOSE));
+            assertEquals(prices[i] * 2, decoder.price(PriceField.HIGH));
+            assertEquals(prices[(i + 1) % 5], decoder.price(PriceField.ADJ_CLOSE));
+            assertEquals(volumes[i], decoder.volume());
+        }
+        assertFalse(decoder.next());
+        assertEquals(days.length, decoder.rowCount());
+    }
+
+    @Test
+    public void testNotEncoded() {
+        var in = new ByteArrayInputStream("Date,Open,High,Low,Close".getBytes());
+        assertThrows(IOException.class, () -> new SeriesDecoder(in));
+    }
+}
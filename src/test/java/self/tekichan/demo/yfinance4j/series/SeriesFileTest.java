@@ -0,0 +1,112 @@
+package self.tekichan.demo.yfinance4j.series;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for SeriesFile and MappedSeries
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class SeriesFileTest {
+    static final LocalDate MONDAY = LocalDate.of(2022, 7, 25);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testWriteAndOpen() throws IOException {
+        HistoricalSeries series = sampleSeries();
+        Path path = this.tempDir.resolve("TSCO.L.yfc");
+        SeriesFile.write(series, path);
+        MappedSeries mapped = SeriesFile.open(path);
+        assertEquals("TSCO.L", mapped.symbol());
+        assertEquals(series.size(), mapped.size());
+        for (int row = 0; row < series.size(); row++) {
+            assertEquals(series.epochDay(row), mapped.epochDay(row));
+            for (PriceField field : PriceField.values()) {
+                assertEquals(series.price(field, row), mapped.price(field, row));
+            }
+            assertEquals(series.volume(row), mapped.volume(row));
+        }
+        HistoricalSeries copy = mapped.toHistoricalSeries();
+        assertArrayEquals(series.priceColumn(PriceField.ADJ_CLOSE), copy.priceColumn(PriceField.ADJ_CLOSE));
+        assertArrayEquals(series.volumeColumn(), copy.volumeColumn());
+    }
+
+    @Test
+    public void testSlice() throws IOException {
+        Path path = this.tempDir.resolve("TSCO.L.yfc");
+        SeriesFile.write(sampleSeries(), path);
+        MappedSeries mapped = SeriesFile.open(path);
+        // rows are on weekdays only, so a weekend start begins on the next Monday
+        MappedSeries week = mapped.slice(MONDAY.plusDays(5), MONDAY.plusDays(11));
+        assertEquals(5, week.size());
+        assertEquals(MONDAY.plusDays(7), week.tradeDate(0));
+        assertEquals(MONDAY.plusDays(11), week.tradeDate(4));
+        assertEquals(105.0, week.price(PriceField.CLOSE, 0));
+        assertEquals(5, week.priceBuffer(PriceField.CLOSE).remaining());
+        assertEquals(105.0, week.priceBuffer(PriceField.CLOSE).get(0));
+        MappedSeries day = week.slice(MONDAY.plusDays(8), MONDAY.plusDays(8));
+        assertEquals(1, day.size());
+        assertEquals(1060L, day.volume(0));
+        assertEquals(0, mapped.slice(MONDAY.minusDays(10), MONDAY.minusDays(1)).size());
+        assertThrows(IndexOutOfBoundsException.class, () -> week.price(PriceField.CLOSE, 5));
+    }
+
+    @Test
+    public void testSliceDuplicateDates() throws IOException {
+        int monday = (int) MONDAY.toEpochDay();
+        int[] epochDays = { monday, monday + 1, monday + 1, monday + 1, monday + 1, monday + 1, monday + 2 };
+        double[] prices = { 100.0, 101.0, 102.0, 103.0, 104.0, 105.0, 106.0 };
+        long[] volumes = { 1000L, 1010L, 1020L, 1030L, 1040L, 1050L, 1060L };
+        Path path = this.tempDir.resolve("TSCO.L.yfc");
+        SeriesFile.write(new HistoricalSeries("TSCO.L", epochDays, prices, prices, prices, prices, prices, volumes), path);
+        MappedSeries mapped = SeriesFile.open(path);
+        MappedSeries day = mapped.slice(MONDAY.plusDays(1), MONDAY.plusDays(1));
+        assertEquals(5, day.size());
+        assertEquals(1010L, day.volume(0));
+        assertEquals(1050L, day.volume(4));
+        MappedSeries tail = mapped.slice(MONDAY.plusDays(1), MONDAY.plusDays(5));
+        assertEquals(6, tail.size());
+        assertEquals(101.0, tail.price(PriceField.CLOSE, 0));
+        assertEquals(6, mapped.slice(MONDAY.minusDays(1), MONDAY.plusDays(1)).size());
+    }
+
+    @Test
+    public void testOpenInvalidFile() throws IOException {
+        Path path = this.tempDir.resolve("bad.yfc");
+        Files.writeString(path, "Date,Open,High,Low,Close,Adj Close,Volume\n");
+        assertThrows(IOException.class, () -> SeriesFile.open(path));
+    }
+
+    static HistoricalSeries sampleSeries() {
+        int size = 15;
+        int[] epochDays = new int[size];
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        double[] adjClose = new double[size];
+        long[] volumes = new long[size];
+        LocalDate date = MONDAY;
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = (int) date.toEpochDay();
+            open[i] = 99.5 + i;
+            high[i] = 101.0 + i;
+            low[i] = 99.0 + i;
+            close[i] = 100.0 + i;
+            adjClose[i] = 99.0 + i;
+            volumes[i] = 1000L + 10L * i;
+            date = date.plusDays(date.getDayOfWeek().getValue() == 5 ? 3 : 1);
+        }
+        return new HistoricalSeries("TSCO.L", epochDays, open, high, low, close, adjClose, volumes);
+    }
+}
@@ -0,0 +1,154 @@
+package self.tekichan.demo.yfinance4j.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import self.tekichan.demo.yfinance4j.model.BigDecimalAndUnit;
+import self.tekichan.demo.yfinance4j.model.ScaleUnit;
+import self.tekichan.demo.yfinance4j.model.SummaryQuote;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for SnapshotStore
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class SnapshotStoreTest {
+    static final LocalDateTime MONDAY_NOON = LocalDateTime.of(2022, 7, 25, 12, 0);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testAsOfAndHistory() throws IOException {
+        try (var store = SnapshotStore.openSummaryQuotes(this.tempDir)) {
+            store.append(quote("TSCO.L", MONDAY_NOON, "246.1"));
+            store.append(quote("TSCO.L", MONDAY_NOON.plusDays(1), "247.2"));
+            store.append(quote("GOOG", MONDAY_NOON, "108"));
+            store.append(quote("TSCO.L", MONDAY_NOON.plusHours(3), "246.5"));   // out of order
+            assertEquals(Optional.empty(), store.asOf("TSCO.L", MONDAY_NOON.minusSeconds(1)));
+            assertEquals(new BigDecimal("246.1"), store.asOf("TSCO.L", MONDAY_NOON).orElseThrow().previousPrice());
+            assertEquals(new BigDecimal("246.5"), store.asOf("TSCO.L", MONDAY_NOON.plusHours(5)).orElseThrow().previousPrice());
+            assertEquals(new BigDecimal("247.2"), store.asOf("TSCO.L", MONDAY_NOON.plusYears(1)).orElseThrow().previousPrice());
+            assertEquals(quote("GOOG", MONDAY_NOON, "108"), store.asOf("GOOG", MONDAY_NOON).orElseThrow());
+            List<SummaryQuote> history = store.history("TSCO.L", MONDAY_NOON, MONDAY_NOON.plusHours(3));
+            assertEquals(2, history.size());
+            assertEquals(MONDAY_NOON.plusHours(3), history.get(1).downloadDateTime());
+        }
+    }
+
+    @Test
+    public void testReopenAndRecover() throws IOException {
+        try (var store = SnapshotStore.open(this.tempDir, SummaryQuote.class, 1024)) {
+            for (int i = 0; i < 20; i++) {
+                store.append(quote("TSCO.L", MONDAY_NOON.plusDays(i), Integer.toString(200 + i)));
+            }
+            assertTrue(store.segmentCount() > 1, "Segments: " + store.segmentCount());
+        }
+        // tear the last entry as if the process died while writing
+        Path lastSegment;
+        try (Stream<Path> files = Files.list(this.tempDir)) {
+            lastSegment = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        try (var channel = FileChannel.open(lastSegment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        try (var store = SnapshotStore.open(this.tempDir, SummaryQuote.class, 1024)) {
+            assertEquals(19, store.count("TSCO.L"));
+            assertEquals(new BigDecimal("218"), store.asOf("TSCO.L", MONDAY_NOON.plusDays(30)).orElseThrow().previousPrice());
+            store.append(quote("TSCO.L", MONDAY_NOON.plusDays(19), "219"));
+            assertEquals(new BigDecimal("219"), store.asOf("TSCO.L", MONDAY_NOON.plusDays(30)).orElseThrow().previousPrice());
+        }
+    }
+
+    @Test
+    public void testCompact() throws IOException {
+        try (var store = SnapshotStore.open(this.tempDir, SummaryQuote.class, 2048)) {
+            for (int day = 0; day < 5; day++) {
+                for (int hour = 0; hour < 4; hour++) {
+                    LocalDateTime time = MONDAY_NOON.plusDays(day).plusHours(hour);
+                    store.append(quote("TSCO.L", time, "%1$d.%2$d".formatted(200 + day, hour)));
+                    store.append(quote("GOOG", time, "%1$d.%2$d".formatted(100 + day, hour)));
+                }
+            }
+            int segmentsBefore = store.segmentCount();
+            assertEquals(30, store.compact());
+            assertTrue(store.segmentCount() < segmentsBefore);
+            assertEquals(5, store.count("TSCO.L"));
+            assertEquals(new BigDecimal("202.3"), store.asOf("TSCO.L", MONDAY_NOON.plusDays(2).plusHours(8)).orElseThrow().previousPrice());
+            assertEquals(new BigDecimal("101.3"), store.asOf("GOOG", MONDAY_NOON.plusDays(2)).orElseThrow().previousPrice());
+            // within a compacted day, before the snapshot kept of that day, the previous day's last one applies
+            LocalDateTime midDay = MONDAY_NOON.plusDays(2).plusMinutes(90);
+            assertEquals(new BigDecimal("201.3"), store.asOf("TSCO.L", midDay).orElseThrow().previousPrice());
+            assertEquals(new BigDecimal("202.3"), store.asOf("TSCO.L", MONDAY_NOON.plusDays(2).plusHours(3)).orElseThrow().previousPrice());
+            assertEquals(Optional.empty(), store.asOf("TSCO.L", MONDAY_NOON.plusHours(2)));
+            store.append(quote("GOOG", MONDAY_NOON.plusDays(9), "109"));
+        }
+        try (var store = SnapshotStore.open(this.tempDir, SummaryQuote.class, 2048)) {
+            assertEquals(6, store.count("GOOG"));
+            assertEquals(0, store.compact());
+        }
+    }
+
+    @Test
+    public void testRecoverInterruptedCompaction() throws IOException {
+        try (var store = SnapshotStore.open(this.tempDir, SummaryQuote.class, 1024)) {
+            for (int i = 0; i < 20; i++) {
+                store.append(quote("TSCO.L", MONDAY_NOON.plusDays(i), Integer.toString(200 + i)));
+            }
+        }
+        List<Path> segmentList;
+        try (Stream<Path> files = Files.list(this.tempDir)) {
+            segmentList = files.sorted().toList();
+        }
+        int lastId = segmentList.size() - 1;
+
+        // a compaction dying before its commit leaves temporary files, which are discarded
+        Files.write(this.tempDir.resolve("segment-%1$010d.log.tmp".formatted(lastId + 1)), new byte[] {1, 2, 3});
+        try (var store = SnapshotStore.open(this.tempDir, SummaryQuote.class, 1024)) {
+            assertEquals(20, store.count("TSCO.L"));
+        }
+        assertFalse(Files.exists(this.tempDir.resolve("segment-%1$010d.log.tmp".formatted(lastId + 1))));
+
+        // a compaction dying after its commit, with one new segment renamed, is finished without duplicates
+        for (int i = 0; i < segmentList.size(); i++) {
+            Files.copy(segmentList.get(i), this.tempDir.resolve("segment-%1$010d.log.tmp".formatted(lastId + 1 + i)));
+        }
+        Files.move(this.tempDir.resolve("segment-%1$010d.log.tmp".formatted(lastId + 1))
+                , this.tempDir.resolve("segment-%1$010d.log".formatted(lastId + 1)));
+        Files.writeString(this.tempDir.resolve("compaction.commit"), Integer.toString(lastId));
+        try (var store = SnapshotStore.open(this.tempDir, SummaryQuote.class, 1024)) {
+            assertEquals(20, store.count("TSCO.L"));
+            assertEquals(new BigDecimal("219"), store.asOf("TSCO.L", MONDAY_NOON.plusDays(30)).orElseThrow().previousPrice());
+            assertEquals(0, store.compact());
+        }
+        try (Stream<Path> files = Files.list(this.tempDir)) {
+            assertTrue(files.allMatch(path -> path.getFileName().toString().matches("segment-\\d{10}\\.log")));
+        }
+    }
+
+    static SummaryQuote quote(String symbol, LocalDateTime downloadDateTime, String price) {
+        var value = new BigDecimal(price);
+        return new SummaryQuote(
+                symbol, downloadDateTime, symbol + " Inc", "LSE", "GBP"
+                , value, value, null, 100, value, null
+                , value, value, value, value
+                , 1_000_000L, 2_000_000L, new BigDecimalAndUnit(new BigDecimal("19.05"), ScaleUnit.BILLION)
+                , new BigDecimal("0.61"), new BigDecimal("13.5"), new BigDecimal("0.18")
+                , LocalDate.of(2022, 10, 5), new BigDecimal("0.109"), new BigDecimal("4.49")
+                , LocalDate.of(2022, 5, 19), null
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for AsyncBatch
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class AsyncBatchTest {
+    @Test
+    public void testMapBoundedConcurrency() {
+        List<Integer> items = IntStream.range(0, 50).boxed().toList();
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        List<CompletableFuture<Integer>> futureList = AsyncBatch.mapBounded(items, 4, item -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(
+                    () -> {
+                        inFlight.decrementAndGet();
+                        return item * 2;
+                    }
+                    , CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS)
+            );
+        });
+        AsyncBatch.allSettled(futureList).join();
+        assertTrue(maxInFlight.get() <= 4);
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i * 2, futureList.get(i).join());
+        }
+    }
+
+    @Test
+    public void testMapBoundedFailure() {
+        List<CompletableFuture<Integer>> futureList = AsyncBatch.mapBounded(List.of(1, 2, 3), 2, item -> {
+            if (item == 2) {
+                throw new IllegalArgumentException("bad item");
+            }
+            return CompletableFuture.completedFuture(item);
+        });
+        AsyncBatch.allSettled(futureList).join();
+        assertEquals(1, futureList.get(0).join());
+        assertTrue(futureList.get(1).isCompletedExceptionally());
+        assertEquals(3, futureList.get(2).join());
+    }
+
+    @Test
+    public void testMapBoundedStopWhen() {
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+        var started = new AtomicInteger();
+        var matched = new AtomicInteger();
+        List<CompletableFuture<Integer>> futureList = AsyncBatch.mapBounded(
+                items
+                , 1
+                , item -> {
+                    started.incrementAndGet();
+                    if (item % 10 == 0) {
+                        matched.incrementAndGet();
+                    }
+                    return CompletableFuture.completedFuture(item);
+                }
+                , () -> matched.get() >= 3
+        );
+        AsyncBatch.allSettled(futureList).join();
+        assertEquals(21, started.get());
+        assertTrue(futureList.get(21).isCancelled());
+        assertTrue(futureList.get(99).isCancelled());
+    }
+}
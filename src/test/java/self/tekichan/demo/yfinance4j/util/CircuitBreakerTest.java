@@ -0,0 +1,106 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static self.tekichan.demo.yfinance4j.util.CircuitBreaker.Outcome.*;
+import static self.tekichan.demo.yfinance4j.util.CircuitBreaker.State.*;
+
+/**
+ * Unit Test for CircuitBreaker
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class CircuitBreakerTest {
+    static final CircuitBreaker.Settings SETTINGS = CircuitBreaker.Settings.defaults()
+            .withWindow(10, 5)
+            .withThresholds(0.5, 0.2)
+            .withRecovery(Duration.ofSeconds(30), 2);
+
+    @Test
+    public void testTripOnFailureRate() {
+        var clock = new AtomicLong();
+        var breaker = new CircuitBreaker("summary", SETTINGS, clock::get);
+        // too few calls to trip
+        call(breaker, FAILURE);
+        call(breaker, SUCCESS);
+        call(breaker, FAILURE);
+        call(breaker, FAILURE);
+        assertEquals(CLOSED, breaker.getState());
+        // 3 failures of 5 calls
+        call(breaker, SUCCESS);
+        assertEquals(OPEN, breaker.getState());
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        call(breaker, SUCCESS);
+        call(breaker, SUCCESS);
+        assertEquals(CLOSED, breaker.getState());
+        // 2 failures of 5 calls
+        call(breaker, SUCCESS);
+        call(breaker, FAILURE);
+        call(breaker, SUCCESS);
+        call(breaker, FAILURE);
+        call(breaker, SUCCESS);
+        assertEquals(CLOSED, breaker.getState());
+        // 3 failures of 6 calls
+        call(breaker, FAILURE);
+        assertEquals(OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejectedCount());
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(Duration.ofSeconds(20), breaker.getRetryAfter());
+    }
+
+    @Test
+    public void testTripOnParseFailureRate() {
+        var breaker = new CircuitBreaker("statistics", SETTINGS, () -> 0L);
+        for (int i = 0; i < 8; i++) {
+            call(breaker, SUCCESS);
+        }
+        call(breaker, PARSE_FAILURE);
+        assertEquals(CLOSED, breaker.getState());
+        // 2 parse failures of 10 calls
+        call(breaker, PARSE_FAILURE);
+        assertEquals(OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testTrialCalls() {
+        var clock = new AtomicLong();
+        var breaker = new CircuitBreaker("summary", SETTINGS, clock::get);
+        for (int i = 0; i < 5; i++) {
+            call(breaker, FAILURE);
+        }
+        assertEquals(OPEN, breaker.getState());
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertEquals(HALF_OPEN, breaker.getState());
+        // only the trial calls pass
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        // a cancelled trial gives its permit back
+        breaker.release();
+        assertTrue(breaker.tryAcquire());
+        breaker.onResult(SUCCESS);
+        breaker.onResult(FAILURE);
+        assertEquals(OPEN, breaker.getState());
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        call(breaker, SUCCESS);
+        assertEquals(HALF_OPEN, breaker.getState());
+        call(breaker, SUCCESS);
+        assertEquals(CLOSED, breaker.getState());
+        // the window starts afresh after closing
+        for (int i = 0; i < 4; i++) {
+            call(breaker, FAILURE);
+        }
+        assertEquals(CLOSED, breaker.getState());
+    }
+
+    static void call(CircuitBreaker breaker, CircuitBreaker.Outcome outcome) {
+        assertTrue(breaker.tryAcquire());
+        breaker.onResult(outcome);
+    }
+}
@@ -0,0 +1,59 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for Deadline
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class DeadlineTest {
+    @Test
+    public void testRemainingBudget() throws InterruptedException {
+        var deadline = Deadline.after(Duration.ofMillis(200));
+        assertFalse(deadline.isExpired());
+        assertEquals(50, deadline.timeoutMillis(50));
+        assertTrue(deadline.timeoutMillis(10_000) <= 200);
+        Thread.sleep(250);
+        assertTrue(deadline.isExpired());
+        assertEquals(Duration.ZERO, deadline.remaining());
+        assertEquals(1, deadline.timeoutMillis(10_000));
+        assertThrows(IllegalArgumentException.class, () -> Deadline.after(Duration.ZERO));
+    }
+
+    @Test
+    public void testBatchCancelledAtDeadline() {
+        // tasks never complete by themselves, like requests to a stalled server
+        var taskList = new CopyOnWriteArrayList<CompletableFuture<Integer>>();
+        var deadline = Deadline.after(Duration.ofMillis(100));
+        List<CompletableFuture<Integer>> futureList = deadline.cancelOnExpiry(AsyncBatch.mapBounded(
+                IntStream.range(0, 10).boxed().toList()
+                , 4
+                , item -> {
+                    var task = new CompletableFuture<Integer>();
+                    taskList.add(task);
+                    return task;
+                }
+                , deadline::isExpired
+        ));
+        taskList.get(0).complete(0);
+        AsyncBatch.allSettled(futureList).join();
+        assertTrue(deadline.isExpired());
+        assertEquals(0, futureList.get(0).join());
+        assertTrue(futureList.stream().skip(1).allMatch(CompletableFuture::isCancelled));
+        // one completed slot started one more task; the rest were skipped before starting
+        assertEquals(5, taskList.size());
+        // tasks in flight were torn down, not left running, by the timer thread a moment after the batch settled
+        AsyncBatch.allSettled(taskList).orTimeout(1, TimeUnit.SECONDS).join();
+        assertTrue(taskList.stream().skip(1).allMatch(CompletableFuture::isCancelled));
+    }
+}
@@ -0,0 +1,112 @@
+package self.tekichan.demo.yfinance4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test for SingleFlight
+ * @author Teki Chan
+ * @since 19 Oct 2026
+ */
+public class SingleFlightTest {
+    @Test
+    public void testCoalescing() {
+        var singleFlight = new SingleFlight<String, List<String>>();
+        var work = new CompletableFuture<List<String>>();
+        var callCount = new AtomicInteger();
+        List<CompletableFuture<List<String>>> futureList = IntStream.range(0, 10)
+                .mapToObj(i -> singleFlight.execute("TSCO.L", () -> {
+                    callCount.incrementAndGet();
+                    return work;
+                }))
+                .toList();
+        CompletableFuture<List<String>> other = singleFlight.execute("BARC.L", () -> CompletableFuture.completedFuture(List.of("BARC.L")));
+        assertEquals(List.of("BARC.L"), other.join());
+        assertEquals(1, callCount.get());
+        assertEquals(1, singleFlight.getInFlightCount());
+
+        // a waiter giving up leaves the shared work and the other waiters alone
+        assertTrue(futureList.get(0).cancel(true));
+        assertFalse(work.isCancelled());
+
+        List<String> result = List.of("TSCO.L");
+        work.complete(result);
+        for (int i = 1; i < futureList.size(); i++) {
+            assertSame(result, futureList.get(i).join());
+        }
+        assertEquals(0, singleFlight.getInFlightCount());
+        assertEquals(2, singleFlight.getStartedCount());
+        assertEquals(9, singleFlight.getCoalescedCount());
+
+        // released once completed
+        singleFlight.execute("TSCO.L", () -> {
+            callCount.incrementAndGet();
+            return CompletableFuture.completedFuture(result);
+        }).join();
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    public void testFailureShared() {
+        var singleFlight = new SingleFlight<String, String>();
+        var work = new CompletableFuture<String>();
+        CompletableFuture<String> first = singleFlight.execute("key", () -> work);
+        CompletableFuture<String> second = singleFlight.execute("key", () -> CompletableFuture.completedFuture("unused"));
+        work.completeExceptionally(new IOException("down"));
+        assertInstanceOf(IOException.class, assertThrows(CompletionException.class, first::join).getCause());
+        assertInstanceOf(IOException.class, assertThrows(CompletionException.class, second::join).getCause());
+
+        CompletableFuture<String> thrown = singleFlight.execute("key", () -> {
+            throw new IllegalStateException("not started");
+        });
+        assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, thrown::join).getCause());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    public void testCancelledByAllWaiters() {
+        var singleFlight = new SingleFlight<String, String>();
+        var work = new CompletableFuture<String>();
+        CompletableFuture<String> first = singleFlight.execute("key", () -> work);
+        CompletableFuture<String> second = singleFlight.execute("key", () -> CompletableFuture.completedFuture("unused"));
+        first.cancel(true);
+        assertFalse(work.isCancelled());
+        second.cancel(true);
+        // nobody waits any more, so the work is torn down and the key released
+        assertTrue(work.isCancelled());
+        assertEquals(0, singleFlight.getInFlightCount());
+        assertEquals("again", singleFlight.execute("key", () -> CompletableFuture.completedFuture("again")).join());
+    }
+
+    @Test
+    public void testNoAttachAfterAllDetached() throws Exception {
+        var singleFlight = new SingleFlight<String, String>();
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int i = 0; i < 2000; i++) {
+                // the last waiter detaches while another caller arrives for the same key
+                CompletableFuture<String> cancelled = singleFlight.execute("key"
+                        , () -> CompletableFuture.supplyAsync(() -> "shared", CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS)));
+                Future<CompletableFuture<String>> arriving = executor.submit(() -> singleFlight.execute("key"
+                        , () -> CompletableFuture.completedFuture("fresh")));
+                cancelled.cancel(true);
+                // the arriving caller shares a live call or starts its own, but is never handed a cancelled one
+                String value = arriving.get(1, TimeUnit.SECONDS).get(1, TimeUnit.SECONDS);
+                assertTrue(value.equals("shared") || value.equals("fresh"), value);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}